@@ -15,14 +15,18 @@
  */
 package org.springframework.modulith.actuator;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.function.Supplier;
 
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.BeanFactoryInitializer;
 import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
 import org.springframework.modulith.core.ApplicationModules;
 import org.springframework.modulith.core.util.ApplicationModulesExporter;
 import org.springframework.util.Assert;
@@ -39,6 +43,7 @@ public class ApplicationModulesEndpoint implements BeanFactoryInitializer<Listab
 	private static final Logger LOGGER = LoggerFactory.getLogger(ApplicationModulesEndpoint.class);
 
 	private final SingletonSupplier<String> structure;
+	private final Map<String, Supplier<@Nullable Object>> details;
 
 	/**
 	 * Creates a new {@link ApplicationModulesEndpoint} for the given {@link ApplicationModules}.
@@ -50,6 +55,14 @@ public class ApplicationModulesEndpoint implements BeanFactoryInitializer<Listab
 		LOGGER.debug("Activating Spring Modulith actuator.");
 
 		this.structure = SingletonSupplier.of(precomputed);
+		this.details = Map.of();
+	}
+
+	private ApplicationModulesEndpoint(SingletonSupplier<String> structure,
+			Map<String, Supplier<@Nullable Object>> details) {
+
+		this.structure = structure;
+		this.details = details;
 	}
 
 	/**
@@ -80,6 +93,26 @@ public class ApplicationModulesEndpoint implements BeanFactoryInitializer<Listab
 		return new ApplicationModulesEndpoint(() -> new ApplicationModulesExporter(modules.get()).toJson());
 	}
 
+	/**
+	 * Returns a new {@link ApplicationModulesEndpoint} additionally exposing the details provided by the given
+	 * {@link Supplier} under the given name, i.e. as {@code /actuator/modulith/${name}}.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @param details must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 2.2
+	 */
+	public ApplicationModulesEndpoint withDetails(String name, Supplier<@Nullable Object> details) {
+
+		Assert.hasText(name, "Name must not be null or empty!");
+		Assert.notNull(details, "Details must not be null!");
+
+		var result = new LinkedHashMap<>(this.details);
+		result.put(name, details);
+
+		return new ApplicationModulesEndpoint(structure, Map.copyOf(result));
+	}
+
 	/**
 	 * Returns the {@link ApplicationModules} metadata as {@link java.util.Map} (to be rendered as JSON).
 	 *
@@ -90,6 +123,22 @@ public class ApplicationModulesEndpoint implements BeanFactoryInitializer<Listab
 		return structure.obtain();
 	}
 
+	/**
+	 * Returns the details registered under the given name.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @return {@literal null} in case no details are registered under the given name or they're not available.
+	 * @see #withDetails(String, Supplier)
+	 */
+	@ReadOperation
+	@Nullable
+	Object getDetails(@Selector String name) {
+
+		var supplier = details.get(name);
+
+		return supplier == null ? null : supplier.get();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.beans.factory.BeanFactoryInitializer#initialize(org.springframework.beans.factory.ListableBeanFactory)
@@ -16,9 +16,12 @@
 package org.springframework.modulith.actuator.autoconfigure;
 
 import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -27,7 +30,10 @@ import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.modulith.actuator.ApplicationModulesEndpoint;
 import org.springframework.modulith.core.util.ApplicationModulesExporter;
+import org.springframework.modulith.observability.ModuleCallMatrix;
+import org.springframework.modulith.observability.ModuleCallMatrix.ModuleCall;
 import org.springframework.modulith.runtime.ApplicationModulesRuntime;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.function.ThrowingSupplier;
 
 /**
@@ -42,20 +48,70 @@ class ApplicationModulesEndpointConfiguration {
 
 	private static final Resource PRECOMPUTED = new ClassPathResource(FILE_LOCATION);
 	private static final Logger LOGGER = LoggerFactory.getLogger(ApplicationModulesEndpointConfiguration.class);
+	private static final boolean OBSERVABILITY_PRESENT = ClassUtils.isPresent(
+			"org.springframework.modulith.observability.ModuleCallMatrix",
+			ApplicationModulesEndpointConfiguration.class.getClassLoader());
 
 	@Bean
 	@ConditionalOnMissingBean
-	ApplicationModulesEndpoint applicationModulesEndpoint(ObjectProvider<ApplicationModulesRuntime> runtime) {
+	ApplicationModulesEndpoint applicationModulesEndpoint(ObjectProvider<ApplicationModulesRuntime> runtime,
+			BeanFactory beanFactory) {
+
+		ApplicationModulesEndpoint endpoint;
 
 		if (PRECOMPUTED.exists()) {
 
 			ThrowingSupplier<String> fileContent = () -> PRECOMPUTED.getContentAsString(StandardCharsets.UTF_8);
 
 			LOGGER.debug("Using application modules description from {}", FILE_LOCATION);
-			return ApplicationModulesEndpoint.precomputed(fileContent);
+			endpoint = ApplicationModulesEndpoint.precomputed(fileContent);
 
 		} else {
-			return ApplicationModulesEndpoint.ofApplicationModules(runtime.getObject());
+			endpoint = ApplicationModulesEndpoint.ofApplicationModules(runtime.getObject());
+		}
+
+		return OBSERVABILITY_PRESENT ? ModuleCallMatrixDetails.register(endpoint, beanFactory) : endpoint;
+	}
+
+	/**
+	 * Exposes the calls between application modules recorded by a {@link ModuleCallMatrix} as
+	 * {@code /actuator/modulith/calls}. Kept in a separate class to not require the observability API on the classpath.
+	 *
+	 * @author Oliver Drotbohm
+	 * @since 2.2
+	 */
+	static class ModuleCallMatrixDetails {
+
+		static final String NAME = "calls";
+
+		static ApplicationModulesEndpoint register(ApplicationModulesEndpoint endpoint, BeanFactory beanFactory) {
+
+			var matrix = beanFactory.getBeanProvider(ModuleCallMatrix.class);
+
+			return endpoint.withDetails(NAME, () -> {
+
+				var calls = matrix.getIfAvailable();
+
+				return calls == null ? null
+						: calls.getCalls().stream()
+								.map(ModuleCallMatrixDetails::toMap)
+								.toList();
+			});
+		}
+
+		private static Map<String, Object> toMap(ModuleCall call) {
+
+			var result = new LinkedHashMap<String, Object>();
+
+			result.put("source", call.source());
+			result.put("target", call.target());
+			result.put("method", call.method());
+			result.put("count", call.count());
+			result.put("errors", call.errors());
+			result.put("totalTimeMillis", call.totalTime().toNanos() / 1_000_000d);
+			result.put("maxTimeMillis", call.maxTime().toNanos() / 1_000_000d);
+
+			return result;
 		}
 	}
 }
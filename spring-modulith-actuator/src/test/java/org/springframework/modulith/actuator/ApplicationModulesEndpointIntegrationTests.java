@@ -19,6 +19,8 @@ import static org.assertj.core.api.Assertions.*;
 
 import net.minidev.json.JSONArray;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.modulith.test.TestApplicationModules;
 
@@ -47,4 +49,14 @@ class ApplicationModulesEndpointIntegrationTests {
 		assertThat(context.<JSONArray> read("$.b.dependencies[0].types"))
 				.containsExactlyInAnyOrder("EVENT_LISTENER", "USES_COMPONENT");
 	}
+
+	@Test
+	void exposesAdditionalDetails() {
+
+		var endpoint = ApplicationModulesEndpoint.precomputed(() -> "{}")
+				.withDetails("calls", () -> List.of("someCall"));
+
+		assertThat(endpoint.getDetails("calls")).isEqualTo(List.of("someCall"));
+		assertThat(endpoint.getDetails("unknown")).isNull();
+	}
 }
@@ -1,29 +1,67 @@
 package org.springframework.modulith.actuator.autoconfigure;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.Duration;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
 import org.springframework.modulith.actuator.ApplicationModulesEndpoint;
+import org.springframework.modulith.observability.ModuleCallMatrix;
+import org.springframework.modulith.observability.ModuleCallMatrix.ModuleCall;
+import org.springframework.test.web.servlet.MockMvc;
 
 /**
  * Integration tests for {@link ApplicationModulesEndpointConfiguration}.
  *
  * @author Oliver Drotbohm
  */
-@SpringBootTest
+@SpringBootTest(properties = "management.endpoints.web.exposure.include=modulith")
+@AutoConfigureMockMvc
 class ApplicationModulesEndpointConfigurationIntegrationTests {
 
 	@SpringBootApplication
-	static class SampleApp {}
+	static class SampleApp {
+
+		@Bean
+		ModuleCallMatrix moduleCallMatrix() {
+			return () -> List.of(new ModuleCall("order", "inventory", "Inventory.reserve()", 2, 1,
+					Duration.ofMillis(40), Duration.ofMillis(30)));
+		}
+	}
 
 	@Autowired ApplicationContext context;
+	@Autowired MockMvc mvc;
 
 	@Test // GH-87
 	void bootstrapRegistersRuntimeInstances() {
 		assertThat(context.getBean(ApplicationModulesEndpoint.class)).isNotNull();
 	}
+
+	@Test
+	void exposesModuleCallsAsEndpointDetails() throws Exception {
+
+		mvc.perform(get("/actuator/modulith/calls"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[0].source").value("order"))
+				.andExpect(jsonPath("$[0].target").value("inventory"))
+				.andExpect(jsonPath("$[0].method").value("Inventory.reserve()"))
+				.andExpect(jsonPath("$[0].count").value(2))
+				.andExpect(jsonPath("$[0].errors").value(1))
+				.andExpect(jsonPath("$[0].totalTimeMillis").value(40.0))
+				.andExpect(jsonPath("$[0].maxTimeMillis").value(30.0));
+	}
+
+	@Test
+	void returnsNotFoundForUnknownEndpointDetails() throws Exception {
+		mvc.perform(get("/actuator/modulith/unknown")).andExpect(status().isNotFound());
+	}
 }
@@ -512,17 +512,6 @@ public class ApplicationModule implements Comparable<ApplicationModule> {
 		return builder.toString();
 	}
 
-	/**
-	 * Returns whether the module has a base package with the given name.
-	 *
-	 * @param candidate must not be {@literal null} or empty.
-	 * @return whether the module has a base package with the given name.
-	 * @since 1.1
-	 */
-	boolean hasBasePackage(String candidate) {
-		return basePackage.getName().equals(candidate);
-	}
-
 	Classes getSpringBeansInternal() {
 		return springBeans.get();
 	}
@@ -616,6 +605,15 @@ public class ApplicationModule implements Comparable<ApplicationModule> {
 			return ApplicationModuleDependencies.NONE;
 		}
 
+		if (depth == DependencyDepth.ALL) {
+
+			var cached = modules.getAllDependencies(this, types);
+
+			if (cached != null) {
+				return cached;
+			}
+		}
+
 		return getDependencies(modules, new DependencyTraversal(depth, types))
 				.collect(Collectors.collectingAndThen(Collectors.toList(), ApplicationModuleDependencies::of));
 	}
@@ -716,6 +714,12 @@ public class ApplicationModule implements Comparable<ApplicationModule> {
 
 	private Stream<ApplicationModule> getAllBootstrapDependencies(ApplicationModules modules) {
 
+		var cached = modules.getAllBootstrapDependencies(this);
+
+		if (cached != null) {
+			return cached;
+		}
+
 		return getDirectModuleBootstrapDependencies(modules) //
 				.flatMap(it -> Stream.concat(Stream.of(it), it.streamBootstrapDependencies(modules, DependencyDepth.ALL))) //
 				.distinct();
@@ -832,17 +836,28 @@ public class ApplicationModule implements Comparable<ApplicationModule> {
 
 	private Stream<QualifiedDependency> getModuleDependenciesOf(JavaClass type, ApplicationModules modules) {
 
-		var evidentType = ArchitecturallyEvidentType.of(type, getSpringBeansInternal());
+		return getDependenciesOf(type, getSpringBeansInternal()) //
+				.filter(it -> isDependencyToOtherModule(it.getTarget(), modules)) //
+				.distinct();
+	}
 
-		var injections = QualifiedDependency.fromType(evidentType) //
-				.filter(it -> isDependencyToOtherModule(it.getTarget(), modules)); //
+	/**
+	 * Returns all dependencies of the given type, no matter which module their targets reside in.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param beans the Spring beans of the module the type resides in, must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 2.2
+	 */
+	static Stream<QualifiedDependency> getDependenciesOf(JavaClass type, Classes beans) {
+
+		var evidentType = ArchitecturallyEvidentType.of(type, beans);
 
 		var directDependencies = type.getDirectDependenciesFromSelf().stream() //
 				.filter(it -> JavaTypes.IS_NOT_CORE_JAVA_TYPE.test(it.getTargetClass())) //
-				.filter(it -> isDependencyToOtherModule(it.getTargetClass(), modules)) //
 				.map(QualifiedDependency::new);
 
-		return Stream.concat(injections, directDependencies).distinct();
+		return Stream.concat(QualifiedDependency.fromType(evidentType), directDependencies);
 	}
 
 	private boolean isDependencyToOtherModule(JavaClass dependency, ApplicationModules modules) {
@@ -1343,6 +1358,16 @@ public class ApplicationModule implements Comparable<ApplicationModule> {
 			return target;
 		}
 
+		/**
+		 * Returns the {@link DependencyType}.
+		 *
+		 * @return will never be {@literal null}.
+		 * @since 2.2
+		 */
+		DependencyType getType() {
+			return type;
+		}
+
 		/**
 		 * Returns whether the {@link QualifiedDependency} has the given {@link DependencyType}.
 		 *
@@ -22,6 +22,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeanUtils;
 import org.springframework.boot.context.config.ConfigDataEnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.StandardEnvironment;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.support.SpringFactoriesLoader;
@@ -83,10 +84,7 @@ class ApplicationModuleDetectionStrategyLookup {
 	 */
 	static ApplicationModuleDetectionStrategy getStrategy() {
 
-		var environment = new StandardEnvironment();
-		ConfigDataEnvironmentPostProcessor.applyTo(environment,
-				new DefaultResourceLoader(ApplicationModuleDetectionStrategyLookup.class.getClassLoader()), null);
-
+		var environment = getEnvironment();
 		var configuredStrategy = environment.getProperty(DETECTION_STRATEGY_PROPERTY, String.class);
 
 		// Nothing configured? Use fallback.
@@ -112,4 +110,20 @@ class ApplicationModuleDetectionStrategyLookup {
 			throw new IllegalStateException(o_O);
 		}
 	}
+
+	/**
+	 * Returns a {@link ConfigurableEnvironment} containing the application's configuration as Spring Boot would load it
+	 * from its configuration files.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 2.2
+	 */
+	static ConfigurableEnvironment getEnvironment() {
+
+		var environment = new StandardEnvironment();
+		ConfigDataEnvironmentPostProcessor.applyTo(environment,
+				new DefaultResourceLoader(ApplicationModuleDetectionStrategyLookup.class.getClassLoader()), null);
+
+		return environment;
+	}
 }
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.util.Assert;
+
+/**
+ * A graph of {@link ApplicationModule}s connected by their direct dependencies, backed by primitive adjacency
+ * arrays. Used to detect dependency cycles between modules via Tarjan's strongly connected components algorithm in
+ * linear time.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+class ApplicationModuleGraph {
+
+	private final List<ApplicationModule> modules;
+	private final int[][] adjacency;
+
+	/**
+	 * Creates a new {@link ApplicationModuleGraph} for the given {@link ApplicationModule}s and adjacency arrays, the
+	 * latter containing the indexes of the modules the module at the same index depends on.
+	 *
+	 * @param modules must not be {@literal null}.
+	 * @param adjacency must not be {@literal null}.
+	 */
+	private ApplicationModuleGraph(List<ApplicationModule> modules, int[][] adjacency) {
+
+		this.modules = modules;
+		this.adjacency = adjacency;
+	}
+
+	/**
+	 * Creates a new {@link ApplicationModuleGraph} for the given {@link ApplicationModule}s and the function to look up
+	 * the modules a module directly depends on. Dependencies to modules not contained in the given ones are ignored.
+	 *
+	 * @param modules must not be {@literal null}.
+	 * @param dependencies must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static ApplicationModuleGraph of(Collection<ApplicationModule> modules,
+			Function<ApplicationModule, Stream<ApplicationModule>> dependencies) {
+
+		Assert.notNull(modules, "ApplicationModules must not be null!");
+		Assert.notNull(dependencies, "Dependency lookup must not be null!");
+
+		var nodes = List.copyOf(new LinkedHashSet<>(modules));
+		var indexes = new HashMap<ApplicationModule, Integer>(nodes.size());
+
+		for (var i = 0; i < nodes.size(); i++) {
+			indexes.put(nodes.get(i), i);
+		}
+
+		var adjacency = new int[nodes.size()][];
+
+		for (var i = 0; i < nodes.size(); i++) {
+
+			var source = i;
+
+			adjacency[i] = dependencies.apply(nodes.get(i))
+					.map(indexes::get)
+					.filter(it -> it != null && it != source)
+					.mapToInt(Integer::intValue)
+					.distinct()
+					.toArray();
+		}
+
+		return new ApplicationModuleGraph(nodes, adjacency);
+	}
+
+	/**
+	 * Returns all sets of {@link ApplicationModule}s that are involved in a dependency cycle, i.e. all strongly connected
+	 * components of the graph consisting of more than one module.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	List<Set<ApplicationModule>> getCycles() {
+
+		return new Tarjan(adjacency).getComponents().stream()
+				.filter(it -> it.length > 1)
+				.map(it -> {
+
+					var result = new LinkedHashSet<ApplicationModule>();
+
+					for (int index : it) {
+						result.add(modules.get(index));
+					}
+
+					return Collections.unmodifiableSet(result);
+				})
+				.toList();
+	}
+
+	/**
+	 * An iterative implementation of Tarjan's strongly connected components algorithm to not be limited by the stack
+	 * size on large graphs.
+	 *
+	 * @author Oliver Drotbohm
+	 * @see <a href="https://en.wikipedia.org/wiki/Tarjan%27s_strongly_connected_components_algorithm">Tarjan's strongly
+	 *      connected components algorithm</a>
+	 */
+	private static class Tarjan {
+
+		private final int[][] adjacency;
+		private final int[] index, lowLink, nextEdge;
+		private final boolean[] onStack;
+		private final int[] stack, callStack;
+		private final List<int[]> components;
+
+		private int counter, stackSize;
+
+		Tarjan(int[][] adjacency) {
+
+			var size = adjacency.length;
+
+			this.adjacency = adjacency;
+			this.index = new int[size];
+			this.lowLink = new int[size];
+			this.nextEdge = new int[size];
+			this.onStack = new boolean[size];
+			this.stack = new int[size];
+			this.callStack = new int[size];
+			this.components = new ArrayList<>();
+
+			Arrays.fill(index, -1);
+
+			for (int node = 0; node < size; node++) {
+				if (index[node] == -1) {
+					traverse(node);
+				}
+			}
+		}
+
+		List<int[]> getComponents() {
+			return components;
+		}
+
+		private void traverse(int start) {
+
+			var depth = 0;
+
+			callStack[depth++] = start;
+			open(start);
+
+			while (depth > 0) {
+
+				var node = callStack[depth - 1];
+
+				if (nextEdge[node] < adjacency[node].length) {
+
+					var target = adjacency[node][nextEdge[node]++];
+
+					if (index[target] == -1) {
+						open(target);
+						callStack[depth++] = target;
+					} else if (onStack[target]) {
+						lowLink[node] = Math.min(lowLink[node], index[target]);
+					}
+
+					continue;
+				}
+
+				depth--;
+
+				if (depth > 0) {
+					var parent = callStack[depth - 1];
+					lowLink[parent] = Math.min(lowLink[parent], lowLink[node]);
+				}
+
+				if (lowLink[node] == index[node]) {
+					close(node);
+				}
+			}
+		}
+
+		private void open(int node) {
+
+			index[node] = counter;
+			lowLink[node] = counter;
+			counter++;
+
+			stack[stackSize++] = node;
+			onStack[node] = true;
+		}
+
+		private void close(int root) {
+
+			var start = stackSize;
+
+			do {
+				start--;
+				onStack[stack[start]] = false;
+			} while (stack[start] != root);
+
+			components.add(Arrays.copyOfRange(stack, start, stackSize));
+			stackSize = start;
+		}
+	}
+}
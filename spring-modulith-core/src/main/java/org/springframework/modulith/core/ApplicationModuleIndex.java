@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.core;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.util.Assert;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+
+/**
+ * An immutable index to look up the {@link ApplicationModule} a type or package belongs to in constant time. In case a
+ * type is contained in multiple modules, the module handed to the index first wins, which is why the modules are
+ * expected in the order they're iterated over by {@link ApplicationModules}, i.e. topologically sorted.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+class ApplicationModuleIndex {
+
+	private final Map<String, ApplicationModule> byTypeName;
+	private final Map<String, ApplicationModule> bySimpleTypeName;
+	private final Map<String, ApplicationModule> byBasePackage;
+	private final Map<String, ApplicationModule> rootModulesByBasePackage;
+
+	/**
+	 * Creates a new {@link ApplicationModuleIndex} for the given {@link ApplicationModule}s and root modules.
+	 *
+	 * @param modules must not be {@literal null}.
+	 * @param rootModules must not be {@literal null}.
+	 */
+	private ApplicationModuleIndex(List<ApplicationModule> modules, List<ApplicationModule> rootModules) {
+
+		var byTypeName = new HashMap<String, ApplicationModule>();
+		var bySimpleTypeName = new HashMap<String, ApplicationModule>();
+		var byBasePackage = new HashMap<String, ApplicationModule>();
+		var rootModulesByBasePackage = new HashMap<String, ApplicationModule>();
+
+		for (var module : modules) {
+			register(module, byTypeName, bySimpleTypeName);
+			byBasePackage.putIfAbsent(module.getBasePackage().getName(), module);
+		}
+
+		for (var module : rootModules) {
+			register(module, byTypeName, bySimpleTypeName);
+			rootModulesByBasePackage.putIfAbsent(module.getBasePackage().getName(), module);
+		}
+
+		this.byTypeName = Collections.unmodifiableMap(byTypeName);
+		this.bySimpleTypeName = Collections.unmodifiableMap(bySimpleTypeName);
+		this.byBasePackage = Collections.unmodifiableMap(byBasePackage);
+		this.rootModulesByBasePackage = Collections.unmodifiableMap(rootModulesByBasePackage);
+	}
+
+	/**
+	 * Creates a new {@link ApplicationModuleIndex} for the given {@link ApplicationModule}s and root modules. Types
+	 * contained in both a module and a root module are assigned to the former.
+	 *
+	 * @param modules must not be {@literal null}.
+	 * @param rootModules must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static ApplicationModuleIndex of(List<ApplicationModule> modules, List<ApplicationModule> rootModules) {
+
+		Assert.notNull(modules, "Application modules must not be null!");
+		Assert.notNull(rootModules, "Root modules must not be null!");
+
+		return new ApplicationModuleIndex(modules, rootModules);
+	}
+
+	/**
+	 * Returns the {@link ApplicationModule} containing the given {@link JavaClass}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Optional<ApplicationModule> getModuleByType(JavaClass type) {
+
+		return Optional.ofNullable(byTypeName.get(type.getName()))
+				.filter(it -> it.contains(type));
+	}
+
+	/**
+	 * Returns the {@link ApplicationModule} containing the type with the given fully-qualified name.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Optional<ApplicationModule> getModuleByType(Class<?> type) {
+		return Optional.ofNullable(byTypeName.get(type.getName()));
+	}
+
+	/**
+	 * Returns the {@link ApplicationModule} containing the type with the given simple or fully-qualified name. Simple
+	 * names are only considered if the given candidate does not contain a package.
+	 *
+	 * @param candidate must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 */
+	Optional<ApplicationModule> getModuleByType(String candidate) {
+
+		var result = byTypeName.get(candidate);
+
+		if (result == null && PackageName.isDefault(PackageName.ofType(candidate))) {
+			result = bySimpleTypeName.get(candidate);
+		}
+
+		return Optional.ofNullable(result);
+	}
+
+	/**
+	 * Returns the {@link ApplicationModule} containing the package with the given name, i.e. the module with the most
+	 * specific base package the given package is equal to or nested in. Falls back to root modules with exactly the
+	 * given base package. The lookup only considers the name of the package, i.e. it doesn't verify that a package with
+	 * the given name actually exists.
+	 *
+	 * @param packageName must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 */
+	Optional<ApplicationModule> getModuleForPackage(String packageName) {
+
+		var candidate = packageName;
+
+		while (true) {
+
+			var result = byBasePackage.get(candidate);
+
+			if (result != null) {
+				return Optional.of(result);
+			}
+
+			var index = candidate.lastIndexOf('.');
+
+			if (index < 0) {
+				break;
+			}
+
+			candidate = candidate.substring(0, index);
+		}
+
+		return Optional.ofNullable(rootModulesByBasePackage.get(packageName));
+	}
+
+	private static void register(ApplicationModule module, Map<String, ApplicationModule> byTypeName,
+			Map<String, ApplicationModule> bySimpleTypeName) {
+
+		module.getClasses().forEach(it -> {
+			byTypeName.putIfAbsent(it.getName(), module);
+			bySimpleTypeName.putIfAbsent(it.getSimpleName(), module);
+		});
+	}
+}
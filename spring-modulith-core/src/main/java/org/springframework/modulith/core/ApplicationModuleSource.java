@@ -107,6 +107,24 @@ public class ApplicationModuleSource {
 				(__, info) -> NamedInterfaces.of(pkg, info));
 	}
 
+	/**
+	 * Creates a new {@link ApplicationModuleSource} for the given {@link JavaPackage} and identifier, detecting named
+	 * interfaces using the given {@link ApplicationModuleDetectionStrategy}.
+	 *
+	 * @param pkg must not be {@literal null}.
+	 * @param identifier must not be {@literal null}.
+	 * @param strategy must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 2.2
+	 */
+	static ApplicationModuleSource from(JavaPackage pkg, ApplicationModuleIdentifier identifier,
+			ApplicationModuleDetectionStrategy strategy) {
+
+		Assert.notNull(strategy, "ApplicationModuleDetectionStrategy must not be null!");
+
+		return new ApplicationModuleSource(pkg, identifier, strategy::detectNamedInterfaces);
+	}
+
 	/**
 	 * Returns the base package for the module.
 	 *
@@ -24,7 +24,10 @@ import static org.springframework.modulith.core.Violations.*;
 
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -34,9 +37,11 @@ import java.util.stream.StreamSupport;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.aot.generate.Generated;
+import org.springframework.core.SpringProperties;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
 import org.springframework.util.function.SingletonSupplier;
 
 import com.tngtech.archunit.base.DescribedPredicate;
@@ -46,7 +51,6 @@ import com.tngtech.archunit.core.domain.properties.CanBeAnnotated;
 import com.tngtech.archunit.core.domain.properties.HasName;
 import com.tngtech.archunit.core.importer.ClassFileImporter;
 import com.tngtech.archunit.core.importer.ImportOption;
-import com.tngtech.archunit.lang.EvaluationResult;
 import com.tngtech.archunit.lang.FailureReport;
 import com.tngtech.archunit.library.dependencies.SliceAssignment;
 import com.tngtech.archunit.library.dependencies.SliceIdentifier;
@@ -58,46 +62,65 @@ import com.tngtech.archunit.library.dependencies.SlicesRuleDefinition;
  */
 public class ApplicationModules implements Iterable<ApplicationModule> {
 
-	private static final Map<CacheKey, ApplicationModules> CACHE = new ConcurrentHashMap<>();
+	static final String CACHE_SIZE_PROPERTY = "spring.modulith.modules.cache-size";
+
+	private static final SoftReferenceCache<CacheKey, ApplicationModules> CACHE = new SoftReferenceCache<>(
+			getCacheSize());
+	private static final @Nullable PersistentVerificationCache VERIFICATION_CACHE = PersistentVerificationCache
+			.fromSpringProperties();
 
 	private static final ImportOption IMPORT_OPTION = new ImportOption.DoNotIncludeTests();
 	private static final @Nullable DescribedPredicate<CanBeAnnotated> IS_GENERATED;
 	private static final DescribedPredicate<HasName> IS_SPRING_CGLIB_PROXY = nameContaining("$$SpringCGLIB$$");
+	private static final Set<Class<?>> STATELESS_TYPES = Set.of(alwaysFalse().getClass(), alwaysTrue().getClass(),
+			ImportOption.DoNotIncludeTests.class, ImportOption.OnlyIncludeTests.class, ImportOption.DoNotIncludeJars.class,
+			ImportOption.DoNotIncludeArchives.class, ImportOption.DoNotIncludeGradleTestFixtures.class);
 
 	static {
 		IS_GENERATED = ClassUtils.isPresent("org.springframework.aot.generate.Generated",
 				ApplicationModules.class.getClassLoader()) ? getAtGenerated() : DescribedPredicate.alwaysFalse();
 	}
 
+	private static int getCacheSize() {
+
+		var size = SpringProperties.getProperty(CACHE_SIZE_PROPERTY);
+
+		return StringUtils.hasText(size) ? Integer.parseInt(size.trim()) : 32;
+	}
+
 	@Nullable
 	private static DescribedPredicate<CanBeAnnotated> getAtGenerated() {
 		return annotatedWith(Generated.class);
 	}
 
 	private final ModulithMetadata metadata;
-	private final Map<ApplicationModuleIdentifier, ApplicationModule> modules;
-	private final JavaClasses allClasses;
-	private final List<JavaPackage> rootPackages;
-	private final Supplier<List<ApplicationModule>> rootModules;
-	private final Set<ApplicationModule> sharedModules;
-	private final List<ApplicationModuleIdentifier> orderedNames;
+	private final Supplier<Model> model;
+	private final Supplier<Set<ApplicationModule>> sharedModules;
+	private final @Nullable Supplier<String> fingerprint;
 
-	private boolean verified;
+	private volatile boolean verified;
 
 	/**
-	 * Creates a new {@link ApplicationModules} instance.
+	 * Creates a new {@link ApplicationModules} instance. Imports the classes of the base packages of the given
+	 * {@link ModulithMetadata} immediately.
 	 *
 	 * @param metadata must not be {@literal null}.
 	 * @param ignored must not be {@literal null}.
 	 * @param option must not be {@literal null}.
+	 * @throws IllegalArgumentException in case no classes are found in the packages to import.
 	 */
 	protected ApplicationModules(ModulithMetadata metadata,
 			DescribedPredicate<? super JavaClass> ignored, ImportOption option) {
+
 		this(metadata, metadata.getBasePackages(), ignored, metadata.useFullyQualifiedModuleNames(), option);
+
+		this.model.get();
 	}
 
 	/**
-	 * Creates a new {@link ApplicationModules} instance.
+	 * Creates a new {@link ApplicationModules} instance. The classes of the given packages are only imported once the
+	 * module model is needed for the first time, so that packages not containing any classes only cause an exception on
+	 * first access.
 	 *
 	 * @param metadata must not be {@literal null}.
 	 * @param packages must not be {@literal null}.
@@ -113,94 +136,47 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 		Assert.notNull(ignored, "Ignores must not be null!");
 		Assert.notNull(option, "ImportOptions must not be null!");
 
-		DescribedPredicate<? super JavaClass> excluded = DescribedPredicate.or(ignored, IS_GENERATED,
-				IS_SPRING_CGLIB_PROXY);
-
-		this.metadata = metadata;
-		var importer = new ClassFileImporter() //
-				.withImportOption(option);
-
 		var strategy = ApplicationModuleDetectionStrategyLookup.getStrategy();
-
 		var contributions = ApplicationModuleSourceContributions.of(strategy, useFullyQualifiedModuleNames);
 
 		var packagesToImport = new ArrayList<>(packages);
 		packagesToImport.addAll(contributions.getRootPackages());
 
-		this.allClasses = importer //
-				.importPackages(packagesToImport) //
-				.that(not(excluded));
-
-		Assert.notEmpty(allClasses, () -> "No classes found in packages %s!".formatted(packages));
-		Classes classes = Classes.of(allClasses);
-
-		var directSources = packages.stream() //
-				.distinct()
-				.map(it -> JavaPackage.of(classes, it))
-				.flatMap(it -> ApplicationModuleSource.from(it, strategy, useFullyQualifiedModuleNames));
-
-		var sources = Stream.concat(directSources, contributions.getSources(classes))
-				.distinct()
-				.collect(Collectors.toUnmodifiableSet());
-
-		this.modules = sources.stream() //
-				.map(it -> {
-
-					var exclusions = sources.stream()
-							.map(ApplicationModuleSource::getModuleBasePackage)
-							.toList();
-
-					return new ApplicationModule(it, new JavaPackages(exclusions));
-
-				})
-				.collect(toMap(ApplicationModule::getIdentifier, Function.identity()));
-
-		this.rootPackages = packagesToImport.stream() //
-				.distinct()
-				.map(it -> JavaPackage.of(classes, it).toSingle()) //
-				.toList();
-
-		this.rootModules = SingletonSupplier.of(() -> rootPackages.stream()
-				.map(ApplicationModules::rootModuleFor)
-				.toList());
-
-		this.sharedModules = Collections.emptySet();
-		this.orderedNames = topologicallyOrderIdentifiers(this);
+		this.metadata = metadata;
+		this.model = SingletonSupplier.of(() -> createModel(metadata, packages, packagesToImport, ignored, option, strategy,
+				contributions, useFullyQualifiedModuleNames));
+		this.sharedModules = SingletonSupplier.of(Collections::emptySet);
+
+		// Custom predicates and import options might not be fully described, so that we cannot persist results for them
+		this.fingerprint = !hasStableIdentity(ignored) || !hasStableIdentity(option) ? null
+				: SingletonSupplier.of(() -> PersistentVerificationCache.fingerprint(packagesToImport, option,
+						List.of(metadata.getSource().toString(), metadata.getBasePackages().toString(),
+								metadata.getSystemName().orElse(""), metadata.getSharedModuleIdentifiers().toList().toString(),
+								String.valueOf(useFullyQualifiedModuleNames), strategy.getClass().getName(),
+								ignored.getClass().getName(), option.getClass().getName())));
 	}
 
 	/**
-	 * Creates a new {@link ApplicationModules} for the given {@link ModulithMetadata}, {@link ApplicationModule}s,
-	 * {@link JavaClasses}, {@link JavaPackage}s, root and shared {@link ApplicationModule}s, ordered module names and
-	 * verified flag.
+	 * Creates a new {@link ApplicationModules} for the given {@link ModulithMetadata}, {@link Model}, shared
+	 * {@link ApplicationModule}s, fingerprint and verified flag.
 	 *
 	 * @param metadata must not be {@literal null}.
-	 * @param modules must not be {@literal null}.
-	 * @param allClasses must not be {@literal null}.
-	 * @param rootPackages must not be {@literal null}.
-	 * @param rootModules must not be {@literal null}.
+	 * @param model must not be {@literal null}.
 	 * @param sharedModules must not be {@literal null}.
-	 * @param orderedIdentifiers must not be {@literal null}.
+	 * @param fingerprint can be {@literal null} in case verification results must not be persisted.
 	 * @param verified
 	 */
-	private ApplicationModules(ModulithMetadata metadata, Map<ApplicationModuleIdentifier, ApplicationModule> modules,
-			JavaClasses allClasses, List<JavaPackage> rootPackages, Supplier<List<ApplicationModule>> rootModules,
-			Set<ApplicationModule> sharedModules, List<ApplicationModuleIdentifier> orderedIdentifiers, boolean verified) {
+	private ApplicationModules(ModulithMetadata metadata, Supplier<Model> model,
+			Supplier<Set<ApplicationModule>> sharedModules, @Nullable Supplier<String> fingerprint, boolean verified) {
 
 		Assert.notNull(metadata, "ModulithMetadata must not be null!");
-		Assert.notNull(modules, "Application modules must not be null!");
-		Assert.notNull(allClasses, "JavaClasses must not be null!");
-		Assert.notNull(rootPackages, "Root JavaPackages must not be null!");
-		Assert.notNull(rootModules, "Root modules must not be null!");
+		Assert.notNull(model, "Model must not be null!");
 		Assert.notNull(sharedModules, "Shared ApplicationModules must not be null!");
-		Assert.notNull(orderedIdentifiers, "Ordered application module identifiers must not be null!");
 
 		this.metadata = metadata;
-		this.modules = modules;
-		this.allClasses = allClasses;
-		this.rootPackages = rootPackages;
-		this.rootModules = rootModules;
+		this.model = model;
 		this.sharedModules = sharedModules;
-		this.orderedNames = orderedIdentifiers;
+		this.fingerprint = fingerprint;
 		this.verified = verified;
 	}
 
@@ -283,6 +259,28 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 		return of(CacheKey.of(javaPackage, alwaysFalse(), options));
 	}
 
+	/**
+	 * Removes all {@link ApplicationModules} instances cached by the {@code of(…)} factory methods and resets the
+	 * {@link CacheStatistics}. The cache holds at most 32 instances by default (configurable via
+	 * {@value #CACHE_SIZE_PROPERTY}) and only softly references them, so that this is only needed to release memory
+	 * eagerly, e.g. in long-running processes.
+	 *
+	 * @since 2.2
+	 */
+	public static void clearCache() {
+		CACHE.clear();
+	}
+
+	/**
+	 * Returns the {@link CacheStatistics} of the cache backing the {@code of(…)} factory methods.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 2.2
+	 */
+	public static CacheStatistics getCacheStatistics() {
+		return CACHE.getStatistics();
+	}
+
 	/**
 	 * Returns the source of the {@link ApplicationModules}. Either a main application class or a package name.
 	 *
@@ -299,7 +297,7 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 	 * @since 1.4
 	 */
 	public List<JavaPackage> getRootPackages() {
-		return Collections.unmodifiableList(rootPackages);
+		return Collections.unmodifiableList(model.get().rootPackages);
 	}
 
 	/**
@@ -308,7 +306,7 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 	 * @return will never be {@literal null}.
 	 */
 	public Set<ApplicationModule> getSharedModules() {
-		return sharedModules;
+		return sharedModules.get();
 	}
 
 	/**
@@ -320,7 +318,9 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 
 		Assert.notNull(type, "Type must not be null!");
 
-		return modules.values().stream().anyMatch(module -> module.contains(type));
+		return model.get().index.get().getModuleByType(type)
+				.filter(it -> !it.isRootModule())
+				.isPresent();
 	}
 
 	/**
@@ -332,6 +332,8 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 
 		Assert.notNull(type, "Type must not be null!");
 
+		var allClasses = model.get().allClasses;
+
 		return allClasses.contain(type) && contains(allClasses.get(type));
 	}
 
@@ -347,7 +349,7 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 
 		var candidate = PackageName.ofType(className);
 
-		return rootPackages.stream()
+		return model.get().rootPackages.stream()
 				.map(JavaPackage::getPackageName)
 				.anyMatch(candidate::equals);
 	}
@@ -362,7 +364,7 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 
 		Assert.hasText(name, "Module name must not be null or empty!");
 
-		return Optional.ofNullable(modules.get(ApplicationModuleIdentifier.of(name)));
+		return Optional.ofNullable(model.get().modules.get(ApplicationModuleIdentifier.of(name)));
 	}
 
 	/**
@@ -375,9 +377,7 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 
 		Assert.notNull(type, "Type must not be null!");
 
-		return allModules() //
-				.filter(it -> it.contains(type)) //
-				.findFirst();
+		return model.get().index.get().getModuleByType(type);
 	}
 
 	/**
@@ -390,9 +390,7 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 
 		Assert.hasText(candidate, "Candidate must not be null or empty!");
 
-		return allModules() //
-				.filter(it -> it.contains(candidate)) //
-				.findFirst();
+		return model.get().index.get().getModuleByType(candidate);
 	}
 
 	/**
@@ -403,27 +401,24 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 	 */
 	public Optional<ApplicationModule> getModuleByType(Class<?> candidate) {
 
-		return allModules()
-				.filter(it -> it.contains(candidate))
-				.findFirst();
+		Assert.notNull(candidate, "Candidate must not be null!");
+
+		return model.get().index.get().getModuleByType(candidate);
 	}
 
 	/**
-	 * Returns the {@link ApplicationModule} containing the given package.
+	 * Returns the {@link ApplicationModule} containing the given package, i.e. the module with the most specific base
+	 * package the given package is equal to or nested in. The lookup is based on the package name only and doesn't
+	 * verify that the package actually exists. Root modules are only considered for their exact base package.
 	 *
 	 * @param name must not be {@literal null} or empty.
 	 * @return will never be {@literal null}.
 	 */
 	public Optional<ApplicationModule> getModuleForPackage(String name) {
 
-		return modules.values().stream() //
-				.filter(it -> it.containsPackage(name)) //
-				.findFirst()
-				.or(() -> {
-					return rootModules.get().stream()
-							.filter(it -> it.hasBasePackage(name))
-							.findFirst();
-				});
+		Assert.hasText(name, "Package name must not be null or empty!");
+
+		return model.get().index.get().getModuleForPackage(name);
 	}
 
 	/**
@@ -471,7 +466,10 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 	/**
 	 * Executes all verifications to be applied considering the given {@link VerificationOptions} and returns
 	 * {@link Violations} if any occurred. Will always execute the verifications in contrast to {@link #verify()} which
-	 * just runs once.
+	 * just runs once. If a directory is configured via {@value PersistentVerificationCache#DIRECTORY_PROPERTY}, a
+	 * verification result persisted for unchanged classes is used instead, which avoids importing the classes entirely.
+	 * Results are only persisted if neither custom predicates to ignore types, nor custom {@link ImportOption}s, nor
+	 * additional verifications are involved.
 	 *
 	 * @return will never be {@literal null}.
 	 * @see Violations#throwIfPresent()
@@ -479,22 +477,16 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 	 */
 	public Violations detectViolations(VerificationOptions options) {
 
-		var cycleViolations = rootPackages.stream() //
-				.map(this::assertNoCyclesFor) //
-				.flatMap(it -> it.getDetails().stream()) //
-				.collect(toViolations());
+		var fingerprint = this.fingerprint;
 
-		var additionalViolations = options.getAdditionalVerifications().stream()
-				.map(it -> it.evaluate(allClasses))
-				.map(EvaluationResult::getFailureReport)
-				.flatMap(it -> it.getDetails().stream())
-				.collect(toViolations());
+		// Additional verifications are only identified by their description, which might not cover all of their state
+		if (VERIFICATION_CACHE == null || fingerprint == null || !options.getAdditionalVerifications().isEmpty()) {
+			return doDetectViolations(options);
+		}
 
-		var dependencyViolations = allModules() //
-				.map(it -> it.detectDependencies(this)) //
-				.reduce(NONE, Violations::and);
+		var inputs = List.of(fingerprint.get());
 
-		return cycleViolations.and(additionalViolations).and(dependencyViolations);
+		return VERIFICATION_CACHE.computeIfAbsent(inputs, () -> doDetectViolations(options));
 	}
 
 	/**
@@ -506,6 +498,111 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 		return StreamSupport.stream(this.spliterator(), false);
 	}
 
+	/**
+	 * Returns a {@link CompactApplicationModules} snapshot of the current instance that captures the module arrangement
+	 * and derived information, like published events, Spring beans, entry points and dependencies, by type names only.
+	 * As the snapshot doesn't retain any references to the imported classes, the current instance can be garbage
+	 * collected once it's not needed for any further analysis. Note that instances obtained via the {@code of(…)}
+	 * factory methods are cached and might need to be released via {@link #clearCache()}.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 2.2
+	 */
+	public CompactApplicationModules compact() {
+		return CompactApplicationModules.of(this);
+	}
+
+	/**
+	 * Returns whether the given {@link ApplicationModule} directly or transitively depends on the given other one. The
+	 * transitive dependencies of all modules are computed once and cached for subsequent lookups.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @param other must not be {@literal null}.
+	 * @since 2.2
+	 */
+	public boolean dependsOn(ApplicationModule module, ApplicationModule other) {
+
+		Assert.notNull(module, "ApplicationModule must not be null!");
+		Assert.notNull(other, "Other ApplicationModule must not be null!");
+
+		return getModuleDependencies().closure.dependsOn(module, other);
+	}
+
+	/**
+	 * Returns all {@link ApplicationModuleDependencies} of the given {@link ApplicationModule}, including transitive
+	 * ones, from the dependency closure computed once per set of {@link DependencyType}s.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @param types must not be {@literal null}.
+	 * @return {@literal null} in case the given module is not one of the current instance's modules.
+	 * @since 2.2
+	 */
+	@Nullable
+	ApplicationModuleDependencies getAllDependencies(ApplicationModule module, DependencyType... types) {
+
+		Assert.notNull(module, "ApplicationModule must not be null!");
+		Assert.notNull(types, "DependencyTypes must not be null!");
+
+		return getModuleDependencies(types).getAllDependencies(module);
+	}
+
+	/**
+	 * Returns all {@link ApplicationModule}s the given one depends on for bootstrapping, including transitive ones, from
+	 * the bootstrap dependency closure computed once.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @return {@literal null} in case the given module is not one of the current instance's modules.
+	 * @since 2.2
+	 */
+	@Nullable
+	Stream<ApplicationModule> getAllBootstrapDependencies(ApplicationModule module) {
+
+		Assert.notNull(module, "ApplicationModule must not be null!");
+
+		var model = this.model.get();
+		var closure = model.bootstrapDependencies;
+
+		if (closure == null) {
+
+			synchronized (model) {
+
+				closure = model.bootstrapDependencies;
+
+				if (closure == null) {
+
+					closure = DependencyClosure.of(orderedModules().toList(),
+							it -> it.getBootstrapDependencies(this, DependencyDepth.IMMEDIATE));
+					model.bootstrapDependencies = closure;
+				}
+			}
+		}
+
+		return closure.contains(module)
+				? closure.getDependencies(module).filter(it -> !it.equals(module))
+				: null;
+	}
+
+	/**
+	 * Returns the {@link ApplicationModuleDetectionStrategy} used to detect the modules.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 2.2
+	 */
+	ApplicationModuleDetectionStrategy getDetectionStrategy() {
+		return model.get().strategy;
+	}
+
+	/**
+	 * Returns a {@link Function} to import the classes of the given packages applying the same {@link ImportOption} and
+	 * exclusions as used for the current instance.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 2.2
+	 */
+	Function<Collection<String>, JavaClasses> getImporter() {
+		return model.get().importer;
+	}
+
 	/**
 	 * Returns the system name if defined.
 	 *
@@ -603,19 +700,127 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 				.collect(Collectors.joining("\n"));
 	}
 
-	private ApplicationModules withSharedModules(Set<ApplicationModule> sharedModules) {
-		return new ApplicationModules(metadata, modules, allClasses, rootPackages, rootModules, sharedModules, orderedNames,
-				verified);
+	private Violations doDetectViolations(VerificationOptions options) {
+
+		var executor = options.getExecutor();
+		var rootPackages = model.get().rootPackages;
+		var allClasses = model.get().allClasses;
+
+		// Trigger all verifications before collecting any results to allow them to run concurrently
+		var cycleReports = evaluate(rootPackages, this::assertNoCyclesFor, executor);
+		var additionalReports = evaluate(options.getAdditionalVerifications(),
+				it -> it.evaluate(allClasses).getFailureReport(), executor);
+		var dependencyViolations = evaluate(allModules().toList(), it -> it.detectDependencies(this), executor);
+
+		var cycleViolations = cycleReports.get() //
+				.flatMap(List::stream) //
+				.collect(toViolations());
+
+		var additionalViolations = additionalReports.get()
+				.flatMap(it -> it.getDetails().stream())
+				.collect(toViolations());
+
+		return cycleViolations.and(additionalViolations)
+				.and(dependencyViolations.get().reduce(NONE, Violations::and));
 	}
 
-	private FailureReport assertNoCyclesFor(JavaPackage rootPackage) {
+	private ApplicationModules withSharedModules(Supplier<Set<ApplicationModule>> sharedModules) {
+		return new ApplicationModules(metadata, model, sharedModules, fingerprint, verified);
+	}
+
+	/**
+	 * Detects dependency cycles between the closed {@link ApplicationModule}s within the given root package. The cycles
+	 * are detected on a graph of the modules built from their cached direct dependencies first and ArchUnit is only
+	 * used to render the details of the dependencies forming the cycles detected.
+	 *
+	 * @param rootPackage must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private List<String> assertNoCyclesFor(JavaPackage rootPackage) {
+
+		var candidates = allModules()
+				.filter(Predicate.not(ApplicationModule::isOpen))
+				.filter(it -> isWithin(it.getBasePackage(), rootPackage))
+				.toList();
+
+		var dependencies = getModuleDependencies();
+		var cycles = ApplicationModuleGraph.of(candidates, dependencies::getDirectDependencies).getCycles();
+
+		if (cycles.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		var classes = model.get().allClasses.that(resideInAPackage(rootPackage.asFilter()));
+
+		var involved = cycles.stream()
+				.flatMap(Set::stream)
+				.collect(Collectors.toSet());
 
 		var result = SlicesRuleDefinition.slices() //
-				.assignedFrom(new ApplicationModulesSliceAssignment())
+				.assignedFrom(new ApplicationModulesSliceAssignment(involved))
 				.should().beFreeOfCycles() //
-				.evaluate(allClasses.that(resideInAPackage(rootPackage.asFilter())));
+				.evaluate(classes);
+
+		return result.getFailureReport().getDetails();
+	}
 
-		return result.getFailureReport();
+	private static boolean isWithin(JavaPackage candidate, JavaPackage rootPackage) {
+		return candidate.getName().equals(rootPackage.getName()) || candidate.isSubPackageOf(rootPackage);
+	}
+
+	/**
+	 * Returns the {@link ApplicationModule} the given type belongs to in case it needs to be considered in cycle
+	 * detection, i.e. it's not an open one.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private Optional<ApplicationModule> getCycleCandidateFor(JavaClass type) {
+		return getModuleByType(type).filter(Predicate.not(ApplicationModule::isOpen));
+	}
+
+	/**
+	 * Applies the given function to all given sources, either on the calling thread or concurrently on the given
+	 * {@link Executor}. In the latter case, the computations are triggered immediately. The returned {@link Supplier}
+	 * waits for their completion and returns the results in the order of the given sources.
+	 *
+	 * @param sources must not be {@literal null}.
+	 * @param function must not be {@literal null}.
+	 * @param executor can be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private static <S, T> Supplier<Stream<T>> evaluate(Collection<S> sources, Function<S, T> function,
+			@Nullable Executor executor) {
+
+		if (executor == null) {
+			return () -> sources.stream().map(function);
+		}
+
+		var futures = sources.stream()
+				.map(it -> CompletableFuture.supplyAsync(() -> function.apply(it), executor))
+				.toList();
+
+		return () -> futures.stream().map(ApplicationModules::join);
+	}
+
+	private static <T> T join(CompletableFuture<T> future) {
+
+		try {
+
+			return future.join();
+
+		} catch (CompletionException o_O) {
+
+			if (o_O.getCause() instanceof RuntimeException exception) {
+				throw exception;
+			}
+
+			if (o_O.getCause() instanceof Error error) {
+				throw error;
+			}
+
+			throw o_O;
+		}
 	}
 
 	/**
@@ -627,6 +832,12 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 	 */
 	private @Nullable Integer getModuleIndexFor(@Nullable Object object) {
 
+		var orderedNames = model.get().orderedNames;
+
+		if (orderedNames == null) {
+			return null;
+		}
+
 		return Optional.ofNullable(object)
 				.map(it -> Class.class.isInstance(it) ? Class.class.cast(it) : it.getClass())
 				.map(Class::getName)
@@ -644,7 +855,7 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 	 */
 	private ApplicationModule getRequiredModule(ApplicationModuleIdentifier identifier) {
 
-		var module = modules.get(identifier);
+		var module = model.get().modules.get(identifier);
 
 		if (module == null) {
 			throw new IllegalArgumentException(String.format("Module %s does not exist!", identifier));
@@ -660,13 +871,20 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 	 * @since 1.1
 	 */
 	private Stream<ApplicationModule> allModules() {
-		return Stream.concat(orderedModules(), rootModules.get().stream());
+		return Stream.concat(orderedModules(), model.get().rootModules.get().stream());
+	}
+
+	private ModuleDependencies getModuleDependencies(DependencyType... types) {
+		return model.get().dependencies.computeIfAbsent(Set.of(types), __ -> ModuleDependencies.of(this, types));
 	}
 
 	private Stream<ApplicationModule> orderedModules() {
-		return orderedNames != null
-				? orderedNames.stream().map(this::getRequiredModule)
-				: modules.values().stream().sorted();
+
+		var model = this.model.get();
+
+		return model.orderedNames != null
+				? model.orderedNames.stream().map(this::getRequiredModule)
+				: model.modules.values().stream().sorted();
 	}
 
 	/**
@@ -679,16 +897,22 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 
 		Assert.notNull(cacheKey, "Cache key must not be null!");
 
-		return CACHE.computeIfAbsent(cacheKey, key -> {
+		return CACHE.get(cacheKey, key -> {
 
 			var metadata = key.getMetadata();
-			var modules = new ApplicationModules(metadata, key.getIgnored(), key.getOptions());
+			var modules = new ApplicationModules(metadata, metadata.getBasePackages(), key.getIgnored(),
+					metadata.useFullyQualifiedModuleNames(), key.getOptions());
 
-			var sharedModules = metadata.getSharedModuleIdentifiers() //
+			var result = modules.withSharedModules(SingletonSupplier.of(() -> metadata.getSharedModuleIdentifiers() //
 					.map(modules::getRequiredModule) //
-					.collect(Collectors.toSet());
+					.collect(Collectors.toSet())));
 
-			return modules.withSharedModules(sharedModules);
+			// Only defer the analysis if a persisted verification result might make it unnecessary
+			if (VERIFICATION_CACHE == null || modules.fingerprint == null) {
+				result.getSharedModules();
+			}
+
+			return result;
 		});
 	}
 
@@ -712,6 +936,71 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 		};
 	}
 
+	/**
+	 * Imports the classes of the given packages and detects the {@link ApplicationModule}s contained in them.
+	 *
+	 * @param metadata must not be {@literal null}.
+	 * @param packages must not be {@literal null}.
+	 * @param packagesToImport must not be {@literal null}.
+	 * @param ignored must not be {@literal null}.
+	 * @param option must not be {@literal null}.
+	 * @param strategy must not be {@literal null}.
+	 * @param contributions must not be {@literal null}.
+	 * @param useFullyQualifiedModuleNames
+	 * @return will never be {@literal null}.
+	 */
+	private static Model createModel(ModulithMetadata metadata, Collection<String> packages,
+			List<String> packagesToImport, DescribedPredicate<? super JavaClass> ignored, ImportOption option,
+			ApplicationModuleDetectionStrategy strategy, ApplicationModuleSourceContributions contributions,
+			boolean useFullyQualifiedModuleNames) {
+
+		DescribedPredicate<? super JavaClass> excluded = DescribedPredicate.or(ignored, IS_GENERATED,
+				IS_SPRING_CGLIB_PROXY);
+
+		Function<Collection<String>, JavaClasses> importer = it -> new ClassFileImporter() //
+				.withImportOption(option) //
+				.importPackages(it) //
+				.that(not(excluded));
+
+		var allClasses = importer.apply(packagesToImport);
+
+		Assert.notEmpty(allClasses, () -> "No classes found in packages %s!".formatted(packages));
+		Classes classes = Classes.of(allClasses);
+
+		var directSources = packages.stream() //
+				.distinct()
+				.map(it -> JavaPackage.of(classes, it))
+				.flatMap(it -> ApplicationModuleSource.from(it, strategy, useFullyQualifiedModuleNames));
+
+		var sources = Stream.concat(directSources, contributions.getSources(classes))
+				.distinct()
+				.collect(Collectors.toUnmodifiableSet());
+
+		var modules = sources.stream() //
+				.map(it -> {
+
+					var exclusions = sources.stream()
+							.map(ApplicationModuleSource::getModuleBasePackage)
+							.toList();
+
+					return new ApplicationModule(it, new JavaPackages(exclusions));
+
+				})
+				.collect(toMap(ApplicationModule::getIdentifier, Function.identity()));
+
+		var rootPackages = packagesToImport.stream() //
+				.distinct()
+				.map(it -> JavaPackage.of(classes, it).toSingle()) //
+				.toList();
+
+		var model = new Model(modules, allClasses, rootPackages, strategy, importer, null);
+
+		// Order the modules based on an instance backed by the not yet ordered model
+		var unordered = new ApplicationModules(metadata, () -> model, Collections::emptySet, () -> "", false);
+
+		return model.withOrderedNames(topologicallyOrderIdentifiers(unordered));
+	}
+
 	/**
 	 * Returns all {@link ApplicationModuleIdentifier} topologically sorted.
 	 *
@@ -728,6 +1017,73 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 		return Optional.ofNullable(ModuleSorter.sortTopologically(modules)).orElseGet(fallback);
 	}
 
+	/**
+	 * Statistics about the cache backing the {@code of(…)} factory methods of {@link ApplicationModules}.
+	 *
+	 * @author Oliver Drotbohm
+	 * @since 2.2
+	 * @see ApplicationModules#getCacheStatistics()
+	 */
+	public static final class CacheStatistics {
+
+		private final long hits, misses, evictions;
+		private final int size;
+
+		CacheStatistics(long hits, long misses, long evictions, int size) {
+
+			this.hits = hits;
+			this.misses = misses;
+			this.evictions = evictions;
+			this.size = size;
+		}
+
+		/**
+		 * Returns the number of lookups that returned an already cached instance.
+		 *
+		 * @return the number of hits.
+		 */
+		public long getHits() {
+			return hits;
+		}
+
+		/**
+		 * Returns the number of lookups that required a new instance to be created, either because none was cached yet,
+		 * or because it had been reclaimed by the garbage collector.
+		 *
+		 * @return the number of misses.
+		 */
+		public long getMisses() {
+			return misses;
+		}
+
+		/**
+		 * Returns the number of instances removed because the maximum size of the cache was exceeded.
+		 *
+		 * @return the number of evictions.
+		 */
+		public long getEvictions() {
+			return evictions;
+		}
+
+		/**
+		 * Returns the number of entries currently held in the cache.
+		 *
+		 * @return the current size.
+		 */
+		public int getSize() {
+			return size;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return "CacheStatistics(hits=%s, misses=%s, evictions=%s, size=%s)".formatted(hits, misses, evictions, size);
+		}
+	}
+
 	public static class Filters {
 
 		public static DescribedPredicate<JavaClass> withoutModules(String... names) {
@@ -742,7 +1098,179 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 		}
 	}
 
-	private static class CacheKey {
+	/**
+	 * The result of importing and analyzing the classes of an {@link ApplicationModules} instance.
+	 *
+	 * @author Oliver Drotbohm
+	 * @since 2.2
+	 */
+	private static class Model {
+
+		private final Map<ApplicationModuleIdentifier, ApplicationModule> modules;
+		private final JavaClasses allClasses;
+		private final List<JavaPackage> rootPackages;
+		private final Supplier<List<ApplicationModule>> rootModules;
+		private final Supplier<ApplicationModuleIndex> index;
+		private final Map<Set<DependencyType>, ModuleDependencies> dependencies = new ConcurrentHashMap<>();
+		private volatile @Nullable DependencyClosure bootstrapDependencies;
+		private final ApplicationModuleDetectionStrategy strategy;
+		private final Function<Collection<String>, JavaClasses> importer;
+		private final @Nullable List<ApplicationModuleIdentifier> orderedNames;
+
+		/**
+		 * Creates a new {@link Model} for the given {@link ApplicationModule}s, {@link JavaClasses}, root
+		 * {@link JavaPackage}s, {@link ApplicationModuleDetectionStrategy}, importer and ordered module identifiers.
+		 *
+		 * @param modules must not be {@literal null}.
+		 * @param allClasses must not be {@literal null}.
+		 * @param rootPackages must not be {@literal null}.
+		 * @param strategy must not be {@literal null}.
+		 * @param importer must not be {@literal null}.
+		 * @param orderedNames can be {@literal null}.
+		 */
+		Model(Map<ApplicationModuleIdentifier, ApplicationModule> modules, JavaClasses allClasses,
+				List<JavaPackage> rootPackages, ApplicationModuleDetectionStrategy strategy,
+				Function<Collection<String>, JavaClasses> importer,
+				@Nullable List<ApplicationModuleIdentifier> orderedNames) {
+
+			this.modules = modules;
+			this.allClasses = allClasses;
+			this.rootPackages = rootPackages;
+			this.strategy = strategy;
+			this.importer = importer;
+			this.rootModules = SingletonSupplier.of(() -> rootPackages.stream()
+					.map(ApplicationModules::rootModuleFor)
+					.toList());
+			this.index = SingletonSupplier.of(this::createIndex);
+			this.orderedNames = orderedNames;
+		}
+
+		private Model(Model model, List<ApplicationModuleIdentifier> orderedNames) {
+
+			this.modules = model.modules;
+			this.allClasses = model.allClasses;
+			this.rootPackages = model.rootPackages;
+			this.strategy = model.strategy;
+			this.importer = model.importer;
+			this.rootModules = model.rootModules;
+			this.index = SingletonSupplier.of(this::createIndex);
+			this.orderedNames = orderedNames;
+		}
+
+		Model withOrderedNames(List<ApplicationModuleIdentifier> orderedNames) {
+			return new Model(this, orderedNames);
+		}
+
+		/**
+		 * Creates the {@link ApplicationModuleIndex} registering the modules in topological order if available, so that
+		 * types contained in multiple modules are assigned to the same module as by iterating over the modules.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		private ApplicationModuleIndex createIndex() {
+
+			var ordered = orderedNames == null
+					? modules.values().stream().sorted().toList()
+					: orderedNames.stream().map(modules::get).toList();
+
+			return ApplicationModuleIndex.of(ordered, rootModules.get());
+		}
+	}
+
+	/**
+	 * The direct dependencies of all {@link ApplicationModule}s for a particular set of {@link DependencyType}s and the
+	 * {@link DependencyClosure} calculated from them.
+	 *
+	 * @author Oliver Drotbohm
+	 * @since 2.2
+	 */
+	private static class ModuleDependencies {
+
+		private final ApplicationModules modules;
+		private final DependencyType[] types;
+		private final Map<ApplicationModule, ApplicationModuleDependencies> direct;
+		private final Map<ApplicationModule, ApplicationModuleDependencies> all;
+		private final DependencyClosure closure;
+
+		private ModuleDependencies(ApplicationModules modules, DependencyType[] types,
+				Map<ApplicationModule, ApplicationModuleDependencies> direct, DependencyClosure closure) {
+
+			this.modules = modules;
+			this.types = types;
+			this.direct = direct;
+			this.all = new ConcurrentHashMap<>();
+			this.closure = closure;
+		}
+
+		/**
+		 * Computes the {@link ModuleDependencies} of the given {@link ApplicationModules} for the given
+		 * {@link DependencyType}s.
+		 *
+		 * @param modules must not be {@literal null}.
+		 * @param types must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		static ModuleDependencies of(ApplicationModules modules, DependencyType... types) {
+
+			var ordered = modules.orderedModules().toList();
+			var direct = new HashMap<ApplicationModule, ApplicationModuleDependencies>(ordered.size());
+
+			ordered.forEach(it -> direct.put(it, it.getDirectDependencies(modules, types)));
+
+			return new ModuleDependencies(modules, types, direct,
+					DependencyClosure.of(ordered, it -> direct.get(it).uniqueModules()));
+		}
+
+		/**
+		 * Returns the {@link ApplicationModule}s the given one directly depends on. Computes them for modules not
+		 * considered when the current instance was created, i.e. root modules.
+		 *
+		 * @param module must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		Stream<ApplicationModule> getDirectDependencies(ApplicationModule module) {
+
+			var dependencies = direct.get(module);
+
+			return dependencies != null
+					? dependencies.uniqueModules()
+					: module.getDirectDependencies(modules, types).uniqueModules();
+		}
+
+		/**
+		 * Returns all dependencies of the given {@link ApplicationModule}, i.e. its direct ones as well as the ones of all
+		 * modules it transitively depends on.
+		 *
+		 * @param module must not be {@literal null}.
+		 * @return {@literal null} in case the given module is unknown.
+		 */
+		@Nullable
+		ApplicationModuleDependencies getAllDependencies(ApplicationModule module) {
+
+			if (!closure.contains(module)) {
+				return null;
+			}
+
+			return all.computeIfAbsent(module, it -> Stream.concat(Stream.of(it), closure.getDependencies(it))
+					.distinct()
+					.flatMap(dependency -> direct.get(dependency).stream())
+					.distinct()
+					.collect(Collectors.collectingAndThen(Collectors.toList(), ApplicationModuleDependencies::of)));
+		}
+	}
+
+	/**
+	 * Returns whether the given {@link DescribedPredicate} or {@link ImportOption} is a stateless one provided by ArchUnit,
+	 * so that it can be identified by its type alone.
+	 *
+	 * @param object must not be {@literal null}.
+	 * @return whether the given object is fully identified by its type.
+	 */
+	static boolean hasStableIdentity(Object object) {
+		return STATELESS_TYPES.contains(object.getClass());
+	}
+
+	static class CacheKey {
 
 		private final DescribedPredicate<? super JavaClass> ignored;
 		private final ImportOption options;
@@ -793,8 +1321,8 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 				return false;
 			}
 
-			return Objects.equals(this.ignored, that.ignored)
-					&& Objects.equals(this.options, that.options)
+			return Objects.equals(identityOf(this.ignored), identityOf(that.ignored))
+					&& Objects.equals(identityOf(this.options), identityOf(that.options))
 					&& Objects.equals(this.metadataSource, that.metadataSource);
 		}
 
@@ -804,7 +1332,22 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 		 */
 		@Override
 		public int hashCode() {
-			return Objects.hash(ignored, options, metadataSource);
+			return Objects.hash(identityOf(ignored), identityOf(options), metadataSource);
+		}
+
+		/**
+		 * Returns the object to identify the given {@link DescribedPredicate} or {@link ImportOption} by. Neither of them
+		 * implement {@link Object#equals(Object)}, so that semantically equivalent instances created for each invocation
+		 * (e.g. {@code new ImportOption.DoNotIncludeTests()}) would not produce a cache hit. The stateless ones provided by
+		 * ArchUnit are fully identified by their type. All others are identified by their instance, as neither their type
+		 * nor their description necessarily covers all of their state.
+		 *
+		 * @param object must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 * @see ApplicationModules#hasStableIdentity(Object)
+		 */
+		private static Object identityOf(Object object) {
+			return hasStableIdentity(object) ? object.getClass() : object;
 		}
 	}
 
@@ -884,6 +1427,18 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 
 	private class ApplicationModulesSliceAssignment implements SliceAssignment {
 
+		private final Set<ApplicationModule> modules;
+
+		/**
+		 * Creates a new {@link ApplicationModulesSliceAssignment} only assigning types of the given
+		 * {@link ApplicationModule}s to slices.
+		 *
+		 * @param modules must not be {@literal null}.
+		 */
+		ApplicationModulesSliceAssignment(Set<ApplicationModule> modules) {
+			this.modules = modules;
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see com.tngtech.archunit.library.dependencies.SliceAssignment#getIdentifierOf(com.tngtech.archunit.core.domain.JavaClass)
@@ -891,8 +1446,8 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 		@Override
 		public SliceIdentifier getIdentifierOf(JavaClass javaClass) {
 
-			return getModuleByType(javaClass)
-					.filter(Predicate.not(ApplicationModule::isOpen))
+			return getCycleCandidateFor(javaClass)
+					.filter(modules::contains)
 					.map(ApplicationModule::getIdentifier)
 					.map(ApplicationModuleIdentifier::toString)
 					.map(SliceIdentifier::of)
@@ -905,7 +1460,7 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 		 */
 		@Override
 		public String getDescription() {
-			return "Appliction module slices " + ApplicationModules.this.modules.keySet();
+			return "Appliction module slices " + ApplicationModules.this.model.get().modules.keySet();
 		}
 	}
 }
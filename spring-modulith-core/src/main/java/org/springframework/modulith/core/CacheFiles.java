@@ -0,0 +1,213 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.core;
+
+import static java.nio.charset.StandardCharsets.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.PropertySources;
+import org.springframework.util.Assert;
+
+/**
+ * Helper to persist the results of expensive computations as properties files, so that they can be shared across JVMs,
+ * e.g. the individual test forks of a build. Provides a {@link Fingerprint} to key those files by the inputs of the
+ * computation and atomic writes, so that concurrently running JVMs never see partially written files.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+public abstract class CacheFiles {
+
+	private CacheFiles() {}
+
+	/**
+	 * Creates a new, empty {@link Fingerprint}.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public static Fingerprint fingerprint() {
+		return new Fingerprint();
+	}
+
+	/**
+	 * Reads the properties file at the given location.
+	 *
+	 * @param file must not be {@literal null}.
+	 * @return {@literal null} in case the file doesn't exist.
+	 * @throws IOException in case the file could not be read.
+	 */
+	public static @Nullable Properties read(Path file) throws IOException {
+
+		Assert.notNull(file, "File must not be null!");
+
+		if (!Files.isRegularFile(file)) {
+			return null;
+		}
+
+		var properties = new Properties();
+
+		try (var reader = Files.newBufferedReader(file, UTF_8)) {
+			properties.load(reader);
+		}
+
+		return properties;
+	}
+
+	/**
+	 * Writes the given {@link Properties} to the given location, creating parent directories if necessary. Writes to a
+	 * temporary file that is moved to the given location atomically, so that readers either see the previous or the
+	 * complete new file.
+	 *
+	 * @param file must not be {@literal null}.
+	 * @param properties must not be {@literal null}.
+	 * @param comment can be {@literal null}.
+	 * @throws IOException in case the file could not be written.
+	 */
+	public static void write(Path file, Properties properties, @Nullable String comment) throws IOException {
+
+		Assert.notNull(file, "File must not be null!");
+		Assert.notNull(properties, "Properties must not be null!");
+
+		var parent = file.toAbsolutePath().getParent();
+
+		Files.createDirectories(parent);
+
+		var temporary = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+
+		try {
+
+			try (var writer = Files.newBufferedWriter(temporary, UTF_8)) {
+				properties.store(writer, comment);
+			}
+
+			Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+		} catch (IOException o_O) {
+
+			Files.deleteIfExists(temporary);
+
+			throw o_O;
+		}
+	}
+
+	/**
+	 * A SHA-256 based fingerprint of the inputs of a computation.
+	 *
+	 * @author Oliver Drotbohm
+	 * @since 2.2
+	 */
+	public static class Fingerprint {
+
+		private final MessageDigest digest;
+
+		private Fingerprint() {
+
+			try {
+				this.digest = MessageDigest.getInstance("SHA-256");
+			} catch (NoSuchAlgorithmException o_O) {
+				throw new IllegalStateException(o_O);
+			}
+		}
+
+		/**
+		 * Adds the given {@link String} to the fingerprint. Consecutive values are separated, so that {@code "ab", "c"}
+		 * results in a different fingerprint than {@code "a", "bc"}.
+		 *
+		 * @param value must not be {@literal null}.
+		 * @return the current instance, will never be {@literal null}.
+		 */
+		public Fingerprint with(String value) {
+
+			Assert.notNull(value, "Value must not be null!");
+
+			digest.update(value.getBytes(UTF_8));
+			digest.update((byte) 0);
+
+			return this;
+		}
+
+		/**
+		 * Adds the given content, e.g. the one of a file, to the fingerprint.
+		 *
+		 * @param content must not be {@literal null}.
+		 * @return the current instance, will never be {@literal null}.
+		 */
+		public Fingerprint with(byte[] content) {
+
+			Assert.notNull(content, "Content must not be null!");
+
+			digest.update(content);
+
+			return this;
+		}
+
+		/**
+		 * Adds all properties with names matching the given {@link Predicate} that are contained in the given
+		 * {@link PropertySources} as {@code key=value} pairs sorted by key. Properties contained in multiple sources
+		 * are considered with the value of the first one, just like the environment resolves them.
+		 *
+		 * @param sources must not be {@literal null}.
+		 * @param filter must not be {@literal null}.
+		 * @return the current instance, will never be {@literal null}.
+		 */
+		public Fingerprint withProperties(PropertySources sources, Predicate<String> filter) {
+
+			Assert.notNull(sources, "PropertySources must not be null!");
+			Assert.notNull(filter, "Filter must not be null!");
+
+			var properties = new TreeMap<String, String>();
+
+			for (var source : sources) {
+
+				if (!(source instanceof EnumerablePropertySource<?> enumerable)) {
+					continue;
+				}
+
+				for (var name : enumerable.getPropertyNames()) {
+					if (filter.test(name)) {
+						properties.putIfAbsent(name, String.valueOf(enumerable.getProperty(name)));
+					}
+				}
+			}
+
+			properties.forEach((key, value) -> with(key + "=" + value));
+
+			return this;
+		}
+
+		/**
+		 * Returns the hex representation of the fingerprint. Completes the fingerprint, i.e. the instance must not be
+		 * used anymore afterwards.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public String toHexString() {
+			return HexFormat.of().formatHex(digest.digest());
+		}
+	}
+}
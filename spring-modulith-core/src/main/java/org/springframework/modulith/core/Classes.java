@@ -19,11 +19,14 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -32,13 +35,13 @@ import java.util.stream.StreamSupport;
 import org.jspecify.annotations.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
+import org.springframework.util.function.SingletonSupplier;
 
 import com.tngtech.archunit.base.DescribedIterable;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.domain.JavaModifier;
-import com.tngtech.archunit.core.domain.properties.HasName;
 
 /**
  * @author Oliver Drotbohm
@@ -48,6 +51,7 @@ class Classes implements DescribedIterable<JavaClass> {
 	public static Classes NONE = Classes.of(Collections.emptyList());
 
 	private final List<JavaClass> classes;
+	private final Supplier<Map<String, JavaClass>> byName;
 
 	/**
 	 * Creates a new {@link Classes} for the given {@link JavaClass}es.
@@ -61,6 +65,7 @@ class Classes implements DescribedIterable<JavaClass> {
 		this.classes = classes.stream() //
 				.sorted(Comparator.comparing(JavaClass::getName)) //
 				.toList();
+		this.byName = SingletonSupplier.of(() -> indexByName(this.classes));
 	}
 
 	/**
@@ -172,24 +177,26 @@ class Classes implements DescribedIterable<JavaClass> {
 	}
 
 	boolean contains(JavaClass type) {
-		return classes.contains(type);
+		return type.equals(byName.get().get(type.getName()));
 	}
 
 	boolean contains(Class<?> type) {
-		return classes.stream().anyMatch(it -> it.isEquivalentTo(type));
+		return byName.get().containsKey(type.getName());
 	}
 
 	boolean contains(String className) {
-		return !that(HasName.Predicates.name(className)).isEmpty();
+		return byName.get().containsKey(className);
 	}
 
 	JavaClass getRequiredClass(Class<?> type) {
 
-		return classes.stream() //
-				.filter(it -> it.isEquivalentTo(type)) //
-				.findFirst() //
-				.orElseThrow(
-						() -> new IllegalArgumentException(String.format("No JavaClass found for type %s!", type)));
+		var result = byName.get().get(type.getName());
+
+		if (result == null) {
+			throw new IllegalArgumentException(String.format("No JavaClass found for type %s!", type));
+		}
+
+		return result;
 	}
 
 	/*
@@ -292,6 +299,17 @@ class Classes implements DescribedIterable<JavaClass> {
 		return format(type, "");
 	}
 
+	private static Map<String, JavaClass> indexByName(List<JavaClass> classes) {
+
+		var result = new HashMap<String, JavaClass>(classes.size());
+
+		for (JavaClass candidate : classes) {
+			result.putIfAbsent(candidate.getName(), candidate);
+		}
+
+		return Collections.unmodifiableMap(result);
+	}
+
 	private static boolean residesIn(PackageName reference, JavaClass type, boolean inNested) {
 
 		var typesPackage = PackageName.ofType(type.getFullName());
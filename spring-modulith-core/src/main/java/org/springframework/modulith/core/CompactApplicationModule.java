@@ -0,0 +1,405 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.core;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+
+/**
+ * A lightweight snapshot of an {@link ApplicationModule} that only captures type names and derived information, but
+ * does not retain any references to the ArchUnit class graph the original module was created from.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ * @see ApplicationModules#compact()
+ */
+public class CompactApplicationModule {
+
+	private final ApplicationModuleIdentifier identifier;
+	private final String displayName, basePackage;
+	private final boolean shared;
+	private final Set<String> types, exposedTypes;
+	private final List<String> publishedEvents, springBeans, entryPoints;
+	private final List<Dependency> dependencies;
+
+	private CompactApplicationModule(ApplicationModule module, boolean shared, List<Dependency> dependencies) {
+
+		var types = module.getBasePackage().stream()
+				.filter(module::contains)
+				.sorted(Comparator.comparing(JavaClass::getName))
+				.toList();
+
+		this.identifier = module.getIdentifier();
+		this.displayName = module.getDisplayName();
+		this.basePackage = module.getBasePackage().getName();
+		this.shared = shared;
+		this.types = toNames(types, Function.identity());
+		this.exposedTypes = toNames(types.stream().filter(module::isExposed).toList(), Function.identity());
+		this.publishedEvents = List.copyOf(toNames(module.getPublishedEvents(), EventType::getType));
+		this.springBeans = List.copyOf(toNames(module.getSpringBeans(), SpringBean::getType));
+		this.entryPoints = module.getEntryPoints().stream()
+				.map(it -> it.getMethod().getFullName())
+				.distinct()
+				.toList();
+		this.dependencies = dependencies;
+	}
+
+	private CompactApplicationModule(ApplicationModuleIdentifier identifier, String displayName, String basePackage,
+			boolean shared, Collection<String> types, Collection<String> exposedTypes,
+			Collection<String> publishedEvents, Collection<String> springBeans) {
+
+		this.identifier = identifier;
+		this.displayName = displayName;
+		this.basePackage = basePackage;
+		this.shared = shared;
+		this.types = Collections.unmodifiableSet(new LinkedHashSet<>(types));
+		this.exposedTypes = Collections.unmodifiableSet(new LinkedHashSet<>(exposedTypes));
+		this.publishedEvents = List.copyOf(publishedEvents);
+		this.springBeans = List.copyOf(springBeans);
+		this.entryPoints = Collections.emptyList();
+		this.dependencies = Collections.emptyList();
+	}
+
+	/**
+	 * Creates a new {@link CompactApplicationModule} for the given {@link ApplicationModule}.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @param modules must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static CompactApplicationModule of(ApplicationModule module, ApplicationModules modules) {
+
+		Assert.notNull(module, "ApplicationModule must not be null!");
+		Assert.notNull(modules, "ApplicationModules must not be null!");
+
+		Function<JavaClass, Optional<ApplicationModuleIdentifier>> lookup = it -> modules.getModuleByType(it)
+				.filter(candidate -> !candidate.isRootModule())
+				.map(ApplicationModule::getIdentifier);
+
+		return of(module, modules.getSharedModules().contains(module), lookup);
+	}
+
+	/**
+	 * Creates a new {@link CompactApplicationModule} for the given {@link ApplicationModule}, resolving dependency
+	 * targets to modules using the given lookup function. That allows to create instances for modules created from a
+	 * partial import of classes, as the dependency targets might not be contained in that import.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @param shared whether the module is a shared one.
+	 * @param lookup must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static CompactApplicationModule of(ApplicationModule module, boolean shared,
+			Function<JavaClass, Optional<ApplicationModuleIdentifier>> lookup) {
+
+		Assert.notNull(module, "ApplicationModule must not be null!");
+		Assert.notNull(lookup, "Module lookup must not be null!");
+
+		var beans = module.getSpringBeansInternal();
+		var dependencies = module.getClasses().stream()
+				.flatMap(it -> ApplicationModule.getDependenciesOf(it, beans))
+				.flatMap(it -> lookup.apply(it.getTarget())
+						.filter(identifier -> !identifier.equals(module.getIdentifier()))
+						.map(identifier -> new Dependency(it.getSource().getName(), it.getTarget().getName(),
+								it.getType(), identifier))
+						.stream())
+				.distinct()
+				.toList();
+
+		return new CompactApplicationModule(module, shared, dependencies);
+	}
+
+	/**
+	 * Restores a {@link CompactApplicationModule} from the information captured in the runtime model rendered by
+	 * {@link org.springframework.modulith.core.util.ApplicationModulesExporter#toRuntimeJson()}. As that model doesn't
+	 * capture entry points and dependencies by type, the restored instance doesn't expose those.
+	 *
+	 * @param identifier must not be {@literal null}.
+	 * @param displayName must not be {@literal null} or empty.
+	 * @param basePackage must not be {@literal null} or empty.
+	 * @param shared whether the module is a shared one.
+	 * @param types must not be {@literal null}.
+	 * @param exposedTypes must not be {@literal null}.
+	 * @param publishedEvents must not be {@literal null}.
+	 * @param springBeans must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static CompactApplicationModule restore(ApplicationModuleIdentifier identifier, String displayName,
+			String basePackage, boolean shared, Collection<String> types, Collection<String> exposedTypes,
+			Collection<String> publishedEvents, Collection<String> springBeans) {
+
+		Assert.notNull(identifier, "ApplicationModuleIdentifier must not be null!");
+		Assert.hasText(displayName, "Display name must not be null or empty!");
+		Assert.hasText(basePackage, "Base package must not be null or empty!");
+		Assert.notNull(types, "Types must not be null!");
+		Assert.notNull(exposedTypes, "Exposed types must not be null!");
+		Assert.notNull(publishedEvents, "Published events must not be null!");
+		Assert.notNull(springBeans, "Spring beans must not be null!");
+
+		return new CompactApplicationModule(identifier, displayName, basePackage, shared, types, exposedTypes,
+				publishedEvents, springBeans);
+	}
+
+	/**
+	 * Returns the logical identifier of the module.
+	 *
+	 * @return will never be {@literal null}.
+	 * @see ApplicationModule#getIdentifier()
+	 */
+	public ApplicationModuleIdentifier getIdentifier() {
+		return identifier;
+	}
+
+	/**
+	 * Returns the name of the module for display purposes.
+	 *
+	 * @return will never be {@literal null} or empty.
+	 * @see ApplicationModule#getDisplayName()
+	 */
+	public String getDisplayName() {
+		return displayName;
+	}
+
+	/**
+	 * Returns the name of the module's base package.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public String getBasePackage() {
+		return basePackage;
+	}
+
+	/**
+	 * Returns whether the module is a shared one.
+	 *
+	 * @see ApplicationModules#getSharedModules()
+	 */
+	public boolean isShared() {
+		return shared;
+	}
+
+	/**
+	 * Returns the fully-qualified names of all types contained in the module, excluding the ones of nested modules.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Set<String> getTypes() {
+		return types;
+	}
+
+	/**
+	 * Returns whether the module contains the type with the given fully-qualified name.
+	 *
+	 * @param typeName must not be {@literal null} or empty.
+	 */
+	public boolean contains(String typeName) {
+
+		Assert.hasText(typeName, "Type name must not be null or empty!");
+
+		return types.contains(typeName);
+	}
+
+	/**
+	 * Returns whether the type with the given fully-qualified name is exposed by the module.
+	 *
+	 * @param typeName must not be {@literal null} or empty.
+	 * @see ApplicationModule#isExposed(JavaClass)
+	 */
+	public boolean isExposed(String typeName) {
+
+		Assert.hasText(typeName, "Type name must not be null or empty!");
+
+		return exposedTypes.contains(typeName);
+	}
+
+	/**
+	 * Returns the fully-qualified names of all types exposed by the module.
+	 *
+	 * @return will never be {@literal null}.
+	 * @see #isExposed(String)
+	 */
+	public Set<String> getExposedTypes() {
+		return exposedTypes;
+	}
+
+	/**
+	 * Returns the fully-qualified names of the event types published by the module.
+	 *
+	 * @return will never be {@literal null}.
+	 * @see ApplicationModule#getPublishedEvents()
+	 */
+	public List<String> getPublishedEvents() {
+		return publishedEvents;
+	}
+
+	/**
+	 * Returns the fully-qualified type names of the Spring beans declared by the module.
+	 *
+	 * @return will never be {@literal null}.
+	 * @see ApplicationModule#getSpringBeans()
+	 */
+	public List<String> getSpringBeans() {
+		return springBeans;
+	}
+
+	/**
+	 * Returns the full names of the methods and constructors that form entry points into the module, i.e. code that can
+	 * trigger module behavior from the outside, e.g. {@code com.acme.order.OrderManagement.complete(com.acme.Order)}.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public List<String> getEntryPoints() {
+		return entryPoints;
+	}
+
+	/**
+	 * Returns the direct dependencies of the module.
+	 *
+	 * @return will never be {@literal null}.
+	 * @see ApplicationModule#getDirectDependencies(ApplicationModules, DependencyType...)
+	 */
+	public List<Dependency> getDependencies() {
+		return dependencies;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "%s (%s)".formatted(displayName, basePackage);
+	}
+
+	private static <T> Set<String> toNames(List<T> source, Function<T, JavaClass> mapper) {
+
+		return source.stream()
+				.map(mapper)
+				.map(JavaClass::getName)
+				.collect(Collectors.collectingAndThen(Collectors.toCollection(LinkedHashSet::new),
+						Collections::unmodifiableSet));
+	}
+
+	/**
+	 * A dependency of a {@link CompactApplicationModule} to another one, captured by type names only.
+	 *
+	 * @author Oliver Drotbohm
+	 * @since 2.2
+	 */
+	public static class Dependency {
+
+		private final String sourceType, targetType;
+		private final DependencyType dependencyType;
+		private final ApplicationModuleIdentifier targetModule;
+
+		private Dependency(String sourceType, String targetType, DependencyType dependencyType,
+				ApplicationModuleIdentifier targetModule) {
+
+			this.sourceType = sourceType;
+			this.targetType = targetType;
+			this.dependencyType = dependencyType;
+			this.targetModule = targetModule;
+		}
+
+		/**
+		 * Returns the fully-qualified name of the type establishing the dependency.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public String getSourceType() {
+			return sourceType;
+		}
+
+		/**
+		 * Returns the fully-qualified name of the dependency's target type.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public String getTargetType() {
+			return targetType;
+		}
+
+		/**
+		 * Returns the type of the dependency.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public DependencyType getDependencyType() {
+			return dependencyType;
+		}
+
+		/**
+		 * Returns the identifier of the target module.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public ApplicationModuleIdentifier getTargetModule() {
+			return targetModule;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return "%s -> %s (%s, %s)".formatted(sourceType, targetType, targetModule, dependencyType);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(@Nullable Object obj) {
+
+			if (obj == this) {
+				return true;
+			}
+
+			if (!(obj instanceof Dependency that)) {
+				return false;
+			}
+
+			return Objects.equals(this.sourceType, that.sourceType)
+					&& Objects.equals(this.targetType, that.targetType)
+					&& Objects.equals(this.dependencyType, that.dependencyType)
+					&& Objects.equals(this.targetModule, that.targetModule);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return Objects.hash(sourceType, targetType, dependencyType, targetModule);
+		}
+	}
+}
@@ -0,0 +1,371 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.modulith.core.CompactApplicationModule.Dependency;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+
+/**
+ * A lightweight snapshot of {@link ApplicationModules} that captures the module arrangement and derived information
+ * like published events, Spring beans, entry points and dependencies by type names only. In contrast to
+ * {@link ApplicationModules} it doesn't retain any references to the ArchUnit class graph, which makes it suitable to
+ * be kept around in long-running processes. It can also be restored from the runtime model rendered at build time via
+ * {@link #fromRuntimeModel(Map)} to be used at application runtime without analyzing any bytecode.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ * @see ApplicationModules#compact()
+ */
+public class CompactApplicationModules implements Iterable<CompactApplicationModule> {
+
+	private static final String PACKAGE_INFO = "package-info";
+
+	private final Optional<String> systemName;
+	private final Map<ApplicationModuleIdentifier, CompactApplicationModule> modules;
+	private final Map<String, CompactApplicationModule> modulesByType;
+	private final Map<String, CompactApplicationModule> modulesByBasePackage;
+	private final @Nullable ApplicationModuleDetectionStrategy strategy;
+	private final @Nullable Function<Collection<String>, JavaClasses> importer;
+
+	/**
+	 * Creates a new {@link CompactApplicationModules} for the given system name, {@link CompactApplicationModule}s and
+	 * the means to re-import classes for incremental updates.
+	 *
+	 * @param systemName must not be {@literal null}.
+	 * @param modules must not be {@literal null}.
+	 * @param strategy can be {@literal null} for instances restored from the runtime model.
+	 * @param importer can be {@literal null} for instances restored from the runtime model.
+	 */
+	private CompactApplicationModules(Optional<String> systemName, List<CompactApplicationModule> modules,
+			@Nullable ApplicationModuleDetectionStrategy strategy,
+			@Nullable Function<Collection<String>, JavaClasses> importer) {
+
+		this.systemName = systemName;
+		this.modules = new LinkedHashMap<>();
+		this.modulesByType = new HashMap<>();
+		this.modulesByBasePackage = new HashMap<>();
+		this.strategy = strategy;
+		this.importer = importer;
+
+		modules.forEach(module -> {
+			this.modules.put(module.getIdentifier(), module);
+			this.modulesByBasePackage.put(module.getBasePackage(), module);
+			module.getTypes().forEach(type -> modulesByType.put(type, module));
+		});
+	}
+
+	/**
+	 * Creates a new {@link CompactApplicationModules} for the given {@link ApplicationModules}.
+	 *
+	 * @param modules must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static CompactApplicationModules of(ApplicationModules modules) {
+
+		Assert.notNull(modules, "ApplicationModules must not be null!");
+
+		var compacted = modules.stream()
+				.map(it -> CompactApplicationModule.of(it, modules))
+				.toList();
+
+		return new CompactApplicationModules(modules.getSystemName(), compacted, modules.getDetectionStrategy(),
+				modules.getImporter());
+	}
+
+	/**
+	 * Restores {@link CompactApplicationModules} from the runtime model rendered by
+	 * {@link org.springframework.modulith.core.util.ApplicationModulesExporter#toRuntimeJson()}, i.e. a {@link Map} of
+	 * module identifiers to the module's details as parsed from JSON. The restored instance cannot be updated
+	 * incrementally.
+	 *
+	 * @param document must not be {@literal null}.
+	 * @return the restored {@link CompactApplicationModules} or {@link Optional#empty()} in case the given model is
+	 *         empty or doesn't contain the details rendered for runtime use.
+	 * @since 2.2
+	 */
+	public static Optional<CompactApplicationModules> fromRuntimeModel(Map<String, ? extends Map<String, ?>> document) {
+
+		Assert.notNull(document, "Runtime model must not be null!");
+
+		var modules = new ArrayList<CompactApplicationModule>();
+
+		for (var entry : document.entrySet()) {
+
+			var details = entry.getValue();
+
+			if (!(details.get("basePackage") instanceof String basePackage)
+					|| !(details.get("types") instanceof Collection<?> types)
+					|| !(details.get("exposedTypes") instanceof Collection<?> exposedTypes)) {
+				return Optional.empty();
+			}
+
+			var identifier = ApplicationModuleIdentifier.of(entry.getKey());
+			var displayName = details.get("displayName") instanceof String name ? name : entry.getKey();
+
+			modules.add(CompactApplicationModule.restore(identifier, displayName, basePackage,
+					Boolean.TRUE.equals(details.get("shared")), toNames(types), toNames(exposedTypes),
+					toNames(details.get("publishedEvents")), toNames(details.get("springBeans"))));
+		}
+
+		return modules.isEmpty()
+				? Optional.empty()
+				: Optional.of(new CompactApplicationModules(Optional.empty(), modules, null, null));
+	}
+
+	/**
+	 * Returns a new {@link CompactApplicationModules} reflecting the given changed, added or removed types. Only the
+	 * classes of the modules containing those types and of the modules depending on them are imported again, and only
+	 * the information of those modules, including their dependencies and named interfaces, is recomputed the same way
+	 * {@link ApplicationModules#compact()} does. The order of the modules is retained.
+	 * <p>
+	 * Changes that might affect the arrangement of the modules themselves cannot be applied incrementally. That is the
+	 * case for changes to {@code package-info} types, types not residing in any of the modules and modules that don't
+	 * contain any types anymore. An empty {@link Optional} is returned in that case and the
+	 * {@link ApplicationModules} have to be analyzed again completely. The same applies to instances restored via
+	 * {@link #fromRuntimeModel(Map)}.
+	 * <p>
+	 * Intended to be used by tooling that keeps the instance in memory across changes, like a development-time process
+	 * reacting to recompilations. The test change detection in {@code spring-modulith-junit} doesn't use it, as it only
+	 * persists the lookup information derived from the modules across JVMs but not the instance itself.
+	 *
+	 * @param changedTypes the fully-qualified names of all changed or added types, must not be {@literal null}.
+	 * @param removedTypes the fully-qualified names of all removed types, must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 2.2
+	 */
+	public Optional<CompactApplicationModules> withChanges(Collection<String> changedTypes,
+			Collection<String> removedTypes) {
+
+		Assert.notNull(changedTypes, "Changed types must not be null!");
+		Assert.notNull(removedTypes, "Removed types must not be null!");
+
+		var strategy = this.strategy;
+		var importer = this.importer;
+
+		if (strategy == null || importer == null) {
+			return Optional.empty();
+		}
+
+		var candidates = new ArrayList<>(changedTypes);
+		candidates.addAll(removedTypes);
+
+		var affected = new LinkedHashSet<CompactApplicationModule>();
+
+		for (var type : candidates) {
+
+			var module = ClassUtils.getShortName(type).equals(PACKAGE_INFO)
+					? Optional.<CompactApplicationModule> empty()
+					: getModuleByType(type).or(() -> getModuleForPackage(ClassUtils.getPackageName(type)));
+
+			if (module.isEmpty()) {
+				return Optional.empty();
+			}
+
+			affected.add(module.get());
+		}
+
+		if (affected.isEmpty()) {
+			return Optional.of(this);
+		}
+
+		// Dependencies to changed types might have changed their type, the ones to removed types vanish
+		var targets = Set.copyOf(candidates);
+
+		modules.values().stream()
+				.filter(it -> it.getDependencies().stream().map(Dependency::getTargetType).anyMatch(targets::contains))
+				.forEach(affected::add);
+
+		var packages = affected.stream()
+				.map(CompactApplicationModule::getBasePackage)
+				.toList();
+
+		var classes = Classes.of(importer.apply(packages));
+		var rebuilt = new LinkedHashMap<ApplicationModuleIdentifier, ApplicationModule>();
+
+		for (var module : affected) {
+
+			var result = rebuild(module, classes, strategy);
+
+			if (result.getClasses().isEmpty()) {
+				return Optional.empty();
+			}
+
+			rebuilt.put(module.getIdentifier(), result);
+		}
+
+		// Resolve types to modules based on the types currently present
+		var typeLookup = new HashMap<String, ApplicationModuleIdentifier>();
+
+		modulesByType.forEach((type, module) -> {
+			if (!rebuilt.containsKey(module.getIdentifier())) {
+				typeLookup.put(type, module.getIdentifier());
+			}
+		});
+
+		rebuilt.values().forEach(module -> module.getClasses()
+				.forEach(type -> typeLookup.putIfAbsent(type.getName(), module.getIdentifier())));
+
+		Function<JavaClass, Optional<ApplicationModuleIdentifier>> lookup = it -> Optional
+				.ofNullable(typeLookup.get(it.getName()));
+
+		var updated = modules.values().stream()
+				.map(it -> rebuilt.containsKey(it.getIdentifier())
+						? CompactApplicationModule.of(rebuilt.get(it.getIdentifier()), it.isShared(), lookup)
+						: it)
+				.toList();
+
+		return Optional.of(new CompactApplicationModules(systemName, updated, strategy, importer));
+	}
+
+	/**
+	 * Returns the name of the system.
+	 *
+	 * @return will never be {@literal null}.
+	 * @see ApplicationModules#getSystemName()
+	 */
+	public Optional<String> getSystemName() {
+		return systemName;
+	}
+
+	/**
+	 * Returns the {@link CompactApplicationModule} with the given name.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 */
+	public Optional<CompactApplicationModule> getModuleByName(String name) {
+
+		Assert.hasText(name, "Module name must not be null or empty!");
+
+		return Optional.ofNullable(modules.get(ApplicationModuleIdentifier.of(name)));
+	}
+
+	/**
+	 * Returns the {@link CompactApplicationModule} containing the type with the given fully-qualified name.
+	 *
+	 * @param typeName must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 * @see CompactApplicationModule#contains(String)
+	 */
+	public Optional<CompactApplicationModule> getModuleByType(String typeName) {
+
+		Assert.hasText(typeName, "Type name must not be null or empty!");
+
+		return Optional.ofNullable(modulesByType.get(typeName));
+	}
+
+	/**
+	 * Returns the {@link CompactApplicationModule} the package with the given name belongs to, i.e. the one with the
+	 * most specific base package the given one is equal to or a sub-package of.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 * @since 2.2
+	 */
+	public Optional<CompactApplicationModule> getModuleForPackage(String name) {
+
+		Assert.hasText(name, "Package name must not be null or empty!");
+
+		for (var candidate = name; !candidate.isEmpty(); candidate = ClassUtils.getPackageName(candidate)) {
+
+			var module = modulesByBasePackage.get(candidate);
+
+			if (module != null) {
+				return Optional.of(module);
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Returns all {@link CompactApplicationModule}s in the same order as the {@link ApplicationModules} they were
+	 * created from, i.e. topologically sorted by their dependencies.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Stream<CompactApplicationModule> stream() {
+		return modules.values().stream();
+	}
+
+	/**
+	 * Returns the {@link CompactApplicationModule}s as {@link List}.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public List<CompactApplicationModule> toList() {
+		return List.copyOf(modules.values());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Iterable#iterator()
+	 */
+	@Override
+	public Iterator<CompactApplicationModule> iterator() {
+		return toList().iterator();
+	}
+
+	/**
+	 * Creates a new {@link ApplicationModule} for the given {@link CompactApplicationModule} from the given
+	 * {@link Classes}, excluding the packages of nested modules.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @param classes must not be {@literal null}.
+	 * @param strategy must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private ApplicationModule rebuild(CompactApplicationModule module, Classes classes,
+			ApplicationModuleDetectionStrategy strategy) {
+
+		var basePackage = module.getBasePackage();
+		var nested = modules.values().stream()
+				.map(CompactApplicationModule::getBasePackage)
+				.filter(it -> it.startsWith(basePackage + "."))
+				.map(it -> JavaPackage.of(classes, it))
+				.toList();
+
+		var pkg = JavaPackage.of(classes, basePackage);
+		var source = ApplicationModuleSource.from(pkg, module.getIdentifier(), strategy);
+
+		return new ApplicationModule(source, new JavaPackages(nested));
+	}
+
+	private static List<String> toNames(@Nullable Object source) {
+
+		return source instanceof Collection<?> collection
+				? collection.stream().map(Object::toString).toList()
+				: List.of();
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.core;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.util.Assert;
+
+/**
+ * The transitive closure of a dependency relation between {@link ApplicationModule}s, computed once and represented as
+ * a {@link BitSet} per module over the given order of modules. Computing the closure in topological order allows it to
+ * be calculated in a single pass for acyclic arrangements. Cyclic ones require additional passes until no further
+ * dependencies are discovered.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+class DependencyClosure {
+
+	private final List<ApplicationModule> modules;
+	private final Map<ApplicationModule, Integer> indexes;
+	private final BitSet[] closure;
+
+	/**
+	 * Creates a new {@link DependencyClosure} for the given {@link ApplicationModule}s, their indexes and the closure.
+	 *
+	 * @param modules must not be {@literal null}.
+	 * @param indexes must not be {@literal null}.
+	 * @param closure must not be {@literal null}.
+	 */
+	private DependencyClosure(List<ApplicationModule> modules, Map<ApplicationModule, Integer> indexes,
+			BitSet[] closure) {
+
+		this.modules = modules;
+		this.indexes = indexes;
+		this.closure = closure;
+	}
+
+	/**
+	 * Computes the {@link DependencyClosure} for the given {@link ApplicationModule}s and {@link Function} to look up
+	 * their direct dependencies. Dependencies to modules not contained in the given ones are ignored.
+	 *
+	 * @param modules the modules in topological order, i.e. dependencies before their dependents, must not be
+	 *          {@literal null}.
+	 * @param dependencies must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static DependencyClosure of(List<ApplicationModule> modules,
+			Function<ApplicationModule, Stream<ApplicationModule>> dependencies) {
+
+		Assert.notNull(modules, "ApplicationModules must not be null!");
+		Assert.notNull(dependencies, "Dependency lookup must not be null!");
+
+		var size = modules.size();
+		var indexes = new HashMap<ApplicationModule, Integer>(size);
+
+		for (int i = 0; i < size; i++) {
+			indexes.put(modules.get(i), i);
+		}
+
+		var closure = new BitSet[size];
+
+		for (int i = 0; i < size; i++) {
+
+			var direct = new BitSet(size);
+
+			dependencies.apply(modules.get(i))
+					.map(indexes::get)
+					.forEach(it -> {
+						if (it != null) {
+							direct.set(it);
+						}
+					});
+
+			closure[i] = direct;
+		}
+
+		boolean changed;
+
+		do {
+
+			changed = false;
+
+			for (int i = 0; i < size; i++) {
+
+				var current = closure[i];
+				var before = current.cardinality();
+				var targets = (BitSet) current.clone();
+
+				for (int j = targets.nextSetBit(0); j >= 0; j = targets.nextSetBit(j + 1)) {
+					if (j != i) {
+						current.or(closure[j]);
+					}
+				}
+
+				changed |= current.cardinality() != before;
+			}
+
+		} while (changed);
+
+		return new DependencyClosure(modules, indexes, closure);
+	}
+
+	/**
+	 * Returns whether the closure contains the given {@link ApplicationModule}.
+	 *
+	 * @param module must not be {@literal null}.
+	 */
+	boolean contains(ApplicationModule module) {
+		return indexes.containsKey(module);
+	}
+
+	/**
+	 * Returns all {@link ApplicationModule}s the given one directly or transitively depends on, in the order the
+	 * closure was computed with. Only contains the given module itself if it's part of a dependency cycle.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Stream<ApplicationModule> getDependencies(ApplicationModule module) {
+
+		var index = indexes.get(module);
+
+		return index == null
+				? Stream.empty()
+				: closure[index].stream().mapToObj(modules::get);
+	}
+
+	/**
+	 * Returns whether the given {@link ApplicationModule} directly or transitively depends on the given other one.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @param other must not be {@literal null}.
+	 */
+	boolean dependsOn(ApplicationModule module, ApplicationModule other) {
+
+		var index = indexes.get(module);
+		var otherIndex = indexes.get(other);
+
+		return index != null && otherIndex != null && closure[index].get(otherIndex);
+	}
+}
@@ -0,0 +1,445 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import java.util.jar.Attributes.Name;
+import java.util.jar.JarFile;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.SpringProperties;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import com.tngtech.archunit.core.importer.ImportOption;
+import com.tngtech.archunit.core.importer.Location;
+
+/**
+ * Persists the {@link Violations} detected for {@link ApplicationModules} in a directory, so that they can be reused
+ * across JVMs, e.g. by the individual test forks of a build, without importing and analyzing the classes again. The
+ * entries are keyed by a fingerprint of the contents and classpath-relative paths of all class files to be analyzed,
+ * the rest of the classpath, the {@code spring.modulith.*} configuration and additional inputs, like the
+ * {@link ModulithMetadata}. Only the most recently used entries are kept. Enabled by configuring
+ * {@value #DIRECTORY_PROPERTY} as system property or in {@code META-INF/spring.properties}.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+class PersistentVerificationCache {
+
+	static final String DIRECTORY_PROPERTY = "spring.modulith.verification.cache-directory";
+
+	private static final Logger LOG = LoggerFactory.getLogger(PersistentVerificationCache.class);
+	private static final String VIOLATION_COUNT = "violations";
+	private static final String VIOLATION_PREFIX = "violation.";
+	private static final String PROPERTY_PREFIX = "spring.modulith.";
+	private static final String FILE_EXTENSION = ".properties";
+	private static final int MAX_ENTRIES = 32;
+
+	private final Path directory;
+	private final int maxEntries;
+
+	/**
+	 * Creates a new {@link PersistentVerificationCache} for the given directory.
+	 *
+	 * @param directory must not be {@literal null}.
+	 */
+	PersistentVerificationCache(Path directory) {
+		this(directory, MAX_ENTRIES);
+	}
+
+	/**
+	 * Creates a new {@link PersistentVerificationCache} for the given directory keeping the given number of most
+	 * recently used entries at most.
+	 *
+	 * @param directory must not be {@literal null}.
+	 * @param maxEntries must be greater than zero.
+	 */
+	PersistentVerificationCache(Path directory, int maxEntries) {
+
+		Assert.notNull(directory, "Directory must not be null!");
+		Assert.isTrue(maxEntries > 0, "Maximum number of entries must be greater than zero!");
+
+		this.directory = directory;
+		this.maxEntries = maxEntries;
+	}
+
+	/**
+	 * Returns the {@link PersistentVerificationCache} for the directory configured via {@value #DIRECTORY_PROPERTY}.
+	 *
+	 * @return will be {@literal null} in case no directory is configured.
+	 */
+	static @Nullable PersistentVerificationCache fromSpringProperties() {
+
+		var directory = SpringProperties.getProperty(DIRECTORY_PROPERTY);
+
+		return StringUtils.hasText(directory) ? new PersistentVerificationCache(Path.of(directory)) : null;
+	}
+
+	/**
+	 * Calculates a fingerprint of the contents of all class files in the given packages (including sub-packages) that
+	 * are included by the given {@link ImportOption}, the rest of the classpath, the {@code spring.modulith.*}
+	 * configuration and the given additional inputs. The rest of the classpath is considered to cover types declared
+	 * outside the given packages, like annotations or types provided by JARs, that the analysis depends on.
+	 *
+	 * @param packages must not be {@literal null}.
+	 * @param option must not be {@literal null}.
+	 * @param inputs must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static String fingerprint(Collection<String> packages, ImportOption option, List<String> inputs) {
+
+		Assert.notNull(packages, "Packages must not be null!");
+		Assert.notNull(option, "ImportOption must not be null!");
+		Assert.notNull(inputs, "Inputs must not be null!");
+
+		var resolver = new PathMatchingResourcePatternResolver(ClassUtils.getDefaultClassLoader());
+		var classFiles = new TreeMap<String, Resource>();
+		var fingerprint = CacheFiles.fingerprint();
+
+		try {
+
+			for (var pkg : packages) {
+
+				var path = ClassUtils.convertClassNameToResourcePath(pkg);
+				var prefix = ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX + path;
+				var roots = new ArrayList<String>();
+
+				for (var root : resolver.getResources(prefix + "/")) {
+					roots.add(root.getURI().toString());
+				}
+
+				for (var resource : resolver.getResources(prefix + "/**/*.class")) {
+
+					var uri = resource.getURI();
+
+					if (option.includes(Location.of(uri))) {
+						classFiles.putIfAbsent(toRelativePath(uri.toString(), path, roots), resource);
+					}
+				}
+			}
+
+			inputs.forEach(fingerprint::with);
+
+			// All spring.modulith.* properties except the ones configuring the current cache
+			fingerprint.withProperties(ApplicationModuleDetectionStrategyLookup.getEnvironment().getPropertySources(),
+					it -> it.startsWith(PROPERTY_PREFIX) && !it.equals(DIRECTORY_PROPERTY));
+
+			describeClasspath(System.getProperty("java.class.path", ""), packages).forEach(fingerprint::with);
+
+			for (var entry : classFiles.entrySet()) {
+				fingerprint.with(entry.getKey()).with(entry.getValue().getContentAsByteArray());
+			}
+
+		} catch (IOException o_O) {
+			throw new UncheckedIOException(o_O);
+		}
+
+		return fingerprint.toHexString();
+	}
+
+	/**
+	 * Describes the entries of the given classpath by name, size and modification time. JARs are described as a whole,
+	 * directories by the class files they contain, except the ones in the given packages, as those are considered by
+	 * their contents. JARs only listing the actual classpath in their manifest, like the ones created by build tools to
+	 * shorten the command line, are replaced by the entries listed.
+	 *
+	 * @param classpath must not be {@literal null}.
+	 * @param packages must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static List<String> describeClasspath(String classpath, Collection<String> packages) {
+
+		Assert.notNull(classpath, "Classpath must not be null!");
+		Assert.notNull(packages, "Packages must not be null!");
+
+		var packagePaths = packages.stream()
+				.map(it -> ClassUtils.convertClassNameToResourcePath(it) + "/")
+				.toList();
+
+		var result = new ArrayList<String>();
+
+		try {
+
+			for (var root : expand(StringUtils.tokenizeToStringArray(classpath, File.pathSeparator))) {
+
+				if (Files.isRegularFile(root)) {
+					result.add(describe(root.getFileName().toString(), root));
+				}
+
+				if (!Files.isDirectory(root)) {
+					continue;
+				}
+
+				var classFiles = new TreeMap<String, Path>();
+
+				try (var files = Files.walk(root)) {
+
+					files.filter(it -> it.getFileName().toString().endsWith(".class"))
+							.forEach(it -> classFiles.put(StringUtils.cleanPath(root.relativize(it).toString()), it));
+				}
+
+				for (var classFile : classFiles.entrySet()) {
+					if (packagePaths.stream().noneMatch(classFile.getKey()::startsWith)) {
+						result.add(describe(classFile.getKey(), classFile.getValue()));
+					}
+				}
+			}
+
+		} catch (IOException o_O) {
+			throw new UncheckedIOException(o_O);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the path of the class file with the given URI relative to the classpath root it is contained in, so that
+	 * the fingerprint doesn't depend on the location of the project or the local artifact repository.
+	 *
+	 * @param uri must not be {@literal null} or empty.
+	 * @param packagePath the resource path of the package the class file was looked up for, must not be {@literal null}.
+	 * @param roots the URIs of the resources representing that package in the individual classpath roots, must not be
+	 *          {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static String toRelativePath(String uri, String packagePath, List<String> roots) {
+
+		for (var root : roots) {
+			if (uri.startsWith(root)) {
+				return packagePath + "/" + uri.substring(root.length());
+			}
+		}
+
+		// Archives not containing directory entries
+		var separator = uri.lastIndexOf("!/");
+
+		return separator == -1 ? uri : uri.substring(separator + 2);
+	}
+
+	/**
+	 * Returns the {@link Violations} persisted for the given inputs or computes and persists them using the given
+	 * {@link Supplier}.
+	 *
+	 * @param inputs must not be {@literal null}.
+	 * @param computation must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Violations computeIfAbsent(List<String> inputs, Supplier<Violations> computation) {
+
+		Assert.notNull(inputs, "Inputs must not be null!");
+		Assert.notNull(computation, "Computation must not be null!");
+
+		var fingerprint = CacheFiles.fingerprint();
+		inputs.forEach(fingerprint::with);
+
+		var file = directory.resolve(fingerprint.toHexString() + FILE_EXTENSION);
+		var cached = read(file);
+
+		if (cached != null) {
+
+			LOG.debug("Using verification result persisted in {}.", file);
+
+			touch(file);
+
+			return cached;
+		}
+
+		var violations = computation.get();
+
+		write(file, violations);
+		prune();
+
+		return violations;
+	}
+
+	private @Nullable Violations read(Path file) {
+
+		Properties properties;
+
+		try {
+			properties = CacheFiles.read(file);
+		} catch (IOException o_O) {
+
+			LOG.debug("Could not read persisted verification result from {}.", file, o_O);
+
+			return null;
+		}
+
+		if (properties == null) {
+			return null;
+		}
+
+		var count = properties.getProperty(VIOLATION_COUNT);
+
+		if (count == null) {
+			return null;
+		}
+
+		var messages = new ArrayList<String>();
+
+		for (int i = 0; i < Integer.parseInt(count); i++) {
+
+			var message = properties.getProperty(VIOLATION_PREFIX + i);
+
+			if (message == null) {
+				return null;
+			}
+
+			messages.add(message);
+		}
+
+		return messages.isEmpty() ? Violations.NONE : messages.stream().collect(Violations.toViolations());
+	}
+
+	private void write(Path file, Violations violations) {
+
+		var messages = violations.getMessages();
+		var properties = new Properties();
+
+		properties.setProperty(VIOLATION_COUNT, String.valueOf(messages.size()));
+
+		for (int i = 0; i < messages.size(); i++) {
+			properties.setProperty(VIOLATION_PREFIX + i, messages.get(i));
+		}
+
+		try {
+			CacheFiles.write(file, properties, "Spring Modulith verification result");
+		} catch (IOException o_O) {
+			LOG.warn("Could not persist verification result to {}.", file, o_O);
+		}
+	}
+
+	/**
+	 * Marks the given file as recently used to prevent it from being pruned.
+	 *
+	 * @param file must not be {@literal null}.
+	 */
+	private static void touch(Path file) {
+
+		try {
+			Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+		} catch (IOException o_O) {
+			LOG.debug("Could not update modification time of {}.", file, o_O);
+		}
+	}
+
+	/**
+	 * Removes all persisted results except the most recently used ones.
+	 */
+	private void prune() {
+
+		List<Path> files;
+
+		try (var stream = Files.list(directory)) {
+			files = stream.filter(it -> it.getFileName().toString().endsWith(FILE_EXTENSION)).toList();
+		} catch (IOException o_O) {
+
+			LOG.debug("Could not list persisted verification results in {}.", directory, o_O);
+
+			return;
+		}
+
+		if (files.size() <= maxEntries) {
+			return;
+		}
+
+		var outdated = files.stream()
+				.sorted(Comparator.comparing(PersistentVerificationCache::getLastModifiedTime).reversed())
+				.skip(maxEntries)
+				.toList();
+
+		for (var file : outdated) {
+
+			try {
+				Files.deleteIfExists(file);
+			} catch (IOException o_O) {
+				LOG.debug("Could not remove outdated verification result {}.", file, o_O);
+			}
+		}
+	}
+
+	private static FileTime getLastModifiedTime(Path file) {
+
+		try {
+			return Files.getLastModifiedTime(file);
+		} catch (IOException o_O) {
+			return FileTime.fromMillis(0);
+		}
+	}
+
+	/**
+	 * Resolves the given classpath entries into {@link Path}s, replacing JARs that list the classpath in their manifest
+	 * with the entries listed.
+	 *
+	 * @param entries must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private static List<Path> expand(String[] entries) throws IOException {
+
+		var result = new ArrayList<Path>();
+
+		for (var entry : entries) {
+
+			var path = Path.of(entry);
+
+			if (!Files.isRegularFile(path) || !entry.endsWith(".jar")) {
+				result.add(path);
+				continue;
+			}
+
+			try (var jar = new JarFile(path.toFile())) {
+
+				var manifest = jar.getManifest();
+				var classpath = manifest == null ? null : manifest.getMainAttributes().getValue(Name.CLASS_PATH);
+
+				if (!StringUtils.hasText(classpath) || jar.stream().anyMatch(it -> it.getName().endsWith(".class"))) {
+					result.add(path);
+					continue;
+				}
+
+				for (var reference : StringUtils.tokenizeToStringArray(classpath, " ")) {
+					result.add(Path.of(path.toUri().resolve(reference)));
+				}
+			}
+		}
+
+		return result;
+	}
+
+	private static String describe(String name, Path file) throws IOException {
+		return name + ":" + Files.size(file) + ":" + Files.getLastModifiedTime(file).toMillis();
+	}
+}
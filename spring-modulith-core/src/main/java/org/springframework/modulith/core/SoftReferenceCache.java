@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.core;
+
+import java.lang.ref.SoftReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.modulith.core.ApplicationModules.CacheStatistics;
+import org.springframework.util.Assert;
+
+/**
+ * A cache holding at most a configurable number of entries, evicting the least recently used one once that size is
+ * exceeded. Values are only softly referenced, so that the garbage collector can reclaim them under memory pressure,
+ * in which case they are recomputed on the next access. Values are computed at most once per entry, but outside of the
+ * lock guarding the entries, so that slow computations for one key do not block lookups for others.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+class SoftReferenceCache<K, V> {
+
+	private final Map<K, Entry<V>> entries;
+	private final LongAdder hits, misses, evictions;
+
+	/**
+	 * Creates a new {@link SoftReferenceCache} holding at most the given number of entries.
+	 *
+	 * @param maxSize must be greater than zero.
+	 */
+	SoftReferenceCache(int maxSize) {
+
+		Assert.isTrue(maxSize > 0, "Maximum cache size must be greater than zero!");
+
+		this.hits = new LongAdder();
+		this.misses = new LongAdder();
+		this.evictions = new LongAdder();
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 3170520346498327405L;
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.util.LinkedHashMap#removeEldestEntry(java.util.Map.Entry)
+			 */
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+
+				var evict = size() > maxSize;
+
+				if (evict) {
+					evictions.increment();
+				}
+
+				return evict;
+			}
+		};
+	}
+
+	/**
+	 * Returns the value cached for the given key or computes it using the given {@link Function}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param factory must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	V get(K key, Function<K, V> factory) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(factory, "Factory must not be null!");
+
+		Entry<V> entry;
+
+		synchronized (entries) {
+
+			entry = entries.get(key);
+
+			if (entry == null || entry.isCleared()) {
+
+				entry = new Entry<>(() -> factory.apply(key));
+				entries.put(key, entry);
+				misses.increment();
+
+			} else {
+				hits.increment();
+			}
+		}
+
+		return entry.get();
+	}
+
+	/**
+	 * Removes all entries from the cache and resets the statistics.
+	 */
+	void clear() {
+
+		synchronized (entries) {
+			entries.clear();
+		}
+
+		hits.reset();
+		misses.reset();
+		evictions.reset();
+	}
+
+	/**
+	 * Returns the current {@link CacheStatistics}.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	CacheStatistics getStatistics() {
+
+		int size;
+
+		synchronized (entries) {
+			size = entries.size();
+		}
+
+		return new CacheStatistics(hits.sum(), misses.sum(), evictions.sum(), size);
+	}
+
+	/**
+	 * A lazily computed, softly referenced value.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private static class Entry<V> {
+
+		private final Supplier<V> factory;
+		private volatile @Nullable SoftReference<V> reference;
+
+		Entry(Supplier<V> factory) {
+			this.factory = factory;
+		}
+
+		synchronized V get() {
+
+			var reference = this.reference;
+			var value = reference == null ? null : reference.get();
+
+			if (value == null) {
+				value = factory.get();
+				this.reference = new SoftReference<>(value);
+			}
+
+			return value;
+		}
+
+		// Not synchronized to not block lookups for other keys while the value is computed
+		boolean isCleared() {
+
+			var reference = this.reference;
+
+			return reference != null && reference.get() == null;
+		}
+	}
+}
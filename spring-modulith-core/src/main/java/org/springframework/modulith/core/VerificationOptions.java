@@ -19,7 +19,10 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.modulith.core.Types.JMoleculesTypes;
 import org.springframework.util.Assert;
 
@@ -35,17 +38,20 @@ import com.tngtech.archunit.lang.ArchRule;
 public class VerificationOptions {
 
 	private final Collection<ArchRule> additionalVerifications;
+	private final @Nullable Executor executor;
 
 	/**
 	 * Creates a new {@link VerificationOptions}.
 	 *
 	 * @param additionalVerifications must not be {@literal null}.
+	 * @param executor the {@link Executor} to run the verifications on, {@literal null} to run them on the calling thread.
 	 */
-	private VerificationOptions(Collection<ArchRule> additionalVerifications) {
+	private VerificationOptions(Collection<ArchRule> additionalVerifications, @Nullable Executor executor) {
 
 		Assert.notNull(additionalVerifications, "Additional verifications must not be null!");
 
 		this.additionalVerifications = additionalVerifications;
+		this.executor = executor;
 	}
 
 	/**
@@ -54,7 +60,7 @@ public class VerificationOptions {
 	 * @return will never be {@literal null}.
 	 */
 	public static VerificationOptions defaults() {
-		return new VerificationOptions(JMoleculesTypes.getRules());
+		return new VerificationOptions(JMoleculesTypes.getRules(), null);
 	}
 
 	/**
@@ -67,7 +73,7 @@ public class VerificationOptions {
 
 		Assert.notNull(verifications, "Verifications must not be null!");
 
-		return new VerificationOptions(verifications);
+		return new VerificationOptions(verifications, executor);
 	}
 
 	/**
@@ -93,7 +99,7 @@ public class VerificationOptions {
 		var newVerifications = new ArrayList<>(additionalVerifications);
 		newVerifications.addAll(verifications);
 
-		return new VerificationOptions(newVerifications);
+		return new VerificationOptions(newVerifications, executor);
 	}
 
 	/**
@@ -112,7 +118,35 @@ public class VerificationOptions {
 	 * @return will never be {@literal null}.
 	 */
 	public VerificationOptions withoutAdditionalVerifications() {
-		return new VerificationOptions(Collections.emptyList());
+		return new VerificationOptions(Collections.emptyList(), executor);
+	}
+
+	/**
+	 * Runs the verifications in parallel on the common {@link ForkJoinPool}. The cycle verifications per root package, the
+	 * additional verifications and the dependency verifications per application module are executed independently of
+	 * each other. The resulting {@link Violations} are the same as the ones detected sequentially, in the same order.
+	 * Additional verifications need to be safe to be evaluated concurrently.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 2.2
+	 */
+	public VerificationOptions withParallelVerification() {
+		return withParallelVerification(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Runs the verifications in parallel using the given {@link Executor}.
+	 *
+	 * @param executor must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 2.2
+	 * @see #withParallelVerification()
+	 */
+	public VerificationOptions withParallelVerification(Executor executor) {
+
+		Assert.notNull(executor, "Executor must not be null!");
+
+		return new VerificationOptions(additionalVerifications, executor);
 	}
 
 	/**
@@ -123,4 +157,14 @@ public class VerificationOptions {
 	Collection<ArchRule> getAdditionalVerifications() {
 		return additionalVerifications;
 	}
+
+	/**
+	 * Returns the {@link Executor} to run the verifications on.
+	 *
+	 * @return {@literal null} in case the verifications are supposed to be executed on the calling thread.
+	 */
+	@Nullable
+	Executor getExecutor() {
+		return executor;
+	}
 }
@@ -30,11 +30,13 @@ import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.modulith.ApplicationModuleInitializer;
 import org.springframework.modulith.core.ApplicationModule;
 import org.springframework.modulith.core.ApplicationModuleDependency;
 import org.springframework.modulith.core.ApplicationModuleIdentifier;
 import org.springframework.modulith.core.ApplicationModules;
+import org.springframework.modulith.core.CompactApplicationModules;
 import org.springframework.modulith.core.DependencyType;
 import org.springframework.modulith.core.NamedInterface;
 import org.springframework.modulith.core.NamedInterfaces;
@@ -52,6 +54,13 @@ public class ApplicationModulesExporter {
 
 	public static final String DEFAULT_LOCATION = "META-INF/spring-modulith/application-modules.json";
 
+	/**
+	 * The location of the file containing the model to be used at runtime as rendered by {@link #toRuntimeJson()}.
+	 *
+	 * @since 2.2
+	 */
+	public static final String RUNTIME_LOCATION = "META-INF/spring-modulith/application-modules-runtime.json";
+
 	private static final Function<NamedInterface, Stream<String>> TO_EXPOSED_TYPES = it -> it.asJavaClasses()
 			.map(JavaClass::getName);
 	private static final Function<Set<DependencyType>, Set<DependencyType>> REMOVE_DEFAULT_DEPENDENCY_TYPE_IF_OTHERS_PRESENT = it -> {
@@ -124,15 +133,33 @@ public class ApplicationModulesExporter {
 		return Json.toString(toMap(Details.FULL));
 	}
 
+	/**
+	 * Returns the {@link ApplicationModules} structure as JSON String including full details, plus all information
+	 * needed to work with the application modules at runtime without analyzing the application's bytecode, i.e. the
+	 * types contained in and exposed by each module, the events it publishes and its Spring beans as captured by
+	 * {@link ApplicationModules#compact()}. The output can be restored via
+	 * {@link CompactApplicationModules#fromRuntimeModel(Map)}.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 2.2
+	 * @see #RUNTIME_LOCATION
+	 */
+	public String toRuntimeJson() {
+		return Json.toString(toMap(Details.RUNTIME));
+	}
+
 	private Map<ApplicationModuleIdentifier, Object> toMap(Details details) {
 
+		var compact = details.equals(Details.RUNTIME) ? modules.compact() : null;
+
 		return modules.stream()
 				.collect(
-						Collectors.toMap(ApplicationModule::getIdentifier, it -> toInfo(it, modules, details), (l, r) -> r,
-								LinkedHashMap::new));
+						Collectors.toMap(ApplicationModule::getIdentifier, it -> toInfo(it, modules, details, compact),
+								(l, r) -> r, LinkedHashMap::new));
 	}
 
-	private static Map<String, Object> toInfo(ApplicationModule module, ApplicationModules modules, Details details) {
+	private static Map<String, Object> toInfo(ApplicationModule module, ApplicationModules modules, Details details,
+			@Nullable CompactApplicationModules compact) {
 
 		Map<String, Object> json = new LinkedHashMap<>();
 		var sharedModules = modules.getSharedModules();
@@ -152,7 +179,7 @@ public class ApplicationModulesExporter {
 		json.put("type", module.isOpen() ? "open" : "closed");
 		json.put("shared", sharedModules.contains(module));
 
-		if (details.equals(Details.FULL)) {
+		if (!details.equals(Details.SIMPLE)) {
 			json.put("namedInterfaces", toNamedInterfaces(module.getNamedInterfaces()));
 			json.put("initializers", module.getSpringBeans(ApplicationModuleInitializer.class).stream()
 					.map(SpringBean::getType)
@@ -160,6 +187,16 @@ public class ApplicationModulesExporter {
 					.toList());
 		}
 
+		if (compact != null) {
+
+			compact.getModuleByName(module.getIdentifier().toString()).ifPresent(it -> {
+				json.put("types", it.getTypes().stream().sorted().toList());
+				json.put("exposedTypes", it.getExposedTypes().stream().sorted().toList());
+				json.put("publishedEvents", it.getPublishedEvents());
+				json.put("springBeans", it.getSpringBeans());
+			});
+		}
+
 		var allowed = module.getAllowedDependencies(modules);
 
 		if (!allowed.isEmpty()) {
@@ -195,6 +232,6 @@ public class ApplicationModulesExporter {
 	}
 
 	private static enum Details {
-		SIMPLE, FULL;
+		SIMPLE, FULL, RUNTIME;
 	}
 }
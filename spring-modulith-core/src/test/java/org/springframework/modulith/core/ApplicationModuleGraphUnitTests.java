@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ApplicationModuleGraph}.
+ *
+ * @author Oliver Drotbohm
+ */
+class ApplicationModuleGraphUnitTests {
+
+	ApplicationModules modules = TestUtils.of("example.cycle");
+
+	@Test
+	void detectsModulesInvolvedInCycle() {
+
+		var cycles = ApplicationModuleGraph.of(modules.stream().toList(), this::getDirectDependencies).getCycles();
+
+		assertThat(cycles).singleElement()
+				.satisfies(it -> assertThat(it)
+						.extracting(ApplicationModule::getIdentifier)
+						.extracting(Object::toString)
+						.containsExactlyInAnyOrder("a", "b", "c", "d"));
+	}
+
+	@Test
+	void doesNotDetectCyclesIfModulesAreNotConsidered() {
+
+		var candidates = modules.stream()
+				.filter(it -> !it.getIdentifier().toString().equals("d"))
+				.toList();
+
+		var graph = ApplicationModuleGraph.of(candidates, this::getDirectDependencies);
+
+		assertThat(graph.getCycles()).isEmpty();
+	}
+
+	private Stream<ApplicationModule> getDirectDependencies(ApplicationModule module) {
+		return module.getDirectDependencies(modules).uniqueModules();
+	}
+}
@@ -18,6 +18,12 @@ package org.springframework.modulith.core;
 import static org.assertj.core.api.Assertions.*;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.modulith.core.ApplicationModules.CacheKey;
+import org.springframework.modulith.core.ApplicationModules.Filters;
+
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.importer.ImportOption;
 
 /**
  * Unit tests for {@link ApplicationModules}.
@@ -26,6 +32,8 @@ import org.junit.jupiter.api.Test;
  */
 class ApplicationModulesUnitTests {
 
+	static final ImportOption ONLY_TESTS = new ImportOption.OnlyIncludeTests();
+
 	ApplicationModules modules = TestUtils.of("example", "example.ninvalid", "example.cycle..");
 
 	@Test // GH 578
@@ -82,6 +90,15 @@ class ApplicationModulesUnitTests {
 						it -> assertThat(it).contains("Invalid", "'ni'", "'ni.nested.b.first'"));
 	}
 
+	@Test
+	void detectsSameViolationsWhenVerifyingInParallel() {
+
+		var sequential = modules.detectViolations(VerificationOptions.defaults());
+		var parallel = modules.detectViolations(VerificationOptions.defaults().withParallelVerification());
+
+		assertThat(parallel.getMessages()).containsExactlyElementsOf(sequential.getMessages());
+	}
+
 	@Test // GH-1192
 	void findsTypeBySimpleName() {
 
@@ -89,4 +106,79 @@ class ApplicationModulesUnitTests {
 			assertThat(it.contains("RootType")).isTrue();
 		});
 	}
+
+	@Test
+	void looksUpModulesByTypeAndPackage() {
+
+		var ni = modules.getModuleByName("ni").orElseThrow();
+		var nested = modules.getModuleByName("ni.nested").orElseThrow();
+		var inner = modules.getModuleByName("ni.nested.b.first").orElseThrow();
+
+		assertThat(modules.getModuleByType(example.ni.RootType.class)).hasValue(ni);
+		assertThat(modules.getModuleByType(example.ni.nested.b.InNestedB.class)).hasValue(nested);
+		assertThat(modules.getModuleByType("example.ni.nested.b.first.InNestedBFirst")).hasValue(inner);
+		assertThat(modules.getModuleByType("InNestedBFirst")).hasValue(inner);
+		assertThat(modules.getModuleByType("example.ni.Unknown")).isEmpty();
+
+		assertThat(modules.getModuleForPackage("example.ni.api")).hasValue(ni);
+		assertThat(modules.getModuleForPackage("example.ni.nested.b")).hasValue(nested);
+		assertThat(modules.getModuleForPackage("example.ni.nested.b.first.deeper")).hasValue(inner);
+		assertThat(modules.getModuleForPackage("example.ni.nonexistent")).hasValue(ni);
+		assertThat(modules.getModuleForPackage("example.nix")).isEmpty();
+	}
+
+	@Test
+	void reusesCachedInstanceForEquivalentImportOptions() {
+
+		var modules = ApplicationModules.of("example.ni", new ImportOption.OnlyIncludeTests());
+
+		assertThat(ApplicationModules.of("example.ni", new ImportOption.OnlyIncludeTests())).isSameAs(modules);
+		assertThat(ApplicationModules.getCacheStatistics().getHits()).isPositive();
+	}
+
+	@Test
+	void considersStatelessArchUnitPredicatesAndImportOptionsEqual() {
+
+		var key = CacheKey.of("example.ni", DescribedPredicate.alwaysFalse(), new ImportOption.OnlyIncludeTests());
+
+		assertThat(CacheKey.of("example.ni", DescribedPredicate.alwaysFalse(), new ImportOption.OnlyIncludeTests()))
+				.isEqualTo(key)
+				.hasSameHashCodeAs(key);
+		assertThat(CacheKey.of("example.ni", DescribedPredicate.alwaysTrue(), new ImportOption.OnlyIncludeTests()))
+				.isNotEqualTo(key);
+	}
+
+	@Test
+	void identifiesPredicatesWithSameDescriptionByInstance() {
+
+		var ignored = Filters.withoutModule("nested").as("same");
+		var key = CacheKey.of("example.ni", ignored, ONLY_TESTS);
+
+		assertThat(CacheKey.of("example.ni", ignored, ONLY_TESTS)).isEqualTo(key);
+		assertThat(CacheKey.of("example.ni", Filters.withoutModule("other").as("same"), ONLY_TESTS))
+				.isNotEqualTo(key);
+	}
+
+	@Test
+	void identifiesCustomPredicatesByInstance() {
+
+		var ignored = new DescribedPredicate<JavaClass>("custom") {
+
+			@Override
+			public boolean test(JavaClass type) {
+				return false;
+			}
+		};
+
+		var key = CacheKey.of("example.ni", ignored, ONLY_TESTS);
+
+		assertThat(CacheKey.of("example.ni", ignored, ONLY_TESTS)).isEqualTo(key);
+		assertThat(CacheKey.of("example.ni", new DescribedPredicate<JavaClass>("custom") {
+
+			@Override
+			public boolean test(JavaClass type) {
+				return true;
+			}
+		}, ONLY_TESTS)).isNotEqualTo(key);
+	}
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.MutablePropertySources;
+
+/**
+ * Unit tests for {@link CacheFiles}.
+ *
+ * @author Oliver Drotbohm
+ */
+class CacheFilesUnitTests {
+
+	@TempDir Path directory;
+
+	@Test
+	void separatesFingerprintedValues() {
+
+		assertThat(CacheFiles.fingerprint().with("ab").with("c").toHexString())
+				.isEqualTo(CacheFiles.fingerprint().with("ab").with("c").toHexString())
+				.isNotEqualTo(CacheFiles.fingerprint().with("a").with("bc").toHexString());
+	}
+
+	@Test
+	void fingerprintsFilteredPropertiesWithFirstValueOnly() {
+
+		var first = new MutablePropertySources();
+		first.addLast(new MapPropertySource("first", Map.of("spring.modulith.a", "1", "other", "2")));
+		first.addLast(new MapPropertySource("second", Map.of("spring.modulith.a", "3")));
+
+		var second = new MutablePropertySources();
+		second.addLast(new MapPropertySource("first", Map.of("spring.modulith.a", "1")));
+
+		var filtered = CacheFiles.fingerprint().withProperties(first, it -> it.startsWith("spring.modulith."));
+
+		assertThat(filtered.toHexString())
+				.isEqualTo(CacheFiles.fingerprint().withProperties(second, it -> true).toHexString());
+	}
+
+	@Test
+	void writesAndReadsProperties() throws IOException {
+
+		var file = directory.resolve("nested").resolve("cache.properties");
+		var properties = new Properties();
+		properties.setProperty("key", "value");
+
+		assertThat(CacheFiles.read(file)).isNull();
+
+		CacheFiles.write(file, properties, null);
+
+		assertThat(CacheFiles.read(file)).containsEntry("key", "value");
+
+		try (var files = Files.list(file.getParent())) {
+			assertThat(files).containsExactly(file);
+		}
+	}
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import incremental.a.AddedReference;
+import incremental.a.RemovedReference;
+import incremental.b.B;
+import incremental.b.Removable;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.importer.ImportOption;
+import com.tngtech.archunit.core.importer.Location;
+
+/**
+ * Unit tests for {@link CompactApplicationModules}.
+ *
+ * @author Oliver Drotbohm
+ */
+class CompactApplicationModulesUnitTests {
+
+	ApplicationModules modules = TestUtils.of("example", "example.ninvalid", "example.cycle..");
+	CompactApplicationModules compact = modules.compact();
+
+	@Test
+	void retainsModuleArrangementAndOrder() {
+
+		assertThat(compact.stream().map(CompactApplicationModule::getIdentifier))
+				.containsExactlyElementsOf(modules.stream().map(ApplicationModule::getIdentifier).toList());
+
+		assertThat(compact.getModuleByName("ni")).hasValueSatisfying(it -> {
+			assertThat(it.getBasePackage()).isEqualTo("example.ni");
+			assertThat(it.getDisplayName()).isEqualTo(modules.getModuleByName("ni").orElseThrow().getDisplayName());
+		});
+	}
+
+	@Test
+	void looksUpModulesByTypeName() {
+
+		assertThat(compact.getModuleByType(example.ni.RootType.class.getName()))
+				.map(CompactApplicationModule::getIdentifier)
+				.hasValue(ApplicationModuleIdentifier.of("ni"));
+		assertThat(compact.getModuleByType(example.ni.nested.b.InNestedB.class.getName()))
+				.map(CompactApplicationModule::getIdentifier)
+				.hasValue(ApplicationModuleIdentifier.of("ni.nested"));
+		assertThat(compact.getModuleByType("example.ni.Unknown")).isEmpty();
+	}
+
+	@Test
+	void capturesDerivedInformationByTypeNames() {
+
+		modules.forEach(module -> {
+
+			var compacted = compact.getModuleByName(module.getIdentifier().toString()).orElseThrow();
+
+			var events = module.getPublishedEvents().stream()
+					.map(it -> it.getType().getName())
+					.distinct()
+					.toList();
+
+			var beans = module.getSpringBeans().stream()
+					.map(SpringBean::getFullyQualifiedTypeName)
+					.distinct()
+					.toList();
+
+			var dependencies = module.getDirectDependencies(modules).uniqueModules()
+					.map(ApplicationModule::getIdentifier)
+					.toList();
+
+			assertThat(compacted.getPublishedEvents()).containsExactlyElementsOf(events);
+			assertThat(compacted.getSpringBeans()).containsExactlyElementsOf(beans);
+			assertThat(compacted.getDependencies())
+					.extracting(CompactApplicationModule.Dependency::getTargetModule)
+					.hasSameElementsAs(dependencies);
+
+			module.getBasePackage().stream()
+					.filter(module::contains)
+					.forEach(type -> {
+						assertThat(compacted.contains(type.getName())).isTrue();
+						assertThat(compacted.isExposed(type.getName())).isEqualTo(module.isExposed(type));
+					});
+		});
+	}
+
+	@Test
+	void reanalyzesOnlyModulesAffectedByChanges() {
+
+		var compact = TestUtils.of("example.cycle").compact();
+		var b = compact.getModuleByName("b").orElseThrow();
+
+		var updated = compact.withChanges(List.of(example.cycle.a.CycleA.class.getName()), List.of());
+
+		assertThat(updated).hasValueSatisfying(it -> {
+
+			var a = it.getModuleByName("a").orElseThrow();
+			var previous = compact.getModuleByName("a").orElseThrow();
+
+			assertThat(a).isNotSameAs(previous);
+			assertThat(a.getTypes()).isEqualTo(previous.getTypes());
+			assertThat(a.getDependencies())
+					.extracting(CompactApplicationModule.Dependency::getTargetModule)
+					.containsOnly(ApplicationModuleIdentifier.of("b"));
+
+			assertThat(it.getModuleByName("b")).hasValue(b);
+		});
+	}
+
+	@Test
+	void requiresFullAnalysisForChangesAffectingModuleArrangement() {
+
+		var compact = TestUtils.of("example.cycle").compact();
+
+		assertThat(compact.withChanges(List.of(example.cycle.Cycle.class.getName()), List.of())).isEmpty();
+		assertThat(compact.withChanges(List.of("example.cycle.a.package-info"), List.of())).isEmpty();
+		assertThat(compact.withChanges(List.of(), List.of("example.other.Removed"))).isEmpty();
+		assertThat(compact.withChanges(List.of(), List.of())).hasValue(compact);
+	}
+
+	@Test
+	void incrementalUpdateEqualsFullAnalysis() {
+
+		var option = new HidingImportOption(AddedReference.class);
+		var compact = modulesFor(option).compact();
+
+		option.hide(RemovedReference.class, Removable.class).show(AddedReference.class);
+
+		var changed = List.of(AddedReference.class.getName(), B.class.getName());
+		var removed = List.of(RemovedReference.class.getName(), Removable.class.getName());
+		var expected = modulesFor(new HidingImportOption(RemovedReference.class, Removable.class)).compact();
+
+		assertThat(compact.withChanges(changed, removed)).hasValueSatisfying(it -> {
+
+			assertThat(it.stream().map(CompactApplicationModule::getIdentifier)).containsExactlyInAnyOrderElementsOf(
+					expected.stream().map(CompactApplicationModule::getIdentifier).toList());
+
+			expected.forEach(module -> {
+
+				var updated = it.getModuleByName(module.getIdentifier().toString()).orElseThrow();
+
+				assertThat(updated.getTypes()).isEqualTo(module.getTypes());
+				assertThat(updated.getExposedTypes()).isEqualTo(module.getExposedTypes());
+				assertThat(updated.getPublishedEvents()).isEqualTo(module.getPublishedEvents());
+				assertThat(updated.getSpringBeans()).isEqualTo(module.getSpringBeans());
+				assertThat(updated.getEntryPoints()).isEqualTo(module.getEntryPoints());
+				assertThat(updated.getDependencies()).hasSameElementsAs(module.getDependencies());
+			});
+		});
+	}
+
+	private static ApplicationModules modulesFor(ImportOption option) {
+		return new ApplicationModules(ModulithMetadata.of("incremental"), DescribedPredicate.alwaysFalse(), option) {};
+	}
+
+	/**
+	 * An {@link ImportOption} only including test classes, except the ones of the types currently hidden to simulate
+	 * them being added or removed.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	static class HidingImportOption implements ImportOption {
+
+		private final ImportOption delegate = new ImportOption.OnlyIncludeTests();
+		private final Set<String> hidden = new HashSet<>();
+
+		HidingImportOption(Class<?>... types) {
+			hide(types);
+		}
+
+		HidingImportOption hide(Class<?>... types) {
+
+			Arrays.stream(types).map(HidingImportOption::toClassFile).forEach(hidden::add);
+
+			return this;
+		}
+
+		HidingImportOption show(Class<?>... types) {
+
+			Arrays.stream(types).map(HidingImportOption::toClassFile).forEach(hidden::remove);
+
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.tngtech.archunit.core.importer.ImportOption#includes(com.tngtech.archunit.core.importer.Location)
+		 */
+		@Override
+		public boolean includes(Location location) {
+			return delegate.includes(location) && hidden.stream().noneMatch(location::contains);
+		}
+
+		private static String toClassFile(Class<?> type) {
+			return "/" + type.getName().replace('.', '/') + ".class";
+		}
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link DependencyClosure}.
+ *
+ * @author Oliver Drotbohm
+ */
+class DependencyClosureUnitTests {
+
+	ApplicationModules modules = TestUtils.of("example.cycle");
+
+	ApplicationModule a = modules.getModuleByName("a").orElseThrow();
+	ApplicationModule b = modules.getModuleByName("b").orElseThrow();
+	ApplicationModule c = modules.getModuleByName("c").orElseThrow();
+	ApplicationModule d = modules.getModuleByName("d").orElseThrow();
+
+	@Test
+	void computesTransitiveDependenciesOfAcyclicArrangement() {
+
+		var dependencies = Map.of(a, List.of(b), b, List.of(c), c, List.<ApplicationModule> of(), d, List.of(a));
+		var closure = DependencyClosure.of(List.of(c, b, a, d), it -> dependencies.get(it).stream());
+
+		assertThat(closure.getDependencies(a)).containsExactly(c, b);
+		assertThat(closure.getDependencies(d)).containsExactly(c, b, a);
+		assertThat(closure.getDependencies(c)).isEmpty();
+
+		assertThat(closure.dependsOn(d, c)).isTrue();
+		assertThat(closure.dependsOn(c, d)).isFalse();
+	}
+
+	@Test
+	void includesModulesInvolvedInCycleThemselves() {
+
+		var dependencies = Map.of(a, List.of(b), b, List.of(c), c, List.of(a), d, List.of(b));
+		var closure = DependencyClosure.of(List.of(a, b, c, d), it -> dependencies.get(it).stream());
+
+		assertThat(closure.getDependencies(a)).containsExactly(a, b, c);
+		assertThat(closure.getDependencies(d)).containsExactly(a, b, c);
+		assertThat(closure.dependsOn(a, a)).isTrue();
+		assertThat(closure.dependsOn(d, d)).isFalse();
+	}
+
+	@Test
+	void ignoresDependenciesToUnknownModules() {
+
+		var closure = DependencyClosure.of(List.of(a, b), it -> it.equals(a) ? Stream.of(b, c) : Stream.empty());
+
+		assertThat(closure.contains(c)).isFalse();
+		assertThat(closure.getDependencies(a)).containsExactly(b);
+		assertThat(closure.getDependencies(c)).isEmpty();
+		assertThat(closure.dependsOn(a, c)).isFalse();
+	}
+
+	@Test
+	void exposesTransitiveDependenciesViaApplicationModules() {
+
+		assertThat(modules.dependsOn(a, d)).isTrue();
+		assertThat(modules.dependsOn(d, b)).isTrue();
+
+		assertThat(a.getAllDependencies(modules).uniqueModules())
+				.containsExactlyInAnyOrder(a, b, c, d);
+	}
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.jar.Attributes.Name;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.tngtech.archunit.core.importer.ImportOption;
+
+/**
+ * Unit tests for {@link PersistentVerificationCache}.
+ *
+ * @author Oliver Drotbohm
+ */
+class PersistentVerificationCacheUnitTests {
+
+	static final ImportOption ONLY_TESTS = new ImportOption.OnlyIncludeTests();
+
+	@TempDir Path directory;
+
+	@Test
+	void reusesPersistedViolationsAcrossInstances() {
+
+		var invocations = new AtomicInteger();
+		Supplier<Violations> computation = () -> {
+			invocations.incrementAndGet();
+			return Violations.NONE.and("First violation").and("Second violation");
+		};
+
+		var first = new PersistentVerificationCache(directory).computeIfAbsent(List.of("key"), computation);
+		var second = new PersistentVerificationCache(directory).computeIfAbsent(List.of("key"), computation);
+
+		assertThat(invocations).hasValue(1);
+		assertThat(second.getMessages())
+				.containsExactlyElementsOf(first.getMessages())
+				.containsExactly("First violation", "Second violation");
+	}
+
+	@Test
+	void persistsAbsenceOfViolations() {
+
+		var cache = new PersistentVerificationCache(directory);
+
+		cache.computeIfAbsent(List.of("key"), () -> Violations.NONE);
+
+		assertThat(cache.computeIfAbsent(List.of("key"), () -> {
+			throw new IllegalStateException("Expected persisted result to be used!");
+		}).hasViolations()).isFalse();
+	}
+
+	@Test
+	void recomputesViolationsForDifferentInputs() {
+
+		var cache = new PersistentVerificationCache(directory);
+
+		cache.computeIfAbsent(List.of("key"), () -> Violations.NONE);
+
+		assertThat(cache.computeIfAbsent(List.of("other"), () -> Violations.NONE.and("Violation")).getMessages())
+				.containsExactly("Violation");
+	}
+
+	@Test
+	void calculatesStableFingerprintForClassFilesAndInputs() {
+
+		var fingerprint = PersistentVerificationCache.fingerprint(List.of("example.ni"), ONLY_TESTS, List.of("input"));
+
+		assertThat(PersistentVerificationCache.fingerprint(List.of("example.ni"), ONLY_TESTS, List.of("input")))
+				.isEqualTo(fingerprint);
+		assertThat(PersistentVerificationCache.fingerprint(List.of("example.ni"), ONLY_TESTS, List.of("other")))
+				.isNotEqualTo(fingerprint);
+		assertThat(PersistentVerificationCache.fingerprint(List.of("example.ninvalid"), ONLY_TESTS, List.of("input")))
+				.isNotEqualTo(fingerprint);
+	}
+
+	@Test
+	void identifiesClassFilesByPathRelativeToClasspathRoot() {
+
+		var roots = List.of("file:/home/first/project/target/classes/example/");
+		var file = "file:/home/first/project/target/classes/example/ni/Sample.class";
+		var archive = "jar:file:/home/first/.m2/sample.jar!/example/ni/Sample.class";
+
+		assertThat(PersistentVerificationCache.toRelativePath(file, "example", roots))
+				.isEqualTo(PersistentVerificationCache.toRelativePath(archive, "example", roots))
+				.isEqualTo("example/ni/Sample.class");
+	}
+
+	@Test
+	void keepsOnlyMostRecentlyUsedResults() throws IOException {
+
+		var cache = new PersistentVerificationCache(directory, 2);
+		var invocations = new AtomicInteger();
+		Supplier<Violations> computation = () -> {
+			invocations.incrementAndGet();
+			return Violations.NONE;
+		};
+
+		cache.computeIfAbsent(List.of("first"), computation);
+		age(directory);
+		cache.computeIfAbsent(List.of("second"), computation);
+		age(directory);
+		cache.computeIfAbsent(List.of("first"), computation);
+		cache.computeIfAbsent(List.of("third"), computation);
+
+		try (var files = Files.list(directory)) {
+			assertThat(files).hasSize(2);
+		}
+
+		cache.computeIfAbsent(List.of("first"), computation);
+		assertThat(invocations).hasValue(3);
+
+		cache.computeIfAbsent(List.of("second"), computation);
+		assertThat(invocations).hasValue(4);
+	}
+
+	@Test
+	void describesClasspathEntriesOutsideAnalyzedPackages() throws IOException {
+
+		var classes = Files.createDirectories(directory.resolve("classes"));
+
+		Files.createDirectories(classes.resolve("example/ni"));
+		Files.createDirectories(classes.resolve("other"));
+		Files.writeString(classes.resolve("example/ni/Analyzed.class"), "analyzed");
+		Files.writeString(classes.resolve("other/Annotation.class"), "annotation");
+
+		var library = createJar(directory.resolve("library.jar"), null);
+		var pathing = createJar(directory.resolve("pathing.jar"), library.toUri().toString());
+
+		var description = PersistentVerificationCache.describeClasspath(
+				classes + File.pathSeparator + pathing, List.of("example.ni"));
+
+		assertThat(description).hasSize(2);
+		assertThat(description.get(0)).startsWith("other/Annotation.class:");
+		assertThat(description.get(1)).startsWith("library.jar:");
+	}
+
+	private static void age(Path directory) throws IOException {
+
+		try (var files = Files.list(directory)) {
+
+			for (var file : files.toList()) {
+
+				var time = Files.getLastModifiedTime(file).toInstant().minus(Duration.ofHours(1));
+
+				Files.setLastModifiedTime(file, FileTime.from(time));
+			}
+		}
+	}
+
+	private static Path createJar(Path path, @Nullable String classpath) throws IOException {
+
+		var manifest = new Manifest();
+		manifest.getMainAttributes().put(Name.MANIFEST_VERSION, "1.0");
+
+		if (classpath != null) {
+			manifest.getMainAttributes().put(Name.CLASS_PATH, classpath);
+		}
+
+		try (var output = new JarOutputStream(Files.newOutputStream(path), manifest)) {
+
+			if (classpath == null) {
+				output.putNextEntry(new JarEntry("library/Type.class"));
+				output.write(new byte[] { 1 });
+				output.closeEntry();
+			}
+		}
+
+		return path;
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link SoftReferenceCache}.
+ *
+ * @author Oliver Drotbohm
+ */
+class SoftReferenceCacheUnitTests {
+
+	SoftReferenceCache<String, Object> cache = new SoftReferenceCache<>(2);
+	AtomicInteger invocations = new AtomicInteger();
+	Function<String, Object> factory = key -> {
+		invocations.incrementAndGet();
+		return new Object();
+	};
+
+	@Test
+	void computesValueOnlyOnce() {
+
+		var value = cache.get("first", factory);
+
+		assertThat(cache.get("first", factory)).isSameAs(value);
+		assertThat(invocations).hasValue(1);
+
+		var statistics = cache.getStatistics();
+
+		assertThat(statistics.getHits()).isEqualTo(1);
+		assertThat(statistics.getMisses()).isEqualTo(1);
+		assertThat(statistics.getSize()).isEqualTo(1);
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedEntry() {
+
+		var first = cache.get("first", factory);
+
+		cache.get("second", factory);
+		cache.get("first", factory);
+		cache.get("third", factory);
+
+		assertThat(cache.get("first", factory)).isSameAs(first);
+		assertThat(cache.getStatistics().getEvictions()).isEqualTo(1);
+		assertThat(cache.getStatistics().getSize()).isEqualTo(2);
+
+		cache.get("second", factory);
+
+		assertThat(invocations).hasValue(4);
+	}
+
+	@Test
+	void clearsEntriesAndStatistics() {
+
+		var value = cache.get("first", factory);
+
+		cache.clear();
+
+		assertThat(cache.getStatistics().getMisses()).isZero();
+		assertThat(cache.get("first", factory)).isNotSameAs(value);
+		assertThat(invocations).hasValue(2);
+	}
+
+	@Test
+	void rejectsInvalidMaximumSize() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new SoftReferenceCache<>(0));
+	}
+}
@@ -18,6 +18,8 @@ package org.springframework.modulith.core;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.concurrent.Executor;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.modulith.core.Types.JMoleculesTypes;
 
@@ -60,4 +62,16 @@ class VerificationOptionsUnitTests {
 				.hasSize(1)
 				.containsExactly(archRule);
 	}
+
+	@Test
+	void keepsExecutorForParallelVerification() {
+
+		Executor executor = Runnable::run;
+		var options = VerificationOptions.defaults()
+				.withParallelVerification(executor)
+				.withoutAdditionalVerifications();
+
+		assertThat(VerificationOptions.defaults().getExecutor()).isNull();
+		assertThat(options.getExecutor()).isSameAs(executor);
+	}
 }
@@ -18,16 +18,20 @@ package org.springframework.modulith.docs;
 import static org.springframework.modulith.docs.Asciidoctor.*;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.lang.annotation.Annotation;
+import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -96,6 +100,7 @@ public class Documenter {
 	private final Container container;
 	private final ConfigurationProperties properties;
 	private final Options options;
+	private final DependencyCache dependencies;
 
 	private boolean cleared;
 
@@ -148,6 +153,7 @@ public class Documenter {
 
 		this.container = system.addContainer(systemName, "", "");
 		this.properties = new ConfigurationProperties();
+		this.dependencies = new DependencyCache(modules);
 		this.cleared = false;
 	}
 
@@ -285,6 +291,7 @@ public class Documenter {
 		Assert.notNull(diagramOptions, "Options must not be null!");
 
 		potentiallyWipeOutputFolder();
+		prepareDependencies(diagramOptions);
 
 		options.outputFolder.writeToFile(diagramOptions.getTargetFileName().orElse(DEFAULT_COMPONENTS_FILE),
 				createPlantUml(diagramOptions));
@@ -307,8 +314,15 @@ public class Documenter {
 		Assert.notNull(options, "DiagramOptions must not be null!");
 
 		potentiallyWipeOutputFolder();
+		prepareDependencies(options);
 
-		modules.forEach(it -> writeModuleAsPlantUml(it, options));
+		// Views have to be created sequentially as they're registered with the shared workspace
+		var views = new LinkedHashMap<ApplicationModule, ComponentView>();
+
+		modules.forEach(it -> views.put(it, createModuleView(it, options)));
+
+		forEach(views.entrySet(),
+				it -> writeViewAsPlantUml(it.getValue(), getModuleFileName(it.getKey(), options), options));
 
 		return this;
 	}
@@ -341,14 +355,7 @@ public class Documenter {
 
 		potentiallyWipeOutputFolder();
 
-		var view = createComponentView(options, module);
-		view.setTitle(options.defaultDisplayName.apply(module));
-
-		addComponentsToView(module, view, options);
-
-		var fileNamePattern = options.getTargetFileName().orElse(DEFAULT_MODULE_COMPONENTS_FILE);
-
-		return writeViewAsPlantUml(view, fileNamePattern.formatted(module.getIdentifier()), options);
+		return writeViewAsPlantUml(createModuleView(module, options), getModuleFileName(module, options), options);
 	}
 
 	/**
@@ -372,7 +379,7 @@ public class Documenter {
 
 		potentiallyWipeOutputFolder();
 
-		modules.forEach(module -> {
+		forEach(modules.stream().toList(), module -> {
 
 			var filename = canvasOptions.getTargetFileName(module.getIdentifier().toString());
 
@@ -394,14 +401,7 @@ public class Documenter {
 		var content = new ApplicationModulesExporter(modules).toFullJson();
 		var path = Path.of(BuildSystemUtils.getResourceTarget(), ApplicationModulesExporter.DEFAULT_LOCATION);
 
-		try {
-
-			Files.createDirectories(path.getParent());
-			Files.writeString(path, content, StandardOpenOption.CREATE);
-
-		} catch (IOException o_O) {
-			throw new UncheckedIOException(o_O);
-		}
+		writeIfChanged(path, content);
 
 		return this;
 	}
@@ -460,14 +460,14 @@ public class Documenter {
 
 		DEPENDENCY_DESCRIPTIONS.entrySet().stream().forEach(entry -> {
 
-			module.getDirectDependencies(modules, entry.getKey()).uniqueModules() //
+			dependencies.getDirectDependencies(module, entry.getKey()) //
 					.map(it -> getComponents(options).get(it)) //
 					.map(it -> component.uses(it, entry.getValue())) //
 					.filter(it -> it != null) //
 					.forEach(it -> it.addTags(entry.getKey().toString()));
 		});
 
-		module.getBootstrapDependencies(modules)
+		dependencies.getBootstrapDependencies(module, DependencyDepth.IMMEDIATE)
 				.map(it -> component.uses(getComponents(options).get(it), "uses"))
 				.filter(it -> it != null)
 				.forEach(it -> it.addTags(DependencyType.USES_COMPONENT.toString()));
@@ -490,10 +490,10 @@ public class Documenter {
 
 	private void addComponentsToView(ApplicationModule module, ComponentView view, DiagramOptions options) {
 
-		Supplier<Stream<ApplicationModule>> bootstrapDependencies = () -> module.getBootstrapDependencies(modules,
-				options.dependencyDepth);
+		Supplier<Stream<ApplicationModule>> bootstrapDependencies = () -> this.dependencies
+				.getBootstrapDependencies(module, options.dependencyDepth);
 		Supplier<Stream<ApplicationModule>> otherDependencies = () -> options.getDependencyTypes()
-				.flatMap(it -> module.getDirectDependencies(modules, it).uniqueModules());
+				.flatMap(it -> this.dependencies.getDirectDependencies(module, it));
 
 		Supplier<Stream<ApplicationModule>> dependencies = () -> Stream.concat(bootstrapDependencies.get(),
 				otherDependencies.get());
@@ -612,6 +612,78 @@ public class Documenter {
 				.createComponentView(container, prefix + options.toString(), "");
 	}
 
+	private ComponentView createModuleView(ApplicationModule module, DiagramOptions options) {
+
+		var view = createComponentView(options, module);
+		view.setTitle(options.defaultDisplayName.apply(module));
+
+		addComponentsToView(module, view, options);
+
+		return view;
+	}
+
+	private static String getModuleFileName(ApplicationModule module, DiagramOptions options) {
+		return options.getTargetFileName().orElse(DEFAULT_MODULE_COMPONENTS_FILE).formatted(module.getIdentifier());
+	}
+
+	/**
+	 * Resolves the dependencies of all modules needed to render diagrams with the given {@link DiagramOptions}
+	 * concurrently in case parallel rendering is enabled. Otherwise, they're resolved lazily on first access.
+	 *
+	 * @param options must not be {@literal null}.
+	 */
+	private void prepareDependencies(DiagramOptions options) {
+
+		if (this.options.executor == null) {
+			return;
+		}
+
+		var types = Stream.concat(DEPENDENCY_DESCRIPTIONS.keySet().stream(), options.getDependencyTypes())
+				.distinct()
+				.toList();
+
+		forEach(modules.stream().toList(), it -> dependencies.prepare(it, types, options.dependencyDepth));
+	}
+
+	/**
+	 * Applies the given {@link Consumer} to all given sources, either on the calling thread or concurrently on the
+	 * {@link Executor} configured via {@link Options#withParallelRendering(Executor)}. Returns once all of them have
+	 * been processed.
+	 *
+	 * @param sources must not be {@literal null}.
+	 * @param consumer must not be {@literal null}.
+	 */
+	private <T> void forEach(Collection<T> sources, Consumer<T> consumer) {
+
+		var executor = options.executor;
+
+		if (executor == null) {
+			sources.forEach(consumer);
+			return;
+		}
+
+		var futures = sources.stream()
+				.map(it -> CompletableFuture.runAsync(() -> consumer.accept(it), executor))
+				.toArray(CompletableFuture[]::new);
+
+		try {
+
+			CompletableFuture.allOf(futures).join();
+
+		} catch (CompletionException o_O) {
+
+			if (o_O.getCause() instanceof RuntimeException exception) {
+				throw exception;
+			}
+
+			if (o_O.getCause() instanceof Error error) {
+				throw error;
+			}
+
+			throw o_O;
+		}
+	}
+
 	private void potentiallyWipeOutputFolder() {
 
 		if (options.clean && !cleared) {
@@ -668,6 +740,33 @@ public class Documenter {
 		return options.hideEmptyLines && types.isEmpty() ? "" : writeTableRow(header, mapper.apply(types));
 	}
 
+	/**
+	 * Writes the given content to the file with the given {@link Path} unless the file already contains exactly that
+	 * content, so that its modification date is retained and build steps consuming the file can be skipped.
+	 *
+	 * @param path must not be {@literal null}.
+	 * @param content must not be {@literal null}.
+	 */
+	private static void writeIfChanged(Path path, String content) {
+
+		var bytes = content.getBytes(Charset.defaultCharset());
+
+		try {
+
+			if (Files.isRegularFile(path)
+					&& Files.size(path) == bytes.length
+					&& Arrays.equals(Files.readAllBytes(path), bytes)) {
+				return;
+			}
+
+			Files.createDirectories(path.toAbsolutePath().getParent());
+			Files.write(path, bytes);
+
+		} catch (IOException o_O) {
+			throw new UncheckedIOException(o_O);
+		}
+	}
+
 	private String getDefaultedSystemName() {
 		return modules.getSystemName().orElse("Modules");
 	}
@@ -1277,15 +1376,19 @@ public class Documenter {
 
 		private final OutputFolder outputFolder;
 		private final boolean clean;
+		private final @Nullable Executor executor;
 
 		/**
 		 * @param outputFolder the folder to write the files to, can be {@literal null}.
 		 * @param clean whether to clean the target directory on rendering.
+		 * @param executor the {@link Executor} to render diagrams and canvases on, {@literal null} to render them on
+		 *          the calling thread.
 		 */
-		private Options(OutputFolder outputFolder, boolean clean) {
+		private Options(OutputFolder outputFolder, boolean clean, @Nullable Executor executor) {
 
 			this.outputFolder = outputFolder;
 			this.clean = clean;
+			this.executor = executor;
 		}
 
 		/**
@@ -1299,16 +1402,17 @@ public class Documenter {
 		 * @see #withOutputFolder(String)
 		 */
 		public static Options defaults() {
-			return new Options(OutputFolder.forDefaultLocation(), true);
+			return new Options(OutputFolder.forDefaultLocation(), true, null);
 		}
 
 		/**
-		 * Disables the cleaning of the output folder before any files are written.
+		 * Disables the cleaning of the output folder before any files are written. Files whose content hasn't changed
+		 * since a previous run are not written again in that case.
 		 *
 		 * @return will never be {@literal null}.
 		 */
 		public Options withoutClean() {
-			return new Options(outputFolder, false);
+			return new Options(outputFolder, false, executor);
 		}
 
 		/**
@@ -1321,7 +1425,33 @@ public class Documenter {
 		 * @return will never be {@literal null}.
 		 */
 		public Options withOutputFolder(@Nullable String folder) {
-			return new Options(OutputFolder.forLocation(folder), clean);
+			return new Options(OutputFolder.forLocation(folder), clean, executor);
+		}
+
+		/**
+		 * Renders the individual module diagrams and the module canvases in parallel on the common
+		 * {@link ForkJoinPool}. The dependencies of all modules are resolved concurrently upfront as well.
+		 *
+		 * @return will never be {@literal null}.
+		 * @since 2.2
+		 */
+		public Options withParallelRendering() {
+			return withParallelRendering(ForkJoinPool.commonPool());
+		}
+
+		/**
+		 * Renders the individual module diagrams and the module canvases in parallel using the given {@link Executor}.
+		 *
+		 * @param executor must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 * @since 2.2
+		 * @see #withParallelRendering()
+		 */
+		public Options withParallelRendering(Executor executor) {
+
+			Assert.notNull(executor, "Executor must not be null!");
+
+			return new Options(outputFolder, clean, executor);
 		}
 
 		OutputFolder getOutputFolder() {
@@ -1381,43 +1511,56 @@ public class Documenter {
 			return this;
 		}
 
+		/**
+		 * Writes the given content to the file with the given name unless it already contains exactly that content.
+		 *
+		 * @param name must not be {@literal null} or empty.
+		 * @param content must not be {@literal null}.
+		 */
 		void writeToFile(String name, String content) {
+			writeIfChanged(Path.of(path, name), content);
+		}
+	}
 
-			var path = deleteIfExists(name).createFile(name);
+	/**
+	 * Caches the dependencies of {@link ApplicationModule}s to be rendered so that they're only resolved once across
+	 * all views.
+	 *
+	 * @author Oliver Drotbohm
+	 * @since 2.2
+	 */
+	private static class DependencyCache {
 
-			try (FileWriter writer = new FileWriter(path.toFile())) {
+		private final ApplicationModules modules;
+		private final Map<CacheKey, List<ApplicationModule>> dependencies;
 
-				writer.write(content);
+		DependencyCache(ApplicationModules modules) {
 
-			} catch (IOException o_O) {
-				throw new RuntimeException(o_O);
-			}
+			this.modules = modules;
+			this.dependencies = new ConcurrentHashMap<>();
 		}
 
-		private OutputFolder deleteIfExists(String name) {
+		Stream<ApplicationModule> getDirectDependencies(ApplicationModule module, DependencyType type) {
 
-			try {
-				Files.deleteIfExists(Path.of(path, name));
-			} catch (IOException o_O) {
-				throw new RuntimeException(o_O);
-			}
-
-			return this;
+			return dependencies.computeIfAbsent(new CacheKey(module, type),
+					__ -> module.getDirectDependencies(modules, type).uniqueModules().toList()).stream();
 		}
 
-		private Path createFile(String name) {
+		Stream<ApplicationModule> getBootstrapDependencies(ApplicationModule module, DependencyDepth depth) {
 
-			var path = Path.of(this.path);
+			return dependencies.computeIfAbsent(new CacheKey(module, depth),
+					__ -> module.getBootstrapDependencies(modules, depth).toList()).stream();
+		}
 
-			try {
+		void prepare(ApplicationModule module, Collection<DependencyType> types, DependencyDepth depth) {
 
-				Files.createDirectories(path);
-				return Files.createFile(path.resolve(name));
+			types.forEach(it -> getDirectDependencies(module, it));
 
-			} catch (IOException o_O) {
-				throw new RuntimeException(o_O);
-			}
+			getBootstrapDependencies(module, DependencyDepth.IMMEDIATE);
+			getBootstrapDependencies(module, depth);
 		}
+
+		private record CacheKey(ApplicationModule module, Object qualifier) {}
 	}
 
 	private static class CustomizedPlantUmlExporter extends StructurizrPlantUMLExporter {
@@ -49,6 +49,7 @@ import org.springframework.modulith.events.support.EventExternalizationTransport
 import org.springframework.modulith.events.support.EventExternalizerModuleListener;
 import org.springframework.modulith.events.support.OutboxEventExternalizer;
 import org.springframework.modulith.events.support.OutboxEventExternalizerFactory;
+import org.springframework.modulith.events.support.OutboxExternalizationHandler;
 import org.springframework.util.Assert;
 
 /**
@@ -95,6 +96,11 @@ class RabbitEventExternalizerConfiguration {
 			this.externalizer = factory.forTransport(createConfirmingRabbitTransport(configuration, operations, beanFactory));
 		}
 
+		@Bean
+		OutboxExternalizationHandler rabbitOutboxExternalizationHandler() {
+			return externalizer::handle;
+		}
+
 		@AutoConfiguration
 		@ConditionalOnClass(OutboxHandler.class)
 		class NamastackOutboxAutoConfiguration {
@@ -113,11 +119,37 @@ class RabbitEventExternalizerConfiguration {
 		class JobRunrOutboxAutoConfiguration {
 
 			@Bean
-			JobRunrExternalizationTransport jobRunrRabbitOutboxExternalizer() {
+			RabbitJobRunrExternalizationTransport jobRunrRabbitOutboxExternalizer() {
 
 				logger.debug("Registering JobRunr domain event outbox externalization to RabbitMQ.");
 
-				return payload -> externalizer.externalizeBlocking(payload);
+				return new RabbitJobRunrExternalizationTransport(externalizer);
+			}
+		}
+
+		/**
+		 * A {@link JobRunrExternalizationTransport} externalizing events to RabbitMQ. JobRunr looks up the
+		 * transport to invoke for a job by its type, so that every broker needs a dedicated one. The job only
+		 * completes once the broker has acknowledged the event, so that JobRunr retries it in case of a failure.
+		 *
+		 * @author Oliver Drotbohm
+		 * @since 2.2
+		 */
+		static class RabbitJobRunrExternalizationTransport implements JobRunrExternalizationTransport {
+
+			private final OutboxEventExternalizer externalizer;
+
+			RabbitJobRunrExternalizationTransport(OutboxEventExternalizer externalizer) {
+				this.externalizer = externalizer;
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * @see org.springframework.modulith.events.jobrunr.JobRunrExternalizationTransport#externalize(java.lang.Object)
+			 */
+			@Override
+			public void externalize(Object event) {
+				externalizer.externalizeBlocking(event);
 			}
 		}
 	}
@@ -87,4 +87,15 @@ public @interface ApplicationModuleListener {
 	 */
 	@AliasFor(annotation = Transactional.class, attribute = "propagation")
 	Propagation propagation() default Propagation.REQUIRES_NEW;
+
+	/**
+	 * The qualifier of the executor to asynchronously invoke the listener on. Defaults to the default executor used for
+	 * {@link Async} methods. Use {@code "modulithPartitionedEventDispatcher"} to get events with the same ordering key
+	 * delivered in publication order.
+	 *
+	 * @since 2.2
+	 * @see Async#value()
+	 */
+	@AliasFor(annotation = Async.class, attribute = "value")
+	String executor() default "";
 }
@@ -44,6 +44,8 @@ import org.springframework.modulith.events.core.DefaultEventPublicationRegistry;
 import org.springframework.modulith.events.core.EventPublicationRegistry;
 import org.springframework.modulith.events.core.EventPublicationRepository;
 import org.springframework.modulith.events.support.CompletionRegisteringAdvisor;
+import org.springframework.modulith.events.support.EventOrderingKeys;
+import org.springframework.modulith.events.support.PartitionedEventDispatcher;
 import org.springframework.modulith.events.support.PersistentApplicationEventMulticaster;
 import org.springframework.scheduling.annotation.AbstractAsyncConfiguration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -58,7 +60,7 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
  */
 @AutoConfiguration
 @Import({ AsyncEnablingConfiguration.class, StalenessMonitorConfiguration.class })
-@EnableConfigurationProperties(StalenessProperties.class)
+@EnableConfigurationProperties({ StalenessProperties.class, PartitioningProperties.class })
 public class EventPublicationAutoConfiguration extends EventPublicationConfiguration {
 
 	@Override
@@ -74,9 +76,11 @@ public class EventPublicationAutoConfiguration extends EventPublicationConfigura
 	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
 	@ConditionalOnBean(EventPublicationRegistry.class)
 	static PersistentApplicationEventMulticaster applicationEventMulticaster(
-			ObjectFactory<EventPublicationRegistry> eventPublicationRegistry, ObjectFactory<Environment> environment) {
+			ObjectFactory<EventPublicationRegistry> eventPublicationRegistry, ObjectFactory<Environment> environment,
+			ObjectProvider<PartitionedEventDispatcher> dispatcher) {
 
-		return EventPublicationConfiguration.applicationEventMulticaster(eventPublicationRegistry, environment);
+		return EventPublicationConfiguration.applicationEventMulticaster(eventPublicationRegistry, environment,
+				dispatcher);
 	}
 
 	@Bean
@@ -86,6 +90,14 @@ public class EventPublicationAutoConfiguration extends EventPublicationConfigura
 		return EventPublicationConfiguration.completionRegisteringAdvisor(registry);
 	}
 
+	@Bean(PartitionedEventDispatcher.BEAN_NAME)
+	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+	@ConditionalOnBean(EventOrderingKeys.class)
+	static PartitionedEventDispatcher partitionedEventDispatcher(EventOrderingKeys keys,
+			PartitioningProperties properties) {
+		return new PartitionedEventDispatcher(keys, properties.getLanes());
+	}
+
 	@Bean
 	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
 	@ConditionalOnProperty(
@@ -28,6 +28,7 @@ import org.springframework.modulith.events.core.DefaultEventPublicationRegistry;
 import org.springframework.modulith.events.core.EventPublicationRegistry;
 import org.springframework.modulith.events.core.EventPublicationRepository;
 import org.springframework.modulith.events.support.CompletionRegisteringAdvisor;
+import org.springframework.modulith.events.support.PartitionedEventDispatcher;
 import org.springframework.modulith.events.support.PersistentApplicationEventMulticaster;
 
 /**
@@ -51,10 +52,11 @@ class EventPublicationConfiguration {
 	@Bean
 	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
 	static PersistentApplicationEventMulticaster applicationEventMulticaster(
-			ObjectFactory<EventPublicationRegistry> eventPublicationRegistry, ObjectFactory<Environment> environment) {
+			ObjectFactory<EventPublicationRegistry> eventPublicationRegistry, ObjectFactory<Environment> environment,
+			ObjectProvider<PartitionedEventDispatcher> dispatcher) {
 
 		return new PersistentApplicationEventMulticaster(() -> eventPublicationRegistry.getObject(),
-				() -> environment.getObject());
+				() -> environment.getObject(), () -> dispatcher.getIfAvailable());
 	}
 
 	@Bean
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.config;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.util.Assert;
+
+/**
+ * Configuration properties for the partitioned dispatch of asynchronous event listener invocations.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ * @see org.springframework.modulith.events.support.PartitionedEventDispatcher
+ */
+@ConfigurationProperties("spring.modulith.events.partitioning")
+public class PartitioningProperties {
+
+	/**
+	 * The number of lanes to distribute asynchronous listener invocations across. Defaults to the number of available
+	 * processors.
+	 */
+	private final int lanes;
+
+	@ConstructorBinding
+	PartitioningProperties(@Nullable Integer lanes) {
+
+		Assert.isTrue(lanes == null || lanes > 0, "Number of lanes must be greater than zero!");
+
+		this.lanes = lanes == null ? Runtime.getRuntime().availableProcessors() : lanes;
+	}
+
+	/**
+	 * Returns the number of lanes to distribute asynchronous listener invocations across.
+	 *
+	 * @return will always be greater than zero.
+	 */
+	public int getLanes() {
+		return lanes;
+	}
+}
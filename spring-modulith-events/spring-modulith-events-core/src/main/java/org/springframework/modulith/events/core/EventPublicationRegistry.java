@@ -22,6 +22,7 @@ import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
+import org.springframework.context.ApplicationEvent;
 import org.springframework.modulith.events.EventPublication;
 import org.springframework.modulith.events.ResubmissionOptions;
 
@@ -44,6 +45,21 @@ public interface EventPublicationRegistry {
 	 */
 	Collection<TargetEventPublication> store(Object event, Stream<PublicationTargetIdentifier> listeners);
 
+	/**
+	 * Stores {@link TargetEventPublication}s for the given event and
+	 * {@link org.springframework.context.ApplicationListener}s, considering the {@link ApplicationEvent} the event was
+	 * published with. Allows implementations to take the publication context into account, e.g. a reactive transaction
+	 * exposed as {@link ApplicationEvent#getSource() event source}. Defaults to {@link #store(Object, Stream)}.
+	 *
+	 * @param applicationEvent the {@link ApplicationEvent} the event was published with, must not be {@literal null}.
+	 * @param event must not be {@literal null}.
+	 * @param listeners must not be {@literal null}.
+	 * @since 2.2
+	 */
+	default void store(ApplicationEvent applicationEvent, Object event, Stream<PublicationTargetIdentifier> listeners) {
+		store(event, listeners);
+	}
+
 	/**
 	 * Returns all {@link TargetEventPublication}s that have not been completed yet.
 	 *
@@ -88,6 +88,23 @@ public interface EventPublicationRepository {
 	 */
 	void markCompleted(UUID identifier, Instant completionDate);
 
+	/**
+	 * Marks the publications with the given identifiers completed at the given {@link Instant}. Stores are encouraged to
+	 * override this to complete all publications in as few round trips as possible.
+	 *
+	 * @param identifiers must not be {@literal null}.
+	 * @param completionDate must not be {@literal null}.
+	 * @since 2.2
+	 * @see org.springframework.modulith.events.EventPublication.Status#COMPLETED
+	 */
+	default void markCompleted(List<UUID> identifiers, Instant completionDate) {
+
+		Assert.notNull(identifiers, "Identifiers must not be null!");
+		Assert.notNull(completionDate, "Instant must not be null!");
+
+		identifiers.forEach(it -> markCompleted(it, completionDate));
+	}
+
 	/**
 	 * Marks the {@link org.springframework.modulith.events.EventPublication} with the given identifier as failed.
 	 *
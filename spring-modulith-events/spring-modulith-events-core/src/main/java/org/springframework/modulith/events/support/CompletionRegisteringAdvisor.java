@@ -17,8 +17,13 @@ package org.springframework.modulith.events.support;
 
 import java.lang.reflect.Method;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
 import org.aopalliance.aop.Advice;
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
@@ -32,6 +37,7 @@ import org.springframework.aop.support.AbstractPointcutAdvisor;
 import org.springframework.aop.support.StaticMethodMatcher;
 import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
 import org.springframework.core.Ordered;
+import org.springframework.core.ReactiveAdapterRegistry;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.modulith.events.core.EventPublicationRegistry;
 import org.springframework.modulith.events.core.PublicationTargetIdentifier;
@@ -39,6 +45,7 @@ import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalApplicationListenerMethodAdapter;
 import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.ConcurrentLruCache;
 
 /**
@@ -142,6 +149,9 @@ public class CompletionRegisteringAdvisor extends AbstractPointcutAdvisor {
 		private static final ConcurrentLruCache<Method, String> LISTENER_IDS = new ConcurrentLruCache<>(
 				100, CompletionRegisteringMethodInterceptor::lookupListenerId);
 
+		private static final boolean REACTOR_PRESENT = ClassUtils.isPresent("reactor.core.publisher.Flux",
+				CompletionRegisteringMethodInterceptor.class.getClassLoader());
+
 		private final @NonNull Supplier<EventPublicationRegistry> registry;
 
 		/**
@@ -186,6 +196,13 @@ public class CompletionRegisteringAdvisor extends AbstractPointcutAdvisor {
 							});
 				}
 
+				if (REACTOR_PRESENT && result != null && ReactiveResults.isReactive(result)) {
+
+					return ReactiveResults.decorate(result,
+							() -> registerStateTransition(method, argument, EventPublicationRegistry::markCompleted),
+							it -> handleFailure(method, argument, it));
+				}
+
 			} catch (Throwable o_O) {
 
 				handleFailure(method, argument, o_O);
@@ -237,4 +254,36 @@ public class CompletionRegisteringAdvisor extends AbstractPointcutAdvisor {
 			void invoke(EventPublicationRegistry registry, Object event, PublicationTargetIdentifier identifier);
 		}
 	}
+
+	/**
+	 * Decorates reactive listener results so that the event publication is only completed once the returned publisher
+	 * completes successfully. The registry interactions are shifted to a scheduler that allows blocking, as the
+	 * publisher might complete on a non-blocking thread.
+	 *
+	 * @author Oliver Drotbohm
+	 * @since 2.2
+	 */
+	private static class ReactiveResults {
+
+		static boolean isReactive(Object result) {
+			return ReactiveAdapterRegistry.getSharedInstance().getAdapter(result.getClass()) != null;
+		}
+
+		static Object decorate(Object result, Runnable onCompletion, Consumer<Throwable> onFailure) {
+
+			var adapter = ReactiveAdapterRegistry.getSharedInstance().getAdapter(result.getClass());
+
+			Assert.state(adapter != null, () -> "No reactive adapter found for " + result.getClass() + "!");
+
+			var flux = Flux.<Object> from(adapter.toPublisher(result))
+					.onErrorResume(it -> Mono.fromRunnable(() -> onFailure.accept(it))
+							.subscribeOn(Schedulers.boundedElastic())
+							.then(Mono.error(it)))
+					.concatWith(Mono.fromRunnable(onCompletion)
+							.subscribeOn(Schedulers.boundedElastic())
+							.then(Mono.empty()));
+
+			return adapter.fromPublisher(adapter.isMultiValue() ? flux : flux.singleOrEmpty());
+		}
+	}
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.support;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Functions to extract an ordering key from events of a particular type. Events that produce the same ordering key are
+ * delivered to asynchronous listeners in publication order by a {@link PartitionedEventDispatcher}. Typically, the
+ * ordering key is the identifier of the aggregate an event was published for.
+ *
+ * <pre class="code">
+ * EventOrderingKeys.of(OrderCompleted.class, OrderCompleted::orderId)
+ *     .and(OrderCancelled.class, OrderCancelled::orderId);
+ * </pre>
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ * @see PartitionedEventDispatcher
+ */
+public class EventOrderingKeys {
+
+	private final Map<Class<?>, Function<Object, ?>> extractors;
+	private final Map<Class<?>, Optional<Function<Object, ?>>> resolved;
+
+	private EventOrderingKeys(Map<Class<?>, Function<Object, ?>> extractors) {
+
+		this.extractors = extractors;
+		this.resolved = new ConcurrentReferenceHashMap<>();
+	}
+
+	/**
+	 * Returns an {@link EventOrderingKeys} instance that does not produce ordering keys for any event.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public static EventOrderingKeys none() {
+		return new EventOrderingKeys(Collections.emptyMap());
+	}
+
+	/**
+	 * Creates a new {@link EventOrderingKeys} instance using the given key extractor for events of the given type.
+	 *
+	 * @param <T> the type of the event.
+	 * @param type must not be {@literal null}.
+	 * @param extractor must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static <T> EventOrderingKeys of(Class<T> type, Function<? super T, ?> extractor) {
+		return none().and(type, extractor);
+	}
+
+	/**
+	 * Registers the given key extractor for events of the given type. Extractors registered for a supertype of the
+	 * published event are considered, too, in case no extractor was registered for the event type itself.
+	 *
+	 * @param <T> the type of the event.
+	 * @param type must not be {@literal null}.
+	 * @param extractor must not be {@literal null}.
+	 * @return a new {@link EventOrderingKeys} instance, will never be {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> EventOrderingKeys and(Class<T> type, Function<? super T, ?> extractor) {
+
+		Assert.notNull(type, "Event type must not be null!");
+		Assert.notNull(extractor, "Key extractor must not be null!");
+
+		var result = new LinkedHashMap<>(extractors);
+		result.put(type, (Function<Object, ?>) extractor);
+
+		return new EventOrderingKeys(Collections.unmodifiableMap(result));
+	}
+
+	/**
+	 * Returns the ordering key for the given event or {@literal null} if no key extractor is registered for it.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @return can be {@literal null}.
+	 */
+	public @Nullable Object getOrderingKey(Object event) {
+
+		Assert.notNull(event, "Event must not be null!");
+
+		return resolved.computeIfAbsent(event.getClass(), this::lookupExtractor)
+				.map(it -> it.apply(event))
+				.orElse(null);
+	}
+
+	/**
+	 * Returns whether any key extractors have been registered.
+	 *
+	 * @return whether any key extractors have been registered.
+	 */
+	public boolean isEmpty() {
+		return extractors.isEmpty();
+	}
+
+	private Optional<Function<Object, ?>> lookupExtractor(Class<?> type) {
+
+		var direct = extractors.get(type);
+
+		if (direct != null) {
+			return Optional.of(direct);
+		}
+
+		return extractors.entrySet().stream()
+				.filter(it -> it.getKey().isAssignableFrom(type))
+				.map(Map.Entry::getValue)
+				.findFirst();
+	}
+}
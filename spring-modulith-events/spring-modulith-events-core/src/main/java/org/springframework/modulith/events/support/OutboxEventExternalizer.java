@@ -26,14 +26,17 @@ import org.springframework.modulith.events.EventExternalizationConfiguration;
  * <p>
  * This handler is invoked by the outbox processor to externalize events that were previously recorded in the outbox
  * table. It uses the configured transport function to deliver events to their target destination (e.g., message broker,
- * email, SMS).
+ * email, SMS). Outbox implementations able to acknowledge records asynchronously should use
+ * {@link #handle(Object)}. {@link #externalizeBlocking(Object)} is only intended for the ones that require the
+ * externalization to have completed once their callback returns.
  *
  * @author Roland Beisel
  * @author Oliver Drotbohm
  * @since 2.1
  * @see EventExternalizationConfiguration
  */
-public class OutboxEventExternalizer extends TransportAwareEventExternalizer {
+public class OutboxEventExternalizer extends TransportAwareEventExternalizer
+		implements OutboxExternalizationHandler {
 
 	private final ApplicationEventPublisher events;
 
@@ -67,6 +70,15 @@ public class OutboxEventExternalizer extends TransportAwareEventExternalizer {
 		});
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.support.OutboxExternalizationHandler#handle(java.lang.Object)
+	 */
+	@Override
+	public CompletableFuture<?> handle(Object event) {
+		return externalize(event);
+	}
+
 	/**
 	 * Externalizes the given event in a blocking way.
 	 *
@@ -15,7 +15,12 @@
  */
 package org.springframework.modulith.events.support;
 
+import java.util.concurrent.CompletableFuture;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.system.JavaVersion;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.modulith.events.EventExternalizationConfiguration;
 import org.springframework.util.Assert;
 
@@ -27,10 +32,11 @@ import org.springframework.util.Assert;
  * @since 2.1
  * @soundtrack Homeland Theme - https://www.youtube.com/watch?v=R-LCNXS1f1E
  */
-public class OutboxEventExternalizerFactory {
+public class OutboxEventExternalizerFactory implements AutoCloseable {
 
 	private final EventExternalizationConfiguration configuration;
 	private final ApplicationEventPublisher publisher;
+	private final @Nullable SimpleAsyncTaskExecutor blockingExecutor;
 
 	/**
 	 * Creates a new {@link OutboxEventExternalizerFactory} for the given {@link EventExternalizationConfiguration} and
@@ -47,6 +53,7 @@ public class OutboxEventExternalizerFactory {
 
 		this.configuration = configuration;
 		this.publisher = publisher;
+		this.blockingExecutor = createBlockingExecutor();
 	}
 
 	/**
@@ -61,4 +68,52 @@ public class OutboxEventExternalizerFactory {
 
 		return new OutboxEventExternalizer(configuration, publisher, transport);
 	}
+
+	/**
+	 * Creates a {@link OutboxEventExternalizer} for the given {@link EventExternalizationTransport} that blocks until
+	 * the event has been handed to the target. On Java 21 and newer, the transport is invoked on a virtual thread, so
+	 * that {@link OutboxEventExternalizer#handle(Object)} returns a {@link CompletableFuture} right away instead of
+	 * blocking the thread processing the outbox.
+	 *
+	 * @param transport must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 2.2
+	 */
+	public OutboxEventExternalizer forBlockingTransport(EventExternalizationTransport transport) {
+
+		Assert.notNull(transport, "EventExternalizationTransport must not be null!");
+
+		var executor = blockingExecutor;
+
+		if (executor == null) {
+			return forTransport(transport);
+		}
+
+		return forTransport((payload, target) -> executor
+				.submitCompletable(() -> transport.externalize(payload, target).join()));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.AutoCloseable#close()
+	 */
+	@Override
+	public void close() {
+
+		if (blockingExecutor != null) {
+			blockingExecutor.close();
+		}
+	}
+
+	private static @Nullable SimpleAsyncTaskExecutor createBlockingExecutor() {
+
+		if (!JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE)) {
+			return null;
+		}
+
+		var executor = new SimpleAsyncTaskExecutor("modulith-outbox-");
+		executor.setVirtualThreads(true);
+
+		return executor;
+	}
 }
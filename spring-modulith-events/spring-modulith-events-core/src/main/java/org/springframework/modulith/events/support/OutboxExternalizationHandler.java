@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.support;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A non-blocking contract to externalize events processed by an outbox. Outbox implementations that are able to
+ * acknowledge an outbox record asynchronously should use this instead of waiting for the externalization to complete
+ * on the thread processing the outbox, so that the number of externalizations in flight is not bound to the number of
+ * threads processing the outbox.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ * @see OutboxEventExternalizer
+ */
+@FunctionalInterface
+public interface OutboxExternalizationHandler {
+
+	/**
+	 * Externalizes the given event.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @return a {@link CompletableFuture} completing once the target has acknowledged the event, or completing
+	 *         exceptionally if the externalization failed. The outbox record must only be acknowledged once the future
+	 *         completed successfully. Will never be {@literal null}.
+	 */
+	CompletableFuture<?> handle(Object event);
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.support;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.event.TransactionalApplicationListener.SynchronizationCallback;
+import org.springframework.util.Assert;
+
+/**
+ * An {@link AsyncTaskExecutor} that dispatches asynchronous event listener invocations to a fixed number of
+ * single-threaded lanes. Invocations for events that produce the same ordering key as defined by
+ * {@link EventOrderingKeys} are always executed on the same lane and thus in publication order. Invocations for events
+ * with different keys run in parallel on different lanes. Events without an ordering key are distributed across all
+ * lanes.
+ * <p>
+ * The ordering key is determined on the thread that triggers the listener invocation after the transaction commit. The
+ * dispatcher is registered as {@link SynchronizationCallback} with the transactional event listeners by
+ * {@link PersistentApplicationEventMulticaster} and exposes the ordering key of the event currently processed to
+ * {@link #execute(Runnable)}. To route an {@link org.springframework.modulith.events.ApplicationModuleListener} to the
+ * dispatcher, refer to it via its bean name:
+ *
+ * <pre class="code">
+ * &#64;ApplicationModuleListener(executor = PartitionedEventDispatcher.BEAN_NAME)
+ * void on(OrderCompleted event) { … }
+ * </pre>
+ *
+ * As the listener invocation is executed on the lane, the completion of the event publication is registered on the lane
+ * as well, so that a failing invocation does not block the subsequent ones for the same key.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ * @see EventOrderingKeys
+ */
+public class PartitionedEventDispatcher implements AsyncTaskExecutor, SynchronizationCallback, DisposableBean {
+
+	public static final String BEAN_NAME = "modulithPartitionedEventDispatcher";
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(PartitionedEventDispatcher.class);
+	private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(2);
+	private static final ThreadLocal<Object> CURRENT_KEY = new ThreadLocal<>();
+
+	private final EventOrderingKeys keys;
+	private final List<ExecutorService> lanes;
+	private final AtomicInteger next;
+
+	/**
+	 * Creates a new {@link PartitionedEventDispatcher} for the given {@link EventOrderingKeys} and number of lanes.
+	 *
+	 * @param keys must not be {@literal null}.
+	 * @param lanes must be greater than zero.
+	 */
+	public PartitionedEventDispatcher(EventOrderingKeys keys, int lanes) {
+
+		Assert.notNull(keys, "EventOrderingKeys must not be null!");
+		Assert.isTrue(lanes > 0, "Number of lanes must be greater than zero!");
+
+		this.keys = keys;
+		this.lanes = IntStream.range(0, lanes)
+				.mapToObj(it -> Executors.newSingleThreadExecutor(new CustomizableThreadFactory("modulith-lane-" + it + "-")))
+				.toList();
+		this.next = new AtomicInteger();
+	}
+
+	/**
+	 * Returns the number of lanes the dispatcher distributes invocations across.
+	 *
+	 * @return the number of lanes.
+	 */
+	public int getLaneCount() {
+		return lanes.size();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.core.task.TaskExecutor#execute(java.lang.Runnable)
+	 */
+	@Override
+	public void execute(Runnable task) {
+
+		Assert.notNull(task, "Task must not be null!");
+
+		getLane(CURRENT_KEY.get()).execute(task);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.core.task.AsyncTaskExecutor#submit(java.lang.Runnable)
+	 */
+	@Override
+	public Future<?> submit(Runnable task) {
+
+		Assert.notNull(task, "Task must not be null!");
+
+		return getLane(CURRENT_KEY.get()).submit(task);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.core.task.AsyncTaskExecutor#submit(java.util.concurrent.Callable)
+	 */
+	@Override
+	public <T> Future<T> submit(Callable<T> task) {
+
+		Assert.notNull(task, "Task must not be null!");
+
+		return getLane(CURRENT_KEY.get()).submit(task);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.transaction.event.TransactionalApplicationListener.SynchronizationCallback#preProcessEvent(org.springframework.context.ApplicationEvent)
+	 */
+	@Override
+	public void preProcessEvent(ApplicationEvent event) {
+
+		var key = keys.getOrderingKey(getPayload(event));
+
+		if (key != null) {
+			CURRENT_KEY.set(key);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.transaction.event.TransactionalApplicationListener.SynchronizationCallback#postProcessEvent(org.springframework.context.ApplicationEvent, java.lang.Throwable)
+	 */
+	@Override
+	public void postProcessEvent(ApplicationEvent event, @Nullable Throwable ex) {
+		CURRENT_KEY.remove();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() throws InterruptedException {
+
+		lanes.forEach(ExecutorService::shutdown);
+
+		var deadline = System.nanoTime() + SHUTDOWN_TIMEOUT.toNanos();
+
+		for (var lane : lanes) {
+
+			if (!lane.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+
+				LOGGER.warn("Lane did not terminate within {}. Pending listener invocations will be resubmitted.",
+						SHUTDOWN_TIMEOUT);
+
+				lane.shutdownNow();
+			}
+		}
+	}
+
+	/**
+	 * Runs the given callback with the ordering key of the given event exposed to {@link #execute(Runnable)}. Used for
+	 * listener invocations that are not triggered by a transaction synchronization, like resubmissions.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @param callback must not be {@literal null}.
+	 */
+	void doWithOrderingKey(ApplicationEvent event, Runnable callback) {
+
+		Assert.notNull(event, "Event must not be null!");
+		Assert.notNull(callback, "Callback must not be null!");
+
+		preProcessEvent(event);
+
+		try {
+			callback.run();
+		} finally {
+			postProcessEvent(event, null);
+		}
+	}
+
+	private ExecutorService getLane(@Nullable Object key) {
+
+		var index = key == null ? next.getAndIncrement() : key.hashCode();
+
+		return lanes.get(Math.floorMod(index, lanes.size()));
+	}
+
+	private static Object getPayload(ApplicationEvent event) {
+
+		return event instanceof PayloadApplicationEvent<?> payload
+				? payload.getPayload()
+				: event;
+	}
+}
@@ -22,6 +22,8 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -49,6 +51,7 @@ import org.springframework.modulith.events.core.ConditionalEventListener;
 import org.springframework.modulith.events.core.EventPublicationRegistry;
 import org.springframework.modulith.events.core.PublicationTargetIdentifier;
 import org.springframework.modulith.events.core.TargetEventPublication;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalApplicationListener;
 import org.springframework.transaction.event.TransactionalApplicationListenerMethodAdapter;
@@ -68,6 +71,7 @@ import org.springframework.util.StringUtils;
  *
  * @author Oliver Drotbohm
  * @see CompletionRegisteringAdvisor
+ * @see PartitionedEventDispatcher
  */
 public class PersistentApplicationEventMulticaster extends AbstractApplicationEventMulticaster
 		implements FailedEventPublications, IncompleteEventPublications, SmartInitializingSingleton {
@@ -80,6 +84,9 @@ public class PersistentApplicationEventMulticaster extends AbstractApplicationEv
 	private final Map<CacheKey, TransactionalEventListeners> cache = new ConcurrentReferenceHashMap<>();
 	private final Supplier<EventPublicationRegistry> registry;
 	private final Supplier<Environment> environment;
+	private final Supplier<@Nullable PartitionedEventDispatcher> dispatcher;
+	private final Map<TransactionalApplicationListener<?>, Boolean> partitionedListeners = new ConcurrentHashMap<>();
+	private final Set<TransactionalApplicationListener<?>> callbackListeners = ConcurrentHashMap.newKeySet();
 
 	/**
 	 * Creates a new {@link PersistentApplicationEventMulticaster} for the given {@link EventPublicationRegistry}.
@@ -89,12 +96,29 @@ public class PersistentApplicationEventMulticaster extends AbstractApplicationEv
 	 */
 	public PersistentApplicationEventMulticaster(Supplier<EventPublicationRegistry> registry,
 			Supplier<Environment> environment) {
+		this(registry, environment, () -> null);
+	}
+
+	/**
+	 * Creates a new {@link PersistentApplicationEventMulticaster} for the given {@link EventPublicationRegistry} and
+	 * {@link PartitionedEventDispatcher}.
+	 *
+	 * @param registry must not be {@literal null}.
+	 * @param environment must not be {@literal null}.
+	 * @param dispatcher must not be {@literal null}, but may supply {@literal null} in case no partitioned delivery is
+	 *          configured.
+	 * @since 2.2
+	 */
+	public PersistentApplicationEventMulticaster(Supplier<EventPublicationRegistry> registry,
+			Supplier<Environment> environment, Supplier<@Nullable PartitionedEventDispatcher> dispatcher) {
 
 		Assert.notNull(registry, "EventPublicationRegistry must not be null!");
 		Assert.notNull(environment, "Environment must not be null!");
+		Assert.notNull(dispatcher, "PartitionedEventDispatcher supplier must not be null!");
 
 		this.registry = registry;
 		this.environment = environment;
+		this.dispatcher = dispatcher;
 	}
 
 	/*
@@ -133,12 +157,14 @@ public class PersistentApplicationEventMulticaster extends AbstractApplicationEv
 		}
 
 		// From the candidates find the transactional ones and cache them by source and target type
-		cache.computeIfAbsent(new CacheKey(type, getSourceType(event)),
+		var transactionalListeners = cache.computeIfAbsent(new CacheKey(type, getSourceType(event)),
 				__ -> new TransactionalEventListeners(candidates, environment))
 
 				// Make sure we honor the by-event instance evaluated conditions
-				.filter(matchingListeners::contains)
-				.ifPresent(stream -> storePublications(stream, eventToPersist));
+				.filter(matchingListeners::contains);
+
+		transactionalListeners.ifPresent(stream -> storePublications(stream, event, eventToPersist));
+		registerPartitionedDispatch(transactionalListeners);
 
 		for (ApplicationListener listener : matchingListeners) {
 			listener.onApplicationEvent(event);
@@ -226,21 +252,77 @@ public class PersistentApplicationEventMulticaster extends AbstractApplicationEv
 		registry.get().processFailedPublications(options, this::invokeTargetListener);
 	}
 
-	private static ApplicationListener<ApplicationEvent> executeListenerWithCompletion(EventPublication publication,
+	private ApplicationListener<ApplicationEvent> executeListenerWithCompletion(EventPublication publication,
 			TransactionalApplicationListener<ApplicationEvent> listener) {
 
-		listener.processEvent(publication.getApplicationEvent());
+		var event = publication.getApplicationEvent();
+		var dispatcher = this.dispatcher.get();
+
+		if (dispatcher == null || !isPartitioned(listener)) {
+			listener.processEvent(event);
+		} else {
+			dispatcher.doWithOrderingKey(event, () -> listener.processEvent(event));
+		}
 
 		return listener;
 	}
 
+	/**
+	 * Registers the {@link PartitionedEventDispatcher} as {@link TransactionalApplicationListener.SynchronizationCallback}
+	 * with those of the given listeners that are invoked via the dispatcher, so that the ordering key of the event is
+	 * available when the listener invocation is dispatched after the transaction commit.
+	 *
+	 * @param listeners must not be {@literal null}.
+	 */
+	private void registerPartitionedDispatch(TransactionalEventListeners listeners) {
+
+		var dispatcher = this.dispatcher.get();
+
+		if (dispatcher == null) {
+			return;
+		}
+
+		listeners.forEach(it -> {
+			if (isPartitioned(it) && callbackListeners.add(it)) {
+				it.addCallback(dispatcher);
+			}
+		});
+	}
+
+	/**
+	 * Returns whether the given listener is invoked asynchronously via the {@link PartitionedEventDispatcher}, i.e.
+	 * whether its method is annotated with {@code @Async(PartitionedEventDispatcher.BEAN_NAME)} directly or via
+	 * {@link org.springframework.modulith.events.ApplicationModuleListener#executor()}.
+	 *
+	 * @param listener must not be {@literal null}.
+	 */
+	private boolean isPartitioned(TransactionalApplicationListener<?> listener) {
+
+		return partitionedListeners.computeIfAbsent(listener, it -> {
+
+			var method = TransactionalEventListeners.getTargetMethod(it);
+
+			if (method == null) {
+				return false;
+			}
+
+			var async = AnnotatedElementUtils.findMergedAnnotation(method, Async.class);
+
+			if (async == null) {
+				async = AnnotatedElementUtils.findMergedAnnotation(method.getDeclaringClass(), Async.class);
+			}
+
+			return async != null && PartitionedEventDispatcher.BEAN_NAME.equals(async.value());
+		});
+	}
+
 	private void storePublications(Stream<TransactionalApplicationListener<ApplicationEvent>> listeners,
-			Object eventToPersist) {
+			ApplicationEvent event, Object eventToPersist) {
 
 		var identifiers = listeners.map(TransactionalApplicationListener::getListenerId) //
 				.map(PublicationTargetIdentifier::of);
 
-		registry.get().store(eventToPersist, identifiers);
+		registry.get().store(event, eventToPersist, identifiers);
 	}
 
 	private static Object getEventToPersist(ApplicationEvent event) {
@@ -401,6 +483,20 @@ public class PersistentApplicationEventMulticaster extends AbstractApplicationEv
 					.ifPresent(callback);
 		}
 
+		/**
+		 * Returns the method backing the given listener.
+		 *
+		 * @param listener must not be {@literal null}.
+		 * @return {@literal null} in case the listener is not backed by a method.
+		 * @since 2.2
+		 */
+		static @Nullable Method getTargetMethod(TransactionalApplicationListener<?> listener) {
+
+			return listener instanceof TransactionalApplicationListenerMethodAdapter
+					? (Method) ReflectionUtils.invokeMethod(GET_TARGET_METHOD, listener)
+					: null;
+		}
+
 		/**
 		 * Returns a {@link Predicate} filtering the listeners by the trigger annotation configured in
 		 * {@code spring.modulith.events.annotation}.
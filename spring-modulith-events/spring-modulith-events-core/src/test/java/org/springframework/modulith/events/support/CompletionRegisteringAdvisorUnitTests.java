@@ -19,6 +19,9 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
 
@@ -97,6 +100,30 @@ class CompletionRegisteringAdvisorUnitTests {
 		assertThat(future.get()).isNotNull();
 	}
 
+	@Test
+	void marksPublicationCompletedOnceMonoCompletes() {
+
+		var result = createProxyFor(bean).reactiveWithResult(false);
+
+		verify(registry, never()).markCompleted(any(), any());
+
+		StepVerifier.create(result).expectNextCount(1).verifyComplete();
+
+		verify(registry).markCompleted(any(), any());
+		verify(registry, never()).markFailed(any(), any());
+	}
+
+	@Test
+	void marksPublicationFailedIfMonoErrors() {
+
+		var result = createProxyFor(bean).reactiveWithResult(true);
+
+		StepVerifier.create(result).verifyError(IllegalArgumentException.class);
+
+		verify(registry).markFailed(any(), any());
+		verify(registry, never()).markCompleted(any(), any());
+	}
+
 	private void assertCompletion(BiConsumer<SomeEventListener, Object> consumer) {
 		assertCompletion(consumer, true);
 	}
@@ -153,5 +180,13 @@ class CompletionRegisteringAdvisorUnitTests {
 								: CompletableFuture.completedFuture(it);
 					});
 		}
+
+		@TransactionalEventListener
+		Mono<?> reactiveWithResult(boolean fail) {
+
+			return fail
+					? Mono.error(new IllegalArgumentException())
+					: Mono.just(new Object());
+		}
 	}
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.modulith.events.EventExternalizationConfiguration.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.modulith.events.EventExternalized;
+import org.springframework.modulith.events.Externalized;
+
+/**
+ * Unit tests for {@link OutboxEventExternalizerFactory}.
+ *
+ * @author Oliver Drotbohm
+ */
+class OutboxEventExternalizerFactoryUnitTests {
+
+	ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+	OutboxEventExternalizerFactory factory = new OutboxEventExternalizerFactory(externalizing()
+			.select(annotatedAsExternalized())
+			.build(), publisher);
+
+	@AfterEach
+	void tearDown() {
+		factory.close();
+	}
+
+	@Test
+	void handleDoesNotWaitForTransportToComplete() throws Exception {
+
+		var future = new CompletableFuture<Object>();
+		var externalizer = factory.forTransport((payload, target) -> future);
+
+		var result = externalizer.handle(new Sample());
+
+		assertThat(result).isNotDone();
+		verify(publisher, never()).publishEvent(any(Object.class));
+
+		future.complete("result");
+
+		assertThat(result).succeedsWithin(1, TimeUnit.SECONDS);
+		verify(publisher).publishEvent(any(EventExternalized.class));
+	}
+
+	@Test
+	void handleReportsTransportFailure() {
+
+		var externalizer = factory.forTransport((payload, target) -> {
+			throw new IllegalStateException("Broker unavailable");
+		});
+
+		assertThat(externalizer.handle(new Sample())).failsWithin(1, TimeUnit.SECONDS);
+		assertThatRuntimeException()
+				.isThrownBy(() -> externalizer.externalizeBlocking(new Sample()))
+				.withCauseInstanceOf(IllegalStateException.class);
+		verify(publisher, never()).publishEvent(any(Object.class));
+	}
+
+	@Test
+	void externalizesViaBlockingTransport() throws Exception {
+
+		var latch = new CountDownLatch(1);
+		var externalizer = factory.forBlockingTransport((payload, target) -> {
+
+			try {
+				latch.await(1, TimeUnit.SECONDS);
+			} catch (InterruptedException o_O) {
+				Thread.currentThread().interrupt();
+			}
+
+			return CompletableFuture.completedFuture(null);
+		});
+
+		var result = externalizer.handle(new Sample());
+
+		latch.countDown();
+
+		assertThat(result).succeedsWithin(2, TimeUnit.SECONDS);
+		verify(publisher).publishEvent(any(EventExternalized.class));
+	}
+
+	@Test
+	void reportsFailureOfBlockingTransport() {
+
+		var externalizer = factory.forBlockingTransport((payload, target) -> {
+			throw new IllegalStateException("Broker unavailable");
+		});
+
+		assertThatRuntimeException()
+				.isThrownBy(() -> externalizer.externalizeBlocking(new Sample()))
+				.withCauseInstanceOf(IllegalStateException.class);
+		verify(publisher, never()).publishEvent(any(Object.class));
+	}
+
+	@Externalized("target")
+	static class Sample {}
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.modulith.events.config.EnablePersistentDomainEvents;
+import org.springframework.modulith.events.config.StalenessProperties;
+import org.springframework.modulith.events.core.InMemoryEventPublicationRepository;
+import org.springframework.modulith.events.core.Staleness;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * Integration tests for {@link PartitionedEventDispatcher} used via {@link PersistentApplicationEventMulticaster}.
+ *
+ * @author Oliver Drotbohm
+ */
+@ExtendWith(SpringExtension.class)
+class PartitionedEventDispatcherIntegrationTests {
+
+	static final int EVENTS_PER_KEY = 20;
+	static final List<String> KEYS = List.of("A", "B", "C", "D");
+
+	@Configuration
+	@EnableAsync
+	@EnableTransactionManagement
+	@EnablePersistentDomainEvents
+	static class TestConfiguration {
+
+		@Bean
+		InMemoryEventPublicationRepository repository() {
+			return new InMemoryEventPublicationRepository();
+		}
+
+		@Bean
+		Staleness staleness() {
+			return StalenessProperties.DEFAULTS;
+		}
+
+		@Bean
+		PlatformTransactionManager transactionManager() {
+			return new NoOpTransactionManager();
+		}
+
+		@Bean(PartitionedEventDispatcher.BEAN_NAME)
+		PartitionedEventDispatcher dispatcher() {
+			return new PartitionedEventDispatcher(EventOrderingKeys.of(KeyedEvent.class, KeyedEvent::key), 4);
+		}
+
+		@Bean
+		KeyedEventListener listener() {
+			return new KeyedEventListener();
+		}
+
+		@Bean
+		KeyedEventPublisher publisher(ApplicationEventPublisher publisher) {
+			return new KeyedEventPublisher(publisher);
+		}
+	}
+
+	@Autowired KeyedEventPublisher publisher;
+	@Autowired KeyedEventListener listener;
+
+	@Test
+	void deliversEventsWithSameKeyInPublicationOrder() throws Exception {
+
+		IntStream.range(0, EVENTS_PER_KEY)
+				.forEach(sequence -> KEYS.forEach(key -> publisher.publish(new KeyedEvent(key, sequence))));
+
+		assertThat(listener.latch.await(10, TimeUnit.SECONDS)).isTrue();
+
+		var expected = IntStream.range(0, EVENTS_PER_KEY).boxed().toList();
+
+		assertThat(listener.received).containsOnlyKeys(KEYS);
+		assertThat(listener.received.values()).allSatisfy(it -> assertThat(it).containsExactlyElementsOf(expected));
+	}
+
+	record KeyedEvent(String key, int sequence) {}
+
+	static class KeyedEventPublisher {
+
+		private final ApplicationEventPublisher publisher;
+
+		KeyedEventPublisher(ApplicationEventPublisher publisher) {
+			this.publisher = publisher;
+		}
+
+		@Transactional
+		public void publish(KeyedEvent event) {
+			publisher.publishEvent(event);
+		}
+	}
+
+	static class KeyedEventListener {
+
+		final Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+		final CountDownLatch latch = new CountDownLatch(EVENTS_PER_KEY * KEYS.size());
+
+		@ApplicationModuleListener(executor = PartitionedEventDispatcher.BEAN_NAME)
+		void on(KeyedEvent event) throws InterruptedException {
+
+			// Randomize processing time to provoke reordering in case of concurrent invocations for the same key
+			Thread.sleep(ThreadLocalRandom.current().nextInt(5));
+
+			received.computeIfAbsent(event.key(), __ -> Collections.synchronizedList(new ArrayList<>()))
+					.add(event.sequence());
+
+			latch.countDown();
+		}
+	}
+
+	/**
+	 * A {@link PlatformTransactionManager} not backed by any resource but supporting transaction synchronization.
+	 */
+	@SuppressWarnings("serial")
+	static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+		@Override
+		protected Object doGetTransaction() {
+			return new Object();
+		}
+
+		@Override
+		protected void doBegin(Object transaction, TransactionDefinition definition) {}
+
+		@Override
+		protected void doCommit(DefaultTransactionStatus status) {}
+
+		@Override
+		protected void doRollback(DefaultTransactionStatus status) {}
+	}
+}
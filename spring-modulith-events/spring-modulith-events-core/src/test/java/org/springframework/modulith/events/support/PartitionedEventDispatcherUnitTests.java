@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.PayloadApplicationEvent;
+
+/**
+ * Unit tests for {@link PartitionedEventDispatcher} and {@link EventOrderingKeys}.
+ *
+ * @author Oliver Drotbohm
+ */
+class PartitionedEventDispatcherUnitTests {
+
+	EventOrderingKeys keys = EventOrderingKeys.of(SampleEvent.class, SampleEvent::aggregateId);
+	PartitionedEventDispatcher dispatcher = new PartitionedEventDispatcher(keys, 4);
+
+	@AfterEach
+	void tearDown() throws Exception {
+		dispatcher.destroy();
+	}
+
+	@Test
+	void resolvesOrderingKeyForRegisteredAndSubtypes() {
+
+		var keys = EventOrderingKeys.of(Object.class, Object::toString)
+				.and(SampleEvent.class, SampleEvent::aggregateId);
+
+		assertThat(keys.getOrderingKey(new SampleEvent("first", 0))).isEqualTo("first");
+		assertThat(keys.getOrderingKey("some")).isEqualTo("some");
+		assertThat(EventOrderingKeys.none().getOrderingKey(new SampleEvent("first", 0))).isNull();
+	}
+
+	@Test
+	void executesInvocationsForTheSameKeyInPublicationOrder() throws Exception {
+
+		var invocations = new ConcurrentHashMap<String, List<Integer>>();
+		var latch = new CountDownLatch(400);
+
+		for (int i = 0; i < 100; i++) {
+			for (var aggregate : List.of("a", "b", "c", "d")) {
+
+				var event = new SampleEvent(aggregate, i);
+
+				dispatcher.doWithOrderingKey(new PayloadApplicationEvent<>(this, event), () -> {
+					dispatcher.execute(() -> {
+						invocations.computeIfAbsent(event.aggregateId(), __ -> new CopyOnWriteArrayList<>())
+								.add(event.sequence());
+						latch.countDown();
+					});
+				});
+			}
+		}
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+
+		assertThat(invocations.values()).allSatisfy(it -> {
+			assertThat(it).hasSize(100).isSorted();
+		});
+	}
+
+	@Test
+	void dispatchesSameKeyToSameLane() throws Exception {
+
+		var threads = new ConcurrentHashMap<String, String>();
+		var latch = new CountDownLatch(20);
+
+		for (int i = 0; i < 20; i++) {
+
+			var event = new SampleEvent("key", i);
+
+			dispatcher.doWithOrderingKey(new PayloadApplicationEvent<>(this, event), () -> {
+				dispatcher.execute(() -> {
+					threads.putIfAbsent(Thread.currentThread().getName(), event.aggregateId());
+					latch.countDown();
+				});
+			});
+		}
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(threads).hasSize(1);
+	}
+
+	@Test
+	void distributesEventsWithoutKeyAcrossLanes() throws Exception {
+
+		var threads = new ConcurrentHashMap<String, Boolean>();
+		var latch = new CountDownLatch(8);
+
+		for (int i = 0; i < 8; i++) {
+			dispatcher.execute(() -> {
+				threads.put(Thread.currentThread().getName(), true);
+				latch.countDown();
+			});
+		}
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(threads).hasSize(dispatcher.getLaneCount());
+	}
+
+	@Test
+	void clearsOrderingKeyAfterProcessing() throws Exception {
+
+		var event = new PayloadApplicationEvent<>(this, new SampleEvent("key", 0));
+		var threads = new CopyOnWriteArrayList<String>();
+		var latch = new CountDownLatch(8);
+
+		dispatcher.doWithOrderingKey(event, () -> {});
+
+		for (int i = 0; i < 8; i++) {
+			dispatcher.execute(() -> {
+				threads.add(Thread.currentThread().getName());
+				latch.countDown();
+			});
+		}
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(threads.stream().distinct()).hasSize(dispatcher.getLaneCount());
+	}
+
+	record SampleEvent(String aggregateId, int sequence) {}
+}
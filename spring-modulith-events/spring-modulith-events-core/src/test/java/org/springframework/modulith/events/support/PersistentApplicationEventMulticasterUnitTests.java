@@ -112,7 +112,7 @@ class PersistentApplicationEventMulticasterUnitTests {
 
 			@SuppressWarnings("unchecked")
 			ArgumentCaptor<Stream<PublicationTargetIdentifier>> captor = ArgumentCaptor.forClass(Stream.class);
-			verify(registry, times(2)).store(any(), captor.capture());
+			verify(registry, times(2)).store(any(), any(), captor.capture());
 
 			var allValues = captor.getAllValues();
 
@@ -18,6 +18,7 @@ package org.springframework.modulith.events.jdbc;
 import org.jspecify.annotations.Nullable;
 import org.springframework.aot.hint.RuntimeHints;
 import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.modulith.events.sql.DatabaseType;
 
 /**
  * AOT resource hints for the database schemas.
@@ -39,6 +39,7 @@ import org.springframework.modulith.events.core.EventPublicationRepository;
 import org.springframework.modulith.events.core.EventSerializer;
 import org.springframework.modulith.events.core.PublicationTargetIdentifier;
 import org.springframework.modulith.events.core.TargetEventPublication;
+import org.springframework.modulith.events.sql.DatabaseType;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -168,24 +169,30 @@ class JdbcEventPublicationRepositoryV2 implements EventPublicationRepository, Be
 			""";
 
 	// Only copy if no entry in target table
-	private static final String SQL_STATEMENT_COPY_TO_ARCHIVE_BY_ID = """
-			INSERT INTO %s (ID, LISTENER_ID, EVENT_TYPE, SERIALIZED_EVENT, PUBLICATION_DATE, STATUS, COMPLETION_DATE, COMPLETION_ATTEMPTS, LAST_RESUBMISSION_DATE)
+	private static final String SQL_STATEMENT_COPY_TO_ARCHIVE = """
+			INSERT INTO %s (%s)
 			SELECT ID, LISTENER_ID, EVENT_TYPE, SERIALIZED_EVENT, PUBLICATION_DATE, 'COMPLETED', ?, COMPLETION_ATTEMPTS, LAST_RESUBMISSION_DATE
 			 	FROM %s
-			 	WHERE ID = ?
+			 	WHERE %s
 			 	  AND NOT EXISTS (SELECT 1 FROM %s WHERE ID = EVENT_PUBLICATION.ID)
 			""";
 
-	// Only copy if no entry in target table
-	private static final String SQL_STATEMENT_COPY_TO_ARCHIVE_BY_EVENT_AND_LISTENER_ID = """
-			INSERT INTO %s (ID, LISTENER_ID, EVENT_TYPE, SERIALIZED_EVENT, PUBLICATION_DATE, STATUS, COMPLETION_DATE, COMPLETION_ATTEMPTS, LAST_RESUBMISSION_DATE)
-			SELECT ID, LISTENER_ID, EVENT_TYPE, SERIALIZED_EVENT, PUBLICATION_DATE, 'COMPLETED', ?, COMPLETION_ATTEMPTS, LAST_RESUBMISSION_DATE
-			 	FROM %s
-			 	WHERE LISTENER_ID = ?
-				  AND SERIALIZED_EVENT = ?
-				  AND NOT EXISTS (SELECT 1 FROM %s WHERE ID = EVENT_PUBLICATION.ID)
+	private static final String SQL_STATEMENT_DELETE_RETURNING = """
+			DELETE FROM %s
+			WHERE %s
+			RETURNING ID, LISTENER_ID, EVENT_TYPE, SERIALIZED_EVENT, PUBLICATION_DATE, COMPLETION_ATTEMPTS, LAST_RESUBMISSION_DATE
 			""";
 
+	// Only skip rows already archived, but not other errors like INSERT IGNORE would
+	private static final String SQL_STATEMENT_INSERT_INTO_ARCHIVE = """
+			INSERT INTO %s (%s)
+			VALUES (?, ?, ?, ?, ?, 'COMPLETED', ?, ?, ?)
+			ON DUPLICATE KEY UPDATE ID = ID
+			""";
+
+	private static final String CONDITION_BY_ID = "ID = ?";
+	private static final String CONDITION_BY_EVENT_AND_LISTENER_ID = "LISTENER_ID = ? AND SERIALIZED_EVENT = ?";
+
 	private static final int DELETE_BATCH_SIZE = 100;
 
 	private final JdbcOperations operations;
@@ -206,11 +213,11 @@ class JdbcEventPublicationRepositoryV2 implements EventPublicationRepository, Be
 			sqlStatementDeleteById,
 			sqlStatementDeleteCompleted,
 			sqlStatementDeleteCompletedBefore,
-			sqlStatementCopyToArchive,
-			sqlStatementCopyToArchiveByEventAndListenerId,
 			sqlStatementMarkProcessing,
 			sqlStatementMarkFailed;
 
+	private final ArchiveStatements archiveById, archiveByEventAndListenerId;
+
 	/**
 	 * Creates a new {@link JdbcEventPublicationRepository} for the given {@link JdbcOperations}, {@link EventSerializer},
 	 * {@link DatabaseType} and {@link JdbcConfigurationProperties}.
@@ -247,11 +254,8 @@ class JdbcEventPublicationRepositoryV2 implements EventPublicationRepository, Be
 		this.sqlStatementDeleteById = asOneLine(SQL_STATEMENT_DELETE_BY_ID.formatted(table));
 		this.sqlStatementDeleteCompleted = asOneLine(SQL_STATEMENT_DELETE_COMPLETED.formatted(completedTable));
 		this.sqlStatementDeleteCompletedBefore = asOneLine(SQL_STATEMENT_DELETE_COMPLETED_BEFORE.formatted(completedTable));
-		this.sqlStatementCopyToArchive = asOneLine(SQL_STATEMENT_COPY_TO_ARCHIVE_BY_ID.formatted(completedTable, table,
-				completedTable));
-		this.sqlStatementCopyToArchiveByEventAndListenerId = asOneLine(
-				SQL_STATEMENT_COPY_TO_ARCHIVE_BY_EVENT_AND_LISTENER_ID
-						.formatted(completedTable, table, completedTable));
+		this.archiveById = new ArchiveStatements(settings, CONDITION_BY_ID);
+		this.archiveByEventAndListenerId = new ArchiveStatements(settings, CONDITION_BY_EVENT_AND_LISTENER_ID);
 		this.sqlStatementMarkProcessing = getUpdateSql(table, Status.PROCESSING);
 		this.sqlStatementMarkFailed = getUpdateSql(table, Status.FAILED);
 	}
@@ -313,11 +317,7 @@ class JdbcEventPublicationRepositoryV2 implements EventPublicationRepository, Be
 
 		} else if (settings.isArchiveCompletion()) {
 
-			operations.update(sqlStatementCopyToArchiveByEventAndListenerId, //
-					Timestamp.from(completionDate), //
-					targetIdentifier, //
-					serializedEvent);
-			operations.update(sqlStatementDeleteByEventAndListenerId, targetIdentifier, serializedEvent);
+			archive(archiveByEventAndListenerId, Timestamp.from(completionDate), targetIdentifier, serializedEvent);
 
 		} else {
 
@@ -342,14 +342,44 @@ class JdbcEventPublicationRepositoryV2 implements EventPublicationRepository, Be
 			operations.update(sqlStatementDeleteById, databaseId);
 
 		} else if (settings.isArchiveCompletion()) {
-			operations.update(sqlStatementCopyToArchive, timestamp, databaseId);
-			operations.update(sqlStatementDeleteById, databaseId);
+			archive(archiveById, timestamp, databaseId);
 
 		} else {
 			operations.update(sqlStatementUpdateById, timestamp, databaseId);
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#markCompleted(java.util.List, java.time.Instant)
+	 */
+	@Override
+	public void markCompleted(List<UUID> identifiers, Instant completionDate) {
+
+		Assert.notNull(identifiers, "Identifiers must not be null!");
+		Assert.notNull(completionDate, "Instant must not be null!");
+
+		if (settings.isDeleteCompletion()) {
+			deletePublications(identifiers);
+			return;
+		}
+
+		if (settings.isUpdateCompletion()) {
+			identifiers.forEach(it -> markCompleted(it, completionDate));
+			return;
+		}
+
+		var timestamp = Timestamp.from(completionDate);
+		var dbIdentifiers = identifiers.stream().map(this::uuidToDatabase).toList();
+
+		batch(dbIdentifiers, DELETE_BATCH_SIZE).forEach(it -> {
+
+			var statements = new ArchiveStatements(settings, "ID IN " + toParameterPlaceholders(it.length));
+
+			archive(statements, timestamp, it);
+		});
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.modulith.events.core.EventPublicationRepository#markFailed(java.util.UUID)
@@ -552,6 +582,49 @@ class JdbcEventPublicationRepositoryV2 implements EventPublicationRepository, Be
 		return result == null ? Collections.emptyList() : result;
 	}
 
+	/**
+	 * Moves the publications selected by the given {@link ArchiveStatements} into the archive table. Uses a single
+	 * statement if the database supports that, {@code DELETE … RETURNING} in combination with a batch insert of the
+	 * returned rows, or a copy followed by a delete as fallback.
+	 *
+	 * @param statements must not be {@literal null}.
+	 * @param completionDate must not be {@literal null}.
+	 * @param conditionArguments the arguments for the condition of the given {@link ArchiveStatements}.
+	 */
+	private void archive(ArchiveStatements statements, Timestamp completionDate, Object... conditionArguments) {
+
+		var arguments = new Object[conditionArguments.length + 1];
+		arguments[0] = completionDate;
+		System.arraycopy(conditionArguments, 0, arguments, 1, conditionArguments.length);
+
+		if (statements.move != null) {
+			operations.update(statements.move, arguments);
+			return;
+		}
+
+		if (statements.deleteReturning != null) {
+
+			var rows = operations.query(statements.deleteReturning, (rs, __) -> new Object[] {
+					rs.getObject("ID"),
+					rs.getString("LISTENER_ID"),
+					rs.getString("EVENT_TYPE"),
+					rs.getString("SERIALIZED_EVENT"),
+					rs.getTimestamp("PUBLICATION_DATE"),
+					completionDate,
+					rs.getObject("COMPLETION_ATTEMPTS"),
+					rs.getTimestamp("LAST_RESUBMISSION_DATE") }, conditionArguments);
+
+			if (!rows.isEmpty()) {
+				operations.batchUpdate(statements.insert, rows);
+			}
+
+			return;
+		}
+
+		operations.update(statements.copy, arguments);
+		operations.update(statements.delete, conditionArguments);
+	}
+
 	private String serializeEvent(Object event) {
 		return serializer.serialize(event).toString();
 	}
@@ -661,6 +734,45 @@ class JdbcEventPublicationRepositoryV2 implements EventPublicationRepository, Be
 				.trim();
 	}
 
+	/**
+	 * The statements to move publications matching a particular condition into the archive table, depending on the
+	 * capabilities of the {@link DatabaseType} in use.
+	 *
+	 * @author Oliver Drotbohm
+	 * @since 2.2
+	 */
+	private static class ArchiveStatements {
+
+		private final @Nullable String move, deleteReturning, insert;
+		private final String copy, delete;
+
+		/**
+		 * Creates a new {@link ArchiveStatements} for the given {@link JdbcRepositorySettings} and condition.
+		 *
+		 * @param settings must not be {@literal null}.
+		 * @param condition must not be {@literal null} or empty.
+		 */
+		ArchiveStatements(JdbcRepositorySettings settings, String condition) {
+
+			var databaseType = settings.getDatabaseType();
+			var table = settings.getTable();
+			var archiveTable = settings.getArchiveTable();
+			var move = databaseType.getArchiveMoveSql(table, archiveTable, condition, "?");
+			var deleteReturning = databaseType.supportsDeleteReturning();
+
+			this.move = move == null ? null : asOneLine(move);
+			this.deleteReturning = deleteReturning
+					? asOneLine(SQL_STATEMENT_DELETE_RETURNING.formatted(table, condition))
+					: null;
+			this.insert = deleteReturning
+					? asOneLine(SQL_STATEMENT_INSERT_INTO_ARCHIVE.formatted(archiveTable, DatabaseType.ARCHIVE_COLUMNS))
+					: null;
+			this.copy = asOneLine(SQL_STATEMENT_COPY_TO_ARCHIVE.formatted(archiveTable, DatabaseType.ARCHIVE_COLUMNS, table,
+					condition, archiveTable));
+			this.delete = asOneLine("DELETE FROM %s WHERE %s".formatted(table, condition));
+		}
+	}
+
 	private static class JdbcEventPublication implements TargetEventPublication {
 
 		private final UUID id;
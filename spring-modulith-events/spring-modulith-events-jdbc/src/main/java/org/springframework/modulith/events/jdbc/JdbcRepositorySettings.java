@@ -21,6 +21,7 @@ import java.util.function.Function;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.core.io.Resource;
+import org.springframework.modulith.events.sql.DatabaseType;
 import org.springframework.modulith.events.support.CompletionMode;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
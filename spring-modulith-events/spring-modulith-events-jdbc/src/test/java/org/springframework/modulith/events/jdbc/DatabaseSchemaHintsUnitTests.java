@@ -21,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.aot.hint.ResourcePatternHint;
 import org.springframework.aot.hint.ResourcePatternHints;
 import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.modulith.events.sql.DatabaseType;
 
 /**
  * Unit tests for {@link DatabaseSchemaHints}.
@@ -26,6 +26,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.modulith.events.sql.DatabaseType;
 import org.springframework.modulith.events.support.CompletionMode;
 
 /**
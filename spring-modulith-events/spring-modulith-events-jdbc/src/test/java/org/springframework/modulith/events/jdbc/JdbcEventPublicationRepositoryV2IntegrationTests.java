@@ -47,6 +47,7 @@ import org.springframework.modulith.events.core.EventPublicationRepository.Faile
 import org.springframework.modulith.events.core.EventSerializer;
 import org.springframework.modulith.events.core.PublicationTargetIdentifier;
 import org.springframework.modulith.events.core.TargetEventPublication;
+import org.springframework.modulith.events.sql.DatabaseType;
 import org.springframework.modulith.events.support.CompletionMode;
 import org.springframework.modulith.testapp.TestApplication;
 import org.springframework.test.context.ActiveProfiles;
@@ -424,6 +425,60 @@ class JdbcEventPublicationRepositoryV2IntegrationTests {
 			}
 		}
 
+		@Test
+		void marksPublicationsAsCompletedInBatch() {
+
+			var first = createPublication(new TestEvent("first"));
+			var second = createPublication(new TestEvent("second"));
+
+			repository.markCompleted(List.of(first.getIdentifier(), second.getIdentifier()), Instant.now());
+
+			assertThat(repository.findIncompletePublications()).isEmpty();
+
+			if (properties.isDeleteCompletion()) {
+
+				assertThat(repository.findCompletedPublications()).isEmpty();
+
+			} else {
+
+				assertThat(repository.findCompletedPublications())
+						.extracting(TargetEventPublication::getIdentifier)
+						.containsExactlyInAnyOrder(first.getIdentifier(), second.getIdentifier());
+			}
+
+			if (properties.isArchiveCompletion()) {
+				assertThat(operations.queryForObject("SELECT COUNT(*) FROM " + archiveTable(), int.class)).isEqualTo(2);
+				assertThat(operations.queryForObject("SELECT COUNT(*) FROM " + table(), int.class)).isZero();
+			}
+		}
+
+		@Test
+		void skipsArchivingPublicationAlreadyContainedInArchive() {
+
+			var publication = createPublication(new TestEvent("first"));
+
+			if (properties.isArchiveCompletion()) {
+
+				// Simulate a previous, partially applied completion
+				var sql = """
+						INSERT INTO %s (%s)
+						SELECT ID, LISTENER_ID, EVENT_TYPE, SERIALIZED_EVENT, PUBLICATION_DATE, 'COMPLETED', PUBLICATION_DATE, COMPLETION_ATTEMPTS, LAST_RESUBMISSION_DATE
+							FROM %s
+						""";
+
+				operations.update(sql.formatted(archiveTable(), DatabaseType.ARCHIVE_COLUMNS, table()));
+			}
+
+			repository.markCompleted(publication.getIdentifier(), Instant.now());
+
+			assertThat(repository.findIncompletePublications()).isEmpty();
+
+			if (properties.isArchiveCompletion()) {
+				assertThat(operations.queryForObject("SELECT COUNT(*) FROM " + archiveTable(), int.class)).isOne();
+				assertThat(operations.queryForObject("SELECT COUNT(*) FROM " + table(), int.class)).isZero();
+			}
+		}
+
 		@Test // GH-753
 		void returnsSameEventInstanceFromPublication() {
 
@@ -41,6 +41,7 @@ import org.springframework.modulith.events.support.EventExternalizationTransport
 import org.springframework.modulith.events.support.EventExternalizerModuleListener;
 import org.springframework.modulith.events.support.OutboxEventExternalizer;
 import org.springframework.modulith.events.support.OutboxEventExternalizerFactory;
+import org.springframework.modulith.events.support.OutboxExternalizationHandler;
 
 /**
  * Auto-configuration to set up a {@link org.springframework.modulith.events.support.DelegatingEventExternalizer} to
@@ -79,7 +80,12 @@ class JmsEventExternalizerConfiguration {
 		JmsOutboxConfiguration(JmsOperations operations, EventSerializer serializer, BeanFactory beanFactory,
 				OutboxEventExternalizerFactory factory) {
 
-			this.externalizer = factory.forTransport(createJmsTransport(operations, serializer, beanFactory));
+			this.externalizer = factory.forBlockingTransport(createJmsTransport(operations, serializer, beanFactory));
+		}
+
+		@Bean
+		OutboxExternalizationHandler jmsOutboxExternalizationHandler() {
+			return externalizer::handle;
 		}
 
 		@AutoConfiguration
@@ -100,11 +106,37 @@ class JmsEventExternalizerConfiguration {
 		class JobRunrOutboxAutoConfiguration {
 
 			@Bean
-			JobRunrExternalizationTransport jobRunrJmsOutboxExternalizer() {
+			JmsJobRunrExternalizationTransport jobRunrJmsOutboxExternalizer() {
 
 				logger.debug("Registering JobRunr domain event outbox externalization to JMS.");
 
-				return externalizer::externalizeBlocking;
+				return new JmsJobRunrExternalizationTransport(externalizer);
+			}
+		}
+
+		/**
+		 * A {@link JobRunrExternalizationTransport} externalizing events to JMS. JobRunr looks up the
+		 * transport to invoke for a job by its type, so that every broker needs a dedicated one. The job only
+		 * completes once the broker has acknowledged the event, so that JobRunr retries it in case of a failure.
+		 *
+		 * @author Oliver Drotbohm
+		 * @since 2.2
+		 */
+		static class JmsJobRunrExternalizationTransport implements JobRunrExternalizationTransport {
+
+			private final OutboxEventExternalizer externalizer;
+
+			JmsJobRunrExternalizationTransport(OutboxEventExternalizer externalizer) {
+				this.externalizer = externalizer;
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * @see org.springframework.modulith.events.jobrunr.JobRunrExternalizationTransport#externalize(java.lang.Object)
+			 */
+			@Override
+			public void externalize(Object event) {
+				externalizer.externalizeBlocking(event);
 			}
 		}
 	}
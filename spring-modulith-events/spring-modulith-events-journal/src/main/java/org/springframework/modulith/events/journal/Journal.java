@@ -0,0 +1,231 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.modulith.events.journal.JournalSegment.RecordCallback;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * An append-only log of {@link JournalRecord}s stored in a sequence of memory-mapped {@link JournalSegment}s in a local
+ * directory. Records are always appended to the most recent segment. Once it is full, a new one is started. Segments
+ * can only be removed from the start of the log, which guarantees that records referring to a publication are never
+ * replayed without the publication itself.
+ * <p>
+ * Appended records are forced to the storage device once the configured number of records has been written, and,
+ * optionally, in a fixed interval. Note that an instance is not thread-safe. Callers have to synchronize access.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+class Journal implements AutoCloseable {
+
+	private final Path directory;
+	private final int segmentSize;
+	private final int fsyncBatchSize;
+	private final Deque<JournalSegment> segments;
+	private final @Nullable ScheduledExecutorService flusher;
+
+	private int unforcedRecords;
+
+	/**
+	 * Opens the {@link Journal} located in the given directory and replays all records found into the given
+	 * {@link RecordCallback}.
+	 *
+	 * @param directory must not be {@literal null}.
+	 * @param segmentSize the size of newly created segments in bytes.
+	 * @param fsyncBatchSize the number of records after which to force the writes to the storage device.
+	 * @param fsyncInterval the interval in which to force writes independently of the batch size, can be
+	 *          {@literal null}.
+	 * @param callback must not be {@literal null}.
+	 */
+	Journal(Path directory, int segmentSize, int fsyncBatchSize, @Nullable Duration fsyncInterval,
+			RecordCallback callback) {
+
+		Assert.notNull(directory, "Directory must not be null!");
+		Assert.isTrue(segmentSize > 0, "Segment size must be greater than zero!");
+		Assert.isTrue(fsyncBatchSize > 0, "Fsync batch size must be greater than zero!");
+		Assert.notNull(callback, "RecordCallback must not be null!");
+
+		this.directory = directory;
+		this.segmentSize = segmentSize;
+		this.fsyncBatchSize = fsyncBatchSize;
+		this.segments = new ArrayDeque<>();
+
+		try {
+
+			Files.createDirectories(directory);
+
+			try (var files = Files.list(directory)) {
+				files.filter(JournalSegment::isSegment)
+						.sorted(Comparator.comparingLong(JournalSegment::parseSequence))
+						.map(it -> JournalSegment.open(it, callback))
+						.forEach(segments::add);
+			}
+
+		} catch (IOException o_O) {
+			throw new UncheckedIOException(o_O);
+		}
+
+		if (segments.isEmpty()) {
+			segments.add(JournalSegment.create(directory, 1, segmentSize));
+		}
+
+		this.flusher = fsyncInterval == null ? null : startFlusher(fsyncInterval);
+	}
+
+	/**
+	 * Appends the given {@link JournalRecord} to the journal.
+	 *
+	 * @param record must not be {@literal null}.
+	 * @return the location the record was written to.
+	 */
+	Location append(JournalRecord record) {
+
+		Assert.notNull(record, "Record must not be null!");
+
+		var bytes = record.encode();
+		var segment = segments.getLast();
+		var offset = segment.append(bytes);
+
+		if (offset < 0) {
+
+			segment.force();
+
+			segment = JournalSegment.create(directory, segment.getSequence() + 1,
+					Math.max(segmentSize, JournalSegment.requiredCapacity(bytes.length)));
+			segments.add(segment);
+
+			offset = segment.append(bytes);
+		}
+
+		unforcedRecords++;
+
+		return new Location(segment, offset, JournalSegment.FRAME_SIZE + bytes.length);
+	}
+
+	/**
+	 * Forces the records appended to the storage device if the configured batch size has been reached.
+	 */
+	void commit() {
+
+		if (unforcedRecords >= fsyncBatchSize) {
+			force();
+		}
+	}
+
+	/**
+	 * Forces all records appended to the storage device. Segments without pending writes are skipped cheaply.
+	 */
+	void force() {
+
+		segments.forEach(JournalSegment::force);
+		unforcedRecords = 0;
+	}
+
+	/**
+	 * Returns the segments that are candidates for removal, i.e. all but the one currently written to, oldest first.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	List<JournalSegment> getCompactionCandidates() {
+
+		var result = new ArrayList<>(segments);
+		result.remove(result.size() - 1);
+
+		return result;
+	}
+
+	/**
+	 * Removes the oldest segment from the journal. The segment must not contain any live publications anymore.
+	 *
+	 * @param segment must not be {@literal null}.
+	 */
+	void removeOldest(JournalSegment segment) {
+
+		Assert.isTrue(segments.peekFirst() == segment, "Only the oldest segment can be removed!");
+		Assert.isTrue(segments.size() > 1, "Cannot remove the segment currently written to!");
+		Assert.isTrue(segment.getLivePublications() == 0, "Segment still contains live publications!");
+
+		segments.removeFirst();
+		segment.delete();
+	}
+
+	int getSegmentCount() {
+		return segments.size();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.AutoCloseable#close()
+	 */
+	@Override
+	public void close() {
+
+		if (flusher != null) {
+			flusher.shutdownNow();
+		}
+
+		synchronized (this) {
+
+			force();
+			segments.forEach(JournalSegment::close);
+		}
+	}
+
+	private ScheduledExecutorService startFlusher(Duration interval) {
+
+		var factory = new CustomizableThreadFactory("modulith-journal-flusher-");
+		factory.setDaemon(true);
+
+		var executor = Executors.newSingleThreadScheduledExecutor(factory);
+		var nanos = interval.toNanos();
+
+		executor.scheduleAtFixedRate(() -> {
+
+			synchronized (this) {
+				if (unforcedRecords > 0) {
+					force();
+				}
+			}
+
+		}, nanos, nanos, TimeUnit.NANOSECONDS);
+
+		return executor;
+	}
+
+	/**
+	 * The location of a record in the journal.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	record Location(JournalSegment segment, int offset, int size) {}
+}
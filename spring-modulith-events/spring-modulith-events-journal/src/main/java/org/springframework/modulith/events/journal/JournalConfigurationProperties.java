@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.journal;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.Assert;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration properties for the journal-based event publication repository.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+@ConfigurationProperties(prefix = "spring.modulith.events.journal")
+class JournalConfigurationProperties {
+
+	private final Path directory;
+	private final DataSize segmentSize;
+	private final Fsync fsync;
+
+	/**
+	 * Creates a new {@link JournalConfigurationProperties} instance.
+	 *
+	 * @param directory the directory to store the journal segments in, must not be {@literal null}. Has to be configured
+	 *          explicitly, as a default relative to the working directory would end up in different locations
+	 *          depending on how the application is started.
+	 * @param segmentSize the size of the individual journal segments, must not be {@literal null}.
+	 * @param fsync the settings to control when writes are forced to the storage device, must not be {@literal null}.
+	 */
+	@ConstructorBinding
+	JournalConfigurationProperties(@Nullable Path directory, @DefaultValue("16MB") DataSize segmentSize,
+			@DefaultValue Fsync fsync) {
+
+		Assert.notNull(directory, "Journal directory must be configured via spring.modulith.events.journal.directory!");
+		Assert.isTrue(segmentSize.toBytes() > 0 && segmentSize.toBytes() <= Integer.MAX_VALUE,
+				"Segment size must be positive and must not exceed 2GB!");
+		Assert.notNull(fsync, "Fsync settings must not be null!");
+
+		this.directory = directory;
+		this.segmentSize = segmentSize;
+		this.fsync = fsync;
+	}
+
+	/**
+	 * The directory to store the journal segments in.
+	 */
+	public Path getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * The size of the individual journal segments.
+	 */
+	public DataSize getSegmentSize() {
+		return segmentSize;
+	}
+
+	/**
+	 * The settings to control when writes are forced to the storage device.
+	 */
+	public Fsync getFsync() {
+		return fsync;
+	}
+
+	/**
+	 * Controls when writes are forced to the storage device. By default, every write is forced before the call to the
+	 * repository returns. Larger batch sizes trade durability in case of an operating system crash or power loss for
+	 * throughput. Writes are never lost if only the application crashes.
+	 *
+	 * @param batchSize the number of records after which to force the writes to the storage device.
+	 * @param interval the interval in which to force pending writes independently of the batch size, can be
+	 *          {@literal null}.
+	 * @author Oliver Drotbohm
+	 */
+	record Fsync(@DefaultValue("1") int batchSize, @Nullable Duration interval) {
+
+		Fsync {
+			Assert.isTrue(batchSize > 0, "Fsync batch size must be greater than zero!");
+		}
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.journal;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+import org.springframework.modulith.events.config.EventPublicationAutoConfiguration;
+import org.springframework.modulith.events.config.EventPublicationConfigurationExtension;
+import org.springframework.modulith.events.core.EventPublicationRepository;
+import org.springframework.modulith.events.core.EventSerializer;
+import org.springframework.modulith.events.support.CompletionMode;
+
+/**
+ * Auto-configuration to register a {@link JournalEventPublicationRepository}. Has to be enabled explicitly, as the
+ * journal is local to a single application instance.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+@AutoConfiguration
+@AutoConfigureBefore(EventPublicationAutoConfiguration.class)
+@ConditionalOnProperty(name = JournalEventPublicationAutoConfiguration.ENABLED_PROPERTY, havingValue = "true")
+@EnableConfigurationProperties(JournalConfigurationProperties.class)
+class JournalEventPublicationAutoConfiguration implements EventPublicationConfigurationExtension {
+
+	static final String ENABLED_PROPERTY = "spring.modulith.events.journal.enabled";
+
+	@Bean
+	@ConditionalOnMissingBean
+	EventPublicationRepository journalEventPublicationRepository(EventSerializer serializer,
+			JournalConfigurationProperties properties, Environment environment) {
+		return new JournalEventPublicationRepository(serializer, CompletionMode.from(environment), properties);
+	}
+}
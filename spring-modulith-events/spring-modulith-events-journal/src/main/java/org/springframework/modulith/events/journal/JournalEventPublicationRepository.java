@@ -0,0 +1,833 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.journal;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.Ordered;
+import org.springframework.modulith.events.EventPublication.Status;
+import org.springframework.modulith.events.core.EventPublicationRepository;
+import org.springframework.modulith.events.core.EventSerializer;
+import org.springframework.modulith.events.core.PublicationTargetIdentifier;
+import org.springframework.modulith.events.core.TargetEventPublication;
+import org.springframework.modulith.events.journal.Journal.Location;
+import org.springframework.modulith.events.journal.JournalRecord.Publication;
+import org.springframework.modulith.events.journal.JournalRecord.Removal;
+import org.springframework.modulith.events.journal.JournalRecord.State;
+import org.springframework.modulith.events.journal.JournalRecord.StateChange;
+import org.springframework.modulith.events.support.CompletionMode;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * An {@link EventPublicationRepository} storing publications in an append-only {@link Journal} on the local file
+ * system. Creating a publication and changing its state are appended as records to the journal. All publications
+ * still relevant are kept in an in-memory index that points to the offset of the publication's record in the journal
+ * and is rebuilt from the journal on startup. Publications created within a transaction are only appended right before
+ * the transaction commits. In case the commit fails after that, a record removing them is appended.
+ * <p>
+ * Once all publications recorded in the oldest segments of the journal are gone, the segments are removed. In case only
+ * a few publications keep an old segment alive, they are rewritten to the end of the journal to allow the segment to be
+ * removed. Completed publications are gone immediately when using {@link CompletionMode#DELETE}. Otherwise, they are
+ * retained until they are explicitly deleted. {@link CompletionMode#ARCHIVE} is treated like
+ * {@link CompletionMode#UPDATE} as there is no dedicated archive.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+class JournalEventPublicationRepository implements EventPublicationRepository, BeanClassLoaderAware, DisposableBean {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(JournalEventPublicationRepository.class);
+	private static final double COMPACTION_THRESHOLD = 0.25;
+
+	private final EventSerializer serializer;
+	private final CompletionMode completionMode;
+	private final Map<UUID, Entry> index;
+	private final Journal journal;
+
+	private @Nullable ClassLoader classLoader;
+
+	/**
+	 * Creates a new {@link JournalEventPublicationRepository} for the given {@link EventSerializer},
+	 * {@link CompletionMode} and {@link JournalConfigurationProperties} and replays the journal found in the configured
+	 * directory.
+	 *
+	 * @param serializer must not be {@literal null}.
+	 * @param completionMode must not be {@literal null}.
+	 * @param properties must not be {@literal null}.
+	 */
+	JournalEventPublicationRepository(EventSerializer serializer, CompletionMode completionMode,
+			JournalConfigurationProperties properties) {
+
+		Assert.notNull(serializer, "EventSerializer must not be null!");
+		Assert.notNull(completionMode, "CompletionMode must not be null!");
+		Assert.notNull(properties, "JournalConfigurationProperties must not be null!");
+
+		this.serializer = serializer;
+		this.completionMode = completionMode;
+		this.index = new HashMap<>();
+		this.journal = new Journal(properties.getDirectory(), (int) properties.getSegmentSize().toBytes(),
+				properties.getFsync().batchSize(), properties.getFsync().interval(), this::replay);
+
+		synchronized (journal) {
+			compact();
+		}
+
+		LOGGER.debug("Opened event publication journal in {} with {} publications.", properties.getDirectory(),
+				index.size());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.BeanClassLoaderAware#setBeanClassLoader(java.lang.ClassLoader)
+	 */
+	@Override
+	public void setBeanClassLoader(ClassLoader classLoader) {
+		this.classLoader = classLoader;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#create(org.springframework.modulith.events.core.TargetEventPublication)
+	 */
+	@Override
+	public TargetEventPublication create(TargetEventPublication publication) {
+
+		Assert.notNull(publication, "TargetEventPublication must not be null!");
+
+		var event = publication.getEvent();
+		var record = new Publication(publication.getIdentifier(), publication.getTargetIdentifier().getValue(),
+				event.getClass().getName(), publication.getPublicationDate(), serializeEvent(event),
+				State.initial(publication.getStatus(), publication.getPublicationDate()));
+
+		// Only append publications of transactions about to commit
+		if (TransactionSynchronizationManager.isActualTransactionActive()
+				&& TransactionSynchronizationManager.isSynchronizationActive()) {
+
+			TransactionSynchronizationManager.registerSynchronization(new AppendBeforeCommit(record));
+
+		} else {
+			append(record);
+		}
+
+		return publication;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#markProcessing(java.util.UUID)
+	 */
+	@Override
+	public void markProcessing(UUID identifier) {
+		changeStatus(identifier, Status.PROCESSING);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#markCompleted(java.lang.Object, org.springframework.modulith.events.core.PublicationTargetIdentifier, java.time.Instant)
+	 */
+	@Override
+	public void markCompleted(Object event, PublicationTargetIdentifier identifier, Instant completionDate) {
+
+		Assert.notNull(event, "Event must not be null!");
+		Assert.notNull(identifier, "PublicationTargetIdentifier must not be null!");
+		Assert.notNull(completionDate, "Instant must not be null!");
+
+		var serializedEvent = serializeEvent(event);
+
+		synchronized (journal) {
+
+			findEntries(serializedEvent, identifier, it -> it.state.completionDate() == null)
+					.forEach(it -> complete(it, completionDate));
+
+			commitAndCompact();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#markCompleted(java.util.UUID, java.time.Instant)
+	 */
+	@Override
+	public void markCompleted(UUID identifier, Instant completionDate) {
+		markCompleted(List.of(identifier), completionDate);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#markCompleted(java.util.List, java.time.Instant)
+	 */
+	@Override
+	public void markCompleted(List<UUID> identifiers, Instant completionDate) {
+
+		Assert.notNull(identifiers, "Identifiers must not be null!");
+		Assert.notNull(completionDate, "Instant must not be null!");
+
+		synchronized (journal) {
+
+			identifiers.stream()
+					.map(index::get)
+					.filter(Objects::nonNull)
+					.forEach(it -> complete(it, completionDate));
+
+			commitAndCompact();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#markFailed(java.util.UUID)
+	 */
+	@Override
+	public void markFailed(UUID identifier) {
+		changeStatus(identifier, Status.FAILED);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#markResubmitted(java.util.UUID, java.time.Instant)
+	 */
+	@Override
+	public boolean markResubmitted(UUID identifier, Instant resubmissionDate) {
+
+		Assert.notNull(identifier, "Identifier must not be null!");
+		Assert.notNull(resubmissionDate, "Resubmission date must not be null!");
+
+		synchronized (journal) {
+
+			var entry = index.get(identifier);
+
+			if (entry == null || entry.state.status() == Status.RESUBMITTED) {
+				return false;
+			}
+
+			update(entry, entry.state.resubmitted(resubmissionDate));
+			journal.commit();
+
+			return true;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#findIncompletePublications()
+	 */
+	@Override
+	public List<TargetEventPublication> findIncompletePublications() {
+		return find(it -> it.state.completionDate() == null || it.state.status() != Status.COMPLETED);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#findIncompletePublicationsPublishedBefore(java.time.Instant)
+	 */
+	@Override
+	public List<TargetEventPublication> findIncompletePublicationsPublishedBefore(Instant instant) {
+
+		Assert.notNull(instant, "Instant must not be null!");
+
+		return find(it -> (it.state.completionDate() == null || it.state.status() == Status.PROCESSING)
+				&& it.publicationDate.isBefore(instant));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#findIncompletePublicationsByEventAndTargetIdentifier(java.lang.Object, org.springframework.modulith.events.core.PublicationTargetIdentifier)
+	 */
+	@Override
+	public Optional<TargetEventPublication> findIncompletePublicationsByEventAndTargetIdentifier(Object event,
+			PublicationTargetIdentifier targetIdentifier) {
+
+		Assert.notNull(event, "Event must not be null!");
+		Assert.notNull(targetIdentifier, "PublicationTargetIdentifier must not be null!");
+
+		var serializedEvent = serializeEvent(event);
+
+		synchronized (journal) {
+
+			return findEntries(serializedEvent, targetIdentifier,
+					it -> it.state.completionDate() == null || it.state.status() == Status.FAILED)
+					.sorted(Comparator.comparing(it -> it.publicationDate))
+					.map(this::toPublication)
+					.flatMap(Optional::stream)
+					.findFirst();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#findCompletedPublications()
+	 */
+	@Override
+	public List<TargetEventPublication> findCompletedPublications() {
+		return find(it -> it.state.isCompleted());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#deletePublications(java.util.List)
+	 */
+	@Override
+	public void deletePublications(List<UUID> identifiers) {
+
+		Assert.notNull(identifiers, "Identifiers must not be null!");
+
+		synchronized (journal) {
+
+			identifiers.stream()
+					.map(index::get)
+					.filter(Objects::nonNull)
+					.forEach(this::remove);
+
+			commitAndCompact();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#deleteCompletedPublications()
+	 */
+	@Override
+	public void deleteCompletedPublications() {
+		delete(it -> it.state.isCompleted());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#deleteCompletedPublicationsBefore(java.time.Instant)
+	 */
+	@Override
+	public void deleteCompletedPublicationsBefore(Instant instant) {
+
+		Assert.notNull(instant, "Instant must not be null!");
+
+		delete(it -> {
+
+			var completionDate = it.state.completionDate();
+
+			return it.state.status() == Status.COMPLETED && completionDate != null && completionDate.isBefore(instant);
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#findFailedPublications(org.springframework.modulith.events.core.EventPublicationRepository.FailedCriteria)
+	 */
+	@Override
+	public List<TargetEventPublication> findFailedPublications(FailedCriteria criteria) {
+
+		Assert.notNull(criteria, "FailedCriteria must not be null!");
+
+		var reference = criteria.getPublicationDateReference();
+		var maxItems = criteria.getMaxItemsToRead();
+		var result = find(it -> it.state.status() == Status.FAILED
+				&& (reference == null || it.publicationDate.isBefore(reference)));
+
+		return maxItems == -1 || result.size() <= maxItems ? result : result.subList(0, (int) maxItems);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#findByStatus(org.springframework.modulith.events.EventPublication.Status)
+	 */
+	@Override
+	public List<TargetEventPublication> findByStatus(Status status) {
+
+		Assert.notNull(status, "Status must not be null!");
+
+		return find(it -> it.state.status() == status);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#countByStatus(org.springframework.modulith.events.EventPublication.Status)
+	 */
+	@Override
+	public int countByStatus(Status status) {
+
+		Assert.notNull(status, "Status must not be null!");
+
+		synchronized (journal) {
+			return (int) index.values().stream().filter(it -> it.state.status() == status).count();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() {
+		journal.close();
+	}
+
+	int getSegmentCount() {
+
+		synchronized (journal) {
+			return journal.getSegmentCount();
+		}
+	}
+
+	private void append(Publication record) {
+
+		synchronized (journal) {
+
+			index(record, journal.append(record));
+			journal.commit();
+		}
+	}
+
+	private void changeStatus(UUID identifier, Status status) {
+
+		Assert.notNull(identifier, "Identifier must not be null!");
+
+		synchronized (journal) {
+
+			var entry = index.get(identifier);
+
+			if (entry == null || entry.state.status() == status) {
+				return;
+			}
+
+			update(entry, entry.state.withStatus(status));
+			journal.commit();
+		}
+	}
+
+	private void delete(Predicate<Entry> filter) {
+
+		synchronized (journal) {
+
+			index.values().stream()
+					.filter(filter)
+					.toList()
+					.forEach(this::remove);
+
+			commitAndCompact();
+		}
+	}
+
+	private List<TargetEventPublication> find(Predicate<Entry> filter) {
+
+		synchronized (journal) {
+
+			return index.values().stream()
+					.filter(filter)
+					.sorted(Comparator.comparing(it -> it.publicationDate))
+					.map(this::toPublication)
+					.flatMap(Optional::stream)
+					.toList();
+		}
+	}
+
+	private Stream<Entry> findEntries(String serializedEvent, PublicationTargetIdentifier identifier,
+			Predicate<Entry> filter) {
+
+		var listenerId = identifier.getValue();
+		var hash = serializedEvent.hashCode();
+
+		return index.values().stream()
+				.filter(it -> it.eventHash == hash && it.listenerId.equals(listenerId))
+				.filter(filter)
+				.filter(it -> readPublication(it).serializedEvent().equals(serializedEvent))
+				.toList()
+				.stream();
+	}
+
+	private void complete(Entry entry, Instant completionDate) {
+
+		if (completionMode == CompletionMode.DELETE) {
+			remove(entry);
+		} else {
+			update(entry, entry.state.completed(completionDate));
+		}
+	}
+
+	private void update(Entry entry, State state) {
+
+		journal.append(new StateChange(entry.id, state));
+		entry.state = state;
+	}
+
+	private void remove(Entry entry) {
+
+		journal.append(new Removal(entry.id));
+		unindex(entry);
+	}
+
+	private void commitAndCompact() {
+
+		journal.commit();
+		compact();
+	}
+
+	/**
+	 * Removes the oldest segments as long as they do not contain any live publications anymore. Live publications of
+	 * sparsely populated segments are rewritten to the end of the journal first.
+	 */
+	private void compact() {
+
+		for (var segment : journal.getCompactionCandidates()) {
+
+			if (segment.getLivePublications() > 0) {
+
+				if (!segment.isSparse(COMPACTION_THRESHOLD)) {
+					return;
+				}
+
+				relocate(segment);
+			}
+
+			journal.removeOldest(segment);
+		}
+	}
+
+	private void relocate(JournalSegment segment) {
+
+		var entries = index.values().stream()
+				.filter(it -> it.location.segment() == segment)
+				.toList();
+
+		for (var entry : entries) {
+
+			var record = readPublication(entry).withState(entry.state);
+
+			unindex(entry);
+			index(record, journal.append(record));
+		}
+
+		// Make sure the relocated records are durable before the original ones are removed
+		journal.force();
+
+		LOGGER.debug("Relocated {} publications from journal segment {}.", entries.size(), segment);
+	}
+
+	private void replay(JournalSegment segment, int offset, int size, JournalRecord record) {
+
+		if (record instanceof Publication publication) {
+
+			var existing = index.get(publication.id());
+
+			if (existing != null) {
+				unindex(existing);
+			}
+
+			index(publication, new Location(segment, offset, size));
+
+		} else if (record instanceof StateChange change) {
+
+			var entry = index.get(change.id());
+
+			if (entry != null) {
+				entry.state = change.state();
+			}
+
+		} else if (record instanceof Removal removal) {
+
+			var entry = index.get(removal.id());
+
+			if (entry != null) {
+				unindex(entry);
+			}
+		}
+	}
+
+	private void index(Publication publication, Location location) {
+
+		index.put(publication.id(), new Entry(publication, location));
+		location.segment().addLivePublication(location.size());
+	}
+
+	private void unindex(Entry entry) {
+
+		index.remove(entry.id);
+		entry.location.segment().removeLivePublication(entry.location.size());
+	}
+
+	private Publication readPublication(Entry entry) {
+		return (Publication) entry.location.segment().read(entry.location.offset());
+	}
+
+	private Optional<TargetEventPublication> toPublication(Entry entry) {
+
+		var eventClass = loadClass(entry.id, entry.eventType);
+
+		if (eventClass == null) {
+			return Optional.empty();
+		}
+
+		// Read eagerly as the segment might be removed before the event is accessed
+		var serializedEvent = readPublication(entry).serializedEvent();
+
+		return Optional.of(new JournalEventPublication(entry.id, entry.publicationDate, entry.listenerId,
+				() -> serializer.deserialize(serializedEvent, eventClass), entry.state));
+	}
+
+	private String serializeEvent(Object event) {
+		return serializer.serialize(event).toString();
+	}
+
+	private @Nullable Class<?> loadClass(UUID id, String className) {
+
+		try {
+			return ClassUtils.forName(className, classLoader);
+		} catch (ClassNotFoundException e) {
+			LOGGER.warn("Event '{}' of unknown type '{}' found", id, className);
+			return null;
+		}
+	}
+
+	/**
+	 * An entry of the in-memory index pointing to the location of the publication's record in the journal.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private static class Entry {
+
+		private final UUID id;
+		private final String listenerId;
+		private final String eventType;
+		private final Instant publicationDate;
+		private final int eventHash;
+		private final Location location;
+
+		private State state;
+
+		Entry(Publication publication, Location location) {
+
+			this.id = publication.id();
+			this.listenerId = publication.listenerId();
+			this.eventType = publication.eventType();
+			this.publicationDate = publication.publicationDate();
+			this.eventHash = publication.serializedEvent().hashCode();
+			this.location = location;
+			this.state = publication.state();
+		}
+	}
+
+	/**
+	 * A {@link TransactionSynchronization} to append a {@link Publication} to the journal right before the transaction
+	 * it was created in commits, so that a crash right after the commit doesn't lose it. Appends a {@link Removal} to
+	 * abort the publication in case the transaction is rolled back after all, e.g. because the commit itself failed.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private class AppendBeforeCommit implements TransactionSynchronization {
+
+		private final Publication record;
+		private boolean appended;
+
+		AppendBeforeCommit(Publication record) {
+			this.record = record;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.transaction.support.TransactionSynchronization#getOrder()
+		 */
+		@Override
+		public int getOrder() {
+			return Ordered.HIGHEST_PRECEDENCE;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.transaction.support.TransactionSynchronization#beforeCommit(boolean)
+		 */
+		@Override
+		public void beforeCommit(boolean readOnly) {
+
+			append(record);
+			appended = true;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.transaction.support.TransactionSynchronization#afterCompletion(int)
+		 */
+		@Override
+		public void afterCompletion(int status) {
+
+			if (!appended || status != STATUS_ROLLED_BACK) {
+				return;
+			}
+
+			synchronized (journal) {
+
+				var entry = index.get(record.id());
+
+				if (entry != null) {
+					remove(entry);
+					commitAndCompact();
+				}
+			}
+		}
+	}
+
+	private static class JournalEventPublication implements TargetEventPublication {
+
+		private final UUID id;
+		private final Instant publicationDate;
+		private final String listenerId;
+		private final Supplier<Object> eventSupplier;
+
+		private State state;
+		private @Nullable Object event;
+
+		JournalEventPublication(UUID id, Instant publicationDate, String listenerId, Supplier<Object> event,
+				State state) {
+
+			this.id = id;
+			this.publicationDate = publicationDate;
+			this.listenerId = listenerId;
+			this.eventSupplier = event;
+			this.state = state;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.modulith.events.EventPublication#getIdentifier()
+		 */
+		@Override
+		public UUID getIdentifier() {
+			return id;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.modulith.events.EventPublication#getEvent()
+		 */
+		@Override
+		public Object getEvent() {
+
+			if (event == null) {
+				this.event = eventSupplier.get();
+			}
+
+			return event;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.modulith.events.core.TargetEventPublication#getTargetIdentifier()
+		 */
+		@Override
+		public PublicationTargetIdentifier getTargetIdentifier() {
+			return PublicationTargetIdentifier.of(listenerId);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.modulith.events.EventPublication#getPublicationDate()
+		 */
+		@Override
+		public Instant getPublicationDate() {
+			return publicationDate;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.modulith.events.EventPublication#getCompletionDate()
+		 */
+		@Override
+		public Optional<Instant> getCompletionDate() {
+			return Optional.ofNullable(state.completionDate());
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.modulith.events.core.Completable#markCompleted(java.time.Instant)
+		 */
+		@Override
+		public void markCompleted(Instant instant) {
+			this.state = state.completed(instant);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.modulith.events.EventPublication#getStatus()
+		 */
+		@Override
+		public Status getStatus() {
+			return state.status();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.modulith.events.EventPublication#getLastResubmissionDate()
+		 */
+		@Override
+		public @Nullable Instant getLastResubmissionDate() {
+			return state.lastResubmissionDate();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.modulith.events.EventPublication#getCompletionAttempts()
+		 */
+		@Override
+		public int getCompletionAttempts() {
+			return state.completionAttempts();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(@Nullable Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof JournalEventPublication that)) {
+				return false;
+			}
+
+			return Objects.equals(id, that.id) //
+					&& Objects.equals(listenerId, that.listenerId) //
+					&& Objects.equals(publicationDate, that.publicationDate) //
+					&& Objects.equals(state.completionDate(), that.state.completionDate());
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return Objects.hash(id, listenerId, publicationDate, state.completionDate());
+		}
+	}
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.journal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.modulith.events.EventPublication.Status;
+
+/**
+ * The records written to the {@link Journal}. A {@link Publication} captures a publication including its current
+ * state, a {@link StateChange} an update of the state of a publication written earlier and a {@link Removal} the
+ * removal of a publication.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+interface JournalRecord {
+
+	byte PUBLICATION = 1;
+	byte STATE_CHANGE = 2;
+	byte REMOVAL = 3;
+
+	/**
+	 * Returns the identifier of the publication the record refers to.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	UUID id();
+
+	/**
+	 * Encodes the record into its binary representation.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	default byte[] encode() {
+
+		var bytes = new ByteArrayOutputStream(128);
+
+		try (var output = new DataOutputStream(bytes)) {
+			writeTo(output);
+		} catch (IOException o_O) {
+			throw new UncheckedIOException(o_O);
+		}
+
+		return bytes.toByteArray();
+	}
+
+	void writeTo(DataOutputStream output) throws IOException;
+
+	/**
+	 * Decodes the given binary representation into a {@link JournalRecord}.
+	 *
+	 * @param bytes must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static JournalRecord decode(byte[] bytes) {
+
+		try (var input = new DataInputStream(new ByteArrayInputStream(bytes))) {
+
+			var type = input.readByte();
+
+			return switch (type) {
+				case PUBLICATION -> Publication.readFrom(input);
+				case STATE_CHANGE -> new StateChange(readUuid(input), State.readFrom(input));
+				case REMOVAL -> new Removal(readUuid(input));
+				default -> throw new IllegalStateException("Unknown journal record type %s!".formatted(type));
+			};
+
+		} catch (IOException o_O) {
+			throw new UncheckedIOException(o_O);
+		}
+	}
+
+	/**
+	 * The mutable state of a publication.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	record State(Status status, @Nullable Instant completionDate, @Nullable Instant lastResubmissionDate,
+			int completionAttempts) {
+
+		static State initial(Status status, Instant publicationDate) {
+			return new State(status, null, publicationDate, 1);
+		}
+
+		State withStatus(Status status) {
+			return new State(status, completionDate, lastResubmissionDate, completionAttempts);
+		}
+
+		State completed(Instant completionDate) {
+			return new State(Status.COMPLETED, completionDate, lastResubmissionDate, completionAttempts);
+		}
+
+		State resubmitted(Instant resubmissionDate) {
+			return new State(Status.RESUBMITTED, completionDate, resubmissionDate, completionAttempts + 1);
+		}
+
+		boolean isCompleted() {
+			return completionDate != null || status == Status.COMPLETED;
+		}
+
+		void writeTo(DataOutputStream output) throws IOException {
+
+			writeString(output, status.name());
+			writeInstant(output, completionDate);
+			writeInstant(output, lastResubmissionDate);
+			output.writeInt(completionAttempts);
+		}
+
+		static State readFrom(DataInputStream input) throws IOException {
+			return new State(Status.valueOf(readString(input)), readInstant(input), readInstant(input), input.readInt());
+		}
+	}
+
+	/**
+	 * A publication and its state at the time the record was written.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	record Publication(UUID id, String listenerId, String eventType, Instant publicationDate, String serializedEvent,
+			State state) implements JournalRecord {
+
+		Publication withState(State state) {
+			return new Publication(id, listenerId, eventType, publicationDate, serializedEvent, state);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.modulith.events.journal.JournalRecord#writeTo(java.io.DataOutputStream)
+		 */
+		@Override
+		public void writeTo(DataOutputStream output) throws IOException {
+
+			output.writeByte(PUBLICATION);
+			writeUuid(output, id);
+			writeString(output, listenerId);
+			writeString(output, eventType);
+			writeInstant(output, publicationDate);
+			state.writeTo(output);
+			writeString(output, serializedEvent);
+		}
+
+		static Publication readFrom(DataInputStream input) throws IOException {
+
+			var id = readUuid(input);
+			var listenerId = readString(input);
+			var eventType = readString(input);
+			var publicationDate = readInstant(input);
+			var state = State.readFrom(input);
+			var serializedEvent = readString(input);
+
+			if (publicationDate == null) {
+				throw new IllegalStateException("Publication date missing for publication %s!".formatted(id));
+			}
+
+			return new Publication(id, listenerId, eventType, publicationDate, serializedEvent, state);
+		}
+	}
+
+	/**
+	 * A change of the state of a publication.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	record StateChange(UUID id, State state) implements JournalRecord {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.modulith.events.journal.JournalRecord#writeTo(java.io.DataOutputStream)
+		 */
+		@Override
+		public void writeTo(DataOutputStream output) throws IOException {
+
+			output.writeByte(STATE_CHANGE);
+			writeUuid(output, id);
+			state.writeTo(output);
+		}
+	}
+
+	/**
+	 * The removal of a publication.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	record Removal(UUID id) implements JournalRecord {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.modulith.events.journal.JournalRecord#writeTo(java.io.DataOutputStream)
+		 */
+		@Override
+		public void writeTo(DataOutputStream output) throws IOException {
+
+			output.writeByte(REMOVAL);
+			writeUuid(output, id);
+		}
+	}
+
+	private static void writeUuid(DataOutputStream output, UUID id) throws IOException {
+
+		output.writeLong(id.getMostSignificantBits());
+		output.writeLong(id.getLeastSignificantBits());
+	}
+
+	private static UUID readUuid(DataInputStream input) throws IOException {
+		return new UUID(input.readLong(), input.readLong());
+	}
+
+	private static void writeString(DataOutputStream output, String value) throws IOException {
+
+		var bytes = value.getBytes(StandardCharsets.UTF_8);
+
+		output.writeInt(bytes.length);
+		output.write(bytes);
+	}
+
+	private static String readString(DataInputStream input) throws IOException {
+		return new String(input.readNBytes(input.readInt()), StandardCharsets.UTF_8);
+	}
+
+	private static void writeInstant(DataOutputStream output, @Nullable Instant instant) throws IOException {
+
+		output.writeBoolean(instant != null);
+
+		if (instant != null) {
+			output.writeLong(instant.getEpochSecond());
+			output.writeInt(instant.getNano());
+		}
+	}
+
+	private static @Nullable Instant readInstant(DataInputStream input) throws IOException {
+		return input.readBoolean() ? Instant.ofEpochSecond(input.readLong(), input.readInt()) : null;
+	}
+}
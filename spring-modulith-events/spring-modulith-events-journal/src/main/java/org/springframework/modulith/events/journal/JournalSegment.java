@@ -0,0 +1,398 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+/**
+ * A single, memory-mapped file of the {@link Journal}. A segment starts with a header followed by the records, each of
+ * them framed by its length and a checksum. A length of zero marks the end of the written records. A record with an
+ * invalid checksum is considered a torn write and ends the segment, too.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+class JournalSegment {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(JournalSegment.class);
+
+	private static final int MAGIC = 0x4D4A524E; // MJRN
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 8;
+	static final int FRAME_SIZE = 8;
+
+	// Mapped buffers are only unmapped on garbage collection otherwise
+	private static final @Nullable MethodHandle UNMAPPER = lookupUnmapper();
+
+	private final long sequence;
+	private final Path path;
+	private final MappedByteBuffer buffer;
+	private final int capacity;
+
+	private int position;
+	private int forcedPosition;
+	private boolean closed;
+	private int livePublications;
+	private long liveBytes;
+
+	private JournalSegment(long sequence, Path path, MappedByteBuffer buffer, int position) {
+
+		this.sequence = sequence;
+		this.path = path;
+		this.buffer = buffer;
+		this.capacity = buffer.capacity();
+		this.position = position;
+		this.forcedPosition = position;
+	}
+
+	/**
+	 * Creates a new {@link JournalSegment} with the given sequence number and capacity in the given directory.
+	 *
+	 * @param directory must not be {@literal null}.
+	 * @param sequence the sequence number of the segment.
+	 * @param capacity the capacity of the segment in bytes.
+	 * @return will never be {@literal null}.
+	 */
+	static JournalSegment create(Path directory, long sequence, int capacity) {
+
+		Assert.notNull(directory, "Directory must not be null!");
+		Assert.isTrue(capacity > HEADER_SIZE + FRAME_SIZE, "Segment capacity too small!");
+
+		var path = directory.resolve(getFilename(sequence));
+		var buffer = map(path, capacity, true);
+
+		buffer.putInt(0, MAGIC);
+		buffer.putInt(4, VERSION);
+		buffer.force(0, HEADER_SIZE);
+
+		return new JournalSegment(sequence, path, buffer, HEADER_SIZE);
+	}
+
+	/**
+	 * Opens the existing {@link JournalSegment} at the given {@link Path} and hands all valid records to the given
+	 * {@link RecordCallback}.
+	 *
+	 * @param path must not be {@literal null}.
+	 * @param callback must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static JournalSegment open(Path path, RecordCallback callback) {
+
+		Assert.notNull(path, "Path must not be null!");
+		Assert.notNull(callback, "RecordCallback must not be null!");
+
+		int size;
+
+		try {
+			size = Math.toIntExact(Files.size(path));
+		} catch (IOException o_O) {
+			throw new UncheckedIOException(o_O);
+		}
+
+		var buffer = map(path, size, false);
+
+		if (size < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+			throw new IllegalStateException("%s is not a valid journal segment!".formatted(path));
+		}
+
+		var segment = new JournalSegment(parseSequence(path), path, buffer, HEADER_SIZE);
+		segment.replay(callback);
+
+		return segment;
+	}
+
+	static String getFilename(long sequence) {
+		return "segment-%016d.journal".formatted(sequence);
+	}
+
+	static boolean isSegment(Path path) {
+
+		var filename = path.getFileName().toString();
+
+		return filename.startsWith("segment-") && filename.endsWith(".journal");
+	}
+
+	static long parseSequence(Path path) {
+
+		var filename = path.getFileName().toString();
+
+		return Long.parseLong(filename.substring("segment-".length(), filename.length() - ".journal".length()));
+	}
+
+	/**
+	 * Returns the capacity a segment needs to be able to hold a record of the given size.
+	 *
+	 * @param recordSize the size of the encoded record.
+	 * @return the minimum capacity.
+	 */
+	static int requiredCapacity(int recordSize) {
+		return HEADER_SIZE + FRAME_SIZE + recordSize + FRAME_SIZE;
+	}
+
+	long getSequence() {
+		return sequence;
+	}
+
+	/**
+	 * Appends the given encoded record to the segment.
+	 *
+	 * @param record must not be {@literal null}.
+	 * @return the offset the record was written at or {@literal -1} in case the segment does not have enough space left.
+	 */
+	int append(byte[] record) {
+
+		Assert.state(!closed, "Journal segment already closed!");
+
+		// Keep room for the trailing zero length marker
+		if (position + FRAME_SIZE + record.length + FRAME_SIZE > capacity) {
+			return -1;
+		}
+
+		var crc = new CRC32C();
+		crc.update(record);
+
+		var offset = position;
+
+		buffer.put(offset + FRAME_SIZE, record);
+		buffer.putInt(offset + 4, (int) crc.getValue());
+
+		// Write length last so that a record is only considered once it's complete
+		buffer.putInt(offset, record.length);
+
+		position += FRAME_SIZE + record.length;
+
+		return offset;
+	}
+
+	/**
+	 * Reads the record written at the given offset.
+	 *
+	 * @param offset the offset previously returned by {@link #append(byte[])}.
+	 * @return will never be {@literal null}.
+	 */
+	JournalRecord read(int offset) {
+
+		Assert.state(!closed, "Journal segment already closed!");
+
+		var length = buffer.getInt(offset);
+		var bytes = new byte[length];
+
+		buffer.get(offset + FRAME_SIZE, bytes);
+
+		return JournalRecord.decode(bytes);
+	}
+
+	/**
+	 * Forces all records written since the last call to the storage device.
+	 */
+	void force() {
+
+		if (closed || forcedPosition == position) {
+			return;
+		}
+
+		buffer.force(forcedPosition, position - forcedPosition);
+		forcedPosition = position;
+	}
+
+	void addLivePublication(int recordSize) {
+
+		livePublications++;
+		liveBytes += recordSize;
+	}
+
+	void removeLivePublication(int recordSize) {
+
+		livePublications--;
+		liveBytes -= recordSize;
+	}
+
+	int getLivePublications() {
+		return livePublications;
+	}
+
+	/**
+	 * Returns whether the records of the publications still live in this segment occupy less than the given fraction of
+	 * the segment's capacity.
+	 *
+	 * @param fraction the fraction of the capacity.
+	 * @return whether the segment is sparsely populated.
+	 */
+	boolean isSparse(double fraction) {
+		return liveBytes < capacity * fraction;
+	}
+
+	/**
+	 * Unmaps the segment file. The segment must not be used anymore afterwards.
+	 */
+	void close() {
+
+		if (closed) {
+			return;
+		}
+
+		closed = true;
+
+		if (UNMAPPER == null) {
+			return;
+		}
+
+		try {
+			UNMAPPER.invoke(buffer);
+		} catch (Throwable o_O) {
+			LOGGER.debug("Could not unmap journal segment {}!", path, o_O);
+		}
+	}
+
+	/**
+	 * Unmaps and deletes the segment file. Unmapping is required to be able to delete the file on Windows.
+	 */
+	void delete() {
+
+		close();
+
+		try {
+			Files.deleteIfExists(path);
+		} catch (IOException o_O) {
+			LOGGER.warn("Could not delete journal segment {}!", path, o_O);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return path.toString();
+	}
+
+	private void replay(RecordCallback callback) {
+
+		while (true) {
+
+			if (position + FRAME_SIZE > capacity) {
+				return;
+			}
+
+			var length = buffer.getInt(position);
+
+			if (length == 0) {
+				return;
+			}
+
+			if (length < 0 || position + FRAME_SIZE + length > capacity) {
+				break;
+			}
+
+			var bytes = new byte[length];
+			buffer.get(position + FRAME_SIZE, bytes);
+
+			var crc = new CRC32C();
+			crc.update(bytes);
+
+			if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+				break;
+			}
+
+			callback.onRecord(this, position, FRAME_SIZE + length, JournalRecord.decode(bytes));
+
+			position += FRAME_SIZE + length;
+		}
+
+		LOGGER.warn("Detected incomplete record in journal segment {} at offset {}. Discarding remainder.", path,
+				position);
+
+		// Clear the remainder so that subsequent appends cannot accidentally continue with stale data
+		var zeros = new byte[8192];
+
+		for (int i = position; i < capacity; i += zeros.length) {
+			buffer.put(i, zeros, 0, Math.min(zeros.length, capacity - i));
+		}
+
+		buffer.force();
+		forcedPosition = position;
+	}
+
+	private static @Nullable MethodHandle lookupUnmapper() {
+
+		try {
+
+			var unsafeType = Class.forName("sun.misc.Unsafe");
+			var field = unsafeType.getDeclaredField("theUnsafe");
+			field.setAccessible(true);
+
+			return MethodHandles.lookup()
+					.findVirtual(unsafeType, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+					.bindTo(field.get(null));
+
+		} catch (ReflectiveOperationException | RuntimeException o_O) {
+
+			LOGGER.debug("Unmapping journal segments not supported, deferring to garbage collection.", o_O);
+
+			return null;
+		}
+	}
+
+	private static MappedByteBuffer map(Path path, int capacity, boolean create) {
+
+		var options = create
+				? new StandardOpenOption[] { StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE }
+				: new StandardOpenOption[] { StandardOpenOption.READ, StandardOpenOption.WRITE };
+
+		// The mapping stays valid after closing the channel
+		try (var channel = FileChannel.open(path, options)) {
+			return channel.map(MapMode.READ_WRITE, 0, capacity);
+		} catch (IOException o_O) {
+			throw new UncheckedIOException(o_O);
+		}
+	}
+
+	/**
+	 * Callback to consume the records found when opening an existing segment.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	interface RecordCallback {
+
+		/**
+		 * Invoked for each valid record of the segment.
+		 *
+		 * @param segment the segment the record was found in, will never be {@literal null}.
+		 * @param offset the offset of the record.
+		 * @param size the size of the record including its framing.
+		 * @param record will never be {@literal null}.
+		 */
+		void onRecord(JournalSegment segment, int offset, int size, JournalRecord record);
+	}
+}
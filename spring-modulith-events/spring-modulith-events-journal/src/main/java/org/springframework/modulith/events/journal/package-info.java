@@ -0,0 +1,5 @@
+/**
+ * Local file system journal for {@link org.springframework.modulith.events.core.EventPublicationRepository}.
+ */
+@org.jspecify.annotations.NullMarked
+package org.springframework.modulith.events.journal;
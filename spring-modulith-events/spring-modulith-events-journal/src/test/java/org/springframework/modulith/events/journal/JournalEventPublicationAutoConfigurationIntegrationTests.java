@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.journal;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.modulith.events.core.EventPublicationRepository;
+import org.springframework.modulith.events.core.EventSerializer;
+
+/**
+ * Integration tests for {@link JournalEventPublicationAutoConfiguration}.
+ *
+ * @author Oliver Drotbohm
+ */
+class JournalEventPublicationAutoConfigurationIntegrationTests {
+
+	@TempDir Path directory;
+
+	ApplicationContextRunner runner = new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(JournalEventPublicationAutoConfiguration.class))
+			.withBean(EventSerializer.class, () -> mock(EventSerializer.class));
+
+	@Test
+	void doesNotRegisterRepositoryByDefault() {
+
+		runner.withPropertyValues("spring.modulith.events.journal.directory=" + directory)
+				.run(ctxt -> assertThat(ctxt).doesNotHaveBean(EventPublicationRepository.class));
+	}
+
+	@Test
+	void registersRepositoryIfEnabled() {
+
+		runner.withPropertyValues(JournalEventPublicationAutoConfiguration.ENABLED_PROPERTY + "=true",
+				"spring.modulith.events.journal.directory=" + directory)
+				.run(ctxt -> assertThat(ctxt).hasSingleBean(JournalEventPublicationRepository.class));
+	}
+
+	@Test
+	void requiresDirectoryToBeConfigured() {
+
+		runner.withPropertyValues(JournalEventPublicationAutoConfiguration.ENABLED_PROPERTY + "=true")
+				.run(ctxt -> assertThat(ctxt).hasFailed());
+	}
+
+	@Test
+	void backsOffIfRepositoryIsAlreadyDefined() {
+
+		runner.withBean(EventPublicationRepository.class, () -> mock(EventPublicationRepository.class))
+				.withPropertyValues(JournalEventPublicationAutoConfiguration.ENABLED_PROPERTY + "=true",
+						"spring.modulith.events.journal.directory=" + directory)
+				.run(ctxt -> assertThat(ctxt).doesNotHaveBean(JournalEventPublicationRepository.class));
+	}
+}
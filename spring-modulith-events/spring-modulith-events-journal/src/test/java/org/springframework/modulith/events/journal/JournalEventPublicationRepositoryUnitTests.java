@@ -0,0 +1,297 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.journal;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.modulith.events.EventPublication.Status;
+import org.springframework.modulith.events.core.EventSerializer;
+import org.springframework.modulith.events.core.PublicationTargetIdentifier;
+import org.springframework.modulith.events.core.TargetEventPublication;
+import org.springframework.modulith.events.journal.JournalConfigurationProperties.Fsync;
+import org.springframework.modulith.events.support.CompletionMode;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Unit tests for {@link JournalEventPublicationRepository}.
+ *
+ * @author Oliver Drotbohm
+ */
+class JournalEventPublicationRepositoryUnitTests {
+
+	static final PublicationTargetIdentifier TARGET_IDENTIFIER = PublicationTargetIdentifier.of("listener");
+
+	@TempDir Path directory;
+
+	EventSerializer serializer = mock(EventSerializer.class);
+	List<JournalEventPublicationRepository> repositories = new ArrayList<>();
+
+	@AfterEach
+	void tearDown() {
+		repositories.forEach(JournalEventPublicationRepository::destroy);
+	}
+
+	@Test
+	void restoresPublicationsFromJournal() {
+
+		var repository = open(CompletionMode.UPDATE, DataSize.ofMegabytes(1));
+		var event = registerEvent("first");
+		var publicationDate = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+		var publication = repository.create(TargetEventPublication.of(event, TARGET_IDENTIFIER, publicationDate));
+
+		repository.markFailed(publication.getIdentifier());
+
+		assertThat(reopen(repository, CompletionMode.UPDATE, DataSize.ofMegabytes(1)).findIncompletePublications())
+				.singleElement()
+				.satisfies(it -> {
+					assertThat(it.getIdentifier()).isEqualTo(publication.getIdentifier());
+					assertThat(it.getTargetIdentifier()).isEqualTo(TARGET_IDENTIFIER);
+					assertThat(it.getPublicationDate()).isEqualTo(publicationDate);
+					assertThat(it.getStatus()).isEqualTo(Status.FAILED);
+					assertThat(it.getEvent()).isEqualTo(event);
+				});
+	}
+
+	@Test
+	void completesPublicationByEventAndListener() {
+
+		var repository = open(CompletionMode.UPDATE, DataSize.ofMegabytes(1));
+		var event = registerEvent("first");
+		var publication = repository.create(TargetEventPublication.of(event, TARGET_IDENTIFIER));
+
+		assertThat(repository.findIncompletePublicationsByEventAndTargetIdentifier(event, TARGET_IDENTIFIER))
+				.map(TargetEventPublication::getIdentifier)
+				.hasValue(publication.getIdentifier());
+
+		repository.markCompleted(event, TARGET_IDENTIFIER, Instant.now());
+
+		var reopened = reopen(repository, CompletionMode.UPDATE, DataSize.ofMegabytes(1));
+
+		assertThat(reopened.findIncompletePublications()).isEmpty();
+		assertThat(reopened.findCompletedPublications())
+				.extracting(TargetEventPublication::getIdentifier)
+				.containsExactly(publication.getIdentifier());
+		assertThat(reopened.findIncompletePublicationsByEventAndTargetIdentifier(event, TARGET_IDENTIFIER)).isEmpty();
+	}
+
+	@Test
+	void deletesCompletedPublications() {
+
+		var repository = open(CompletionMode.UPDATE, DataSize.ofMegabytes(1));
+		var first = repository.create(TargetEventPublication.of(registerEvent("first"), TARGET_IDENTIFIER));
+		var second = repository.create(TargetEventPublication.of(registerEvent("second"), TARGET_IDENTIFIER));
+
+		repository.markCompleted(first.getIdentifier(), Instant.now().minusSeconds(60));
+		repository.markCompleted(second.getIdentifier(), Instant.now());
+		repository.deleteCompletedPublicationsBefore(Instant.now().minusSeconds(30));
+
+		assertThat(reopen(repository, CompletionMode.UPDATE, DataSize.ofMegabytes(1)).findCompletedPublications())
+				.extracting(TargetEventPublication::getIdentifier)
+				.containsExactly(second.getIdentifier());
+	}
+
+	@Test
+	void removesSegmentsOnceAllPublicationsAreCompleted() throws IOException {
+
+		var repository = open(CompletionMode.DELETE, DataSize.ofKilobytes(1));
+		var identifiers = new ArrayList<UUID>();
+
+		for (int i = 0; i < 50; i++) {
+			identifiers.add(repository.create(TargetEventPublication.of(registerEvent("event-" + i), TARGET_IDENTIFIER))
+					.getIdentifier());
+		}
+
+		assertThat(repository.getSegmentCount()).isGreaterThan(1);
+
+		repository.markCompleted(identifiers, Instant.now());
+
+		assertThat(repository.getSegmentCount()).isOne();
+
+		try (var files = Files.list(directory)) {
+			assertThat(files.filter(JournalSegment::isSegment)).hasSize(1);
+		}
+
+		assertThat(reopen(repository, CompletionMode.DELETE, DataSize.ofKilobytes(1)).findIncompletePublications())
+				.isEmpty();
+	}
+
+	@Test
+	void relocatesRemainingPublicationsOfSparseSegments() {
+
+		var repository = open(CompletionMode.DELETE, DataSize.ofKilobytes(1));
+		var pending = repository.create(TargetEventPublication.of(registerEvent("pending"), TARGET_IDENTIFIER));
+		var identifiers = new ArrayList<UUID>();
+
+		for (int i = 0; i < 50; i++) {
+			identifiers.add(repository.create(TargetEventPublication.of(registerEvent("event-" + i), TARGET_IDENTIFIER))
+					.getIdentifier());
+		}
+
+		var segments = repository.getSegmentCount();
+
+		repository.markFailed(pending.getIdentifier());
+		repository.markCompleted(identifiers, Instant.now());
+
+		assertThat(repository.getSegmentCount()).isLessThan(segments);
+
+		var reopened = reopen(repository, CompletionMode.DELETE, DataSize.ofKilobytes(1));
+
+		assertThat(reopened.findIncompletePublications())
+				.singleElement()
+				.satisfies(it -> {
+					assertThat(it.getIdentifier()).isEqualTo(pending.getIdentifier());
+					assertThat(it.getStatus()).isEqualTo(Status.FAILED);
+				});
+	}
+
+	@Test
+	void marksPublicationResubmittedOnlyOnce() {
+
+		var repository = open(CompletionMode.UPDATE, DataSize.ofMegabytes(1));
+		var publication = repository.create(TargetEventPublication.of(registerEvent("first"), TARGET_IDENTIFIER));
+
+		assertThat(repository.markResubmitted(publication.getIdentifier(), Instant.now())).isTrue();
+		assertThat(repository.markResubmitted(publication.getIdentifier(), Instant.now())).isFalse();
+		assertThat(repository.findByStatus(Status.RESUBMITTED))
+				.singleElement()
+				.extracting(TargetEventPublication::getCompletionAttempts)
+				.isEqualTo(2);
+	}
+
+	@Test
+	void appendsPublicationCreatedInTransactionRightBeforeCommit() {
+
+		var repository = open(CompletionMode.UPDATE, DataSize.ofMegabytes(1));
+
+		var publication = inTransaction(true, true, () -> {
+
+			var result = repository.create(TargetEventPublication.of(registerEvent("first"), TARGET_IDENTIFIER));
+
+			assertThat(repository.findIncompletePublications()).isEmpty();
+
+			return result;
+		});
+
+		assertThat(reopen(repository, CompletionMode.UPDATE, DataSize.ofMegabytes(1)).findIncompletePublications())
+				.extracting(TargetEventPublication::getIdentifier)
+				.containsExactly(publication.getIdentifier());
+	}
+
+	@Test
+	void doesNotAppendPublicationCreatedInRolledBackTransaction() {
+
+		var repository = open(CompletionMode.UPDATE, DataSize.ofMegabytes(1));
+
+		inTransaction(false, false,
+				() -> repository.create(TargetEventPublication.of(registerEvent("first"), TARGET_IDENTIFIER)));
+
+		assertThat(repository.findIncompletePublications()).isEmpty();
+		assertThat(reopen(repository, CompletionMode.UPDATE, DataSize.ofMegabytes(1)).findIncompletePublications())
+				.isEmpty();
+	}
+
+	@Test
+	void abortsPublicationAppendedBeforeFailedCommit() {
+
+		var repository = open(CompletionMode.UPDATE, DataSize.ofMegabytes(1));
+
+		inTransaction(true, false,
+				() -> repository.create(TargetEventPublication.of(registerEvent("first"), TARGET_IDENTIFIER)));
+
+		assertThat(repository.findIncompletePublications()).isEmpty();
+		assertThat(reopen(repository, CompletionMode.UPDATE, DataSize.ofMegabytes(1)).findIncompletePublications())
+				.isEmpty();
+	}
+
+	private static <T> T inTransaction(boolean prepare, boolean commit, Supplier<T> callback) {
+
+		TransactionSynchronizationManager.initSynchronization();
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+
+		try {
+
+			var result = callback.get();
+			var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+			if (prepare) {
+				synchronizations.forEach(it -> it.beforeCommit(false));
+			}
+
+			if (commit) {
+				synchronizations.forEach(TransactionSynchronization::afterCommit);
+			}
+
+			synchronizations.forEach(it -> it.afterCompletion(commit
+					? TransactionSynchronization.STATUS_COMMITTED
+					: TransactionSynchronization.STATUS_ROLLED_BACK));
+
+			return result;
+
+		} finally {
+			TransactionSynchronizationManager.setActualTransactionActive(false);
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	private JournalEventPublicationRepository open(CompletionMode mode, DataSize segmentSize) {
+
+		var properties = new JournalConfigurationProperties(directory, segmentSize, new Fsync(1, null));
+		var repository = new JournalEventPublicationRepository(serializer, mode, properties);
+		repository.setBeanClassLoader(getClass().getClassLoader());
+
+		repositories.add(repository);
+
+		return repository;
+	}
+
+	private JournalEventPublicationRepository reopen(JournalEventPublicationRepository repository, CompletionMode mode,
+			DataSize segmentSize) {
+
+		repository.destroy();
+		repositories.remove(repository);
+
+		return open(mode, segmentSize);
+	}
+
+	private TestEvent registerEvent(String id) {
+
+		var event = new TestEvent(id);
+		var serialized = "{\"eventId\":\"" + id + "\"}";
+
+		when(serializer.serialize(event)).thenReturn(serialized);
+		when(serializer.deserialize(serialized, TestEvent.class)).thenReturn(event);
+
+		return event;
+	}
+
+	record TestEvent(String eventId) {}
+}
@@ -43,6 +43,7 @@ import org.springframework.modulith.events.support.EventExternalizationTransport
 import org.springframework.modulith.events.support.EventExternalizerModuleListener;
 import org.springframework.modulith.events.support.OutboxEventExternalizer;
 import org.springframework.modulith.events.support.OutboxEventExternalizerFactory;
+import org.springframework.modulith.events.support.OutboxExternalizationHandler;
 
 /**
  * Auto-configuration to set up a {@link org.springframework.modulith.events.support.DelegatingEventExternalizer} to
@@ -85,6 +86,11 @@ class KafkaEventExternalizerConfiguration {
 			this.externalizer = factory.forTransport(createKafkaTransport(configuration, operations, beanFactory));
 		}
 
+		@Bean
+		OutboxExternalizationHandler kafkaOutboxExternalizationHandler() {
+			return externalizer::handle;
+		}
+
 		@AutoConfiguration
 		@ConditionalOnClass(OutboxHandler.class)
 		class NamastackOutboxAutoConfiguration {
@@ -103,11 +109,37 @@ class KafkaEventExternalizerConfiguration {
 		class JobRunrOutboxAutoConfiguration {
 
 			@Bean
-			JobRunrExternalizationTransport jobRunrKafkaOutboxExternalizer() {
+			KafkaJobRunrExternalizationTransport jobRunrKafkaOutboxExternalizer() {
 
 				logger.debug("Registering JobRunr domain event outbox externalization to Kafka.");
 
-				return payload -> externalizer.externalizeBlocking(payload);
+				return new KafkaJobRunrExternalizationTransport(externalizer);
+			}
+		}
+
+		/**
+		 * A {@link JobRunrExternalizationTransport} externalizing events to Kafka. JobRunr looks up the
+		 * transport to invoke for a job by its type, so that every broker needs a dedicated one. The job only
+		 * completes once the broker has acknowledged the event, so that JobRunr retries it in case of a failure.
+		 *
+		 * @author Oliver Drotbohm
+		 * @since 2.2
+		 */
+		static class KafkaJobRunrExternalizationTransport implements JobRunrExternalizationTransport {
+
+			private final OutboxEventExternalizer externalizer;
+
+			KafkaJobRunrExternalizationTransport(OutboxEventExternalizer externalizer) {
+				this.externalizer = externalizer;
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * @see org.springframework.modulith.events.jobrunr.JobRunrExternalizationTransport#externalize(java.lang.Object)
+			 */
+			@Override
+			public void externalize(Object event) {
+				externalizer.externalizeBlocking(event);
 			}
 		}
 	}
@@ -41,6 +41,7 @@ import org.springframework.modulith.events.support.EventExternalizationTransport
 import org.springframework.modulith.events.support.EventExternalizerModuleListener;
 import org.springframework.modulith.events.support.OutboxEventExternalizer;
 import org.springframework.modulith.events.support.OutboxEventExternalizerFactory;
+import org.springframework.modulith.events.support.OutboxExternalizationHandler;
 
 /**
  * Auto-configuration to set up a {@link org.springframework.modulith.events.support.DelegatingEventExternalizer} to
@@ -79,7 +80,12 @@ class SpringMessagingEventExternalizerConfiguration {
 		SpringMessagingOutboxConfiguration(EventExternalizationConfiguration configuration,
 				BeanFactory beanFactory, OutboxEventExternalizerFactory factory) {
 
-			this.externalizer = factory.forTransport(createMessagingTransport(configuration, beanFactory));
+			this.externalizer = factory.forBlockingTransport(createMessagingTransport(configuration, beanFactory));
+		}
+
+		@Bean
+		OutboxExternalizationHandler springMessagingOutboxExternalizationHandler() {
+			return externalizer::handle;
 		}
 
 		@AutoConfiguration
@@ -100,11 +106,37 @@ class SpringMessagingEventExternalizerConfiguration {
 		class JobRunrOutboxAutoConfiguration {
 
 			@Bean
-			JobRunrExternalizationTransport jobRunrSpringMessagingOutboxExternalizer() {
+			SpringMessagingJobRunrExternalizationTransport jobRunrSpringMessagingOutboxExternalizer() {
 
 				logger.debug("Registering JobRunr domain event outbox externalization for Spring Messaging.");
 
-				return externalizer::externalizeBlocking;
+				return new SpringMessagingJobRunrExternalizationTransport(externalizer);
+			}
+		}
+
+		/**
+		 * A {@link JobRunrExternalizationTransport} externalizing events to Spring Messaging. JobRunr looks up the
+		 * transport to invoke for a job by its type, so that every broker needs a dedicated one. The job only
+		 * completes once the broker has acknowledged the event, so that JobRunr retries it in case of a failure.
+		 *
+		 * @author Oliver Drotbohm
+		 * @since 2.2
+		 */
+		static class SpringMessagingJobRunrExternalizationTransport implements JobRunrExternalizationTransport {
+
+			private final OutboxEventExternalizer externalizer;
+
+			SpringMessagingJobRunrExternalizationTransport(OutboxEventExternalizer externalizer) {
+				this.externalizer = externalizer;
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * @see org.springframework.modulith.events.jobrunr.JobRunrExternalizationTransport#externalize(java.lang.Object)
+			 */
+			@Override
+			public void externalize(Object event) {
+				externalizer.externalizeBlocking(event);
 			}
 		}
 	}
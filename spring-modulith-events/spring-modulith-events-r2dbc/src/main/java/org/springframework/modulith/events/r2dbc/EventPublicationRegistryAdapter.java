@@ -0,0 +1,289 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.r2dbc;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.modulith.events.EventPublication;
+import org.springframework.modulith.events.ResubmissionOptions;
+import org.springframework.modulith.events.core.EventPublicationRegistry;
+import org.springframework.modulith.events.core.PublicationTargetIdentifier;
+import org.springframework.modulith.events.core.Staleness;
+import org.springframework.modulith.events.core.TargetEventPublication;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.reactive.TransactionContext;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * Exposes a {@link ReactiveEventPublicationRegistry} as {@link EventPublicationRegistry} so that the event multicaster
+ * and the listener completion tracking of the core event publication infrastructure can use it.
+ * <p>
+ * Events published via {@link org.springframework.transaction.reactive.TransactionalEventPublisher} carry the reactive
+ * {@link TransactionContext} as event source. Their publications are stored from a {@link TransactionSynchronization}
+ * right before that transaction commits, so that they're written atomically with the business data. State transitions
+ * triggered on a non-blocking thread are handed off to a single worker thread, so that they're applied in order without
+ * blocking the calling thread. Resubmission of failed publications doesn't consider
+ * {@link ResubmissionOptions#getMaxInFlight()}, as the reactive registry doesn't track resubmissions.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+class EventPublicationRegistryAdapter implements EventPublicationRegistry, DisposableBean {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(EventPublicationRegistryAdapter.class);
+
+	private final ReactiveEventPublicationRegistry delegate;
+	private final ExecutorService transitions;
+
+	/**
+	 * Creates a new {@link EventPublicationRegistryAdapter} for the given {@link ReactiveEventPublicationRegistry}.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 */
+	EventPublicationRegistryAdapter(ReactiveEventPublicationRegistry delegate) {
+
+		Assert.notNull(delegate, "ReactiveEventPublicationRegistry must not be null!");
+
+		this.delegate = delegate;
+		this.transitions = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("modulith-r2dbc-events-"));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRegistry#store(java.lang.Object, java.util.stream.Stream)
+	 */
+	@Override
+	public Collection<TargetEventPublication> store(Object event, Stream<PublicationTargetIdentifier> listeners) {
+
+		var publications = delegate.store(event, listeners);
+
+		if (Schedulers.isInNonBlockingThread()) {
+
+			transition(publications.then());
+
+			return List.of();
+		}
+
+		return toList(publications);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRegistry#store(org.springframework.context.ApplicationEvent, java.lang.Object, java.util.stream.Stream)
+	 */
+	@Override
+	public void store(ApplicationEvent applicationEvent, Object event, Stream<PublicationTargetIdentifier> listeners) {
+
+		if (!(applicationEvent.getSource() instanceof TransactionContext context)) {
+
+			store(event, listeners);
+			return;
+		}
+
+		var synchronizations = new TransactionSynchronizationManager(context);
+
+		if (!synchronizations.isSynchronizationActive()) {
+
+			store(event, listeners);
+			return;
+		}
+
+		var identifiers = listeners.toList();
+
+		synchronizations.registerSynchronization(new TransactionSynchronization() {
+
+			/*
+			 * (non-Javadoc)
+			 * @see org.springframework.transaction.reactive.TransactionSynchronization#beforeCommit(boolean)
+			 */
+			@Override
+			public Mono<Void> beforeCommit(boolean readOnly) {
+				return delegate.store(event, identifiers.stream()).then();
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRegistry#findIncompletePublications()
+	 */
+	@Override
+	public Collection<TargetEventPublication> findIncompletePublications() {
+		return toList(delegate.findIncompletePublications());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRegistry#findIncompletePublicationsOlderThan(java.time.Duration)
+	 */
+	@Override
+	public Collection<TargetEventPublication> findIncompletePublicationsOlderThan(Duration duration) {
+		return toList(delegate.findIncompletePublicationsOlderThan(duration));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRegistry#markProcessing(java.lang.Object, org.springframework.modulith.events.core.PublicationTargetIdentifier)
+	 */
+	@Override
+	public void markProcessing(Object event, PublicationTargetIdentifier identifier) {
+		transition(delegate.markProcessing(event, identifier));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRegistry#markCompleted(java.lang.Object, org.springframework.modulith.events.core.PublicationTargetIdentifier)
+	 */
+	@Override
+	public void markCompleted(Object event, PublicationTargetIdentifier targetIdentifier) {
+		transition(delegate.markCompleted(event, targetIdentifier));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRegistry#markFailed(java.lang.Object, org.springframework.modulith.events.core.PublicationTargetIdentifier)
+	 */
+	@Override
+	public void markFailed(Object event, PublicationTargetIdentifier targetIdentifier) {
+		transition(delegate.markFailed(event, targetIdentifier));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRegistry#deleteCompletedPublicationsOlderThan(java.time.Duration)
+	 */
+	@Override
+	public void deleteCompletedPublicationsOlderThan(Duration duration) {
+		delegate.deleteCompletedPublicationsOlderThan(duration).block();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRegistry#processIncompletePublications(java.util.function.Predicate, java.util.function.Consumer, java.time.Duration)
+	 */
+	@Override
+	public void processIncompletePublications(Predicate<EventPublication> filter,
+			Consumer<TargetEventPublication> consumer, @Nullable Duration duration) {
+
+		var publications = duration == null
+				? delegate.findIncompletePublications()
+				: delegate.findIncompletePublicationsOlderThan(duration);
+
+		process(publications.filter(filter::test), consumer);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRegistry#processFailedPublications(org.springframework.modulith.events.ResubmissionOptions, java.util.function.Consumer)
+	 */
+	@Override
+	public void processFailedPublications(ResubmissionOptions options, Consumer<TargetEventPublication> consumer) {
+
+		var publications = delegate.findFailedPublicationsOlderThan(options.getMinAge())
+				.filter(options.getFilter()::test)
+				.take(options.getBatchSize());
+
+		process(publications, consumer);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRegistry#markStalePublicationsFailed(org.springframework.modulith.events.core.Staleness)
+	 */
+	@Override
+	public void markStalePublicationsFailed(Staleness staleness) {
+		delegate.markStalePublicationsFailed(staleness).block();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() {
+		transitions.shutdown();
+	}
+
+	/**
+	 * Applies the given state transition on the worker thread. Waits for its completion unless invoked on a
+	 * non-blocking thread, in which case failures are logged.
+	 *
+	 * @param operation must not be {@literal null}.
+	 */
+	private void transition(Mono<Void> operation) {
+
+		var result = CompletableFuture.runAsync(operation::block, transitions);
+
+		if (Schedulers.isInNonBlockingThread()) {
+
+			result.whenComplete((__, o_O) -> {
+				if (o_O != null) {
+					LOGGER.warn("Failed to update event publication state!", o_O);
+				}
+			});
+
+			return;
+		}
+
+		try {
+			result.join();
+		} catch (CompletionException o_O) {
+			throw o_O.getCause() instanceof RuntimeException cause ? cause : o_O;
+		}
+	}
+
+	private static void process(Flux<TargetEventPublication> publications, Consumer<TargetEventPublication> consumer) {
+
+		toList(publications).forEach(it -> {
+
+			try {
+				consumer.accept(it);
+			} catch (Exception o_O) {
+
+				if (LOGGER.isInfoEnabled()) {
+					LOGGER.info("Error republishing event publication %s.".formatted(it), o_O);
+				}
+			}
+		});
+	}
+
+	private static List<TargetEventPublication> toList(Flux<TargetEventPublication> publications) {
+
+		var result = publications.collectList().block();
+
+		return result == null ? List.of() : result;
+	}
+}
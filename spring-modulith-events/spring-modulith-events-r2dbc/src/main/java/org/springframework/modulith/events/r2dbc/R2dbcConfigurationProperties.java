@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.r2dbc;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+/**
+ * Configuration properties for R2DBC.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+@ConfigurationProperties(prefix = "spring.modulith.events.r2dbc")
+class R2dbcConfigurationProperties {
+
+	private final @Nullable String schema;
+
+	/**
+	 * Creates a new {@link R2dbcConfigurationProperties} instance.
+	 *
+	 * @param schema the schema name of event publication table, can be {@literal null}.
+	 */
+	@ConstructorBinding
+	R2dbcConfigurationProperties(@Nullable String schema) {
+		this.schema = schema;
+	}
+
+	/**
+	 * The name of the schema where the event publication table resides.
+	 *
+	 * @return can be {@literal null}.
+	 */
+	public @Nullable String getSchema() {
+		return schema;
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.r2dbc;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import reactor.core.publisher.Mono;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.modulith.events.support.CompletionMode;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.util.Assert;
+
+/**
+ * Initializes the database schema used to store event publications. The schema scripts create the same tables as the
+ * ones of the JDBC-based repository, but only if they do not exist yet. If a schema is configured, it is created if
+ * necessary and the tables are created within it.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+class R2dbcDatabaseSchemaInitializer implements InitializingBean {
+
+	private final ConnectionFactory connectionFactory;
+	private final ResourceLoader resourceLoader;
+	private final R2dbcRepositorySettings settings;
+
+	/**
+	 * Creates a new {@link R2dbcDatabaseSchemaInitializer} for the given {@link ConnectionFactory},
+	 * {@link ResourceLoader} and {@link R2dbcRepositorySettings}.
+	 *
+	 * @param connectionFactory must not be {@literal null}.
+	 * @param resourceLoader must not be {@literal null}.
+	 * @param settings must not be {@literal null}.
+	 */
+	R2dbcDatabaseSchemaInitializer(ConnectionFactory connectionFactory, ResourceLoader resourceLoader,
+			R2dbcRepositorySettings settings) {
+
+		Assert.notNull(connectionFactory, "ConnectionFactory must not be null!");
+		Assert.notNull(resourceLoader, "ResourceLoader must not be null!");
+		Assert.notNull(settings, "R2dbcRepositorySettings must not be null!");
+
+		this.connectionFactory = connectionFactory;
+		this.resourceLoader = resourceLoader;
+		this.settings = settings;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.InitializingBean#afterPropertiesSet()
+	 */
+	@Override
+	public void afterPropertiesSet() {
+
+		var databaseType = settings.getDatabaseType();
+		var populator = new ResourceDatabasePopulator();
+
+		populator.addScript(resourceLoader.getResource("classpath:" + databaseType.getSchemaResourceFilename(false)));
+
+		if (settings.getCompletionMode() == CompletionMode.ARCHIVE) {
+			populator.addScript(
+					resourceLoader.getResource("classpath:" + databaseType.getArchiveSchemaResourceFilename(false)));
+		}
+
+		var schema = settings.getSchema();
+
+		if (schema == null) {
+
+			// Blocking is fine as this is only executed on application startup.
+			populator.populate(connectionFactory).block();
+			return;
+		}
+
+		// Switching the schema must not leak into pooled connections, so we use a dedicated one.
+		var factory = connectionFactory instanceof Wrapped<?> wrapped
+				&& wrapped.unwrap() instanceof ConnectionFactory target ? target : connectionFactory;
+
+		Mono.usingWhen(factory.create(),
+				connection -> execute(connection, "CREATE SCHEMA IF NOT EXISTS " + schema)
+						.then(execute(connection, databaseType.getSetSchemaSql(schema)))
+						.then(populator.populate(connection)),
+				Connection::close)
+				.block();
+	}
+
+	private static Mono<Void> execute(Connection connection, String sql) {
+		return Mono.from(connection.createStatement(sql).execute())
+				.flatMap(it -> Mono.from(it.getRowsUpdated()))
+				.then();
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.r2dbc;
+
+import io.r2dbc.spi.ConnectionFactory;
+
+import java.time.Clock;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.modulith.events.config.EventPublicationAutoConfiguration;
+import org.springframework.modulith.events.core.EventPublicationRegistry;
+import org.springframework.modulith.events.core.EventPublicationRepository;
+import org.springframework.modulith.events.core.EventSerializer;
+import org.springframework.modulith.events.sql.DatabaseType;
+import org.springframework.modulith.events.support.CompletionMode;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/**
+ * Auto-configuration for the R2DBC-based {@link ReactiveEventPublicationRegistry}. Exposes it as
+ * {@link EventPublicationRegistry} unless a blocking event publication repository is configured, so that the core event
+ * publication infrastructure uses it.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+@AutoConfiguration(before = EventPublicationAutoConfiguration.class, afterName = {
+		"org.springframework.boot.r2dbc.autoconfigure.R2dbcAutoConfiguration",
+		"org.springframework.boot.r2dbc.autoconfigure.R2dbcTransactionManagerAutoConfiguration",
+		"org.springframework.modulith.events.jdbc.JdbcEventPublicationAutoConfiguration"
+})
+@ConditionalOnClass({ ConnectionFactory.class, DatabaseClient.class })
+@ConditionalOnBean(ConnectionFactory.class)
+@EnableConfigurationProperties(R2dbcConfigurationProperties.class)
+class R2dbcEventPublicationAutoConfiguration {
+
+	static final String SCHEMA_INITIALIZATION_PROPERTY = "spring.modulith.events.r2dbc.schema-initialization.enabled";
+
+	@Bean
+	R2dbcRepositorySettings r2dbcEventPublicationRepositorySettings(ConnectionFactory connectionFactory,
+			R2dbcConfigurationProperties properties, Environment environment) {
+
+		var databaseType = DatabaseType.from(connectionFactory.getMetadata().getName());
+
+		return new R2dbcRepositorySettings(databaseType, CompletionMode.from(environment), properties.getSchema());
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	ReactiveEventPublicationRepository r2dbcEventPublicationRepository(ConnectionFactory connectionFactory,
+			EventSerializer serializer, R2dbcRepositorySettings settings) {
+		return new R2dbcEventPublicationRepository(DatabaseClient.create(connectionFactory), serializer, settings);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	ReactiveEventPublicationRegistry reactiveEventPublicationRegistry(ReactiveEventPublicationRepository repository,
+			ConnectionFactory connectionFactory, ObjectProvider<ReactiveTransactionManager> transactionManager,
+			ObjectProvider<Clock> clock) {
+
+		var operator = TransactionalOperator.create(
+				transactionManager.getIfAvailable(() -> new R2dbcTransactionManager(connectionFactory)));
+
+		return new ReactiveEventPublicationRegistry(repository, operator, clock.getIfAvailable(() -> Clock.systemUTC()));
+	}
+
+	@Bean
+	@ConditionalOnMissingBean({ EventPublicationRegistry.class, EventPublicationRepository.class })
+	EventPublicationRegistryAdapter reactiveEventPublicationRegistryAdapter(ReactiveEventPublicationRegistry registry) {
+		return new EventPublicationRegistryAdapter(registry);
+	}
+
+	/**
+	 * R2DBC schema initialization auto-configuration.
+	 *
+	 * @author Oliver Drotbohm
+	 * @since 2.2
+	 */
+	@AutoConfiguration(afterName = {
+			"org.springframework.boot.flyway.autoconfigure.FlywayAutoConfiguration",
+			"org.springframework.boot.liquibase.autoconfigure.LiquibaseAutoConfiguration"
+	})
+	@ConditionalOnProperty(name = SCHEMA_INITIALIZATION_PROPERTY, havingValue = "true", matchIfMissing = true)
+	static class R2dbcEventPublicationSchemaCreationAutoConfiguration {
+
+		@Bean
+		R2dbcDatabaseSchemaInitializer r2dbcDatabaseSchemaInitializer(ConnectionFactory connectionFactory,
+				ResourceLoader resourceLoader, R2dbcRepositorySettings settings) {
+			return new R2dbcDatabaseSchemaInitializer(connectionFactory, resourceLoader, settings);
+		}
+	}
+}
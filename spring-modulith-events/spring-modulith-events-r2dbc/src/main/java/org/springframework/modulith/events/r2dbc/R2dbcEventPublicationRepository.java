@@ -0,0 +1,719 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.r2dbc;
+
+import io.r2dbc.spi.Row;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.modulith.events.EventPublication.Status;
+import org.springframework.modulith.events.core.EventSerializer;
+import org.springframework.modulith.events.core.PublicationTargetIdentifier;
+import org.springframework.modulith.events.core.TargetEventPublication;
+import org.springframework.modulith.events.sql.DatabaseType;
+import org.springframework.modulith.events.support.CompletionMode;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * R2DBC-based {@link ReactiveEventPublicationRepository} using the same tables as the JDBC-based repository in its
+ * current (v2) structure.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+class R2dbcEventPublicationRepository implements ReactiveEventPublicationRepository, BeanClassLoaderAware {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(R2dbcEventPublicationRepository.class);
+
+	private static final String ALL_COLUMNS = "ID, COMPLETION_DATE, EVENT_TYPE, LISTENER_ID, PUBLICATION_DATE, SERIALIZED_EVENT, STATUS, COMPLETION_ATTEMPTS, LAST_RESUBMISSION_DATE";
+
+	private static final String SQL_STATEMENT_INSERT = """
+			INSERT INTO %s (ID, EVENT_TYPE, LISTENER_ID, PUBLICATION_DATE, SERIALIZED_EVENT, STATUS, COMPLETION_ATTEMPTS, LAST_RESUBMISSION_DATE)
+			VALUES (:id, :eventType, :listenerId, :publicationDate, :serializedEvent, :status, 1, :lastResubmissionDate)
+			""";
+
+	private static final String SQL_STATEMENT_FIND_COMPLETED = """
+			SELECT %s
+			FROM %s
+			WHERE
+					COMPLETION_DATE IS NOT NULL OR STATUS IS NOT NULL AND STATUS = 'COMPLETED'
+			ORDER BY PUBLICATION_DATE ASC
+			""";
+
+	private static final String SQL_STATEMENT_FIND_INCOMPLETE = """
+			SELECT %s
+			FROM %s
+			WHERE
+					COMPLETION_DATE IS NULL OR STATUS != 'COMPLETED'
+			ORDER BY
+					PUBLICATION_DATE ASC
+			""";
+
+	private static final String SQL_STATEMENT_FIND_INCOMPLETE_PUBLISHED_BEFORE = """
+			SELECT %s
+			FROM %s
+			WHERE
+					(COMPLETION_DATE IS NULL OR STATUS IS NOT NULL AND STATUS = 'PROCESSING')
+					AND PUBLICATION_DATE < :publicationDate
+			ORDER BY PUBLICATION_DATE ASC
+			""";
+
+	private static final String SQL_STATEMENT_FIND_BY_EVENT_AND_LISTENER_ID = """
+			SELECT %s
+			FROM %s
+			WHERE
+					SERIALIZED_EVENT = :serializedEvent
+					AND LISTENER_ID = :listenerId
+					AND (COMPLETION_DATE IS NULL OR STATUS = 'FAILED')
+			ORDER BY PUBLICATION_DATE
+			""";
+
+	private static final String SQL_STATEMENT_UPDATE_STATUS = """
+			UPDATE %s
+			SET
+					STATUS = '%s'
+			WHERE
+					ID = :id
+					AND STATUS != '%s'
+			""";
+
+	private static final String SQL_STATEMENT_COMPLETE = """
+			UPDATE %s
+			SET
+					STATUS = 'COMPLETED',
+					COMPLETION_DATE = :completionDate
+			WHERE
+					COMPLETION_DATE IS NULL
+					AND %s
+			""";
+
+	private static final String SQL_STATEMENT_DELETE = """
+			DELETE
+			FROM %s
+			WHERE
+					%s
+			""";
+
+	private static final String SQL_STATEMENT_DELETE_COMPLETED_BEFORE = """
+			DELETE
+			FROM %s
+			WHERE
+					COMPLETION_DATE < :completionDate AND (STATUS = 'COMPLETED' OR STATUS IS NULL)
+			""";
+
+	// Only copy if no entry in target table
+	private static final String SQL_STATEMENT_COPY_TO_ARCHIVE = """
+			INSERT INTO %s (%s)
+			SELECT ID, LISTENER_ID, EVENT_TYPE, SERIALIZED_EVENT, PUBLICATION_DATE, 'COMPLETED', :completionDate, COMPLETION_ATTEMPTS, LAST_RESUBMISSION_DATE
+				FROM %s
+				WHERE %s
+				  AND NOT EXISTS (SELECT 1 FROM %s WHERE ID = %s.ID)
+			""";
+
+	private static final String CONDITION_BY_ID = "ID = :id";
+	private static final String CONDITION_BY_IDS = "ID IN (:ids)";
+	private static final String CONDITION_BY_EVENT_AND_LISTENER_ID = "LISTENER_ID = :listenerId AND SERIALIZED_EVENT = :serializedEvent";
+
+	private final DatabaseClient client;
+	private final EventSerializer serializer;
+	private final DatabaseType databaseType;
+	private final CompletionMode completionMode;
+	private final String table, archiveTable;
+
+	private final String sqlStatementInsert,
+			sqlStatementFindCompleted,
+			sqlStatementFindIncomplete,
+			sqlStatementFindIncompleteBefore,
+			sqlStatementFindByEventAndListenerId,
+			sqlStatementMarkProcessing,
+			sqlStatementMarkFailed,
+			sqlStatementCompleteById,
+			sqlStatementCompleteByEventAndListenerId,
+			sqlStatementDeleteById,
+			sqlStatementDeleteByIds,
+			sqlStatementDeleteByEventAndListenerId,
+			sqlStatementDeleteCompletedBefore;
+
+	private final ArchiveStatements archiveById, archiveByEventAndListenerId;
+
+	private @Nullable ClassLoader classLoader;
+
+	/**
+	 * Creates a new {@link R2dbcEventPublicationRepository} for the given {@link DatabaseClient},
+	 * {@link EventSerializer} and {@link R2dbcRepositorySettings}.
+	 *
+	 * @param client must not be {@literal null}.
+	 * @param serializer must not be {@literal null}.
+	 * @param settings must not be {@literal null}.
+	 */
+	R2dbcEventPublicationRepository(DatabaseClient client, EventSerializer serializer,
+			R2dbcRepositorySettings settings) {
+
+		Assert.notNull(client, "DatabaseClient must not be null!");
+		Assert.notNull(serializer, "EventSerializer must not be null!");
+		Assert.notNull(settings, "R2dbcRepositorySettings must not be null!");
+
+		this.client = client;
+		this.serializer = serializer;
+		this.databaseType = settings.getDatabaseType();
+		this.completionMode = settings.getCompletionMode();
+		this.table = settings.getTable();
+		this.archiveTable = settings.getArchiveTable();
+
+		var completedTable = completionMode == CompletionMode.ARCHIVE ? archiveTable : table;
+
+		this.sqlStatementInsert = asOneLine(SQL_STATEMENT_INSERT.formatted(table));
+		this.sqlStatementFindCompleted = asOneLine(SQL_STATEMENT_FIND_COMPLETED.formatted(ALL_COLUMNS, completedTable));
+		this.sqlStatementFindIncomplete = asOneLine(SQL_STATEMENT_FIND_INCOMPLETE.formatted(ALL_COLUMNS, table));
+		this.sqlStatementFindIncompleteBefore = asOneLine(
+				SQL_STATEMENT_FIND_INCOMPLETE_PUBLISHED_BEFORE.formatted(ALL_COLUMNS, table));
+		this.sqlStatementFindByEventAndListenerId = asOneLine(
+				SQL_STATEMENT_FIND_BY_EVENT_AND_LISTENER_ID.formatted(ALL_COLUMNS, table));
+		this.sqlStatementMarkProcessing = asOneLine(
+				SQL_STATEMENT_UPDATE_STATUS.formatted(table, Status.PROCESSING, Status.PROCESSING));
+		this.sqlStatementMarkFailed = asOneLine(
+				SQL_STATEMENT_UPDATE_STATUS.formatted(table, Status.FAILED, Status.FAILED));
+		this.sqlStatementCompleteById = asOneLine(SQL_STATEMENT_COMPLETE.formatted(table, CONDITION_BY_ID));
+		this.sqlStatementCompleteByEventAndListenerId = asOneLine(
+				SQL_STATEMENT_COMPLETE.formatted(table, CONDITION_BY_EVENT_AND_LISTENER_ID));
+		this.sqlStatementDeleteById = asOneLine(SQL_STATEMENT_DELETE.formatted(table, CONDITION_BY_ID));
+		this.sqlStatementDeleteByIds = asOneLine(SQL_STATEMENT_DELETE.formatted(table, CONDITION_BY_IDS));
+		this.sqlStatementDeleteByEventAndListenerId = asOneLine(
+				SQL_STATEMENT_DELETE.formatted(table, CONDITION_BY_EVENT_AND_LISTENER_ID));
+		this.sqlStatementDeleteCompletedBefore = asOneLine(
+				SQL_STATEMENT_DELETE_COMPLETED_BEFORE.formatted(completedTable));
+		this.archiveById = new ArchiveStatements(settings, CONDITION_BY_ID);
+		this.archiveByEventAndListenerId = new ArchiveStatements(settings, CONDITION_BY_EVENT_AND_LISTENER_ID);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.BeanClassLoaderAware#setBeanClassLoader(java.lang.ClassLoader)
+	 */
+	@Override
+	public void setBeanClassLoader(ClassLoader classLoader) {
+		this.classLoader = classLoader;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.r2dbc.ReactiveEventPublicationRepository#create(org.springframework.modulith.events.core.TargetEventPublication)
+	 */
+	@Override
+	public Mono<TargetEventPublication> create(TargetEventPublication publication) {
+
+		Assert.notNull(publication, "TargetEventPublication must not be null!");
+
+		var publicationDate = instantToDatabase(publication.getPublicationDate());
+
+		return client.sql(sqlStatementInsert)
+				.bind("id", uuidToDatabase(publication.getIdentifier()))
+				.bind("eventType", publication.getEvent().getClass().getName())
+				.bind("listenerId", publication.getTargetIdentifier().getValue())
+				.bind("publicationDate", publicationDate)
+				.bind("serializedEvent", serializeEvent(publication.getEvent()))
+				.bind("status", publication.getStatus().name())
+				.bind("lastResubmissionDate", publicationDate)
+				.then()
+				.thenReturn(publication);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.r2dbc.ReactiveEventPublicationRepository#markProcessing(java.util.UUID)
+	 */
+	@Override
+	public Mono<Void> markProcessing(UUID identifier) {
+		return byId(client.sql(sqlStatementMarkProcessing), identifier).then();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.r2dbc.ReactiveEventPublicationRepository#markCompleted(java.lang.Object, org.springframework.modulith.events.core.PublicationTargetIdentifier, java.time.Instant)
+	 */
+	@Override
+	public Mono<Void> markCompleted(Object event, PublicationTargetIdentifier identifier, Instant completionDate) {
+
+		Assert.notNull(event, "Event must not be null!");
+		Assert.notNull(identifier, "PublicationTargetIdentifier must not be null!");
+		Assert.notNull(completionDate, "Completion date must not be null!");
+
+		var serializedEvent = serializeEvent(event);
+
+		return switch (completionMode) {
+
+			case DELETE -> byEventAndListenerId(client.sql(sqlStatementDeleteByEventAndListenerId), serializedEvent,
+					identifier).then();
+
+			case ARCHIVE -> archive(archiveByEventAndListenerId, completionDate,
+					it -> byEventAndListenerId(it, serializedEvent, identifier));
+
+			case UPDATE -> byEventAndListenerId(client.sql(sqlStatementCompleteByEventAndListenerId), serializedEvent,
+					identifier).bind("completionDate", instantToDatabase(completionDate)).then();
+		};
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.r2dbc.ReactiveEventPublicationRepository#markCompleted(java.util.UUID, java.time.Instant)
+	 */
+	@Override
+	public Mono<Void> markCompleted(UUID identifier, Instant completionDate) {
+
+		Assert.notNull(identifier, "Identifier must not be null!");
+		Assert.notNull(completionDate, "Completion date must not be null!");
+
+		return switch (completionMode) {
+
+			case DELETE -> byId(client.sql(sqlStatementDeleteById), identifier).then();
+
+			case ARCHIVE -> archive(archiveById, completionDate, it -> byId(it, identifier));
+
+			case UPDATE -> byId(client.sql(sqlStatementCompleteById), identifier)
+					.bind("completionDate", instantToDatabase(completionDate))
+					.then();
+		};
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.r2dbc.ReactiveEventPublicationRepository#markFailed(java.util.UUID)
+	 */
+	@Override
+	public Mono<Void> markFailed(UUID identifier) {
+		return byId(client.sql(sqlStatementMarkFailed), identifier).then();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.r2dbc.ReactiveEventPublicationRepository#findIncompletePublicationsByEventAndTargetIdentifier(java.lang.Object, org.springframework.modulith.events.core.PublicationTargetIdentifier)
+	 */
+	@Override
+	public Mono<TargetEventPublication> findIncompletePublicationsByEventAndTargetIdentifier(Object event,
+			PublicationTargetIdentifier targetIdentifier) {
+
+		Assert.notNull(event, "Event must not be null!");
+		Assert.notNull(targetIdentifier, "PublicationTargetIdentifier must not be null!");
+
+		var spec = byEventAndListenerId(client.sql(sqlStatementFindByEventAndListenerId), serializeEvent(event),
+				targetIdentifier);
+
+		return query(spec).next();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.r2dbc.ReactiveEventPublicationRepository#findIncompletePublications()
+	 */
+	@Override
+	public Flux<TargetEventPublication> findIncompletePublications() {
+		return query(client.sql(sqlStatementFindIncomplete));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.r2dbc.ReactiveEventPublicationRepository#findIncompletePublicationsPublishedBefore(java.time.Instant)
+	 */
+	@Override
+	public Flux<TargetEventPublication> findIncompletePublicationsPublishedBefore(Instant instant) {
+
+		Assert.notNull(instant, "Instant must not be null!");
+
+		return query(client.sql(sqlStatementFindIncompleteBefore)
+				.bind("publicationDate", instantToDatabase(instant)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.r2dbc.ReactiveEventPublicationRepository#findCompletedPublications()
+	 */
+	@Override
+	public Flux<TargetEventPublication> findCompletedPublications() {
+		return query(client.sql(sqlStatementFindCompleted));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.r2dbc.ReactiveEventPublicationRepository#deletePublications(java.util.List)
+	 */
+	@Override
+	public Mono<Void> deletePublications(List<UUID> identifiers) {
+
+		Assert.notNull(identifiers, "Identifiers must not be null!");
+
+		if (identifiers.isEmpty()) {
+			return Mono.empty();
+		}
+
+		var databaseIdentifiers = identifiers.stream()
+				.map(this::uuidToDatabase)
+				.toList();
+
+		return client.sql(sqlStatementDeleteByIds)
+				.bind("ids", databaseIdentifiers)
+				.then();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.r2dbc.ReactiveEventPublicationRepository#deleteCompletedPublicationsBefore(java.time.Instant)
+	 */
+	@Override
+	public Mono<Void> deleteCompletedPublicationsBefore(Instant instant) {
+
+		Assert.notNull(instant, "Instant must not be null!");
+
+		return client.sql(sqlStatementDeleteCompletedBefore)
+				.bind("completionDate", instantToDatabase(instant))
+				.then();
+	}
+
+	/**
+	 * Moves the publications selected by the condition of the given {@link ArchiveStatements} into the archive table.
+	 * Uses a single statement if the database supports that or a copy followed by a delete as fallback.
+	 *
+	 * @param statements must not be {@literal null}.
+	 * @param completionDate must not be {@literal null}.
+	 * @param binder binds the parameters of the condition, must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private Mono<Void> archive(ArchiveStatements statements, Instant completionDate,
+			UnaryOperator<GenericExecuteSpec> binder) {
+
+		var timestamp = instantToDatabase(completionDate);
+
+		if (statements.move != null) {
+			return binder.apply(client.sql(statements.move))
+					.bind("completionDate", timestamp)
+					.then();
+		}
+
+		return binder.apply(client.sql(statements.copy))
+				.bind("completionDate", timestamp)
+				.then()
+				.then(binder.apply(client.sql(statements.delete)).then());
+	}
+
+	private GenericExecuteSpec byId(GenericExecuteSpec spec, UUID identifier) {
+		return spec.bind("id", uuidToDatabase(identifier));
+	}
+
+	private static GenericExecuteSpec byEventAndListenerId(GenericExecuteSpec spec, String serializedEvent,
+			PublicationTargetIdentifier identifier) {
+
+		return spec.bind("listenerId", identifier.getValue())
+				.bind("serializedEvent", serializedEvent);
+	}
+
+	private Flux<TargetEventPublication> query(GenericExecuteSpec spec) {
+
+		return spec.map((row, __) -> rowToPublication(row))
+				.all()
+				.flatMap(Mono::justOrEmpty);
+	}
+
+	/**
+	 * Turns the given {@link Row} into a {@link TargetEventPublication}. Returns an empty {@link Optional} in case the
+	 * event type cannot be resolved.
+	 *
+	 * @param row must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private Optional<TargetEventPublication> rowToPublication(Row row) {
+
+		var id = databaseType.databaseToUUID(Objects.requireNonNull(row.get("ID")));
+		var eventClass = loadClass(id, Objects.requireNonNull(row.get("EVENT_TYPE", String.class)));
+
+		if (eventClass == null) {
+			return Optional.empty();
+		}
+
+		var serializedEvent = Objects.requireNonNull(row.get("SERIALIZED_EVENT", String.class));
+		var status = row.get("STATUS", String.class);
+		var completionAttempts = row.get("COMPLETION_ATTEMPTS", Integer.class);
+
+		return Optional.of(new R2dbcEventPublication(id,
+				Objects.requireNonNull(databaseToInstant(row.get("PUBLICATION_DATE"))),
+				Objects.requireNonNull(row.get("LISTENER_ID", String.class)),
+				() -> serializer.deserialize(serializedEvent, eventClass),
+				databaseToInstant(row.get("COMPLETION_DATE")),
+				status == null ? null : Status.valueOf(status),
+				databaseToInstant(row.get("LAST_RESUBMISSION_DATE")),
+				completionAttempts == null ? 0 : completionAttempts));
+	}
+
+	private String serializeEvent(Object event) {
+		return serializer.serialize(event).toString();
+	}
+
+	private Object uuidToDatabase(UUID id) {
+		return databaseType.uuidToDatabase(id);
+	}
+
+	/**
+	 * Converts the given {@link Instant} into the temporal type the R2DBC driver of the current database maps the
+	 * timestamp columns of the schema to.
+	 *
+	 * @param instant must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private Object instantToDatabase(Instant instant) {
+
+		return switch (databaseType) {
+			case MYSQL, MARIADB, MSSQL -> LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+			default -> instant.atOffset(ZoneOffset.UTC);
+		};
+	}
+
+	private static @Nullable Instant databaseToInstant(@Nullable Object value) {
+
+		if (value == null) {
+			return null;
+		}
+
+		if (value instanceof Instant instant) {
+			return instant;
+		}
+
+		if (value instanceof OffsetDateTime offsetDateTime) {
+			return offsetDateTime.toInstant();
+		}
+
+		if (value instanceof ZonedDateTime zonedDateTime) {
+			return zonedDateTime.toInstant();
+		}
+
+		if (value instanceof LocalDateTime localDateTime) {
+			return localDateTime.toInstant(ZoneOffset.UTC);
+		}
+
+		throw new IllegalArgumentException("Unsupported temporal value %s of type %s!"
+				.formatted(value, value.getClass().getName()));
+	}
+
+	private @Nullable Class<?> loadClass(UUID id, String className) {
+
+		try {
+			return ClassUtils.forName(className, classLoader);
+		} catch (ClassNotFoundException e) {
+			LOGGER.warn("Event '{}' of unknown type '{}' found", id, className);
+			return null;
+		}
+	}
+
+	private static String asOneLine(String string) {
+		return string.replace("\n", " ")
+				.replace("\t", " ")
+				.replaceAll("\\s+", " ")
+				.trim();
+	}
+
+	/**
+	 * The statements to move publications matching a particular condition into the archive table, depending on the
+	 * capabilities of the {@link DatabaseType} in use.
+	 *
+	 * @author Oliver Drotbohm
+	 * @since 2.2
+	 */
+	private static class ArchiveStatements {
+
+		private final @Nullable String move;
+		private final String copy, delete;
+
+		/**
+		 * Creates a new {@link ArchiveStatements} for the given {@link R2dbcRepositorySettings} and condition.
+		 *
+		 * @param settings must not be {@literal null}.
+		 * @param condition must not be {@literal null} or empty.
+		 */
+		ArchiveStatements(R2dbcRepositorySettings settings, String condition) {
+
+			var table = settings.getTable();
+			var archiveTable = settings.getArchiveTable();
+			var move = settings.getDatabaseType().getArchiveMoveSql(table, archiveTable, condition, ":completionDate");
+
+			this.move = move == null ? null : asOneLine(move);
+			this.copy = asOneLine(SQL_STATEMENT_COPY_TO_ARCHIVE.formatted(archiveTable, DatabaseType.ARCHIVE_COLUMNS,
+					table, condition, archiveTable, table));
+			this.delete = asOneLine(SQL_STATEMENT_DELETE.formatted(table, condition));
+		}
+	}
+
+	private static class R2dbcEventPublication implements TargetEventPublication {
+
+		private final UUID id;
+		private final Instant publicationDate;
+		private final String listenerId;
+		private final Supplier<Object> eventSupplier;
+		private final @Nullable Instant lastResubmissionDate;
+		private final int completionAttempts;
+
+		private @Nullable Instant completionDate;
+		private @Nullable Object event;
+		private Status status;
+
+		R2dbcEventPublication(UUID id, Instant publicationDate, String listenerId, Supplier<Object> event,
+				@Nullable Instant completionDate, @Nullable Status status, @Nullable Instant lastResubmissionDate,
+				int completionAttempts) {
+
+			this.id = id;
+			this.publicationDate = publicationDate;
+			this.listenerId = listenerId;
+			this.eventSupplier = event;
+			this.completionDate = completionDate;
+			this.status = status != null ? status : completionDate != null ? Status.COMPLETED : Status.PROCESSING;
+			this.lastResubmissionDate = lastResubmissionDate;
+			this.completionAttempts = completionAttempts;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.modulith.events.EventPublication#getIdentifier()
+		 */
+		@Override
+		public UUID getIdentifier() {
+			return id;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.modulith.events.EventPublication#getEvent()
+		 */
+		@Override
+		public Object getEvent() {
+
+			if (event == null) {
+				this.event = eventSupplier.get();
+			}
+
+			return event;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.modulith.events.core.TargetEventPublication#getTargetIdentifier()
+		 */
+		@Override
+		public PublicationTargetIdentifier getTargetIdentifier() {
+			return PublicationTargetIdentifier.of(listenerId);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.modulith.events.EventPublication#getPublicationDate()
+		 */
+		@Override
+		public Instant getPublicationDate() {
+			return publicationDate;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.modulith.events.EventPublication#getCompletionDate()
+		 */
+		@Override
+		public Optional<Instant> getCompletionDate() {
+			return Optional.ofNullable(completionDate);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.modulith.events.core.Completable#markCompleted(java.time.Instant)
+		 */
+		@Override
+		public void markCompleted(Instant instant) {
+			this.completionDate = instant;
+			this.status = Status.COMPLETED;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.modulith.events.EventPublication#getStatus()
+		 */
+		@Override
+		public Status getStatus() {
+			return status;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.modulith.events.EventPublication#getLastResubmissionDate()
+		 */
+		@Override
+		public @Nullable Instant getLastResubmissionDate() {
+			return lastResubmissionDate;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.modulith.events.EventPublication#getCompletionAttempts()
+		 */
+		@Override
+		public int getCompletionAttempts() {
+			return completionAttempts;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(@Nullable Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof R2dbcEventPublication that)) {
+				return false;
+			}
+
+			return Objects.equals(completionDate, that.completionDate) //
+					&& Objects.equals(id, that.id) //
+					&& Objects.equals(listenerId, that.listenerId) //
+					&& Objects.equals(publicationDate, that.publicationDate) //
+					&& Objects.equals(getEvent(), that.getEvent());
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return Objects.hash(completionDate, id, listenerId, publicationDate, getEvent());
+		}
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.r2dbc;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.modulith.events.sql.DatabaseType;
+import org.springframework.modulith.events.support.CompletionMode;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Customization options for {@link R2dbcEventPublicationRepository} and {@link R2dbcDatabaseSchemaInitializer}.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+class R2dbcRepositorySettings {
+
+	private static final String TABLE = "EVENT_PUBLICATION";
+
+	private final DatabaseType databaseType;
+	private final CompletionMode completionMode;
+	private final @Nullable String schema;
+
+	/**
+	 * Creates a new {@link R2dbcRepositorySettings} for the given {@link DatabaseType}, {@link CompletionMode} and
+	 * schema.
+	 *
+	 * @param databaseType must not be {@literal null}.
+	 * @param completionMode must not be {@literal null}.
+	 * @param schema can be {@literal null}.
+	 * @throws IllegalStateException in case a schema is given for a database that doesn't support that.
+	 */
+	R2dbcRepositorySettings(DatabaseType databaseType, CompletionMode completionMode, @Nullable String schema) {
+
+		Assert.notNull(databaseType, "Database type must not be null!");
+		Assert.notNull(completionMode, "Completion mode must not be null!");
+
+		this.databaseType = databaseType;
+		this.completionMode = completionMode;
+		this.schema = ObjectUtils.isEmpty(schema) ? null : schema;
+
+		if (this.schema != null && !databaseType.isSchemaSupported()) {
+			throw new IllegalStateException(DatabaseType.SCHEMA_NOT_SUPPORTED);
+		}
+	}
+
+	/**
+	 * Returns the {@link DatabaseType}.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	DatabaseType getDatabaseType() {
+		return databaseType;
+	}
+
+	/**
+	 * Returns the {@link CompletionMode}.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	CompletionMode getCompletionMode() {
+		return completionMode;
+	}
+
+	/**
+	 * Returns the schema the event publication tables reside in.
+	 *
+	 * @return can be {@literal null}.
+	 */
+	@Nullable
+	String getSchema() {
+		return schema;
+	}
+
+	/**
+	 * Returns the name of the event publication table, qualified with the schema if configured.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	String getTable() {
+		return schema == null ? TABLE : schema + "." + TABLE;
+	}
+
+	/**
+	 * Returns the name of the event publication archive table, qualified with the schema if configured.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	String getArchiveTable() {
+		return getTable() + "_ARCHIVE";
+	}
+}
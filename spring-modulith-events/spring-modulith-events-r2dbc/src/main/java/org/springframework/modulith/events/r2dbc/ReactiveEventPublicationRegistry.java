@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.r2dbc;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.springframework.modulith.events.EventPublication.Status;
+import org.springframework.modulith.events.core.EventPublicationRegistry;
+import org.springframework.modulith.events.core.PublicationTargetIdentifier;
+import org.springframework.modulith.events.core.Staleness;
+import org.springframework.modulith.events.core.TargetEventPublication;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.util.Assert;
+
+/**
+ * A reactive event publication registry backed by a {@link ReactiveEventPublicationRepository}. All operations are
+ * executed within a transaction driven by the configured {@link TransactionalOperator}, so that the publications can
+ * be stored as part of the reactive business transaction publishing the event and their state transitions are atomic.
+ * <p>
+ * The registry is exposed to the event multicaster and the listener completion tracking via
+ * {@link EventPublicationRegistryAdapter}, which stores publications for events published via
+ * {@link org.springframework.transaction.reactive.TransactionalEventPublisher} right before the reactive transaction
+ * commits. Reactive applications can also register publications explicitly as part of the pipeline publishing the
+ * event.
+ *
+ * <pre class="code">
+ * return orderRepository.save(order)
+ *     .flatMap(it -&gt; registry.store(event, listeners).then(Mono.just(it)))
+ *     .as(transactionalOperator::transactional);
+ * </pre>
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ * @see EventPublicationRegistry
+ */
+public class ReactiveEventPublicationRegistry {
+
+	private static final Set<Status> STALENESS_CANDIDATES = EnumSet.of(Status.PUBLISHED, Status.PROCESSING,
+			Status.RESUBMITTED);
+
+	private final ReactiveEventPublicationRepository repository;
+	private final TransactionalOperator operator;
+	private final Clock clock;
+
+	/**
+	 * Creates a new {@link ReactiveEventPublicationRegistry} for the given {@link ReactiveEventPublicationRepository},
+	 * {@link TransactionalOperator} and {@link Clock}.
+	 *
+	 * @param repository must not be {@literal null}.
+	 * @param operator must not be {@literal null}.
+	 * @param clock must not be {@literal null}.
+	 */
+	public ReactiveEventPublicationRegistry(ReactiveEventPublicationRepository repository,
+			TransactionalOperator operator, Clock clock) {
+
+		Assert.notNull(repository, "ReactiveEventPublicationRepository must not be null!");
+		Assert.notNull(operator, "TransactionalOperator must not be null!");
+		Assert.notNull(clock, "Clock must not be null!");
+
+		this.repository = repository;
+		this.operator = operator;
+		this.clock = clock;
+	}
+
+	/**
+	 * Stores {@link TargetEventPublication}s for the given event and {@link PublicationTargetIdentifier}s.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @param listeners must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Flux<TargetEventPublication> store(Object event, Stream<PublicationTargetIdentifier> listeners) {
+
+		Assert.notNull(event, "Event must not be null!");
+		Assert.notNull(listeners, "Listener identifiers must not be null!");
+
+		var publicationDate = clock.instant();
+
+		return Flux.fromStream(listeners)
+				.map(it -> TargetEventPublication.of(event, it, publicationDate))
+				.concatMap(repository::create)
+				.as(operator::transactional);
+	}
+
+	/**
+	 * Marks the publication for the given event and {@link PublicationTargetIdentifier} as being processed.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @param identifier must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Mono<Void> markProcessing(Object event, PublicationTargetIdentifier identifier) {
+
+		return repository.findIncompletePublicationsByEventAndTargetIdentifier(event, identifier)
+				.flatMap(it -> repository.markProcessing(it.getIdentifier()))
+				.as(operator::transactional);
+	}
+
+	/**
+	 * Marks the publication for the given event and {@link PublicationTargetIdentifier} as completed.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @param identifier must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Mono<Void> markCompleted(Object event, PublicationTargetIdentifier identifier) {
+
+		return Mono.defer(() -> repository.markCompleted(event, identifier, clock.instant()))
+				.as(operator::transactional);
+	}
+
+	/**
+	 * Marks the publication for the given event and {@link PublicationTargetIdentifier} as failed.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @param identifier must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Mono<Void> markFailed(Object event, PublicationTargetIdentifier identifier) {
+
+		return repository.findIncompletePublicationsByEventAndTargetIdentifier(event, identifier)
+				.flatMap(it -> repository.markFailed(it.getIdentifier()))
+				.as(operator::transactional);
+	}
+
+	/**
+	 * Returns all {@link TargetEventPublication}s that have not been completed yet.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Flux<TargetEventPublication> findIncompletePublications() {
+		return repository.findIncompletePublications().as(operator::transactional);
+	}
+
+	/**
+	 * Returns all {@link TargetEventPublication}s that have not been completed and are older than the given
+	 * {@link Duration}.
+	 *
+	 * @param duration must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Flux<TargetEventPublication> findIncompletePublicationsOlderThan(Duration duration) {
+
+		Assert.notNull(duration, "Duration must not be null!");
+
+		return Flux.defer(() -> repository.findIncompletePublicationsPublishedBefore(clock.instant().minus(duration)))
+				.as(operator::transactional);
+	}
+
+	/**
+	 * Returns all failed {@link TargetEventPublication}s published before the given {@link Duration}.
+	 *
+	 * @param duration must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Flux<TargetEventPublication> findFailedPublicationsOlderThan(Duration duration) {
+
+		return findIncompletePublicationsOlderThan(duration)
+				.filter(it -> it.getStatus() == Status.FAILED);
+	}
+
+	/**
+	 * Marks all incomplete publications considered stale according to the given {@link Staleness} as failed.
+	 *
+	 * @param staleness must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Mono<Void> markStalePublicationsFailed(Staleness staleness) {
+
+		Assert.notNull(staleness, "Staleness must not be null!");
+
+		return Flux.defer(() -> findStalePublications(staleness, clock.instant()))
+				.concatMap(it -> repository.markFailed(it.getIdentifier()))
+				.then()
+				.as(operator::transactional);
+	}
+
+	/**
+	 * Deletes all completed {@link TargetEventPublication}s that have been completed before the given {@link Duration}.
+	 *
+	 * @param duration must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Mono<Void> deleteCompletedPublicationsOlderThan(Duration duration) {
+
+		Assert.notNull(duration, "Duration must not be null!");
+
+		return Mono.defer(() -> repository.deleteCompletedPublicationsBefore(clock.instant().minus(duration)))
+				.as(operator::transactional);
+	}
+
+	private Flux<TargetEventPublication> findStalePublications(Staleness staleness, Instant now) {
+
+		return repository.findIncompletePublications()
+				.filter(it -> STALENESS_CANDIDATES.contains(it.getStatus()))
+				.filter(it -> it.getPublicationDate().isBefore(now.minus(staleness.getStaleness(it.getStatus()))));
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.r2dbc;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.modulith.events.core.EventPublicationRepository;
+import org.springframework.modulith.events.core.PublicationTargetIdentifier;
+import org.springframework.modulith.events.core.TargetEventPublication;
+
+/**
+ * The reactive counterpart of {@link EventPublicationRepository}. None of the methods block the calling thread.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ * @see EventPublicationRepository
+ */
+public interface ReactiveEventPublicationRepository {
+
+	/**
+	 * Persists the given {@link TargetEventPublication}.
+	 *
+	 * @param publication must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Mono<TargetEventPublication> create(TargetEventPublication publication);
+
+	/**
+	 * Marks the publication with the given identifier as being processed.
+	 *
+	 * @param identifier must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Mono<Void> markProcessing(UUID identifier);
+
+	/**
+	 * Marks the publication for the given event and {@link PublicationTargetIdentifier} as completed at the given
+	 * {@link Instant}.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @param identifier must not be {@literal null}.
+	 * @param completionDate must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Mono<Void> markCompleted(Object event, PublicationTargetIdentifier identifier, Instant completionDate);
+
+	/**
+	 * Marks the publication with the given identifier as completed at the given {@link Instant}.
+	 *
+	 * @param identifier must not be {@literal null}.
+	 * @param completionDate must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Mono<Void> markCompleted(UUID identifier, Instant completionDate);
+
+	/**
+	 * Marks the publication with the given identifier as failed.
+	 *
+	 * @param identifier must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Mono<Void> markFailed(UUID identifier);
+
+	/**
+	 * Looks up the incomplete publication for the given event and {@link PublicationTargetIdentifier}.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @param targetIdentifier must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Mono<TargetEventPublication> findIncompletePublicationsByEventAndTargetIdentifier(Object event,
+			PublicationTargetIdentifier targetIdentifier);
+
+	/**
+	 * Returns all {@link TargetEventPublication}s that have not been completed yet, ordered by publication date.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	Flux<TargetEventPublication> findIncompletePublications();
+
+	/**
+	 * Returns all {@link TargetEventPublication}s that have not been completed and were published before the given
+	 * {@link Instant}.
+	 *
+	 * @param instant must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Flux<TargetEventPublication> findIncompletePublicationsPublishedBefore(Instant instant);
+
+	/**
+	 * Returns all completed {@link TargetEventPublication}s.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	Flux<TargetEventPublication> findCompletedPublications();
+
+	/**
+	 * Deletes all publications with the given identifiers.
+	 *
+	 * @param identifiers must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Mono<Void> deletePublications(List<UUID> identifiers);
+
+	/**
+	 * Deletes all publications that were completed before the given {@link Instant}.
+	 *
+	 * @param instant must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Mono<Void> deleteCompletedPublicationsBefore(Instant instant);
+}
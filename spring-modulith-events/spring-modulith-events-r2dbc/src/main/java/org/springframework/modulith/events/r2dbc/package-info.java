@@ -0,0 +1,5 @@
+/**
+ * R2DBC integration for a reactive event publication registry.
+ */
+@org.jspecify.annotations.NullMarked
+package org.springframework.modulith.events.r2dbc;
@@ -0,0 +1,311 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.r2dbc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.modulith.events.EventPublication.Status;
+import org.springframework.modulith.events.core.EventPublicationRegistry;
+import org.springframework.modulith.events.core.EventSerializer;
+import org.springframework.modulith.events.core.PublicationTargetIdentifier;
+import org.springframework.modulith.events.core.TargetEventPublication;
+import org.springframework.modulith.events.sql.DatabaseType;
+import org.springframework.modulith.events.support.CompletionMode;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionContextManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/**
+ * Integration tests for {@link R2dbcEventPublicationRepository}, {@link ReactiveEventPublicationRegistry} and
+ * {@link EventPublicationRegistryAdapter} using an in-memory H2 database.
+ *
+ * @author Oliver Drotbohm
+ */
+class R2dbcEventPublicationRepositoryIntegrationTests {
+
+	static final PublicationTargetIdentifier TARGET_IDENTIFIER = PublicationTargetIdentifier.of("listener");
+	static final ConnectionFactory CONNECTION_FACTORY = ConnectionFactories
+			.get("r2dbc:h2:mem:///modulith-events;DB_CLOSE_DELAY=-1");
+
+	DatabaseClient client = DatabaseClient.create(CONNECTION_FACTORY);
+	EventSerializer serializer = mock(EventSerializer.class);
+
+	@Nullable String schema;
+
+	@BeforeAll
+	static void initializeSchema() {
+
+		assertThat(DatabaseType.from(CONNECTION_FACTORY.getMetadata().getName())).isEqualTo(DatabaseType.H2);
+
+		new R2dbcDatabaseSchemaInitializer(CONNECTION_FACTORY, new DefaultResourceLoader(),
+				new R2dbcRepositorySettings(DatabaseType.H2, CompletionMode.ARCHIVE, null)).afterPropertiesSet();
+	}
+
+	@AfterEach
+	void cleanUp() {
+
+		var settings = new R2dbcRepositorySettings(DatabaseType.H2, CompletionMode.ARCHIVE, schema);
+
+		client.sql("DELETE FROM " + settings.getTable()).then()
+				.then(client.sql("DELETE FROM " + settings.getArchiveTable()).then())
+				.block();
+	}
+
+	@Test
+	void persistsAndReadsPublication() {
+
+		var repository = createRepository(CompletionMode.UPDATE);
+		var event = registerEvent("first");
+		var publication = TargetEventPublication.of(event, TARGET_IDENTIFIER, Instant.now().truncatedTo(ChronoUnit.MILLIS));
+
+		StepVerifier.create(repository.create(publication).thenMany(repository.findIncompletePublications()))
+				.assertNext(it -> {
+					assertThat(it.getIdentifier()).isEqualTo(publication.getIdentifier());
+					assertThat(it.getTargetIdentifier()).isEqualTo(TARGET_IDENTIFIER);
+					assertThat(it.getPublicationDate()).isEqualTo(publication.getPublicationDate());
+					assertThat(it.getEvent()).isEqualTo(event);
+					assertThat(it.getStatus()).isEqualTo(Status.PUBLISHED);
+				})
+				.verifyComplete();
+
+		StepVerifier.create(repository.findIncompletePublicationsByEventAndTargetIdentifier(event, TARGET_IDENTIFIER))
+				.assertNext(it -> assertThat(it.getIdentifier()).isEqualTo(publication.getIdentifier()))
+				.verifyComplete();
+	}
+
+	@ParameterizedTest
+	@EnumSource(CompletionMode.class)
+	void completesPublicationByEventAndListener(CompletionMode mode) {
+
+		var repository = createRepository(mode);
+		var event = registerEvent("first");
+		var publication = TargetEventPublication.of(event, TARGET_IDENTIFIER);
+
+		StepVerifier.create(repository.create(publication)
+				.then(repository.markCompleted(event, TARGET_IDENTIFIER, Instant.now()))
+				.thenMany(repository.findIncompletePublications()))
+				.verifyComplete();
+
+		StepVerifier.create(repository.findCompletedPublications().map(TargetEventPublication::getIdentifier))
+				.expectNextCount(mode == CompletionMode.DELETE ? 0 : 1)
+				.verifyComplete();
+	}
+
+	@ParameterizedTest
+	@EnumSource(CompletionMode.class)
+	void completesPublicationById(CompletionMode mode) {
+
+		var repository = createRepository(mode);
+		var first = TargetEventPublication.of(registerEvent("first"), TARGET_IDENTIFIER);
+		var second = TargetEventPublication.of(registerEvent("second"), TARGET_IDENTIFIER);
+
+		StepVerifier.create(repository.create(first)
+				.then(repository.create(second))
+				.then(repository.markCompleted(first.getIdentifier(), Instant.now()))
+				.thenMany(repository.findIncompletePublications().map(TargetEventPublication::getIdentifier)))
+				.expectNext(second.getIdentifier())
+				.verifyComplete();
+	}
+
+	@Test
+	void skipsArchivingPublicationAlreadyContainedInArchive() {
+
+		var repository = createRepository(CompletionMode.ARCHIVE);
+		var publication = TargetEventPublication.of(registerEvent("first"), TARGET_IDENTIFIER);
+
+		// Simulate a previous, partially applied completion
+		var copy = client.sql("""
+				INSERT INTO %s (%s)
+				SELECT ID, LISTENER_ID, EVENT_TYPE, SERIALIZED_EVENT, PUBLICATION_DATE, 'COMPLETED', PUBLICATION_DATE, COMPLETION_ATTEMPTS, LAST_RESUBMISSION_DATE
+					FROM %s
+				""".formatted("EVENT_PUBLICATION_ARCHIVE", DatabaseType.ARCHIVE_COLUMNS, "EVENT_PUBLICATION")).then();
+
+		StepVerifier.create(repository.create(publication)
+				.then(copy)
+				.then(repository.markCompleted(publication.getIdentifier(), Instant.now()))
+				.thenMany(repository.findIncompletePublications()))
+				.verifyComplete();
+
+		StepVerifier.create(repository.findCompletedPublications().map(TargetEventPublication::getIdentifier))
+				.expectNext(publication.getIdentifier())
+				.verifyComplete();
+	}
+
+	@Test
+	void marksPublicationAsFailed() {
+
+		var repository = createRepository(CompletionMode.UPDATE);
+		var publication = TargetEventPublication.of(registerEvent("first"), TARGET_IDENTIFIER);
+
+		StepVerifier.create(repository.create(publication)
+				.then(repository.markFailed(publication.getIdentifier()))
+				.thenMany(repository.findIncompletePublications().map(TargetEventPublication::getStatus)))
+				.expectNext(Status.FAILED)
+				.verifyComplete();
+	}
+
+	@Test
+	void deletesPublications() {
+
+		var repository = createRepository(CompletionMode.UPDATE);
+		var first = TargetEventPublication.of(registerEvent("first"), TARGET_IDENTIFIER);
+		var second = TargetEventPublication.of(registerEvent("second"), TARGET_IDENTIFIER);
+		var third = TargetEventPublication.of(registerEvent("third"), TARGET_IDENTIFIER);
+
+		StepVerifier.create(Flux.just(first, second, third)
+				.concatMap(repository::create)
+				.then(repository.deletePublications(List.of(first.getIdentifier(), third.getIdentifier())))
+				.thenMany(repository.findIncompletePublications().map(TargetEventPublication::getIdentifier)))
+				.expectNext(second.getIdentifier())
+				.verifyComplete();
+	}
+
+	@Test
+	void registryParticipatesInSurroundingTransaction() {
+
+		var operator = TransactionalOperator.create(new R2dbcTransactionManager(CONNECTION_FACTORY));
+		var registry = new ReactiveEventPublicationRegistry(createRepository(CompletionMode.UPDATE), operator,
+				Clock.systemUTC());
+		var event = registerEvent("first");
+
+		StepVerifier.create(registry.store(event, Stream.of(TARGET_IDENTIFIER))
+				.then(registry.markCompleted(event, TARGET_IDENTIFIER)))
+				.verifyComplete();
+
+		StepVerifier.create(registry.findIncompletePublications())
+				.verifyComplete();
+
+		var failing = registry.store(registerEvent("second"), Stream.of(TARGET_IDENTIFIER))
+				.thenMany(Flux.<TargetEventPublication> error(new IllegalStateException()))
+				.as(operator::transactional);
+
+		StepVerifier.create(failing)
+				.verifyError(IllegalStateException.class);
+
+		StepVerifier.create(registry.findIncompletePublications())
+				.verifyComplete();
+	}
+
+	@Test
+	void adapterStoresPublicationsRightBeforeReactiveTransactionCommits() {
+
+		var operator = TransactionalOperator.create(new R2dbcTransactionManager(CONNECTION_FACTORY));
+		var registry = new ReactiveEventPublicationRegistry(createRepository(CompletionMode.UPDATE), operator,
+				Clock.systemUTC());
+		var adapter = new EventPublicationRegistryAdapter(registry);
+		var committed = registerEvent("committed");
+		var rolledBack = registerEvent("rolled-back");
+
+		StepVerifier.create(publish(adapter, committed).as(operator::transactional))
+				.verifyComplete();
+
+		StepVerifier.create(publish(adapter, rolledBack).then(Mono.error(new IllegalStateException()))
+				.as(operator::transactional))
+				.verifyError(IllegalStateException.class);
+
+		assertThat(adapter.findIncompletePublications())
+				.extracting(TargetEventPublication::getEvent)
+				.containsExactly(committed);
+
+		adapter.markCompleted(committed, TARGET_IDENTIFIER);
+
+		assertThat(adapter.findIncompletePublications()).isEmpty();
+
+		adapter.destroy();
+	}
+
+	@Test
+	void usesTablesInConfiguredSchema() {
+
+		schema = "MODULITH";
+
+		new R2dbcDatabaseSchemaInitializer(CONNECTION_FACTORY, new DefaultResourceLoader(),
+				new R2dbcRepositorySettings(DatabaseType.H2, CompletionMode.ARCHIVE, schema)).afterPropertiesSet();
+
+		var repository = createRepository(CompletionMode.ARCHIVE);
+		var publication = TargetEventPublication.of(registerEvent("first"), TARGET_IDENTIFIER);
+
+		StepVerifier.create(repository.create(publication)
+				.thenMany(repository.findIncompletePublications().map(TargetEventPublication::getIdentifier)))
+				.expectNext(publication.getIdentifier())
+				.verifyComplete();
+
+		// Tables in the default schema untouched
+		StepVerifier.create(createRepositoryInSchema(CompletionMode.ARCHIVE, null).findIncompletePublications())
+				.verifyComplete();
+
+		StepVerifier.create(repository.markCompleted(publication.getIdentifier(), Instant.now())
+				.thenMany(repository.findCompletedPublications().map(TargetEventPublication::getIdentifier)))
+				.expectNext(publication.getIdentifier())
+				.verifyComplete();
+	}
+
+	private R2dbcEventPublicationRepository createRepository(CompletionMode mode) {
+		return createRepositoryInSchema(mode, schema);
+	}
+
+	private R2dbcEventPublicationRepository createRepositoryInSchema(CompletionMode mode, @Nullable String schema) {
+
+		var settings = new R2dbcRepositorySettings(DatabaseType.H2, mode, schema);
+		var repository = new R2dbcEventPublicationRepository(client, serializer, settings);
+		repository.setBeanClassLoader(getClass().getClassLoader());
+
+		return repository;
+	}
+
+	private static Mono<Void> publish(EventPublicationRegistry registry, Object event) {
+
+		return TransactionContextManager.currentContext()
+				.map(it -> new PayloadApplicationEvent<>(it, event))
+				.doOnNext(it -> registry.store(it, event, Stream.of(TARGET_IDENTIFIER)))
+				.then();
+	}
+
+	private TestEvent registerEvent(String id) {
+
+		var event = new TestEvent(id);
+		var serialized = "{\"eventId\":\"" + id + "\"}";
+
+		when(serializer.serialize(event)).thenReturn(serialized);
+		when(serializer.deserialize(serialized, TestEvent.class)).thenReturn(event);
+
+		return event;
+	}
+
+	record TestEvent(String eventId) {}
+}
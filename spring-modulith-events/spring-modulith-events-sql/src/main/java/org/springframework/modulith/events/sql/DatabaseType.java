@@ -0,0 +1,298 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.sql;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The relational databases supported by the event publication repositories and their dialect specifics, shared by the
+ * JDBC- and R2DBC-based implementations together with the database schemas. Internal API, not meant to be used by
+ * application code.
+ *
+ * @author Dmitry Belyaev
+ * @author Björn Kieling
+ * @author Oliver Drotbohm
+ * @author Raed Ben Hamouda
+ * @author Cora Iberkleid
+ * @since 2.2
+ */
+public enum DatabaseType {
+
+	HSQLDB("hsqldb", "HSQL Database Engine"),
+
+	H2("h2", "H2"),
+
+	MYSQL("mysql", "MySQL") {
+
+		@Override
+		public Object uuidToDatabase(UUID id) {
+			return id.toString();
+		}
+
+		@Override
+		public UUID databaseToUUID(Object id) {
+			return UUID.fromString(id.toString());
+		}
+
+		@Override
+		public boolean isSchemaSupported() {
+			return false;
+		}
+	},
+
+	MARIADB("mariadb", "MariaDB") {
+
+		@Override
+		public Object uuidToDatabase(UUID id) {
+			return id.toString();
+		}
+
+		@Override
+		public UUID databaseToUUID(Object id) {
+			return UUID.fromString(id.toString());
+		}
+
+		@Override
+		public boolean isSchemaSupported() {
+			return false;
+		}
+
+		@Override
+		public boolean supportsDeleteReturning() {
+			return true;
+		}
+	},
+
+	POSTGRES("postgresql", "PostgreSQL") {
+
+		@Override
+		public String getArchiveMoveSql(String table, String archiveTable, String condition,
+				String completionDateParameter) {
+
+			return """
+					WITH COMPLETION AS (SELECT CAST(%s AS TIMESTAMP WITH TIME ZONE) AS COMPLETION_DATE),
+					MOVED AS (
+						DELETE FROM %s
+						WHERE %s
+						RETURNING ID, LISTENER_ID, EVENT_TYPE, SERIALIZED_EVENT, PUBLICATION_DATE, COMPLETION_ATTEMPTS, LAST_RESUBMISSION_DATE
+					)
+					INSERT INTO %s (%s)
+					SELECT M.ID, M.LISTENER_ID, M.EVENT_TYPE, M.SERIALIZED_EVENT, M.PUBLICATION_DATE, 'COMPLETED', C.COMPLETION_DATE, M.COMPLETION_ATTEMPTS, M.LAST_RESUBMISSION_DATE
+						FROM MOVED M CROSS JOIN COMPLETION C
+					ON CONFLICT (ID) DO NOTHING
+					""".formatted(completionDateParameter, table, condition, archiveTable, ARCHIVE_COLUMNS);
+		}
+	},
+
+	MSSQL("sqlserver", "Microsoft SQL Server") {
+
+		@Override
+		public Object uuidToDatabase(UUID id) {
+			return id.toString();
+		}
+
+		@Override
+		public UUID databaseToUUID(Object id) {
+			return UUID.fromString(id.toString());
+		}
+
+		@Override
+		public boolean isSchemaSupported() {
+			return false;
+		}
+
+		@Override
+		public String getLimitClause(long limit) {
+			return " OFFSET 0 ROWS FETCH NEXT " + limit + " ROWS ONLY";
+		}
+
+		/**
+		 * SQL Server cannot express the move as a single statement that skips publications already contained in the
+		 * archive table. {@code OUTPUT … INTO} inserts all deleted rows unconditionally, and an {@code INSERT}
+		 * selecting from a nested {@code DELETE … OUTPUT} must not contain a subquery to filter them. A plain
+		 * {@code OUTPUT … INTO} would fail with a primary key violation for publications archived by a previously
+		 * interrupted copy and delete, leaving them incomplete forever. We thus send a single batch, i.e. still a single
+		 * round trip executed within the surrounding transaction, that collects the deleted rows in a table variable and
+		 * only inserts the ones not archived yet. The completion date is bound to a variable first to keep positional
+		 * parameters in the order shared with the other archive statements.
+		 */
+		@Override
+		public String getArchiveMoveSql(String table, String archiveTable, String condition,
+				String completionDateParameter) {
+
+			return """
+					DECLARE @COMPLETION_DATE DATETIME2(6) = %s;
+					DECLARE @MOVED TABLE (
+						ID VARCHAR(36) NOT NULL,
+						LISTENER_ID VARCHAR(512) NOT NULL,
+						EVENT_TYPE VARCHAR(512) NOT NULL,
+						SERIALIZED_EVENT VARCHAR(MAX) NOT NULL,
+						PUBLICATION_DATE DATETIME2(6) NOT NULL,
+						COMPLETION_ATTEMPTS INT NULL,
+						LAST_RESUBMISSION_DATE DATETIME2(6) NULL
+					);
+					DELETE FROM %s
+					OUTPUT DELETED.ID, DELETED.LISTENER_ID, DELETED.EVENT_TYPE, DELETED.SERIALIZED_EVENT, DELETED.PUBLICATION_DATE, DELETED.COMPLETION_ATTEMPTS, DELETED.LAST_RESUBMISSION_DATE
+						INTO @MOVED
+					WHERE %s;
+					INSERT INTO %s (%s)
+					SELECT M.ID, M.LISTENER_ID, M.EVENT_TYPE, M.SERIALIZED_EVENT, M.PUBLICATION_DATE, 'COMPLETED', @COMPLETION_DATE, M.COMPLETION_ATTEMPTS, M.LAST_RESUBMISSION_DATE
+						FROM @MOVED M
+						WHERE NOT EXISTS (SELECT 1 FROM %s A WHERE A.ID = M.ID);
+					""".formatted(completionDateParameter, table, condition, archiveTable, ARCHIVE_COLUMNS,
+					archiveTable);
+		}
+	},
+
+	ORACLE("oracle", "Oracle") {
+
+		@Override
+		public Object uuidToDatabase(UUID id) {
+			return id.toString();
+		}
+
+		@Override
+		public UUID databaseToUUID(Object id) {
+			return UUID.fromString(id.toString());
+		}
+
+		@Override
+		public boolean isSchemaSupported() {
+			return false;
+		}
+
+		@Override
+		public String getLimitClause(long limit) {
+			return " FETCH FIRST " + limit + " ROWS ONLY";
+		}
+	};
+
+	public static final String SCHEMA_NOT_SUPPORTED = "Setting the schema name is not supported!";
+
+	// Retains the location the schemas were originally shipped in by the JDBC module
+	public static final String SCHEMA_ROOT = "org/springframework/modulith/events/jdbc/schemas";
+	public static final String ARCHIVE_COLUMNS = "ID, LISTENER_ID, EVENT_TYPE, SERIALIZED_EVENT, PUBLICATION_DATE, STATUS, COMPLETION_DATE, COMPLETION_ATTEMPTS, LAST_RESUBMISSION_DATE";
+
+	/**
+	 * Returns the {@link DatabaseType} for the given product name as reported by the JDBC or R2DBC driver.
+	 *
+	 * @param productName must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @throws IllegalArgumentException in case the database is not supported.
+	 */
+	public static DatabaseType from(String productName) {
+
+		Assert.notNull(productName, "Product name must not be null!");
+
+		return Arrays.stream(DatabaseType.values())
+				.filter(it -> it.fullName.equalsIgnoreCase(productName))
+				.findFirst()
+
+				// Drivers might expose more detailed names, like "Oracle Database"
+				.or(() -> Arrays.stream(DatabaseType.values())
+						.filter(it -> productName.regionMatches(true, 0, it.fullName + " ", 0, it.fullName.length() + 1))
+						.findFirst())
+				.orElseThrow(() -> new IllegalArgumentException("Unsupported database type: " + productName));
+	}
+
+	private final String value, fullName;
+
+	DatabaseType(String value, String fullName) {
+		this.value = value;
+		this.fullName = fullName;
+	}
+
+	public Object uuidToDatabase(UUID id) {
+		return id;
+	}
+
+	public UUID databaseToUUID(Object id) {
+
+		Assert.isInstanceOf(UUID.class, id, "Database value not of type UUID!");
+
+		return (UUID) id;
+	}
+
+	public String getSchemaResourceFilename(boolean legacy) {
+		return getSchemaBase(legacy) + ".sql";
+	}
+
+	public String getArchiveSchemaResourceFilename(boolean legacy) {
+		return getSchemaBase(legacy) + "-archive.sql";
+	}
+
+	public String getLimitClause(long limit) {
+		return " LIMIT " + limit;
+	}
+
+	private String getSchemaBase(boolean legacy) {
+		return SCHEMA_ROOT + "/" + (legacy ? "v1" : "v2") + "/schema-" + value;
+	}
+
+	public boolean isSchemaSupported() {
+		return true;
+	}
+
+	/**
+	 * Returns a statement that moves all publications matching the given condition from the given table into the given
+	 * archive table in a single round trip, or {@literal null} if the database does not support that. Publications
+	 * already contained in the archive table are skipped. The completion date is bound to the given parameter, which,
+	 * if positional, precedes the ones of the condition.
+	 *
+	 * @param table must not be {@literal null} or empty.
+	 * @param archiveTable must not be {@literal null} or empty.
+	 * @param condition must not be {@literal null} or empty.
+	 * @param completionDateParameter the parameter marker for the completion date, like {@code ?} or
+	 *          {@code :completionDate}, must not be {@literal null} or empty.
+	 * @return can be {@literal null}.
+	 * @since 2.2
+	 */
+	@Nullable
+	public String getArchiveMoveSql(String table, String archiveTable, String condition,
+			String completionDateParameter) {
+		return null;
+	}
+
+	/**
+	 * Returns whether the database supports {@code DELETE … RETURNING} to return the deleted rows to the client. Used
+	 * for databases that cannot nest such a {@code DELETE} into an {@code INSERT}, so that the returned rows are
+	 * inserted into the archive table in a second round trip, skipping the ones already archived via
+	 * {@code ON DUPLICATE KEY UPDATE}.
+	 *
+	 * @since 2.2
+	 */
+	public boolean supportsDeleteReturning() {
+		return false;
+	}
+
+	public String getSetSchemaSql(String schema) {
+
+		if (!isSchemaSupported()) {
+			throw new IllegalArgumentException(SCHEMA_NOT_SUPPORTED);
+		}
+
+		return switch (this) {
+
+			case H2, HSQLDB -> "SET SCHEMA " + schema;
+			case POSTGRES -> "SET search_path TO " + schema;
+			default -> throw new IllegalArgumentException(SCHEMA_NOT_SUPPORTED);
+		};
+	}
+}
@@ -0,0 +1,5 @@
+/**
+ * Internal SQL database support shared by the JDBC- and R2DBC-based event publication repositories.
+ */
+@org.jspecify.annotations.NullMarked
+package org.springframework.modulith.events.sql;
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.sql;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+class DatabaseTypeUnitTests {
+
+	@Test // GH-29
+	void shouldThrowExceptionOnUnsupportedDatabaseType() {
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> DatabaseType.from("UNKNOWN"))
+				.withMessageContaining("UNKNOWN");
+	}
+
+	@Test
+	void detectsDatabaseTypeFromDetailedProductName() {
+
+		assertThat(DatabaseType.from("Oracle Database")).isEqualTo(DatabaseType.ORACLE);
+		assertThat(DatabaseType.from("PostgreSQL")).isEqualTo(DatabaseType.POSTGRES);
+		assertThat(DatabaseType.from("HSQL Database Engine")).isEqualTo(DatabaseType.HSQLDB);
+	}
+
+	@Test
+	void exposesSingleStatementArchiveMoveForSupportedDatabases() {
+
+		assertThat(DatabaseType.POSTGRES.getArchiveMoveSql("EVENT_PUBLICATION", "EVENT_PUBLICATION_ARCHIVE", "ID = ?",
+				"?")).contains("CAST(? AS", "RETURNING", "ON CONFLICT (ID) DO NOTHING");
+		assertThat(DatabaseType.MSSQL.getArchiveMoveSql("EVENT_PUBLICATION", "EVENT_PUBLICATION_ARCHIVE", "ID = ?",
+				"?")).contains("OUTPUT DELETED.ID", "INTO @MOVED", "INSERT INTO EVENT_PUBLICATION_ARCHIVE",
+						"WHERE NOT EXISTS (SELECT 1 FROM EVENT_PUBLICATION_ARCHIVE A WHERE A.ID = M.ID)");
+
+		assertThat(DatabaseType.H2.getArchiveMoveSql("EVENT_PUBLICATION", "EVENT_PUBLICATION_ARCHIVE", "ID = ?", "?"))
+				.isNull();
+		assertThat(DatabaseType.MARIADB.supportsDeleteReturning()).isTrue();
+		assertThat(DatabaseType.MYSQL.supportsDeleteReturning()).isFalse();
+	}
+
+	@Test
+	void usesGivenParameterMarkerForCompletionDate() {
+
+		assertThat(DatabaseType.POSTGRES.getArchiveMoveSql("EVENT_PUBLICATION", "EVENT_PUBLICATION_ARCHIVE", "ID = :id",
+				":completionDate")).contains("CAST(:completionDate AS").doesNotContain("?");
+		assertThat(DatabaseType.MSSQL.getArchiveMoveSql("EVENT_PUBLICATION", "EVENT_PUBLICATION_ARCHIVE", "ID = :id",
+				":completionDate")).contains("@COMPLETION_DATE DATETIME2(6) = :completionDate").doesNotContain("?");
+	}
+
+	@Test
+	void exposesSchemasForAllDatabases() {
+
+		for (var type : DatabaseType.values()) {
+			assertThat(new ClassPathResource(type.getSchemaResourceFilename(false)).exists()).isTrue();
+			assertThat(new ClassPathResource(type.getArchiveSchemaResourceFilename(false)).exists()).isTrue();
+			assertThat(new ClassPathResource(type.getSchemaResourceFilename(true)).exists()).isTrue();
+		}
+	}
+}
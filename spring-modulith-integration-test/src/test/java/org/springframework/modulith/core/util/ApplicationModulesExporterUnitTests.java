@@ -21,9 +21,12 @@ import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.json.JsonMapper;
 
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.modulith.core.ApplicationModules;
+import org.springframework.modulith.core.CompactApplicationModule;
+import org.springframework.modulith.core.CompactApplicationModules;
 
 import com.acme.myproject.Application;
 import com.acme.myproject.moduleA.ServiceComponentA;
@@ -73,4 +76,48 @@ class ApplicationModulesExporterUnitTests {
 		assertThat((List<String>) JsonPath.compile("$..initializers[*]").read(exported))
 				.containsExactly(ServiceComponentA.class.getName());
 	}
+
+	@Test
+	void runtimeRenderingListsContainedAndExposedTypesOfModules() {
+
+		var exported = EXPORTER.toRuntimeJson();
+
+		assertThatNoException().isThrownBy(() -> new JsonMapper().readTree(exported));
+		assertThat((String) JsonPath.compile("$.moduleA.basePackage").read(exported))
+				.isEqualTo(ServiceComponentA.class.getPackageName());
+		assertThat((List<String>) JsonPath.compile("$.moduleA.types").read(exported))
+				.contains(ServiceComponentA.class.getName());
+		assertThat((List<String>) JsonPath.compile("$.moduleA.exposedTypes").read(exported))
+				.contains(ServiceComponentA.class.getName());
+		assertThat((List<String>) JsonPath.compile("$..initializers[*]").read(exported))
+				.containsExactly(ServiceComponentA.class.getName());
+	}
+
+	@Test
+	void restoresCompactApplicationModulesFromRuntimeRendering() {
+
+		var compact = ApplicationModules.of(Application.class).compact();
+		var document = JsonPath.parse(EXPORTER.toRuntimeJson()).<Map<String, Map<String, Object>>> read("$");
+		var restored = CompactApplicationModules.fromRuntimeModel(document);
+
+		assertThat(restored).hasValueSatisfying(it -> {
+
+			assertThat(it.stream().map(CompactApplicationModule::getIdentifier))
+					.containsExactlyElementsOf(compact.stream().map(CompactApplicationModule::getIdentifier).toList());
+
+			compact.forEach(module -> {
+
+				var candidate = it.getModuleByName(module.getIdentifier().toString()).orElseThrow();
+
+				assertThat(candidate.getDisplayName()).isEqualTo(module.getDisplayName());
+				assertThat(candidate.getBasePackage()).isEqualTo(module.getBasePackage());
+				assertThat(candidate.getTypes()).containsExactlyInAnyOrderElementsOf(module.getTypes());
+				assertThat(candidate.getExposedTypes()).containsExactlyInAnyOrderElementsOf(module.getExposedTypes());
+				assertThat(candidate.getPublishedEvents()).isEqualTo(module.getPublishedEvents());
+				assertThat(candidate.getSpringBeans()).isEqualTo(module.getSpringBeans());
+
+				module.getTypes().forEach(type -> assertThat(it.getModuleByType(type)).hasValue(candidate));
+			});
+		});
+	}
 }
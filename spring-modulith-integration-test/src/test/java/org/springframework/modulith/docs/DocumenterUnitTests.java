@@ -17,13 +17,20 @@ package org.springframework.modulith.docs;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.modulith.core.ApplicationModules;
 import org.springframework.modulith.core.SpringBean;
 import org.springframework.modulith.docs.Documenter.CanvasOptions;
 import org.springframework.modulith.docs.Documenter.CanvasOptions.Grouping;
+import org.springframework.modulith.docs.Documenter.Options;
 
 import com.acme.myproject.Application;
 import com.acme.myproject.stereotypes.Stereotypes;
@@ -79,4 +86,38 @@ class DocumenterUnitTests {
 			modules.forEach(it -> documenter.toModuleCanvas(it, options));
 		});
 	}
+
+	@Test
+	void rendersSameDocumentationInParallel(@TempDir Path sequential, @TempDir Path parallel) throws IOException {
+
+		new Documenter(modules, Options.defaults().withOutputFolder(sequential.toString()))
+				.writeIndividualModulesAsPlantUml()
+				.writeModuleCanvases();
+
+		new Documenter(modules, Options.defaults().withOutputFolder(parallel.toString()).withParallelRendering())
+				.writeIndividualModulesAsPlantUml()
+				.writeModuleCanvases();
+
+		try (Stream<Path> files = Files.list(sequential)) {
+
+			assertThat(files).isNotEmpty().allSatisfy(it -> {
+				assertThat(parallel.resolve(it.getFileName())).hasSameTextualContentAs(it);
+			});
+		}
+	}
+
+	@Test
+	void doesNotRewriteUnchangedFiles(@TempDir Path folder) throws IOException {
+
+		var options = Options.defaults().withOutputFolder(folder.toString()).withoutClean();
+		var canvas = folder.resolve("module-stereotypes.adoc");
+		var lastModified = FileTime.fromMillis(0);
+
+		new Documenter(modules, options).writeModuleCanvases();
+		Files.setLastModifiedTime(canvas, lastModified);
+
+		new Documenter(modules, options).writeModuleCanvases();
+
+		assertThat(Files.getLastModifiedTime(canvas)).isEqualTo(lastModified);
+	}
 }
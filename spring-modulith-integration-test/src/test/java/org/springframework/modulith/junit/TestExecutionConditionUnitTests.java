@@ -37,6 +37,7 @@ import com.acme.myproject.moduleD.ModuleDTest;
 class TestExecutionConditionUnitTests {
 
 	TestExecutionCondition condition = new TestExecutionCondition();
+	TestSelection selection = new TestSelection(null, "test");
 
 	@Test // GH-31
 	void enablesForSourceChangeInSameModulen() {
@@ -90,7 +91,9 @@ class TestExecutionConditionUnitTests {
 
 	private void assertEnabled(Class<?> type, boolean expected, Stream<ModifiedFile> files) {
 
-		assertThat(condition.evaluate(new ConditionContext(type, Changes.of(files, OnNoChange.EXECUTE_ALL))))
+		var changes = Changes.of(files, OnNoChange.EXECUTE_ALL);
+
+		assertThat(condition.evaluate(new ConditionContext(type, changes, selection)))
 				.extracting(ConditionEvaluationResult::isDisabled)
 				.isNotEqualTo(expected);
 	}
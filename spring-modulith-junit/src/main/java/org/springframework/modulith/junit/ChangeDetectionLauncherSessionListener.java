@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.junit;
+
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+
+/**
+ * A {@link LauncherSessionListener} to start detecting the changes made to the project as soon as the JUnit Platform
+ * launcher session is opened, so that the detection runs concurrently with the test discovery instead of blocking the
+ * evaluation of the first test class by {@link ModulithExecutionCondition}.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+public class ChangeDetectionLauncherSessionListener implements LauncherSessionListener {
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.junit.platform.launcher.LauncherSessionListener#launcherSessionOpened(org.junit.platform.launcher.LauncherSession)
+	 */
+	@Override
+	public void launcherSessionOpened(LauncherSession session) {
+
+		if (ModulithExecutionCondition.isOptimizationEnabled()) {
+			StateStore.detectChangesInBackground();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.junit.platform.launcher.LauncherSessionListener#launcherSessionClosed(org.junit.platform.launcher.LauncherSession)
+	 */
+	@Override
+	public void launcherSessionClosed(LauncherSession session) {
+		StateStore.discardPendingChanges();
+	}
+}
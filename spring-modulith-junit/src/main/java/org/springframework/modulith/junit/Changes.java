@@ -50,6 +50,7 @@ public class Changes implements Iterable<Change> {
 
 	private final Collection<Change> changes;
 	private final OnNoChange onNoChange;
+	private final Set<String> changedClasses;
 
 	/**
 	 * Creates a new {@link Changes} instance from the given {@link Change}s.
@@ -63,6 +64,8 @@ public class Changes implements Iterable<Change> {
 
 		this.changes = changes;
 		this.onNoChange = onNoChange;
+		this.changedClasses = filter(changes, SourceChange.class, SourceChange::fullyQualifiedClassName)
+				.collect(Collectors.toUnmodifiableSet());
 	}
 
 	/**
@@ -87,13 +90,11 @@ public class Changes implements Iterable<Change> {
 	}
 
 	Set<String> getChangedClasses() {
-
-		return filter(changes, SourceChange.class, SourceChange::fullyQualifiedClassName)
-				.collect(Collectors.toSet());
+		return changedClasses;
 	}
 
 	boolean hasClassChanges() {
-		return !getChangedClasses().isEmpty();
+		return !changedClasses.isEmpty();
 	}
 
 	/**
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.junit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The modules impacted by a set of changed classes, i.e. the modules containing those classes and all modules directly
+ * or transitively depending on them. Computed once per {@link ModuleIndex} and {@link Changes}, so that deciding
+ * whether to execute a test class is a simple lookup.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+class ImpactedModules {
+
+	private final Map<String, String> causes;
+
+	/**
+	 * Creates a new {@link ImpactedModules} instance for the given impacted modules and the changed modules causing the
+	 * impact.
+	 *
+	 * @param causes must not be {@literal null}.
+	 */
+	private ImpactedModules(Map<String, String> causes) {
+		this.causes = Collections.unmodifiableMap(causes);
+	}
+
+	/**
+	 * Computes the {@link ImpactedModules} for the given {@link ModuleIndex} and fully-qualified names of changed
+	 * classes. Changed classes not contained in any module are ignored.
+	 *
+	 * @param index must not be {@literal null}.
+	 * @param changedClasses must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static ImpactedModules of(ModuleIndex index, Collection<String> changedClasses) {
+
+		Assert.notNull(index, "ModuleIndex must not be null!");
+		Assert.notNull(changedClasses, "Changed classes must not be null!");
+
+		var causes = new TreeMap<String, String>();
+		var changedModules = new ArrayList<String>();
+
+		for (var changedClass : changedClasses) {
+
+			var changed = index.getModuleByType(changedClass);
+
+			if (changed != null && causes.put(changed, changed) == null) {
+				changedModules.add(changed);
+			}
+		}
+
+		// Register dependents only after all changed modules to not shadow changes to the modules themselves
+		for (var changed : changedModules) {
+			index.getDependents(changed).forEach(it -> causes.putIfAbsent(it, changed));
+		}
+
+		return new ImpactedModules(causes);
+	}
+
+	/**
+	 * Returns the identifier of the changed module that causes the module with the given identifier to be impacted.
+	 * That's the module itself if it contains changes.
+	 *
+	 * @param identifier must not be {@literal null}.
+	 * @return {@literal null} in case the module is not impacted at all.
+	 */
+	@Nullable
+	String getCause(String identifier) {
+
+		Assert.notNull(identifier, "Identifier must not be null!");
+
+		return causes.get(identifier);
+	}
+
+	/**
+	 * Returns the identifiers of all impacted modules, mapped to the identifier of the changed module causing the
+	 * impact, sorted by the former.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	Map<String, String> getCauses() {
+		return causes;
+	}
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.junit;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.modulith.core.ApplicationModule;
+import org.springframework.modulith.core.ApplicationModuleIdentifier;
+import org.springframework.modulith.core.ApplicationModules;
+import org.springframework.modulith.core.CacheFiles;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * A compact index of the {@link ApplicationModules} of an application containing everything needed to decide whether
+ * a test is affected by changed classes: the modules by type and base package and the modules that directly or
+ * transitively depend on each module. Can be written to and read from a file so that test runs in forked JVMs don't
+ * have to import the classes of the application to create the {@link ApplicationModules}.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+class ModuleIndex {
+
+	private static final String FINGERPRINT = "fingerprint";
+	private static final String TYPE_PREFIX = "type.";
+	private static final String PACKAGE_PREFIX = "package.";
+	private static final String ROOT_PACKAGE_PREFIX = "root-package.";
+	private static final String DEPENDENTS_PREFIX = "dependents.";
+
+	private final Map<String, String> modulesByType;
+	private final Map<String, String> modulesBySimpleTypeName;
+	private final Map<String, String> modulesByBasePackage;
+	private final Map<String, String> rootModulesByBasePackage;
+	private final Map<String, Set<String>> dependents;
+
+	/**
+	 * Creates a new {@link ModuleIndex} for the given lookup {@link Map}s.
+	 *
+	 * @param modulesByType the identifiers of modules by fully-qualified type name, must not be {@literal null}.
+	 * @param modulesByBasePackage the identifiers of modules by base package, must not be {@literal null}.
+	 * @param rootModulesByBasePackage the identifiers of root modules by base package, must not be {@literal null}.
+	 * @param dependents the identifiers of all modules directly or transitively depending on a module by its
+	 *          identifier, must not be {@literal null}.
+	 */
+	ModuleIndex(Map<String, String> modulesByType, Map<String, String> modulesByBasePackage,
+			Map<String, String> rootModulesByBasePackage, Map<String, Set<String>> dependents) {
+
+		Assert.notNull(modulesByType, "Modules by type must not be null!");
+		Assert.notNull(modulesByBasePackage, "Modules by base package must not be null!");
+		Assert.notNull(rootModulesByBasePackage, "Root modules by base package must not be null!");
+		Assert.notNull(dependents, "Dependents must not be null!");
+
+		this.modulesByType = modulesByType;
+		this.modulesBySimpleTypeName = new HashMap<>();
+		this.modulesByBasePackage = modulesByBasePackage;
+		this.rootModulesByBasePackage = rootModulesByBasePackage;
+		this.dependents = dependents;
+
+		// Sorted to consistently resolve simple names shared by multiple types
+		new TreeMap<>(modulesByType)
+				.forEach((type, module) -> modulesBySimpleTypeName.putIfAbsent(getSimpleName(type), module));
+	}
+
+	/**
+	 * Creates a new {@link ModuleIndex} for the given {@link ApplicationModules}.
+	 *
+	 * @param modules must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static ModuleIndex of(ApplicationModules modules) {
+
+		Assert.notNull(modules, "ApplicationModules must not be null!");
+
+		var modulesByType = new TreeMap<String, String>();
+		var modulesByBasePackage = new TreeMap<String, String>();
+		var rootModulesByBasePackage = new TreeMap<String, String>();
+		var dependents = new TreeMap<String, Set<String>>();
+
+		modules.forEach(module -> {
+
+			var identifier = module.getIdentifier().toString();
+
+			modulesByBasePackage.put(module.getBasePackage().getName(), identifier);
+			module.getBasePackage().stream()
+					.filter(module::contains)
+					.forEach(it -> modulesByType.putIfAbsent(it.getName(), identifier));
+
+			dependents.put(identifier, modules.stream()
+					.filter(it -> !it.equals(module) && modules.dependsOn(it, module))
+					.map(ApplicationModule::getIdentifier)
+					.map(ApplicationModuleIdentifier::toString)
+					.collect(Collectors.toCollection(TreeSet::new)));
+		});
+
+		modules.getRootPackages().forEach(pkg -> modules.getModuleForPackage(pkg.getName())
+				.filter(ApplicationModule::isRootModule)
+				.ifPresent(it -> rootModulesByBasePackage.put(pkg.getName(), it.getIdentifier().toString())));
+
+		return new ModuleIndex(modulesByType, modulesByBasePackage, rootModulesByBasePackage, dependents);
+	}
+
+	/**
+	 * Reads the {@link ModuleIndex} from the given file if it exists and was written for the given fingerprint.
+	 *
+	 * @param file must not be {@literal null}.
+	 * @param fingerprint must not be {@literal null} or empty.
+	 * @return {@literal null} in case the file doesn't exist or was written for a different fingerprint.
+	 */
+	static @Nullable ModuleIndex read(Path file, String fingerprint) {
+
+		Assert.notNull(file, "File must not be null!");
+		Assert.hasText(fingerprint, "Fingerprint must not be null or empty!");
+
+		Properties properties;
+
+		try {
+			properties = CacheFiles.read(file);
+		} catch (IOException o_O) {
+			return null;
+		}
+
+		if (properties == null || !fingerprint.equals(properties.getProperty(FINGERPRINT))) {
+			return null;
+		}
+
+		var modulesByType = new HashMap<String, String>();
+		var modulesByBasePackage = new HashMap<String, String>();
+		var rootModulesByBasePackage = new HashMap<String, String>();
+		var dependents = new HashMap<String, Set<String>>();
+
+		for (var key : properties.stringPropertyNames()) {
+
+			var value = properties.getProperty(key);
+
+			if (key.startsWith(TYPE_PREFIX)) {
+				modulesByType.put(key.substring(TYPE_PREFIX.length()), value);
+			} else if (key.startsWith(PACKAGE_PREFIX)) {
+				modulesByBasePackage.put(key.substring(PACKAGE_PREFIX.length()), value);
+			} else if (key.startsWith(ROOT_PACKAGE_PREFIX)) {
+				rootModulesByBasePackage.put(key.substring(ROOT_PACKAGE_PREFIX.length()), value);
+			} else if (key.startsWith(DEPENDENTS_PREFIX)) {
+				dependents.put(key.substring(DEPENDENTS_PREFIX.length()),
+						StringUtils.commaDelimitedListToSet(value));
+			}
+		}
+
+		return new ModuleIndex(modulesByType, modulesByBasePackage, rootModulesByBasePackage, dependents);
+	}
+
+	/**
+	 * Writes the {@link ModuleIndex} to the given file, recording the given fingerprint.
+	 *
+	 * @param file must not be {@literal null}.
+	 * @param fingerprint must not be {@literal null} or empty.
+	 */
+	void write(Path file, String fingerprint) {
+
+		Assert.notNull(file, "File must not be null!");
+		Assert.hasText(fingerprint, "Fingerprint must not be null or empty!");
+
+		var properties = new Properties();
+
+		properties.setProperty(FINGERPRINT, fingerprint);
+
+		modulesByType.forEach((type, module) -> properties.setProperty(TYPE_PREFIX + type, module));
+		modulesByBasePackage.forEach((pkg, module) -> properties.setProperty(PACKAGE_PREFIX + pkg, module));
+		rootModulesByBasePackage.forEach((pkg, module) -> properties.setProperty(ROOT_PACKAGE_PREFIX + pkg, module));
+		dependents.forEach((module, it) -> properties.setProperty(DEPENDENTS_PREFIX + module,
+				StringUtils.collectionToCommaDelimitedString(it)));
+
+		try {
+			CacheFiles.write(file, properties, null);
+		} catch (IOException o_O) {
+			throw new UncheckedIOException(o_O);
+		}
+	}
+
+	/**
+	 * Returns the module the package with the given name belongs to, i.e. the module with the most specific base
+	 * package the given one is equal to or nested in. Falls back to a root module with exactly the given base package.
+	 *
+	 * @param packageName must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Optional<IndexedModule> getModuleForPackage(String packageName) {
+
+		Assert.notNull(packageName, "Package name must not be null!");
+
+		var candidate = packageName;
+
+		while (true) {
+
+			var result = modulesByBasePackage.get(candidate);
+
+			if (result != null) {
+				return Optional.of(new IndexedModule(result, false));
+			}
+
+			var index = candidate.lastIndexOf('.');
+
+			if (index < 0) {
+				break;
+			}
+
+			candidate = candidate.substring(0, index);
+		}
+
+		return Optional.ofNullable(rootModulesByBasePackage.get(packageName))
+				.map(it -> new IndexedModule(it, true));
+	}
+
+	/**
+	 * Returns the identifier of the module containing the type with the given simple or fully-qualified name. Simple
+	 * names are only considered if the given one does not contain a package, just like
+	 * {@link ApplicationModules#getModuleByType(String)} does.
+	 *
+	 * @param typeName must not be {@literal null}.
+	 * @return {@literal null} if the type is not contained in any module.
+	 */
+	@Nullable
+	String getModuleByType(String typeName) {
+
+		Assert.notNull(typeName, "Type name must not be null!");
+
+		var result = modulesByType.get(typeName);
+
+		return result == null && typeName.indexOf('.') < 0 ? modulesBySimpleTypeName.get(typeName) : result;
+	}
+
+	/**
+	 * Returns the identifiers of all modules directly or transitively depending on the module with the given
+	 * identifier.
+	 *
+	 * @param identifier must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Set<String> getDependents(String identifier) {
+		return dependents.getOrDefault(identifier, Collections.emptySet());
+	}
+
+	private static String getSimpleName(String typeName) {
+
+		var name = typeName.substring(typeName.lastIndexOf('.') + 1);
+
+		return name.substring(name.lastIndexOf('$') + 1);
+	}
+
+	/**
+	 * A module contained in a {@link ModuleIndex}.
+	 *
+	 * @param identifier the identifier of the module, will never be {@literal null}.
+	 * @param root whether the module is a root module.
+	 * @author Oliver Drotbohm
+	 */
+	record IndexedModule(String identifier, boolean root) {}
+}
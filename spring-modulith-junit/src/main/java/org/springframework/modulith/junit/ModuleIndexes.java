@@ -0,0 +1,288 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.junit;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.config.ConfigDataEnvironmentPostProcessor;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.modulith.core.ApplicationModules;
+import org.springframework.modulith.core.CacheFiles;
+import org.springframework.modulith.core.CacheFiles.Fingerprint;
+import org.springframework.modulith.core.ModulithMetadata;
+import org.springframework.util.Assert;
+import org.springframework.util.ResourceUtils;
+
+import com.tngtech.archunit.core.importer.ImportOption;
+import com.tngtech.archunit.core.importer.Location;
+
+/**
+ * Provides {@link ModuleIndex}es for application main classes. An index is kept in memory for the current JVM and
+ * persisted in the build directory of the application, keyed by a fingerprint of the classpath locations containing
+ * the application's production classes. Test runs in other JVMs, like forked ones, can thus use the persisted index
+ * instead of creating the {@link ApplicationModules} again, as long as none of those classes has changed. If any has,
+ * the index is created from scratch, as the persisted index doesn't contain the information needed to update the
+ * modules incrementally via {@link org.springframework.modulith.core.CompactApplicationModules#withChanges}.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+class ModuleIndexes {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ModuleIndexes.class);
+	private static final String FORMAT_VERSION = "2";
+	private static final String INDEX_FOLDER = "spring-modulith";
+	private static final ImportOption PRODUCTION_CODE = new ImportOption.DoNotIncludeTests();
+	private static final String PROPERTY_PREFIX = "spring.modulith.";
+	private static final String TEST_PROPERTY_PREFIX = "spring.modulith.test.";
+	private static final String[] CONFIGURATION_RESOURCES = { "META-INF/spring.properties",
+			"META-INF/spring.factories" };
+
+	private final Map<Class<?>, ModuleIndex> indexes;
+	private final Function<Class<?>, ApplicationModules> factory;
+
+	/**
+	 * Creates a new {@link ModuleIndexes} instance creating {@link ApplicationModules} via
+	 * {@link ApplicationModules#of(Class)}.
+	 */
+	ModuleIndexes() {
+		this(ApplicationModules::of);
+	}
+
+	/**
+	 * Creates a new {@link ModuleIndexes} instance using the given factory to create {@link ApplicationModules}.
+	 *
+	 * @param factory must not be {@literal null}.
+	 */
+	ModuleIndexes(Function<Class<?>, ApplicationModules> factory) {
+
+		Assert.notNull(factory, "ApplicationModules factory must not be null!");
+
+		this.indexes = new ConcurrentHashMap<>();
+		this.factory = factory;
+	}
+
+	/**
+	 * Returns the {@link ModuleIndex} for the application with the given main class.
+	 *
+	 * @param mainClass must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	ModuleIndex getIndex(Class<?> mainClass) {
+
+		Assert.notNull(mainClass, "Main class must not be null!");
+
+		return indexes.computeIfAbsent(mainClass, this::loadOrCreate);
+	}
+
+	private ModuleIndex loadOrCreate(Class<?> mainClass) {
+
+		var file = getIndexFile(mainClass);
+
+		if (file == null) {
+			return ModuleIndex.of(factory.apply(mainClass));
+		}
+
+		String fingerprint;
+
+		try {
+			fingerprint = fingerprint(mainClass);
+		} catch (UncheckedIOException o_O) {
+
+			LOGGER.debug("Unable to fingerprint classpath of {}.", mainClass.getName(), o_O);
+
+			return ModuleIndex.of(factory.apply(mainClass));
+		}
+
+		var index = ModuleIndex.read(file, fingerprint);
+
+		if (index != null) {
+
+			LOGGER.debug("Using module index {}.", file);
+
+			return index;
+		}
+
+		index = ModuleIndex.of(factory.apply(mainClass));
+
+		try {
+
+			index.write(file, fingerprint);
+
+			LOGGER.debug("Wrote module index {}.", file);
+
+		} catch (UncheckedIOException o_O) {
+			LOGGER.debug("Unable to write module index {}.", file, o_O);
+		}
+
+		return index;
+	}
+
+	/**
+	 * Returns the file to persist the {@link ModuleIndex} for the given main class in, i.e. a file in a dedicated
+	 * folder next to the directory the main class was loaded from. Usually that is {@code target} for Maven and
+	 * {@code build/classes/java} for Gradle builds.
+	 *
+	 * @param mainClass must not be {@literal null}.
+	 * @return {@literal null} in case the main class was not loaded from a directory.
+	 */
+	static @Nullable Path getIndexFile(Class<?> mainClass) {
+
+		var source = mainClass.getProtectionDomain().getCodeSource();
+
+		if (source == null || source.getLocation() == null || !"file".equals(source.getLocation().getProtocol())) {
+			return null;
+		}
+
+		try {
+
+			var location = Path.of(source.getLocation().toURI());
+			var parent = location.getParent();
+
+			return !Files.isDirectory(location) || parent == null
+					? null
+					: parent.resolve(INDEX_FOLDER).resolve("module-index-" + mainClass.getName() + ".properties");
+
+		} catch (URISyntaxException o_O) {
+			return null;
+		}
+	}
+
+	/**
+	 * Computes a fingerprint of the production code classpath locations containing the base packages of the application
+	 * with the given main class. Includes path, size and modification time of all files in directories and of the JAR
+	 * files, as well as the configuration affecting the detection of application modules.
+	 *
+	 * @param mainClass must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @see #fingerprint(Collection, ClassLoader)
+	 */
+	static String fingerprint(Class<?> mainClass) {
+
+		Assert.notNull(mainClass, "Main class must not be null!");
+
+		return fingerprint(ModulithMetadata.of(mainClass).getBasePackages(), mainClass.getClassLoader());
+	}
+
+	/**
+	 * Computes a fingerprint of the production code classpath locations containing the given base packages, the
+	 * {@code META-INF/spring.properties} and {@code META-INF/spring.factories} files and all {@code spring.modulith.*}
+	 * properties but the test ones configured in the application's configuration files, system properties and
+	 * environment variables.
+	 *
+	 * @param basePackages must not be {@literal null}.
+	 * @param classLoader must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static String fingerprint(Collection<String> basePackages, ClassLoader classLoader) {
+
+		Assert.notNull(basePackages, "Base packages must not be null!");
+		Assert.notNull(classLoader, "ClassLoader must not be null!");
+
+		try {
+
+			var fingerprint = CacheFiles.fingerprint().with(FORMAT_VERSION);
+
+			withConfiguration(fingerprint, classLoader);
+
+			for (var basePackage : basePackages) {
+
+				var resources = classLoader.getResources(basePackage.replace('.', '/'));
+
+				for (var url : Collections.list(resources)) {
+
+					if (!PRODUCTION_CODE.includes(Location.of(url))) {
+						continue;
+					}
+
+					fingerprint.with(url.toString());
+
+					if (ResourceUtils.isJarURL(url)) {
+						withFile(fingerprint, ResourceUtils.getFile(ResourceUtils.extractJarFileURL(url)).toPath());
+					} else if (ResourceUtils.isFileURL(url)) {
+						withDirectory(fingerprint, url);
+					}
+				}
+			}
+
+			return fingerprint.toHexString();
+
+		} catch (IOException o_O) {
+			throw new UncheckedIOException(o_O);
+		}
+	}
+
+	private static void withConfiguration(Fingerprint fingerprint, ClassLoader classLoader) throws IOException {
+
+		for (var resource : CONFIGURATION_RESOURCES) {
+
+			for (var url : Collections.list(classLoader.getResources(resource))) {
+
+				try (var stream = url.openStream()) {
+					fingerprint.with(url.toString()).with(stream.readAllBytes());
+				}
+			}
+		}
+
+		// Same lookup as used to determine the module detection strategy
+		var environment = new StandardEnvironment();
+		ConfigDataEnvironmentPostProcessor.applyTo(environment, new DefaultResourceLoader(classLoader), null);
+
+		fingerprint.withProperties(environment.getPropertySources(), ModuleIndexes::affectsModuleDetection);
+	}
+
+	private static boolean affectsModuleDetection(String propertyName) {
+
+		// Normalize environment variables
+		var name = propertyName.toLowerCase(Locale.ROOT).replace('_', '.');
+
+		// Test properties only affect the change detection, e.g. the reference commit changing with every build
+		return name.startsWith(PROPERTY_PREFIX) && !name.startsWith(TEST_PROPERTY_PREFIX);
+	}
+
+	private static void withDirectory(Fingerprint fingerprint, URL url) throws IOException {
+
+		var directory = ResourceUtils.getFile(url).toPath();
+
+		try (var files = Files.walk(directory)) {
+
+			for (var file : files.filter(Files::isRegularFile).sorted().toList()) {
+
+				fingerprint.with(directory.relativize(file).toString());
+				withFile(fingerprint, file);
+			}
+		}
+	}
+
+	private static void withFile(Fingerprint fingerprint, Path file) throws IOException {
+		fingerprint.with(Files.size(file) + ":" + Files.getLastModifiedTime(file).toMillis());
+	}
+}
@@ -67,11 +67,20 @@ public class ModulithExecutionCondition implements ExecutionCondition {
 
 			return changes.isEmpty()
 					? ConditionEvaluationResult.enabled("No changes detected!")
-					: CONDITION.evaluate(new ConditionContext(testClass, changes));
+					: CONDITION.evaluate(new ConditionContext(testClass, changes, store.getTestSelection()));
 
 		}).orElseGet(() -> ConditionEvaluationResult.enabled("Not a test class context!"));
 	}
 
+	/**
+	 * Returns whether the test execution is optimized at all, i.e. it doesn't originate from an IDE.
+	 *
+	 * @since 2.2
+	 */
+	static boolean isOptimizationEnabled() {
+		return CONDITION != null;
+	}
+
 	/**
 	 * Returns whether the class is loaded in an IDE context.
 	 */
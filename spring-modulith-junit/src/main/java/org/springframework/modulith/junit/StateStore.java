@@ -15,9 +15,17 @@
  */
 package org.springframework.modulith.junit;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
 import org.junit.jupiter.api.extension.ExtensionContext.Store;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.context.config.ConfigDataEnvironmentPostProcessor;
 import org.springframework.core.env.StandardEnvironment;
 import org.springframework.util.Assert;
@@ -29,6 +37,10 @@ import org.springframework.util.Assert;
  */
 class StateStore {
 
+	private static final Logger LOGGER = LoggerFactory.getLogger(StateStore.class);
+	private static final String THREAD_NAME = "spring-modulith-change-detection";
+	private static final AtomicReference<@Nullable CompletableFuture<Changes>> PENDING = new AtomicReference<>();
+
 	private final Store store;
 
 	/**
@@ -44,7 +56,63 @@ class StateStore {
 	}
 
 	/**
-	 * Returns all changes made to the project.
+	 * Starts detecting the changes made to the project in a background thread, so that they are available once the
+	 * first test class is evaluated. Does nothing if a detection is already pending.
+	 */
+	static void detectChangesInBackground() {
+		detectChangesInBackground(StateStore::detectChanges);
+	}
+
+	/**
+	 * Starts obtaining the {@link Changes} from the given {@link Supplier} in a background thread.
+	 *
+	 * @param changes must not be {@literal null}.
+	 */
+	static void detectChangesInBackground(Supplier<Changes> changes) {
+
+		Assert.notNull(changes, "Changes supplier must not be null!");
+
+		var future = new CompletableFuture<Changes>();
+
+		if (!PENDING.compareAndSet(null, future)) {
+			return;
+		}
+
+		var thread = new Thread(() -> {
+
+			try {
+				future.complete(changes.get());
+			} catch (Throwable o_O) {
+				future.completeExceptionally(o_O);
+			}
+
+		}, THREAD_NAME);
+
+		thread.setDaemon(true);
+		thread.setContextClassLoader(Thread.currentThread().getContextClassLoader());
+		thread.start();
+
+		LOGGER.debug("Started change detection in background.");
+	}
+
+	/**
+	 * Discards a change detection started in the background but not picked up by any test class evaluation, so that
+	 * its result doesn't leak into subsequent launcher sessions within the same JVM.
+	 */
+	static void discardPendingChanges() {
+
+		var pending = PENDING.getAndSet(null);
+
+		if (pending != null) {
+
+			pending.cancel(false);
+
+			LOGGER.debug("Discarded pending change detection.");
+		}
+	}
+
+	/**
+	 * Returns all changes made to the project. Uses the result of a detection started in the background if available.
 	 *
 	 * @return
 	 */
@@ -52,11 +120,49 @@ class StateStore {
 
 		return (Changes) store.computeIfAbsent("changed-files", __ -> {
 
-			// Lookup configuration
-			var environment = new StandardEnvironment();
-			ConfigDataEnvironmentPostProcessor.applyTo(environment);
+			var pending = PENDING.getAndSet(null);
 
-			return ChangesFactory.getChanges(environment);
+			return pending == null ? detectChanges() : await(pending);
 		});
 	}
+
+	/**
+	 * Returns the {@link TestSelection} of the current test run.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	TestSelection getTestSelection() {
+		return (TestSelection) store.computeIfAbsent("test-selection", __ -> new TestSelection());
+	}
+
+	private static Changes detectChanges() {
+
+		// Lookup configuration
+		var environment = new StandardEnvironment();
+		ConfigDataEnvironmentPostProcessor.applyTo(environment);
+
+		return ChangesFactory.getChanges(environment);
+	}
+
+	private static Changes await(CompletableFuture<Changes> pending) {
+
+		try {
+
+			return pending.join();
+
+		} catch (CompletionException o_O) {
+
+			var cause = o_O.getCause();
+
+			if (cause instanceof RuntimeException exception) {
+				throw exception;
+			}
+
+			if (cause instanceof Error error) {
+				throw error;
+			}
+
+			throw o_O;
+		}
+	}
 }
@@ -15,8 +15,6 @@
  */
 package org.springframework.modulith.junit;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.function.Function;
 
 import org.jspecify.annotations.Nullable;
@@ -25,9 +23,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.SpringBootConfiguration;
 import org.springframework.boot.test.context.AnnotatedClassFinder;
-import org.springframework.modulith.core.ApplicationModule;
-import org.springframework.modulith.core.ApplicationModuleDependencies;
-import org.springframework.modulith.core.ApplicationModules;
+import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 
 /**
@@ -45,7 +41,26 @@ class TestExecutionCondition {
 	private static final Logger log = LoggerFactory.getLogger(TestExecutionCondition.class);
 	private static final AnnotatedClassFinder SPA_CLASS_FINDER = new AnnotatedClassFinder(SpringBootConfiguration.class);
 
-	private final Map<ApplicationModule, ApplicationModuleDependencies> dependencies = new HashMap<>();
+	private final ModuleIndexes indexes;
+
+	/**
+	 * Creates a new {@link TestExecutionCondition} using the default {@link ModuleIndexes}.
+	 */
+	TestExecutionCondition() {
+		this(new ModuleIndexes());
+	}
+
+	/**
+	 * Creates a new {@link TestExecutionCondition} using the given {@link ModuleIndexes}.
+	 *
+	 * @param indexes must not be {@literal null}.
+	 */
+	TestExecutionCondition(ModuleIndexes indexes) {
+
+		Assert.notNull(indexes, "ModuleIndexes must not be null!");
+
+		this.indexes = indexes;
+	}
 
 	ConditionEvaluationResult evaluate(ConditionContext context) {
 
@@ -61,10 +76,15 @@ class TestExecutionCondition {
 
 		if (!changes.hasClassChanges()) {
 
-			return changes.skipTestsOnNoChanges()
-					? disabled(
-							"No source file changes detected — tests skipped due to configuration \"on-no-changes=execute-none\".")
-					: enabled("No source file changes detected — running full test suite due to default configuration.");
+			if (changes.skipTestsOnNoChanges()) {
+
+				context.selection().recordSkipped(context.testClass(), null);
+
+				return disabled(
+						"No source file changes detected — tests skipped due to configuration \"on-no-changes=execute-none\".");
+			}
+
+			return enabled("No source file changes detected — running full test suite due to default configuration.");
 		}
 
 		var changedClasses = changes.getChangedClasses();
@@ -83,32 +103,27 @@ class TestExecutionCondition {
 			return enabled("Unable to locate SpringBootApplication Class");
 		}
 
-		var modules = ApplicationModules.of(mainClass);
+		var index = indexes.getIndex(mainClass);
 		var packageName = ClassUtils.getPackageName(testClass);
 
-		return modules.getModuleForPackage(packageName).map(it -> {
+		return index.getModuleForPackage(packageName).map(it -> {
 
-			if (it.isRootModule()) {
+			if (it.root()) {
 				return enabled("Always executing tests in root modules.");
 			}
 
-			var dependencies = this.dependencies.computeIfAbsent(it, m -> m.getAllDependencies(modules));
+			var cause = context.selection().getImpactedModules(index, changes).getCause(it.identifier());
 
-			for (String changedClass : changedClasses) {
+			if (cause == null) {
 
-				if (it.contains(changedClass)) {
-					return enabled("Changes detected in module %s, executing test.".formatted(it.getIdentifier()));
-				}
+				context.selection().recordSkipped(testClass, it.identifier());
 
-				var dependency = dependencies.getModuleByType(changedClass);
-
-				if (dependency != null) {
-					return enabled(
-							"Changes detected in dependent module %s, executing test.".formatted(dependency.getIdentifier()));
-				}
+				return disabled("Test residing in module %s not affected by changes!".formatted(it.identifier()));
 			}
 
-			return disabled("Test residing in module %s not affected by changes!".formatted(it.getIdentifier()));
+			return cause.equals(it.identifier())
+					? enabled("Changes detected in module %s, executing test.".formatted(cause))
+					: enabled("Changes detected in dependent module %s, executing test.".formatted(cause));
 
 		}).orElseGet(() -> enabled("Test in package %s does not reside in any module!".formatted(packageName)));
 	}
@@ -142,5 +157,12 @@ class TestExecutionCondition {
 		}
 	}
 
-	record ConditionContext(Class<?> testClass, Changes changes) {}
+	/**
+	 * The context to evaluate the condition in.
+	 *
+	 * @param testClass the test class to evaluate, must not be {@literal null}.
+	 * @param changes the changes made to the project, must not be {@literal null}.
+	 * @param selection the {@link TestSelection} of the current test run, must not be {@literal null}.
+	 */
+	record ConditionContext(Class<?> testClass, Changes changes, TestSelection selection) {}
 }
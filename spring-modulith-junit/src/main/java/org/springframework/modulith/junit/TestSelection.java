@@ -0,0 +1,255 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.junit;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.SpringProperties;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * The state of the test selection of a single test run. Caches the {@link ImpactedModules} per {@link ModuleIndex} and
+ * records the test classes skipped. On close, a JSON report listing the impacted modules and the skipped test classes
+ * is written to the build directory of the current working directory, i.e. {@code target} or {@code build}. The report
+ * file name contains an identifier of the test run and the id of the current process to not have concurrently executed
+ * forks overwrite each other's reports. Reports of earlier runs are removed when the report is written.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+class TestSelection implements AutoCloseable {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(TestSelection.class);
+	private static final String REPORT_FOLDER = "spring-modulith";
+	private static final String REPORT_PREFIX = "test-selection-";
+
+	static final String RUN_ID_PROPERTY = "spring.modulith.test.run-id";
+
+	private final @Nullable Path reportFolder;
+	private final String runId;
+	private final Map<ModuleIndex, ImpactedModules> impactedModules;
+	private final Map<String, String> skippedTestClasses;
+
+	/**
+	 * Creates a new {@link TestSelection} writing its report to the default location.
+	 */
+	TestSelection() {
+		this(getDefaultReportFolder(), getRunId());
+	}
+
+	/**
+	 * Creates a new {@link TestSelection} writing its report to the given folder.
+	 *
+	 * @param reportFolder can be {@literal null} to not write a report at all.
+	 * @param runId the identifier of the current test run, must not be {@literal null} or empty.
+	 */
+	TestSelection(@Nullable Path reportFolder, String runId) {
+
+		Assert.hasText(runId, "Run identifier must not be null or empty!");
+
+		this.reportFolder = reportFolder;
+		this.runId = runId.replaceAll("[^A-Za-z0-9._-]", "_");
+		this.impactedModules = new ConcurrentHashMap<>();
+		this.skippedTestClasses = new ConcurrentSkipListMap<>();
+	}
+
+	/**
+	 * Returns the {@link ImpactedModules} for the given {@link ModuleIndex} and {@link Changes}. Computed only once per
+	 * {@link ModuleIndex}, as the {@link Changes} don't change during a test run.
+	 *
+	 * @param index must not be {@literal null}.
+	 * @param changes must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	ImpactedModules getImpactedModules(ModuleIndex index, Changes changes) {
+
+		Assert.notNull(index, "ModuleIndex must not be null!");
+		Assert.notNull(changes, "Changes must not be null!");
+
+		return impactedModules.computeIfAbsent(index, it -> ImpactedModules.of(it, changes.getChangedClasses()));
+	}
+
+	/**
+	 * Records the given test class as skipped.
+	 *
+	 * @param testClass must not be {@literal null}.
+	 * @param module the identifier of the module the test class resides in, can be {@literal null}.
+	 */
+	void recordSkipped(Class<?> testClass, @Nullable String module) {
+
+		Assert.notNull(testClass, "Test class must not be null!");
+
+		skippedTestClasses.put(testClass.getName(), module == null ? "" : module);
+	}
+
+	/**
+	 * Renders the report listing all impacted modules and skipped test classes as JSON.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	String toJson() {
+
+		var causes = new TreeMap<String, String>();
+
+		impactedModules.values().forEach(it -> it.getCauses().forEach(causes::putIfAbsent));
+
+		var modules = causes.entrySet().stream()
+				.map(it -> "{ \"module\" : %s, \"cause\" : %s }".formatted(quote(it.getKey()), quote(it.getValue())));
+
+		var tests = skippedTestClasses.entrySet().stream()
+				.map(it -> "{ \"testClass\" : %s, \"module\" : %s }".formatted(quote(it.getKey()),
+						it.getValue().isEmpty() ? "null" : quote(it.getValue())));
+
+		return "{\n" //
+				+ "  \"impactedModules\" : " + toArray(modules) + ",\n" //
+				+ "  \"skippedTestClasses\" : " + toArray(tests) + "\n" //
+				+ "}\n";
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.AutoCloseable#close()
+	 */
+	@Override
+	public void close() {
+
+		var folder = reportFolder;
+
+		if (folder == null || (impactedModules.isEmpty() && skippedTestClasses.isEmpty())) {
+			return;
+		}
+
+		var prefix = REPORT_PREFIX + runId + "-";
+		var file = folder.resolve(prefix + ProcessHandle.current().pid() + ".json");
+
+		try {
+
+			Files.createDirectories(folder);
+
+			var temporary = Files.createTempFile(folder, file.getFileName().toString(), ".tmp");
+
+			Files.writeString(temporary, toJson());
+			Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+			LOGGER.info("Wrote test selection report to {}.", file);
+
+		} catch (IOException o_O) {
+			LOGGER.warn("Unable to write test selection report to {}.", file, o_O);
+			return;
+		}
+
+		// Remove reports of earlier runs
+		try (var reports = Files.list(folder)) {
+
+			reports.filter(it -> {
+
+				var name = it.getFileName().toString();
+
+				return name.startsWith(REPORT_PREFIX) && name.endsWith(".json") && !name.startsWith(prefix);
+
+			}).forEach(it -> {
+
+				try {
+					Files.deleteIfExists(it);
+				} catch (IOException o_O) {
+					LOGGER.debug("Unable to delete test selection report {}.", it, o_O);
+				}
+			});
+
+		} catch (IOException o_O) {
+			LOGGER.debug("Unable to remove test selection reports of earlier runs from {}.", folder, o_O);
+		}
+	}
+
+	private static @Nullable Path getDefaultReportFolder() {
+
+		return Stream.of("target", "build")
+				.map(Path::of)
+				.filter(Files::isDirectory)
+				.findFirst()
+				.map(it -> it.resolve(REPORT_FOLDER))
+				.orElse(null);
+	}
+
+	/**
+	 * Returns the identifier of the current test run. Uses the one configured via {@value #RUN_ID_PROPERTY} and falls
+	 * back to the id and start time of the parent process, i.e. the build tool that forked the JVM running the tests.
+	 *
+	 * @return will never be {@literal null} or empty.
+	 */
+	private static String getRunId() {
+
+		var configured = SpringProperties.getProperty(RUN_ID_PROPERTY);
+
+		if (StringUtils.hasText(configured)) {
+			return configured;
+		}
+
+		var current = ProcessHandle.current();
+
+		return current.parent()
+				.map(it -> it.pid() + it.info().startInstant().map(instant -> "." + instant.toEpochMilli()).orElse(""))
+				.orElseGet(() -> String.valueOf(current.pid()));
+	}
+
+	private static String toArray(Stream<String> elements) {
+
+		var result = elements.toList();
+
+		return result.isEmpty() ? "[]" : result.stream().collect(Collectors.joining(",\n    ", "[\n    ", "\n  ]"));
+	}
+
+	private static String quote(String value) {
+
+		var builder = new StringBuilder(value.length() + 2).append('"');
+
+		for (var character : value.toCharArray()) {
+
+			switch (character) {
+				case '"' -> builder.append("\\\"");
+				case '\\' -> builder.append("\\\\");
+				case '\n' -> builder.append("\\n");
+				case '\r' -> builder.append("\\r");
+				case '\t' -> builder.append("\\t");
+				case '\b' -> builder.append("\\b");
+				case '\f' -> builder.append("\\f");
+				default -> {
+
+					if (character < 0x20) {
+						builder.append("\\u%04x".formatted((int) character));
+					} else {
+						builder.append(character);
+					}
+				}
+			}
+		}
+
+		return builder.append('"').toString();
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.junit.diff;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.eclipse.jgit.dircache.DirCacheEntry;
+import org.eclipse.jgit.lib.FileMode;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.treewalk.AbstractTreeIterator;
+import org.eclipse.jgit.treewalk.FileTreeIterator;
+import org.eclipse.jgit.util.FS;
+import org.jspecify.annotations.Nullable;
+import org.springframework.modulith.junit.diff.WorkingTreeStatCache.Stat;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link FileTreeIterator} that consults a {@link WorkingTreeStatCache} before comparing the content of a file whose
+ * stat data differs from the one recorded in the index with the index entry.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+class StatCachingFileTreeIterator extends FileTreeIterator {
+
+	private final WorkingTreeStatCache cache;
+
+	/**
+	 * Creates a new {@link StatCachingFileTreeIterator} for the working tree of the given {@link Repository}.
+	 *
+	 * @param repository must not be {@literal null}.
+	 * @param cache must not be {@literal null}.
+	 */
+	StatCachingFileTreeIterator(Repository repository, WorkingTreeStatCache cache) {
+
+		super(repository);
+
+		Assert.notNull(cache, "WorkingTreeStatCache must not be null!");
+
+		this.cache = cache;
+	}
+
+	private StatCachingFileTreeIterator(StatCachingFileTreeIterator parent, File root, FS fs,
+			FileModeStrategy fileModeStrategy) {
+
+		super(parent, root, fs, fileModeStrategy);
+
+		this.cache = parent.cache;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.jgit.treewalk.FileTreeIterator#enterSubtree()
+	 */
+	@Override
+	protected AbstractTreeIterator enterSubtree() throws IOException {
+		return new StatCachingFileTreeIterator(this, getEntryFile(), fs, fileModeStrategy);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.jgit.treewalk.WorkingTreeIterator#isModified(org.eclipse.jgit.dircache.DirCacheEntry, boolean, org.eclipse.jgit.lib.ObjectReader)
+	 */
+	@Override
+	public boolean isModified(@Nullable DirCacheEntry entry, boolean forceContentCheck, ObjectReader reader)
+			throws IOException {
+
+		// Submodules are compared by the commit checked out, not by content
+		if (entry == null || FileMode.GITLINK.equals(entry.getFileMode())
+				|| FileMode.GITLINK.equals(getEntryFileMode())) {
+			return super.isModified(entry, forceContentCheck, reader);
+		}
+
+		var stat = new Stat(getEntryLength(), getEntryLastModifiedInstant(), getEntryRawMode(), entry.getObjectId());
+
+		// Matching stat data doesn't require a content comparison in the first place
+		if (entry.getLength() == (int) stat.length() && entry.getLastModifiedInstant().equals(stat.lastModified())) {
+			return super.isModified(entry, forceContentCheck, reader);
+		}
+
+		var path = getEntryPathString();
+		var cached = cache.lookup(path, stat);
+
+		if (cached != null) {
+			return cached;
+		}
+
+		var modified = super.isModified(entry, forceContentCheck, reader);
+
+		cache.record(path, stat, modified);
+
+		return modified;
+	}
+}
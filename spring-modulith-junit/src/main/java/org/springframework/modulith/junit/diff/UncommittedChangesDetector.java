@@ -25,7 +25,8 @@ import org.eclipse.jgit.lib.Repository;
 import com.tngtech.archunit.thirdparty.com.google.common.collect.Streams;
 
 /**
- * Implementation to get latest local file changes.
+ * Implementation to get latest local file changes. Caches the results of comparing files with the Git index in the
+ * build directory, so that only files whose stat data changed since the last detection are hashed.
  *
  * @author Lukas Dohmen
  * @author David Bilge
@@ -46,9 +47,15 @@ enum UncommittedChangesDetector implements FileModificationDetector {
 
 	private static Stream<ModifiedFile> findUncommittedChanges(Repository repository) {
 
+		var cache = WorkingTreeStatCache.load();
+
 		return withTry(() -> new Git(repository), git -> {
 
-			var status = git.status().call();
+			var status = git.status()
+					.setWorkingTreeIt(new StatCachingFileTreeIterator(repository, cache))
+					.call();
+
+			cache.store();
 
 			return Streams.concat(status.getUncommittedChanges().stream(), status.getUntracked().stream())
 					.map(ModifiedFile::new);
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.junit.diff;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import org.eclipse.jgit.lib.ObjectId;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+/**
+ * A cache of the results of comparing working tree files with their entries in the Git index. An entry is valid as
+ * long as size, modification time and mode of the file as well as the object id recorded in the index stay the same.
+ * JGit doesn't update the stat data in the index when calculating the status of a repository. Files touched, but not
+ * modified, would thus be hashed on every status calculation otherwise. Results for files modified very recently are
+ * not cached, as further modifications might not be reflected in their modification time.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+class WorkingTreeStatCache {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(WorkingTreeStatCache.class);
+	private static final String VERSION_KEY = "version";
+	private static final String FORMAT_VERSION = "1";
+	private static final String CACHE_FILE = "spring-modulith/working-tree-stat-cache.properties";
+	private static final Duration RACY_THRESHOLD = Duration.ofSeconds(2);
+
+	private final @Nullable Path file;
+	private final Map<String, String> previous, current;
+	private final Instant threshold;
+
+	/**
+	 * Creates a new {@link WorkingTreeStatCache} backed by the given file and previously cached entries.
+	 *
+	 * @param file can be {@literal null}.
+	 * @param previous must not be {@literal null}.
+	 * @param now must not be {@literal null}.
+	 */
+	WorkingTreeStatCache(@Nullable Path file, Map<String, String> previous, Instant now) {
+
+		Assert.notNull(previous, "Previous entries must not be null!");
+		Assert.notNull(now, "Now must not be null!");
+
+		this.file = file;
+		this.previous = previous;
+		this.current = new HashMap<>();
+		this.threshold = now.minus(RACY_THRESHOLD);
+	}
+
+	/**
+	 * Loads the {@link WorkingTreeStatCache} from its default location in the build directory of the current working
+	 * directory, i.e. {@code target} or {@code build}. Returns a cache that is not persisted if neither of them exists.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	static WorkingTreeStatCache load() {
+
+		var file = Stream.of("target", "build")
+				.map(Path::of)
+				.filter(Files::isDirectory)
+				.findFirst()
+				.map(it -> it.resolve(CACHE_FILE))
+				.orElse(null);
+
+		return load(file);
+	}
+
+	/**
+	 * Loads the {@link WorkingTreeStatCache} from the given file.
+	 *
+	 * @param file can be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static WorkingTreeStatCache load(@Nullable Path file) {
+
+		var entries = new HashMap<String, String>();
+
+		if (file == null || !Files.isRegularFile(file)) {
+			return new WorkingTreeStatCache(file, entries, Instant.now());
+		}
+
+		var properties = new Properties();
+
+		try (var reader = Files.newBufferedReader(file)) {
+			properties.load(reader);
+		} catch (IOException o_O) {
+			LOGGER.debug("Unable to read working tree stat cache {}.", file, o_O);
+		}
+
+		if (FORMAT_VERSION.equals(properties.getProperty(VERSION_KEY))) {
+
+			properties.stringPropertyNames().stream()
+					.filter(it -> !it.equals(VERSION_KEY))
+					.forEach(it -> entries.put(it, properties.getProperty(it)));
+		}
+
+		return new WorkingTreeStatCache(file, entries, Instant.now());
+	}
+
+	/**
+	 * Returns the cached result of the comparison of the file with the given path and stat data with the given index
+	 * entry.
+	 *
+	 * @param path must not be {@literal null} or empty.
+	 * @param stat must not be {@literal null}.
+	 * @return {@literal null} in case no result is cached for the given stat data.
+	 */
+	@Nullable
+	Boolean lookup(String path, Stat stat) {
+
+		Assert.hasText(path, "Path must not be null or empty!");
+		Assert.notNull(stat, "Stat must not be null!");
+
+		var cached = previous.get(path);
+
+		if (cached == null) {
+			return null;
+		}
+
+		var separator = cached.lastIndexOf(':');
+
+		if (separator < 0 || !cached.substring(0, separator).equals(stat.toString())) {
+			return null;
+		}
+
+		current.put(path, cached);
+
+		return Boolean.valueOf(cached.substring(separator + 1));
+	}
+
+	/**
+	 * Records the result of comparing the file with the given path and stat data with its index entry.
+	 *
+	 * @param path must not be {@literal null} or empty.
+	 * @param stat must not be {@literal null}.
+	 * @param modified whether the file was considered modified.
+	 */
+	void record(String path, Stat stat, boolean modified) {
+
+		Assert.hasText(path, "Path must not be null or empty!");
+		Assert.notNull(stat, "Stat must not be null!");
+
+		if (stat.lastModified().isAfter(threshold)) {
+			return;
+		}
+
+		current.put(path, stat + ":" + modified);
+	}
+
+	/**
+	 * Persists all entries looked up or recorded since the cache was loaded. Entries not used anymore are dropped.
+	 */
+	void store() {
+
+		if (file == null || current.equals(previous)) {
+			return;
+		}
+
+		var properties = new Properties();
+
+		properties.setProperty(VERSION_KEY, FORMAT_VERSION);
+		properties.putAll(current);
+
+		try {
+
+			var parent = file.toAbsolutePath().getParent();
+
+			Files.createDirectories(parent);
+
+			// Write to a temporary file first to not expose partially written files to concurrently running forks
+			var temporary = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+
+			try (var writer = Files.newBufferedWriter(temporary)) {
+				properties.store(writer, null);
+			}
+
+			Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+		} catch (IOException o_O) {
+			LOGGER.debug("Unable to write working tree stat cache {}.", file, o_O);
+		}
+	}
+
+	/**
+	 * The stat data of a working tree file and the object id of its index entry.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	record Stat(long length, Instant lastModified, int mode, ObjectId objectId) {
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Record#toString()
+		 */
+		@Override
+		public String toString() {
+			return length + ":" + lastModified.getEpochSecond() + "." + lastModified.getNano() + ":"
+					+ Integer.toOctalString(mode) + ":" + objectId.name();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2022-2026 the original author or authors.
+ * Copyright 2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -13,19 +13,14 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package org.springframework.modulith.events.jdbc;
+package example.b;
 
-import static org.assertj.core.api.Assertions.*;
+import example.a.A;
 
-import org.junit.jupiter.api.Test;
-
-class DatabaseTypeUnitTests {
-
-	@Test // GH-29
-	void shouldThrowExceptionOnUnsupportedDatabaseType() {
+/**
+ * @author Oliver Drotbohm
+ */
+public class B {
 
-		assertThatExceptionOfType(IllegalArgumentException.class)
-				.isThrownBy(() -> DatabaseType.from("UNKNOWN"))
-				.withMessageContaining("UNKNOWN");
-	}
+	A a;
 }
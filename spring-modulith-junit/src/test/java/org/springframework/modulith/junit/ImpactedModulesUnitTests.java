@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.junit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ImpactedModules}.
+ *
+ * @author Oliver Drotbohm
+ */
+class ImpactedModulesUnitTests {
+
+	ModuleIndex index = new ModuleIndex(
+			Map.of("example.a.A", "a", "example.b.B", "b", "example.c.C", "c"),
+			Map.of("example.a", "a", "example.b", "b", "example.c", "c"),
+			Map.of(),
+			Map.of("a", Set.of("b"), "b", Set.of(), "c", Set.of()));
+
+	@Test
+	void registersChangedModulesAndTheirDependents() {
+
+		var impacted = ImpactedModules.of(index, List.of("example.a.A", "example.Unknown"));
+
+		assertThat(impacted.getCause("a")).isEqualTo("a");
+		assertThat(impacted.getCause("b")).isEqualTo("a");
+		assertThat(impacted.getCause("c")).isNull();
+	}
+
+	@Test
+	void prefersChangesToTheModuleItself() {
+
+		var impacted = ImpactedModules.of(index, List.of("example.a.A", "example.b.B"));
+
+		assertThat(impacted.getCause("b")).isEqualTo("b");
+	}
+}
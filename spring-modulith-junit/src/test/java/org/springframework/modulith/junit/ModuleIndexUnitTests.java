@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.junit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import example.a.A;
+import example.b.B;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.modulith.core.ApplicationModules;
+import org.springframework.modulith.junit.ModuleIndex.IndexedModule;
+
+import com.tngtech.archunit.core.importer.ImportOption;
+
+/**
+ * Unit tests for {@link ModuleIndex}.
+ *
+ * @author Oliver Drotbohm
+ */
+class ModuleIndexUnitTests {
+
+	ModuleIndex index = new ModuleIndex(
+			Map.of("example.a.A", "a", "example.b.B", "b"),
+			Map.of("example.a", "a", "example.b", "b"),
+			Map.of("example", "root:example"),
+			Map.of("a", Set.of("b"), "b", Set.of()));
+
+	@Test
+	void resolvesModuleForPackage() {
+
+		assertThat(index.getModuleForPackage("example.a")).hasValue(new IndexedModule("a", false));
+		assertThat(index.getModuleForPackage("example.a.nested")).hasValue(new IndexedModule("a", false));
+		assertThat(index.getModuleForPackage("example")).hasValue(new IndexedModule("root:example", true));
+		assertThat(index.getModuleForPackage("example.c")).isEmpty();
+	}
+
+	@Test
+	void resolvesModuleByTypeAndDependents() {
+
+		assertThat(index.getModuleByType("example.b.B")).isEqualTo("b");
+		assertThat(index.getModuleByType("example.c.C")).isNull();
+		assertThat(index.getDependents("a")).containsExactly("b");
+		assertThat(index.getDependents("c")).isEmpty();
+	}
+
+	@Test
+	void resolvesModuleBySimpleTypeNameOnlyForTypesWithoutPackage() {
+
+		assertThat(index.getModuleByType("A")).isEqualTo("a");
+		assertThat(index.getModuleByType("other.A")).isNull();
+	}
+
+	@Test
+	void makesSameDecisionsAsApplicationModules() {
+
+		var modules = ApplicationModules.of("example", new ImportOption.OnlyIncludeTests());
+		var index = ModuleIndex.of(modules);
+		var types = List.of(A.class.getName(), B.class.getName(), "A", "B", "example.Unknown", "Unknown");
+
+		assertThat(modules.stream()).hasSizeGreaterThanOrEqualTo(2);
+
+		modules.forEach(module -> {
+
+			var identifier = module.getIdentifier().toString();
+
+			assertThat(index.getModuleForPackage(module.getBasePackage().getName()))
+					.hasValue(new IndexedModule(identifier, module.isRootModule()));
+
+			types.forEach(type -> {
+
+				var expected = modules.getModuleByType(type)
+						.filter(changed -> changed.equals(module) || modules.dependsOn(module, changed))
+						.isPresent();
+
+				var changed = index.getModuleByType(type);
+				var actual = changed != null
+						&& (changed.equals(identifier) || index.getDependents(changed).contains(identifier));
+
+				assertThat(actual).as("Module %s affected by change to %s", identifier, type).isEqualTo(expected);
+			});
+		});
+	}
+
+	@Test
+	void readsIndexWrittenForSameFingerprint(@TempDir Path directory) {
+
+		var file = directory.resolve("nested").resolve("index.properties");
+
+		index.write(file, "fingerprint");
+
+		var result = ModuleIndex.read(file, "fingerprint");
+
+		assertThat(result).isNotNull();
+		assertThat(result.getModuleForPackage("example")).hasValue(new IndexedModule("root:example", true));
+		assertThat(result.getModuleByType("example.a.A")).isEqualTo("a");
+		assertThat(result.getDependents("a")).containsExactly("b");
+		assertThat(result.getDependents("b")).isEmpty();
+	}
+
+	@Test
+	void doesNotReadIndexWrittenForDifferentFingerprint(@TempDir Path directory) {
+
+		var file = directory.resolve("index.properties");
+
+		index.write(file, "fingerprint");
+
+		assertThat(ModuleIndex.read(file, "other")).isNull();
+		assertThat(ModuleIndex.read(directory.resolve("missing.properties"), "fingerprint")).isNull();
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.junit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link ModuleIndexes}.
+ *
+ * @author Oliver Drotbohm
+ */
+class ModuleIndexesUnitTests {
+
+	static final List<String> BASE_PACKAGES = List.of("fixture");
+
+	@Test
+	void fingerprintChangesIfClassChanges(@TempDir Path directory) throws Exception {
+
+		var type = Files.createDirectories(directory.resolve("fixture")).resolve("Sample.class");
+
+		Files.write(type, new byte[] { 1 });
+
+		try (var classLoader = createClassLoader(directory)) {
+
+			var fingerprint = ModuleIndexes.fingerprint(BASE_PACKAGES, classLoader);
+
+			assertThat(ModuleIndexes.fingerprint(BASE_PACKAGES, classLoader)).isEqualTo(fingerprint);
+
+			Files.write(type, new byte[] { 1, 2 });
+
+			assertThat(ModuleIndexes.fingerprint(BASE_PACKAGES, classLoader)).isNotEqualTo(fingerprint);
+		}
+	}
+
+	@Test
+	void fingerprintChangesIfModulithConfigurationChanges(@TempDir Path directory) throws Exception {
+
+		var property = "spring.modulith.detection-strategy";
+
+		try (var classLoader = createClassLoader(directory)) {
+
+			var fingerprint = ModuleIndexes.fingerprint(BASE_PACKAGES, classLoader);
+
+			System.setProperty(property, "explicitly-annotated");
+
+			try {
+				assertThat(ModuleIndexes.fingerprint(BASE_PACKAGES, classLoader)).isNotEqualTo(fingerprint);
+			} finally {
+				System.clearProperty(property);
+			}
+
+			// Configuration files picked up, too
+			Files.writeString(directory.resolve("application.properties"), property + "=explicitly-annotated");
+
+			assertThat(ModuleIndexes.fingerprint(BASE_PACKAGES, classLoader)).isNotEqualTo(fingerprint);
+		}
+	}
+
+	@Test
+	void fingerprintIgnoresTestConfiguration() throws Exception {
+
+		var property = "spring.modulith.test.reference-commit";
+		var classLoader = getClass().getClassLoader();
+		var fingerprint = ModuleIndexes.fingerprint(BASE_PACKAGES, classLoader);
+
+		System.setProperty(property, "HEAD~1");
+
+		try {
+			assertThat(ModuleIndexes.fingerprint(BASE_PACKAGES, classLoader)).isEqualTo(fingerprint);
+		} finally {
+			System.clearProperty(property);
+		}
+	}
+
+	private URLClassLoader createClassLoader(Path directory) throws Exception {
+		return new URLClassLoader(new URL[] { directory.toUri().toURL() }, getClass().getClassLoader());
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.junit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Store;
+import org.springframework.modulith.junit.Changes.OnNoChange;
+import org.springframework.modulith.junit.diff.ModifiedFile;
+
+/**
+ * Unit tests for {@link StateStore}.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+class StateStoreUnitTests {
+
+	ExtensionContext context = mock(ExtensionContext.class);
+	Store store = mock(Store.class);
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+
+		doReturn(context).when(context).getRoot();
+		doReturn(store).when(context).getStore(any());
+		doAnswer(it -> it.getArgument(1, Function.class).apply(it.getArgument(0)))
+				.when(store).computeIfAbsent(any(), any());
+	}
+
+	@AfterEach
+	void tearDown() {
+		StateStore.discardPendingChanges();
+	}
+
+	@Test
+	void usesChangesDetectedInBackground() {
+
+		var changes = Changes.of(Stream.of(new ModifiedFile("Foo.java")), OnNoChange.EXECUTE_ALL);
+
+		StateStore.detectChangesInBackground(() -> changes);
+
+		assertThat(new StateStore(context).getChanges()).isSameAs(changes);
+	}
+
+	@Test
+	void discardsChangesDetectedInBackgroundNotPickedUp() {
+
+		var changes = Changes.of(Stream.of(new ModifiedFile("Foo.java")), OnNoChange.EXECUTE_ALL);
+
+		StateStore.detectChangesInBackground(() -> Changes.NONE);
+		StateStore.discardPendingChanges();
+		StateStore.detectChangesInBackground(() -> changes);
+
+		assertThat(new StateStore(context).getChanges()).isSameAs(changes);
+	}
+
+	@Test
+	void propagatesFailureOfBackgroundDetection() {
+
+		StateStore.detectChangesInBackground(() -> {
+			throw new IllegalStateException();
+		});
+
+		assertThatIllegalStateException().isThrownBy(() -> new StateStore(context).getChanges());
+	}
+}
@@ -32,11 +32,13 @@ import org.springframework.modulith.junit.diff.ModifiedFile;
  */
 class TestExecutionConditionUnitTests {
 
+	TestSelection selection = new TestSelection(null, "test");
+
 	@Test // GH-1391
 	void fallsBackToEnabledTestIfMultipleMainClassesFound() {
 
 		var changes = Changes.of(Stream.of(new ModifiedFile("Foo.java")), OnNoChange.EXECUTE_ALL);
-		var ctx = new TestExecutionCondition.ConditionContext(getClass(), changes);
+		var ctx = new TestExecutionCondition.ConditionContext(getClass(), changes, selection);
 
 		assertThat(new TestExecutionCondition().evaluate(ctx).isDisabled()).isFalse();
 	}
@@ -45,7 +47,7 @@ class TestExecutionConditionUnitTests {
 	void disablesForNoClassChangesWithPropertyConfiguration() {
 
 		var changes = Changes.of(Stream.of(new ModifiedFile("README.md")), OnNoChange.SKIP_ALL);
-		var ctx = new TestExecutionCondition.ConditionContext(getClass(), changes);
+		var ctx = new TestExecutionCondition.ConditionContext(getClass(), changes, selection);
 
 		assertThat(new TestExecutionCondition().evaluate(ctx).isDisabled()).isTrue();
 	}
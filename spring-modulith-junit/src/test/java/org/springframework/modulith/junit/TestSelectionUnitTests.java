@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.junit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.modulith.junit.Changes.OnNoChange;
+import org.springframework.modulith.junit.diff.ModifiedFile;
+
+/**
+ * Unit tests for {@link TestSelection}.
+ *
+ * @author Oliver Drotbohm
+ */
+class TestSelectionUnitTests {
+
+	ModuleIndex index = new ModuleIndex(
+			Map.of("example.a.A", "a", "example.b.B", "b", "example.c.C", "c"),
+			Map.of("example.a", "a", "example.b", "b", "example.c", "c"),
+			Map.of(),
+			Map.of("a", Set.of("b"), "b", Set.of(), "c", Set.of()));
+
+	@Test
+	void computesImpactedModulesOncePerIndex() {
+
+		var selection = new TestSelection(null, "run");
+		var changes = Changes.of(Stream.of(new ModifiedFile("src/main/java/example/a/A.java")), OnNoChange.EXECUTE_ALL);
+
+		assertThat(selection.getImpactedModules(index, changes))
+				.isSameAs(selection.getImpactedModules(index, changes));
+	}
+
+	@Test
+	void writesReportOfImpactedModulesAndSkippedTestClasses(@TempDir Path directory) {
+
+		var file = directory.resolve("test-selection-run-" + ProcessHandle.current().pid() + ".json");
+		var selection = new TestSelection(directory, "run");
+		var changes = Changes.of(Stream.of(new ModifiedFile("src/main/java/example/a/A.java")), OnNoChange.EXECUTE_ALL);
+
+		selection.getImpactedModules(index, changes);
+		selection.recordSkipped(TestSelectionUnitTests.class, "c");
+		selection.close();
+
+		assertThat(file).content().isEqualToIgnoringWhitespace("""
+				{
+				  "impactedModules" : [
+				    { "module" : "a", "cause" : "a" },
+				    { "module" : "b", "cause" : "a" }
+				  ],
+				  "skippedTestClasses" : [
+				    { "testClass" : "org.springframework.modulith.junit.TestSelectionUnitTests", "module" : "c" }
+				  ]
+				}
+				""");
+	}
+
+	@Test
+	void doesNotWriteReportIfNothingWasEvaluated(@TempDir Path directory) {
+
+		new TestSelection(directory, "run").close();
+
+		assertThat(directory).isEmptyDirectory();
+	}
+
+	@Test
+	void removesReportsOfEarlierRuns(@TempDir Path directory) throws Exception {
+
+		var earlier = Files.writeString(directory.resolve("test-selection-earlier-4711.json"), "{}");
+		var otherFork = Files.writeString(directory.resolve("test-selection-run-4711.json"), "{}");
+
+		var selection = new TestSelection(directory, "run");
+		selection.recordSkipped(TestSelectionUnitTests.class, "c");
+		selection.close();
+
+		assertThat(earlier).doesNotExist();
+		assertThat(otherFork).exists();
+		assertThat(directory.resolve("test-selection-run-" + ProcessHandle.current().pid() + ".json")).exists();
+	}
+
+	@Test
+	void escapesControlCharactersInReport() {
+
+		var selection = new TestSelection(null, "run");
+		selection.recordSkipped(TestSelectionUnitTests.class, "a\"b\\c\nd\te\u0001");
+
+		assertThat(selection.toJson())
+				.contains("\"module\" : \"a\\\"b\\\\c\\nd\\te\\u0001\"");
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.junit.diff;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.Status;
+import org.eclipse.jgit.lib.FileMode;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.modulith.junit.diff.WorkingTreeStatCache.Stat;
+
+/**
+ * Unit tests for {@link StatCachingFileTreeIterator} against a real Git repository.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+class StatCachingFileTreeIteratorUnitTests {
+
+	static final Instant LAST_MODIFIED = Instant.now().minus(Duration.ofMinutes(1)).truncatedTo(ChronoUnit.SECONDS);
+
+	@TempDir Path folder;
+
+	Git git;
+	Path file, cacheFile;
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		var repository = folder.resolve("repository");
+
+		git = Git.init().setDirectory(repository.toFile()).call();
+		file = repository.resolve("Foo.java");
+		cacheFile = folder.resolve("cache.properties");
+
+		Files.writeString(file, "foo");
+
+		var author = new PersonIdent("Author", "author@example.com");
+
+		git.add().addFilepattern("Foo.java").call();
+		git.commit().setMessage("Initial commit.").setAuthor(author).setCommitter(author).setSign(false).call();
+	}
+
+	@AfterEach
+	void tearDown() {
+		git.close();
+	}
+
+	@Test
+	void detectsModifiedContentOfFilesWithUnchangedSize() throws Exception {
+
+		Files.writeString(file, "bar");
+		Files.setLastModifiedTime(file, FileTime.from(LAST_MODIFIED));
+
+		assertThat(status().getModified()).containsExactly("Foo.java");
+		assertThat(WorkingTreeStatCache.load(cacheFile).lookup("Foo.java", stat())).isTrue();
+	}
+
+	@Test
+	void reportsTouchedButUnmodifiedFilesAsClean() throws Exception {
+
+		Files.setLastModifiedTime(file, FileTime.from(LAST_MODIFIED));
+
+		assertThat(status().isClean()).isTrue();
+		assertThat(WorkingTreeStatCache.load(cacheFile).lookup("Foo.java", stat())).isFalse();
+	}
+
+	@Test
+	void usesCachedResultForUnchangedStatData() throws Exception {
+
+		Files.setLastModifiedTime(file, FileTime.from(LAST_MODIFIED));
+
+		// Pretend a previous detection found the file to be modified
+		var cache = WorkingTreeStatCache.load(cacheFile);
+		cache.record("Foo.java", stat(), true);
+		cache.store();
+
+		assertThat(status().getModified()).containsExactly("Foo.java");
+	}
+
+	private Status status() throws Exception {
+
+		var cache = WorkingTreeStatCache.load(cacheFile);
+		var status = git.status()
+				.setWorkingTreeIt(new StatCachingFileTreeIterator(git.getRepository(), cache))
+				.call();
+
+		cache.store();
+
+		return status;
+	}
+
+	private Stat stat() throws Exception {
+
+		var entry = git.getRepository().readDirCache().getEntry("Foo.java");
+
+		return new Stat(Files.size(file), LAST_MODIFIED, FileMode.REGULAR_FILE.getBits(), entry.getObjectId());
+	}
+}
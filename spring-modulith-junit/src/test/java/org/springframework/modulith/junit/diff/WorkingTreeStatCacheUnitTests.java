@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.junit.diff;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.eclipse.jgit.lib.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.modulith.junit.diff.WorkingTreeStatCache.Stat;
+
+/**
+ * Unit tests for {@link WorkingTreeStatCache}.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+class WorkingTreeStatCacheUnitTests {
+
+	static final Instant LAST_MODIFIED = Instant.now().minus(Duration.ofMinutes(1));
+	static final Stat STAT = new Stat(42, LAST_MODIFIED, 0100644, ObjectId.zeroId());
+
+	@TempDir Path folder;
+
+	@Test
+	void persistsRecordedResults() {
+
+		var file = folder.resolve("cache.properties");
+		var cache = WorkingTreeStatCache.load(file);
+
+		assertThat(cache.lookup("src/main/java/Foo.java", STAT)).isNull();
+
+		cache.record("src/main/java/Foo.java", STAT, false);
+		cache.record("src/main/java/Bar.java", STAT, true);
+		cache.store();
+
+		var reloaded = WorkingTreeStatCache.load(file);
+
+		assertThat(reloaded.lookup("src/main/java/Foo.java", STAT)).isFalse();
+		assertThat(reloaded.lookup("src/main/java/Bar.java", STAT)).isTrue();
+	}
+
+	@Test
+	void ignoresCachedResultForChangedStatData() {
+
+		var file = folder.resolve("cache.properties");
+		var cache = WorkingTreeStatCache.load(file);
+
+		cache.record("Foo.java", STAT, false);
+		cache.store();
+
+		var reloaded = WorkingTreeStatCache.load(file);
+
+		assertThat(reloaded.lookup("Foo.java", new Stat(43, LAST_MODIFIED, 0100644, ObjectId.zeroId()))).isNull();
+		assertThat(reloaded.lookup("Foo.java", new Stat(42, LAST_MODIFIED.plusMillis(1), 0100644, ObjectId.zeroId())))
+				.isNull();
+		assertThat(reloaded.lookup("Foo.java", new Stat(42, LAST_MODIFIED, 0100755, ObjectId.zeroId()))).isNull();
+	}
+
+	@Test
+	void doesNotRecordResultsForRecentlyModifiedFiles() {
+
+		var file = folder.resolve("cache.properties");
+		var cache = WorkingTreeStatCache.load(file);
+
+		cache.record("Foo.java", new Stat(42, Instant.now(), 0100644, ObjectId.zeroId()), false);
+		cache.store();
+
+		assertThat(file).doesNotExist();
+	}
+
+	@Test
+	void dropsEntriesNotUsedAnymore() {
+
+		var file = folder.resolve("cache.properties");
+		var cache = WorkingTreeStatCache.load(file);
+
+		cache.record("Foo.java", STAT, false);
+		cache.record("Bar.java", STAT, false);
+		cache.store();
+
+		var reloaded = WorkingTreeStatCache.load(file);
+
+		reloaded.lookup("Foo.java", STAT);
+		reloaded.store();
+
+		assertThat(WorkingTreeStatCache.load(file).lookup("Bar.java", STAT)).isNull();
+	}
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.observability;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * The calls observed between application modules, aggregated per calling module, called module and invoked method.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+public interface ModuleCallMatrix {
+
+	/**
+	 * Returns a snapshot of all calls between application modules observed so far.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	List<ModuleCall> getCalls();
+
+	/**
+	 * The aggregated calls from one application module into a method of another one.
+	 *
+	 * @param source the identifier of the calling module, will never be {@literal null}.
+	 * @param target the identifier of the called module, will never be {@literal null}.
+	 * @param method the method invoked on the called module, will never be {@literal null}.
+	 * @param count the number of calls.
+	 * @param errors the number of calls that failed with an exception.
+	 * @param totalTime the accumulated duration of all calls, will never be {@literal null}.
+	 * @param maxTime the duration of the longest call, will never be {@literal null}.
+	 */
+	record ModuleCall(String source, String target, String method, long count, long errors, Duration totalTime,
+			Duration maxTime) {}
+}
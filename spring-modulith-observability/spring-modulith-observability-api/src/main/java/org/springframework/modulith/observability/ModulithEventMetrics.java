@@ -18,6 +18,7 @@ package org.springframework.modulith.observability;
 import io.micrometer.core.instrument.Counter.Builder;
 
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -34,7 +35,8 @@ public interface ModulithEventMetrics {
 	 * Customizes a {@link io.micrometer.core.instrument.Counter.Builder} to eventually produce a
 	 * {@link io.micrometer.core.instrument.Counter} for the event of the given type. The {@link Builder} will have been
 	 * set up named after the fully-qualified type name. To customize the creation, also call
-	 * {@link #customize(Class, Function)}.
+	 * {@link #customize(Class, Function)}. The customization is applied for every event published. Use
+	 * {@link #customizePerType(Class, Consumer)} in case it doesn't depend on the individual event instance.
 	 *
 	 * @param <T> the type of the event.
 	 * @param type must not be {@literal null}.
@@ -46,7 +48,8 @@ public interface ModulithEventMetrics {
 
 	/**
 	 * Customizes the creation of a {@link Builder} for events of the given type. The instances created will still be
-	 * subject to customizations registered via {@link #customize(Class, BiConsumer)}.
+	 * subject to customizations registered via {@link #customize(Class, BiConsumer)}. The factory is invoked for every
+	 * event published.
 	 *
 	 * @param <T>
 	 * @param type must not be {@literal null}.
@@ -54,4 +57,19 @@ public interface ModulithEventMetrics {
 	 * @return will never be {@literal null}.
 	 */
 	<T> ModulithEventMetrics customize(Class<T> type, Function<T, Builder> factory);
+
+	/**
+	 * Customizes a {@link Builder} for events of the given type independently of the individual event instance. In
+	 * contrast to {@link #customize(Class, BiConsumer)}, the customization is applied only once per event type and the
+	 * resulting {@link io.micrometer.core.instrument.Counter} is reused for all subsequent events of that type, as long
+	 * as no customization or factory applied to the events is registered via {@link #customize(Class, BiConsumer)} or
+	 * {@link #customize(Class, Function)}.
+	 *
+	 * @param <T> the type of the event.
+	 * @param type must not be {@literal null}.
+	 * @param consumer must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 2.2
+	 */
+	<T> ModulithEventMetrics customizePerType(Class<T> type, Consumer<Builder> consumer);
 }
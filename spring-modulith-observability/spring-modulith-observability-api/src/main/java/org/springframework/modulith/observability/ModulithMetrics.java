@@ -57,6 +57,41 @@ public enum ModulithMetrics implements MeterDocumentation {
 		public KeyName[] getKeyNames() {
 			return LowKeys.values();
 		}
+	},
+
+	/**
+	 * Timer for the calls from one application module into another.
+	 *
+	 * @since 2.2
+	 */
+	MODULE_CALLS {
+
+		/*
+		 * (non-Javadoc)
+		 * @see io.micrometer.core.instrument.docs.MeterDocumentation#getName()
+		 */
+		@Override
+		public String getName() {
+			return "module.calls";
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see io.micrometer.core.instrument.docs.MeterDocumentation#getType()
+		 */
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.TIMER;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see io.micrometer.core.instrument.docs.MeterDocumentation#getKeyNames()
+		 */
+		@Override
+		public KeyName[] getKeyNames() {
+			return CallKeys.values();
+		}
 	};
 
 	public enum LowKeys implements KeyName {
@@ -106,4 +141,58 @@ public enum ModulithMetrics implements MeterDocumentation {
 			}
 		}
 	}
+
+	/**
+	 * Keys for the {@link ModulithMetrics#MODULE_CALLS} metric.
+	 *
+	 * @since 2.2
+	 */
+	public enum CallKeys implements KeyName {
+
+		/**
+		 * The identifier of the calling module.
+		 */
+		SOURCE_MODULE {
+
+			/*
+			 * (non-Javadoc)
+			 * @see io.micrometer.common.docs.KeyName#asString()
+			 */
+			@Override
+			public String asString() {
+				return "module.source";
+			}
+		},
+
+		/**
+		 * The identifier of the called module.
+		 */
+		TARGET_MODULE {
+
+			/*
+			 * (non-Javadoc)
+			 * @see io.micrometer.common.docs.KeyName#asString()
+			 */
+			@Override
+			public String asString() {
+				return "module.target";
+			}
+		},
+
+		/**
+		 * The method invoked on the called module. Only present if explicitly enabled, as it considerably increases the
+		 * number of timers registered.
+		 */
+		METHOD {
+
+			/*
+			 * (non-Javadoc)
+			 * @see io.micrometer.common.docs.KeyName#asString()
+			 */
+			@Override
+			public String asString() {
+				return "module.method";
+			}
+		}
+	}
 }
@@ -76,6 +76,17 @@ public class ObservedModuleType {
 		this.methodsToInterceptFilter = IS_USER_METHOD.or(isReferenceMethod);
 	}
 
+	/**
+	 * Returns a predicate to select all user declared methods, i.e. all methods except private ones and the ones declared
+	 * by {@link Object} or well-known interfaces ({@code Advised}, {@code TargetClassAware}).
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 2.2
+	 */
+	public static Predicate<Method> getUserMethods() {
+		return IS_USER_METHOD;
+	}
+
 	/**
 	 * Returns whether the type should be observed at all. Can be skipped for types not exposed by the module unless they
 	 * listen to events of other modules.
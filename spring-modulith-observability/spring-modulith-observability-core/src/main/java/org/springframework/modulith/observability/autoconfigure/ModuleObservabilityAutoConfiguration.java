@@ -34,6 +34,7 @@ import org.springframework.core.env.Environment;
 import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
 import org.springframework.modulith.observability.ModulithEventMetricsCustomizer;
 import org.springframework.modulith.observability.ModulithObservationConvention;
+import org.springframework.modulith.observability.support.DefaultModuleCallMatrix;
 import org.springframework.modulith.observability.support.DefaultModulithObservationConvention;
 import org.springframework.modulith.observability.support.ModuleEventCounterFactory;
 import org.springframework.modulith.observability.support.ModuleEventListener;
@@ -67,6 +68,13 @@ class ModuleObservabilityAutoConfiguration {
 		return new ModuleEventListener(runtime, meterRegistry::getObject, configurer);
 	}
 
+	@Bean
+	@ConditionalOnProperty(name = DefaultModuleCallMatrix.PROPERTY, havingValue = "true")
+	DefaultModuleCallMatrix modulithModuleCallMatrix(ObjectProvider<MeterRegistry> meterRegistry,
+			Environment environment) {
+		return DefaultModuleCallMatrix.of(meterRegistry::getIfAvailable, environment);
+	}
+
 	// TODO: Have a custom thread pool for modulith
 	@Bean
 	@ConditionalOnThreading(Threading.VIRTUAL)
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.observability.support;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.env.Environment;
+import org.springframework.modulith.core.ApplicationModuleIdentifier;
+import org.springframework.modulith.observability.ModuleCallMatrix;
+import org.springframework.modulith.observability.ModulithMetrics;
+import org.springframework.modulith.observability.ModulithMetrics.CallKeys;
+import org.springframework.modulith.observability.ObservedModule;
+import org.springframework.util.Assert;
+
+/**
+ * Default {@link ModuleCallMatrix} accumulating the calls between application modules in {@link LongAdder}s to keep
+ * contention low for concurrent invocations. For every combination of calling and called module, a {@link Timer} is
+ * registered in the {@link MeterRegistry}, if available. To limit the cardinality of the metric, the invoked method is
+ * only added as tag if enabled via {@value #METHOD_TAG_PROPERTY}. Percentile histograms have to be enabled explicitly
+ * via {@value #HISTOGRAM_PROPERTY}.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+public class DefaultModuleCallMatrix implements ModuleCallMatrix {
+
+	public static final String PROPERTY = "spring.modulith.observability.call-matrix.enabled";
+	public static final String METHOD_TAG_PROPERTY = "spring.modulith.observability.call-matrix.method-tag";
+	public static final String HISTOGRAM_PROPERTY = "spring.modulith.observability.call-matrix.histogram";
+
+	private final Supplier<@Nullable MeterRegistry> meterRegistry;
+	private final boolean methodTag, histogram;
+	private final Map<Key, Edge> edges;
+
+	/**
+	 * Creates a new {@link DefaultModuleCallMatrix} for the given {@link MeterRegistry}, registering timers per calling
+	 * and called module only and without percentile histograms.
+	 *
+	 * @param meterRegistry must not be {@literal null}.
+	 */
+	public DefaultModuleCallMatrix(Supplier<@Nullable MeterRegistry> meterRegistry) {
+		this(meterRegistry, false, false);
+	}
+
+	/**
+	 * Creates a new {@link DefaultModuleCallMatrix} for the given {@link MeterRegistry}.
+	 *
+	 * @param meterRegistry must not be {@literal null}.
+	 * @param methodTag whether to tag the timers with the invoked method.
+	 * @param histogram whether to publish percentile histograms for the timers.
+	 */
+	DefaultModuleCallMatrix(Supplier<@Nullable MeterRegistry> meterRegistry, boolean methodTag, boolean histogram) {
+
+		Assert.notNull(meterRegistry, "MeterRegistry must not be null!");
+
+		this.meterRegistry = meterRegistry;
+		this.methodTag = methodTag;
+		this.histogram = histogram;
+		this.edges = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Creates a new {@link DefaultModuleCallMatrix} for the given {@link MeterRegistry} configured via
+	 * {@value #METHOD_TAG_PROPERTY} and {@value #HISTOGRAM_PROPERTY}.
+	 *
+	 * @param meterRegistry must not be {@literal null}.
+	 * @param environment must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static DefaultModuleCallMatrix of(Supplier<@Nullable MeterRegistry> meterRegistry,
+			Environment environment) {
+
+		Assert.notNull(environment, "Environment must not be null!");
+
+		return new DefaultModuleCallMatrix(meterRegistry,
+				environment.getProperty(METHOD_TAG_PROPERTY, Boolean.class, false),
+				environment.getProperty(HISTOGRAM_PROPERTY, Boolean.class, false));
+	}
+
+	/**
+	 * Returns whether recording the calls between application modules is enabled via {@value #PROPERTY}.
+	 *
+	 * @param environment must not be {@literal null}.
+	 */
+	public static boolean isEnabled(Environment environment) {
+
+		Assert.notNull(environment, "Environment must not be null!");
+
+		return environment.getProperty(PROPERTY, Boolean.class, false);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.observability.ModuleCallMatrix#getCalls()
+	 */
+	@Override
+	public List<ModuleCall> getCalls() {
+
+		return edges.values().stream()
+				.map(Edge::toModuleCall)
+				.sorted(Comparator.comparing(ModuleCall::source)
+						.thenComparing(ModuleCall::target)
+						.thenComparing(ModuleCall::method))
+				.toList();
+	}
+
+	/**
+	 * Records a call from the module with the given identifier into the given {@link ObservedModule}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param target must not be {@literal null}.
+	 * @param invocation must not be {@literal null}.
+	 * @param nanos the duration of the call in nanoseconds.
+	 * @param failed whether the call failed with an exception.
+	 */
+	void record(String source, ObservedModule target, MethodInvocation invocation, long nanos, boolean failed) {
+
+		var key = new Key(source, target.getIdentifier(), invocation.getMethod());
+		var edge = edges.get(key);
+
+		if (edge == null) {
+			edge = edges.computeIfAbsent(key, it -> {
+
+				var targetIdentifier = target.getIdentifier().toString();
+				var method = target.getInvokedMethod(invocation);
+
+				return new Edge(source, targetIdentifier, method, timer(source, targetIdentifier, method));
+			});
+		}
+
+		edge.record(nanos, failed);
+	}
+
+	/**
+	 * Returns the {@link Timer} to record the calls from the given source into the given method of the given target on.
+	 * Timers are shared between all {@link Edge}s between two modules unless the method tag is enabled.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param target must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @return {@literal null} in case no {@link MeterRegistry} is available.
+	 */
+	private @Nullable Timer timer(String source, String target, String method) {
+
+		var registry = meterRegistry.get();
+
+		if (registry == null) {
+			return null;
+		}
+
+		var builder = Timer.builder(ModulithMetrics.MODULE_CALLS.getName())
+				.tag(CallKeys.SOURCE_MODULE.asString(), source)
+				.tag(CallKeys.TARGET_MODULE.asString(), target);
+
+		if (methodTag) {
+			builder = builder.tag(CallKeys.METHOD.asString(), method);
+		}
+
+		return builder.publishPercentileHistogram(histogram).register(registry);
+	}
+
+	private record Key(String source, ApplicationModuleIdentifier target, Method method) {}
+
+	/**
+	 * The accumulated calls from one module into a method of another one.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private static class Edge {
+
+		private final String source, target, method;
+		private final LongAdder count, errors, totalNanos;
+		private final LongAccumulator maxNanos;
+		private final @Nullable Timer timer;
+
+		Edge(String source, String target, String method, @Nullable Timer timer) {
+
+			this.source = source;
+			this.target = target;
+			this.method = method;
+			this.count = new LongAdder();
+			this.errors = new LongAdder();
+			this.totalNanos = new LongAdder();
+			this.maxNanos = new LongAccumulator(Math::max, 0);
+			this.timer = timer;
+		}
+
+		void record(long nanos, boolean failed) {
+
+			count.increment();
+			totalNanos.add(nanos);
+			maxNanos.accumulate(nanos);
+
+			if (failed) {
+				errors.increment();
+			}
+
+			if (timer != null) {
+				timer.record(nanos, TimeUnit.NANOSECONDS);
+			}
+		}
+
+		ModuleCall toModuleCall() {
+			return new ModuleCall(source, target, method, count.sum(), errors.sum(),
+					Duration.ofNanos(totalNanos.sum()), Duration.ofNanos(maxNanos.get()));
+		}
+	}
+}
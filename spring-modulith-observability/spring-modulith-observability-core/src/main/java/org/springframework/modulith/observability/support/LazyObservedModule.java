@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.observability.support;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.jspecify.annotations.Nullable;
+import org.springframework.modulith.core.ApplicationModule;
+import org.springframework.modulith.core.ApplicationModuleIdentifier;
+import org.springframework.modulith.core.ApplicationModules;
+import org.springframework.modulith.observability.ObservedModule;
+import org.springframework.modulith.observability.ObservedModuleType;
+import org.springframework.modulith.runtime.ApplicationModulesRuntime;
+import org.springframework.util.Assert;
+import org.springframework.util.function.SingletonSupplier;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+
+/**
+ * An {@link ObservedModule} that only resolves the underlying {@link ApplicationModule} from the
+ * {@link ApplicationModulesRuntime} once information beyond its identifier and display name is required, i.e. on the
+ * first invocation of the module. Allows to set up the observation of a module without having to wait for the
+ * {@link ApplicationModules} to be initialized.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+class LazyObservedModule implements ObservedModule {
+
+	private final ApplicationModuleIdentifier identifier;
+	private final ApplicationModulesRuntime runtime;
+	private final SingletonSupplier<ObservedModule> delegate;
+
+	/**
+	 * Creates a new {@link LazyObservedModule} for the given {@link ApplicationModuleIdentifier} and
+	 * {@link ApplicationModulesRuntime}.
+	 *
+	 * @param identifier must not be {@literal null}.
+	 * @param runtime must not be {@literal null}.
+	 */
+	LazyObservedModule(ApplicationModuleIdentifier identifier, ApplicationModulesRuntime runtime) {
+
+		Assert.notNull(identifier, "ApplicationModuleIdentifier must not be null!");
+		Assert.notNull(runtime, "ApplicationModulesRuntime must not be null!");
+
+		this.identifier = identifier;
+		this.runtime = runtime;
+		this.delegate = SingletonSupplier.of(() -> runtime.get().getModuleByName(identifier.toString())
+				.map(DefaultObservedModule::new)
+				.orElseThrow(() -> new IllegalStateException("No application module %s found!".formatted(identifier))));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.observability.ObservedModule#getIdentifier()
+	 */
+	@Override
+	public ApplicationModuleIdentifier getIdentifier() {
+		return identifier;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.observability.ObservedModule#getDisplayName()
+	 */
+	@Override
+	public String getDisplayName() {
+		return runtime.getModuleDisplayName(identifier);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.observability.ObservedModule#getInvokedMethod(org.aopalliance.intercept.MethodInvocation)
+	 */
+	@Override
+	public String getInvokedMethod(MethodInvocation invocation) {
+		return delegate.obtain().getInvokedMethod(invocation);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.observability.ObservedModule#format(org.aopalliance.intercept.MethodInvocation)
+	 */
+	@Override
+	public String format(MethodInvocation invocation) {
+		return delegate.obtain().format(invocation);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.observability.ObservedModule#exposes(com.tngtech.archunit.core.domain.JavaClass)
+	 */
+	@Override
+	public boolean exposes(JavaClass type) {
+		return delegate.obtain().exposes(type);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.observability.ObservedModule#isObservedModule(org.springframework.modulith.core.ApplicationModule)
+	 */
+	@Override
+	public boolean isObservedModule(ApplicationModule module) {
+		return identifier.equals(module.getIdentifier());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.observability.ObservedModule#getObservedModuleType(java.lang.Class, org.springframework.modulith.core.ApplicationModules)
+	 */
+	@Override
+	public @Nullable ObservedModuleType getObservedModuleType(Class<?> type, ApplicationModules modules) {
+		return delegate.obtain().getObservedModuleType(type, modules);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.observability.ObservedModule#isEventListenerInvocation(org.aopalliance.intercept.MethodInvocation)
+	 */
+	@Override
+	public boolean isEventListenerInvocation(MethodInvocation invocation) {
+		return delegate.obtain().isEventListenerInvocation(invocation);
+	}
+}
@@ -15,13 +15,19 @@
  */
 package org.springframework.modulith.observability.support;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.observation.Observation;
 import io.micrometer.observation.Observation.Scope;
 import io.micrometer.observation.ObservationRegistry;
 
+import java.lang.reflect.Method;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
@@ -39,7 +45,10 @@ import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 
 /**
- * {@link MethodInterceptor} to create {@link Observation}s.
+ * {@link MethodInterceptor} to create {@link Observation}s. Depending on the configured
+ * {@link ModuleEntryObservationMode}, only records the invocation duration on a {@link Timer} instead. Observations can
+ * be sampled via a {@link ModuleEntrySampler}, in which case failed invocations are recorded nonetheless. Instances
+ * are not cached, so that callers have to keep them around for as long as they're needed.
  *
  * @author Marcin Grzejszczak
  * @author Oliver Drotbohm
@@ -47,12 +56,17 @@ import org.springframework.util.ClassUtils;
 class ModuleEntryInterceptor implements MethodInterceptor {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(ModuleEntryInterceptor.class);
-	private static final Map<ApplicationModuleIdentifier, ModuleEntryInterceptor> CACHE = new ConcurrentHashMap<>();
+	private static final ThreadLocal<ApplicationModuleIdentifier> CURRENT_MODULE = new ThreadLocal<>();
 
 	private final ObservedModule module;
 	private final ObservationRegistry observationRegistry;
 	private final ModulithObservationConvention convention;
 	private final Environment environment;
+	private final Supplier<@Nullable MeterRegistry> meterRegistry;
+	private final Supplier<@Nullable DefaultModuleCallMatrix> callMatrix;
+	private final ModuleEntryObservationMode mode;
+	private final ModuleEntrySampler sampler;
+	private final Map<Method, MethodTimers> timers;
 
 	/**
 	 * Creates a new {@link ModuleEntryInterceptor} for the given {@link ObservedModule}, {@link ObservationRegistry},
@@ -62,26 +76,55 @@ class ModuleEntryInterceptor implements MethodInterceptor {
 	 * @param observationRegistry must not be {@literal null}.
 	 * @param convention must not be {@literal null}.
 	 * @param environment must not be {@literal null}.
+	 * @param meterRegistry must not be {@literal null}.
+	 * @param callMatrix must not be {@literal null}.
 	 */
 	private ModuleEntryInterceptor(ObservedModule module, ObservationRegistry observationRegistry,
-			ModulithObservationConvention convention, Environment environment) {
+			ModulithObservationConvention convention, Environment environment,
+			Supplier<@Nullable MeterRegistry> meterRegistry, Supplier<@Nullable DefaultModuleCallMatrix> callMatrix) {
 
 		Assert.notNull(module, "ObservedModule must not be null!");
 		Assert.notNull(observationRegistry, "ObservationRegistry must not be null!");
 		Assert.notNull(convention, "ModulithObservationConvention must not be null!");
+		Assert.notNull(meterRegistry, "MeterRegistry must not be null!");
+		Assert.notNull(callMatrix, "DefaultModuleCallMatrix must not be null!");
 
 		this.module = module;
 		this.observationRegistry = observationRegistry;
 		this.convention = convention;
 		this.environment = environment;
+		this.meterRegistry = meterRegistry;
+		this.callMatrix = callMatrix;
+		this.mode = ModuleEntryObservationMode.from(environment);
+		this.sampler = ModuleEntrySampler.from(environment);
+		this.timers = new ConcurrentHashMap<>();
 	}
 
 	public static ModuleEntryInterceptor of(ObservedModule module, ObservationRegistry observationRegistry,
 			@Nullable ModulithObservationConvention custom, Environment environment) {
+		return of(module, observationRegistry, custom, environment, () -> null, () -> null);
+	}
+
+	/**
+	 * Creates a new {@link ModuleEntryInterceptor} for the given {@link ObservedModule}, using the
+	 * {@link MeterRegistry} provided by the given {@link Supplier} in case {@link ModuleEntryObservationMode#TIMER} is
+	 * configured. Calls from other modules are recorded in the {@link DefaultModuleCallMatrix} provided, if available.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @param observationRegistry must not be {@literal null}.
+	 * @param custom can be {@literal null}.
+	 * @param environment must not be {@literal null}.
+	 * @param meterRegistry must not be {@literal null}.
+	 * @param callMatrix must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 2.2
+	 */
+	public static ModuleEntryInterceptor of(ObservedModule module, ObservationRegistry observationRegistry,
+			@Nullable ModulithObservationConvention custom, Environment environment,
+			Supplier<@Nullable MeterRegistry> meterRegistry, Supplier<@Nullable DefaultModuleCallMatrix> callMatrix) {
 
-		return Objects.requireNonNull(CACHE.computeIfAbsent(module.getIdentifier(), __ -> {
-			return new ModuleEntryInterceptor(module, observationRegistry, custom, environment);
-		}));
+		return new ModuleEntryInterceptor(module, observationRegistry, custom, environment, meterRegistry,
+				callMatrix);
 	}
 
 	/*
@@ -92,21 +135,84 @@ class ModuleEntryInterceptor implements MethodInterceptor {
 	public Object invoke(MethodInvocation invocation) throws Throwable {
 
 		var moduleIdentifier = module.getIdentifier();
+		var matrix = callMatrix.get();
+
+		// The current module needs to be tracked explicitly in case calls between modules are recorded or if the
+		// invocation might not open an observation to derive it from
+		var trackModule = matrix != null || mode == ModuleEntryObservationMode.TIMER || sampler.isActive();
+		var previous = trackModule ? CURRENT_MODULE.get() : null;
 		var currentObservation = observationRegistry.getCurrentObservation();
-		String currentModule = null;
+		String currentModule = previous != null ? previous.toString() : null;
 
-		if (currentObservation != null) {
+		if (currentModule == null && currentObservation != null) {
 
 			var moduleKey = currentObservation.getContextView()
 					.getLowCardinalityKeyValue(LowKeys.MODULE_IDENTIFIER.asString());
 			currentModule = moduleKey != null ? moduleKey.getValue() : null;
 		}
 
-		if (currentObservation != null && Objects.equals(moduleIdentifier.toString(), currentModule)) {
+		if (Objects.equals(moduleIdentifier.toString(), currentModule)) {
 			// Same module
 			return invocation.proceed();
 		}
 
+		if (!trackModule) {
+			return invokeEntry(invocation, currentObservation);
+		}
+
+		var start = matrix == null || currentModule == null ? 0L : System.nanoTime();
+		var failed = false;
+
+		CURRENT_MODULE.set(moduleIdentifier);
+
+		try {
+
+			return invokeEntry(invocation, currentObservation);
+
+		} catch (Exception ex) {
+
+			failed = true;
+
+			throw ex;
+
+		} finally {
+
+			if (matrix != null && currentModule != null) {
+				matrix.record(currentModule, module, invocation, System.nanoTime() - start, failed);
+			}
+
+			if (previous == null) {
+				CURRENT_MODULE.remove();
+			} else {
+				CURRENT_MODULE.set(previous);
+			}
+		}
+	}
+
+	/**
+	 * Proceeds with an invocation entering the module from the outside, recording it according to the configured
+	 * {@link ModuleEntryObservationMode}.
+	 *
+	 * @param invocation must not be {@literal null}.
+	 * @param currentObservation can be {@literal null}.
+	 * @return can be {@literal null}.
+	 */
+	private Object invokeEntry(MethodInvocation invocation, @Nullable Observation currentObservation)
+			throws Throwable {
+
+		if (mode == ModuleEntryObservationMode.TIMER) {
+
+			var registry = meterRegistry.get();
+
+			if (registry != null) {
+				return invokeTimed(invocation, registry);
+			}
+		}
+
+		if (!sampler.sample()) {
+			return invokeUnsampled(invocation);
+		}
+
 		LOGGER.trace("Entering {} via {}.", module.getDisplayName(), module.format(invocation));
 
 		var modulithContext = new ModulithContext(module, invocation, environment);
@@ -115,8 +221,7 @@ class ModuleEntryInterceptor implements MethodInterceptor {
 			ModuleValuesToRequestPropagator.propagateFirstModuleToRoot(currentObservation, modulithContext);
 		}
 
-		var observation = Observation.createNotStarted(convention, DefaultModulithObservationConvention.INSTANCE,
-				() -> modulithContext, observationRegistry);
+		var observation = createObservation(modulithContext);
 
 		try (Scope scope = observation.start().openScope()) {
 
@@ -135,6 +240,133 @@ class ModuleEntryInterceptor implements MethodInterceptor {
 		}
 	}
 
+	private Observation createObservation(ModulithContext context) {
+		return Observation.createNotStarted(convention, DefaultModulithObservationConvention.INSTANCE, () -> context,
+				observationRegistry);
+	}
+
+	/**
+	 * Proceeds with an invocation not selected for observation. Failed invocations are still recorded with their actual
+	 * duration on the {@link Timer} an observation would have recorded them on. Without a {@link MeterRegistry}, they
+	 * are recorded as {@link Observation} carrying the error, though without the duration of the invocation.
+	 *
+	 * @param invocation must not be {@literal null}.
+	 * @return can be {@literal null}.
+	 */
+	private Object invokeUnsampled(MethodInvocation invocation) throws Throwable {
+
+		var registry = meterRegistry.get();
+		var start = registry == null ? 0L : registry.config().clock().monotonicTime();
+
+		try {
+
+			return invocation.proceed();
+
+		} catch (Exception ex) {
+
+			if (registry != null) {
+
+				getTimers(invocation, registry).record(registry.config().clock().monotonicTime() - start, ex, registry);
+
+				throw ex;
+			}
+
+			var observation = createObservation(new ModulithContext(module, invocation, environment)).start();
+
+			observation.error(ex);
+			observation.stop();
+
+			throw ex;
+		}
+	}
+
+	/**
+	 * Proceeds with the given invocation recording its duration on the {@link Timer} registered for the invoked method.
+	 *
+	 * @param invocation must not be {@literal null}.
+	 * @param registry must not be {@literal null}.
+	 * @return can be {@literal null}.
+	 */
+	private Object invokeTimed(MethodInvocation invocation, MeterRegistry registry) throws Throwable {
+
+		var timers = getTimers(invocation, registry);
+		var clock = registry.config().clock();
+		var start = clock.monotonicTime();
+		@Nullable Exception error = null;
+
+		try {
+
+			return invocation.proceed();
+
+		} catch (Exception ex) {
+
+			error = ex;
+
+			throw ex;
+
+		} finally {
+
+			timers.record(clock.monotonicTime() - start, error, registry);
+		}
+	}
+
+	private MethodTimers getTimers(MethodInvocation invocation, MeterRegistry registry) {
+
+		return timers.computeIfAbsent(invocation.getMethod(),
+				__ -> MethodTimers.of(new ModulithContext(module, invocation, environment), convention, registry));
+	}
+
+	/**
+	 * The {@link Timer}s to record the invocations of a particular module method on. The one for successful invocations
+	 * is registered once, the ones for failed invocations are looked up per failure.
+	 *
+	 * @author Oliver Drotbohm
+	 * @since 2.2
+	 */
+	private static class MethodTimers {
+
+		private static final String ERROR_TAG = "error";
+		private static final String NO_ERROR = "none";
+
+		private final String name;
+		private final Tags tags;
+		private final Timer success;
+
+		private MethodTimers(String name, Tags tags, MeterRegistry registry) {
+
+			this.name = name;
+			this.tags = tags;
+			this.success = timer(NO_ERROR, registry);
+		}
+
+		static MethodTimers of(ModulithContext context, ModulithObservationConvention convention,
+				MeterRegistry registry) {
+
+			var tags = Tags.empty();
+
+			for (var keyValue : convention.getLowCardinalityKeyValues(context)) {
+				tags = tags.and(keyValue.getKey(), keyValue.getValue());
+			}
+
+			return new MethodTimers(convention.getName(), tags, registry);
+		}
+
+		void record(long nanos, @Nullable Exception error, MeterRegistry registry) {
+
+			var timer = error == null ? success : timer(error.getClass().getSimpleName(), registry);
+
+			timer.record(nanos, TimeUnit.NANOSECONDS);
+		}
+
+		private Timer timer(String error, MeterRegistry registry) {
+
+			return Timer.builder(name)
+					.tags(tags)
+					.tag(ERROR_TAG, error)
+					.register(registry);
+		}
+	}
+
 	private static class ModuleValuesToRequestPropagator {
 
 		static boolean SPRING_WEB_PRESENT = ClassUtils.isPresent(
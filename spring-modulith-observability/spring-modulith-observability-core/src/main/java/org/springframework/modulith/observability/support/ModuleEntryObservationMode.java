@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.observability.support;
+
+import org.springframework.core.env.Environment;
+import org.springframework.util.Assert;
+
+/**
+ * How to record invocations entering an application module.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+public enum ModuleEntryObservationMode {
+
+	/**
+	 * Creates a Micrometer {@link io.micrometer.observation.Observation} for each module entry, which results in both
+	 * metrics and tracing spans being recorded.
+	 */
+	OBSERVATION,
+
+	/**
+	 * Only records the duration of module entries on a {@link io.micrometer.core.instrument.Timer} registered once per
+	 * module method, without creating observations or spans. Falls back to {@link #OBSERVATION} in case no
+	 * {@link io.micrometer.core.instrument.MeterRegistry} is available.
+	 */
+	TIMER;
+
+	public static final String PROPERTY = "spring.modulith.observability.module-entry.mode";
+
+	/**
+	 * Looks up the {@link ModuleEntryObservationMode} from the given environment or uses {@link #OBSERVATION} as
+	 * default.
+	 *
+	 * @param environment must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static ModuleEntryObservationMode from(Environment environment) {
+
+		Assert.notNull(environment, "Environment must not be null!");
+
+		var result = environment.getProperty(PROPERTY, ModuleEntryObservationMode.class);
+
+		return result == null ? OBSERVATION : result;
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.observability.support;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.core.env.Environment;
+import org.springframework.util.Assert;
+
+/**
+ * Decides which module entries to create an {@link io.micrometer.observation.Observation} for. Either observes every
+ * n-th invocation only, limits the number of invocations observed per second, or both.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+class ModuleEntrySampler {
+
+	static final String RATE_PROPERTY = "spring.modulith.observability.module-entry.sampling.rate";
+	static final String MAX_PER_SECOND_PROPERTY = "spring.modulith.observability.module-entry.sampling.max-per-second";
+
+	private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	private final int rate, maxPerSecond;
+	private final LongSupplier nanoTime;
+	private final AtomicLong invocations, currentSecond;
+	private final AtomicInteger sampledInCurrentSecond;
+
+	/**
+	 * Creates a new {@link ModuleEntrySampler} observing every n-th invocation, at most the given number per second.
+	 *
+	 * @param rate the rate to observe invocations at, i.e. every n-th one, must be greater than zero.
+	 * @param maxPerSecond the maximum number of invocations to observe per second, zero or less for no limit.
+	 * @param nanoTime must not be {@literal null}.
+	 */
+	ModuleEntrySampler(int rate, int maxPerSecond, LongSupplier nanoTime) {
+
+		Assert.isTrue(rate > 0, "Sampling rate must be greater than zero!");
+		Assert.notNull(nanoTime, "Time source must not be null!");
+
+		this.rate = rate;
+		this.maxPerSecond = maxPerSecond;
+		this.nanoTime = nanoTime;
+		this.invocations = new AtomicLong();
+		this.currentSecond = new AtomicLong(Long.MIN_VALUE);
+		this.sampledInCurrentSecond = new AtomicInteger();
+	}
+
+	/**
+	 * Creates a new {@link ModuleEntrySampler} configured via the {@value #RATE_PROPERTY} and
+	 * {@value #MAX_PER_SECOND_PROPERTY} properties. Observes all invocations by default.
+	 *
+	 * @param environment must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static ModuleEntrySampler from(Environment environment) {
+
+		Assert.notNull(environment, "Environment must not be null!");
+
+		var rate = environment.getProperty(RATE_PROPERTY, Integer.class, 1);
+		var maxPerSecond = environment.getProperty(MAX_PER_SECOND_PROPERTY, Integer.class, 0);
+
+		return new ModuleEntrySampler(rate, maxPerSecond, System::nanoTime);
+	}
+
+	/**
+	 * Returns whether only some of the invocations are observed, i.e. whether a sampling rate or a maximum number of
+	 * observations per second is configured.
+	 */
+	boolean isActive() {
+		return rate > 1 || maxPerSecond > 0;
+	}
+
+	/**
+	 * Returns whether the current invocation is supposed to be observed.
+	 */
+	boolean sample() {
+
+		if (rate > 1 && invocations.getAndIncrement() % rate != 0) {
+			return false;
+		}
+
+		if (maxPerSecond <= 0) {
+			return true;
+		}
+
+		var second = nanoTime.getAsLong() / ONE_SECOND;
+		var current = currentSecond.get();
+
+		if (current != second && currentSecond.compareAndSet(current, second)) {
+			sampledInCurrentSecond.set(0);
+		}
+
+		return sampledInCurrentSecond.incrementAndGet() <= maxPerSecond;
+	}
+}
@@ -17,11 +17,16 @@ package org.springframework.modulith.observability.support;
 
 import io.micrometer.core.instrument.Counter.Builder;
 
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.springframework.modulith.observability.ModulithEventMetrics;
@@ -39,10 +44,11 @@ import org.springframework.util.Assert;
 public class ModuleEventCounterFactory implements ModulithEventMetrics {
 
 	private static final ModulithMetricsCustomizer DEFAULT = new ModulithMetricsCustomizer(Object.class,
-			ObservedModuleEvent::createBuilder);
+			ObservedModuleEvent::createBuilder, false);
 
 	private final SortedSet<ModulithMetricsCustomizer> customizers = new TreeSet<>();
 	private final SortedSet<ModulithMetricsCustomizer> creators = new TreeSet<>();
+	private final Map<Class<?>, Customizations> customizationsByType = new ConcurrentHashMap<>();
 
 	/**
 	 * Creates a {@link Builder} instance for the given event applying registered customizers.
@@ -54,16 +60,23 @@ public class ModuleEventCounterFactory implements ModulithEventMetrics {
 
 		Assert.notNull(event, "Event must not be null!");
 
-		var builder = creators.stream()
-				.filter(it -> it.supports(event))
-				.findFirst()
-				.orElse(DEFAULT)
-				.createBuilder(event);
+		return getCustomizations(event).createBuilder(event);
+	}
+
+	/**
+	 * Returns whether the {@link io.micrometer.core.instrument.Counter}s created for the given event can be reused for
+	 * all events of the same type, i.e. all customizations applied to it were registered via
+	 * {@link #customizePerType(Class, Consumer)}.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @since 2.2
+	 * @see #customizePerType(Class, Consumer)
+	 */
+	boolean isCacheable(ObservedModuleEvent event) {
 
-		return customizers.stream()
-				.sorted(Comparator.reverseOrder()) // Inverted order (most specific last)
-				.filter(it -> it.supports(event))
-				.reduce(builder, (it, customizer) -> customizer.augment(event, it), (l, r) -> r);
+		Assert.notNull(event, "Event must not be null!");
+
+		return !getCustomizations(event).perEvent;
 	}
 
 	/*
@@ -74,7 +87,8 @@ public class ModuleEventCounterFactory implements ModulithEventMetrics {
 	@Override
 	public <T> ModulithEventMetrics customize(Class<T> type, Function<T, Builder> factory) {
 
-		creators.add(new ModulithMetricsCustomizer(type, event -> factory.apply((T) event.getEvent())));
+		creators.add(new ModulithMetricsCustomizer(type, event -> factory.apply((T) event.getEvent()), true));
+		customizationsByType.clear();
 
 		return this;
 	}
@@ -87,25 +101,93 @@ public class ModuleEventCounterFactory implements ModulithEventMetrics {
 	@SuppressWarnings("unchecked")
 	public <T> ModuleEventCounterFactory customize(Class<T> type, BiConsumer<T, Builder> consumer) {
 
-		customizers.add(new ModulithMetricsCustomizer(type, (BiConsumer<Object, Builder>) consumer));
+		customizers.add(new ModulithMetricsCustomizer(type, (BiConsumer<Object, Builder>) consumer, true));
+		customizationsByType.clear();
 
 		return this;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.observability.ModulithEventMetrics#customizePerType(java.lang.Class, java.util.function.Consumer)
+	 */
+	@Override
+	public <T> ModuleEventCounterFactory customizePerType(Class<T> type, Consumer<Builder> consumer) {
+
+		customizers.add(new ModulithMetricsCustomizer(type, (__, builder) -> consumer.accept(builder), false));
+		customizationsByType.clear();
+
+		return this;
+	}
+
+	private Customizations getCustomizations(ObservedModuleEvent event) {
+		return customizationsByType.computeIfAbsent(event.getEvent().getClass(),
+				__ -> Customizations.of(event, creators, customizers));
+	}
+
+	/**
+	 * The creator and customizers applicable to a particular event type, resolved once.
+	 *
+	 * @author Oliver Drotbohm
+	 * @since 2.2
+	 */
+	private static class Customizations {
+
+		private final ModulithMetricsCustomizer creator;
+		private final List<ModulithMetricsCustomizer> customizers;
+		private final boolean perEvent;
+
+		private Customizations(ModulithMetricsCustomizer creator, List<ModulithMetricsCustomizer> customizers) {
+
+			this.creator = creator;
+			this.customizers = customizers;
+			this.perEvent = creator.perEvent || customizers.stream().anyMatch(it -> it.perEvent);
+		}
+
+		static Customizations of(ObservedModuleEvent event, Collection<ModulithMetricsCustomizer> creators,
+				Collection<ModulithMetricsCustomizer> customizers) {
+
+			var creator = creators.stream()
+					.filter(it -> it.supports(event))
+					.findFirst()
+					.orElse(DEFAULT);
+
+			var applicable = customizers.stream()
+					.sorted(Comparator.reverseOrder()) // Inverted order (most specific last)
+					.filter(it -> it.supports(event))
+					.toList();
+
+			return new Customizations(creator, applicable);
+		}
+
+		Builder createBuilder(ObservedModuleEvent event) {
+
+			var builder = creator.createBuilder(event);
+
+			for (var customizer : customizers) {
+				builder = customizer.augment(event, builder);
+			}
+
+			return builder;
+		}
+	}
+
 	private static class ModulithMetricsCustomizer implements Comparable<ModulithMetricsCustomizer> {
 
 		private final Class<?> type;
 		private final Function<ObservedModuleEvent, Builder> creator;
 		private final BiFunction<Object, Builder, Builder> customizer;
+		private final boolean perEvent;
 
-		ModulithMetricsCustomizer(Class<?> type, Function<ObservedModuleEvent, Builder> creator) {
+		ModulithMetricsCustomizer(Class<?> type, Function<ObservedModuleEvent, Builder> creator, boolean perEvent) {
 
 			this.type = type;
 			this.creator = creator;
 			this.customizer = (event, builder) -> builder;
+			this.perEvent = perEvent;
 		}
 
-		ModulithMetricsCustomizer(Class<?> type, BiConsumer<Object, Builder> customizer) {
+		ModulithMetricsCustomizer(Class<?> type, BiConsumer<Object, Builder> customizer, boolean perEvent) {
 
 			this.type = type;
 			this.creator = ObservedModuleEvent::createBuilder;
@@ -113,6 +195,7 @@ public class ModuleEventCounterFactory implements ModulithEventMetrics {
 				customizer.accept(event, builder);
 				return builder;
 			};
+			this.perEvent = perEvent;
 		}
 
 		Builder createBuilder(ObservedModuleEvent event) {
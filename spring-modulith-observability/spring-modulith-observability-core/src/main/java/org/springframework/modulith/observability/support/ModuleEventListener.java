@@ -22,26 +22,32 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
-import java.util.stream.Stream;
 
 import org.springframework.context.ApplicationEvent;
-import org.springframework.context.ApplicationListener;
 import org.springframework.context.PayloadApplicationEvent;
-import org.springframework.modulith.core.ApplicationModule;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.core.ResolvableType;
+import org.springframework.modulith.core.ApplicationModuleIdentifier;
 import org.springframework.modulith.observability.ModulithMetrics;
 import org.springframework.modulith.runtime.ApplicationModulesRuntime;
 import org.springframework.util.Assert;
 
 /**
+ * An {@link org.springframework.context.ApplicationListener} to count the events published by application modules.
+ * The {@link Counter}s are resolved once per event type and reused for subsequent events if all customizations
+ * applying to it were registered via
+ * {@link ModuleEventCounterFactory#customizePerType(Class, java.util.function.Consumer)}.
+ *
  * @author Oliver Drotbohm
  */
-public class ModuleEventListener implements ApplicationListener<ApplicationEvent> {
+public class ModuleEventListener implements GenericApplicationListener {
 
 	private final ApplicationModulesRuntime runtime;
 	private final Supplier<MeterRegistry> meterRegistry;
 	private final ModuleEventCounterFactory factory;
 
-	private final Map<Class<?>, Optional<ApplicationModule>> modulesByType;
+	private final Map<Class<?>, Optional<ApplicationModuleIdentifier>> modulesByType;
+	private final Map<Class<?>, Counters> countersByType;
 
 	/**
 	 * Creates a new {@link ModuleEventListener} for the given {@link ApplicationModulesRuntime} and
@@ -63,6 +69,23 @@ public class ModuleEventListener implements ApplicationListener<ApplicationEvent
 		this.factory = counterFactory;
 
 		this.modulesByType = new ConcurrentHashMap<>();
+		this.countersByType = new ConcurrentHashMap<>();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.event.GenericApplicationListener#supportsEventType(org.springframework.core.ResolvableType)
+	 */
+	@Override
+	public boolean supportsEventType(ResolvableType eventType) {
+
+		if (!PayloadApplicationEvent.class.isAssignableFrom(eventType.toClass())) {
+			return false;
+		}
+
+		var payloadType = eventType.as(PayloadApplicationEvent.class).getGeneric().resolve();
+
+		return payloadType == null || runtime.isApplicationClass(payloadType);
 	}
 
 	/*
@@ -83,30 +106,75 @@ public class ModuleEventListener implements ApplicationListener<ApplicationEvent
 			return;
 		}
 
-		var module = modulesByType.computeIfAbsent(payloadType, it -> runtime.get().getModuleByType(it))
+		var identifier = modulesByType.computeIfAbsent(payloadType, runtime::getModuleIdentifierByType)
 				.orElse(null);
 
-		if (module == null) {
+		if (identifier == null) {
 			return;
 		}
 
 		var registry = meterRegistry.get();
 
-		if (registry != null) {
+		if (registry == null) {
+			return;
+		}
+
+		var moduleEvent = new ObservedModuleEvent(identifier, payload);
+
+		if (!factory.isCacheable(moduleEvent)) {
+			createCounters(moduleEvent, identifier, registry).increment();
+			return;
+		}
+
+		var counters = countersByType.get(payloadType);
+
+		// Re-resolve in case a different registry is exposed by now
+		if (counters == null || !counters.isRegisteredWith(registry)) {
 
-			var moduleEvent = new ObservedModuleEvent(module.getIdentifier(), payload);
+			counters = createCounters(moduleEvent, identifier, registry);
+			countersByType.put(payloadType, counters);
+		}
+
+		counters.increment();
+	}
 
-			var overallTotal = Counter.builder(ModulithMetrics.ALL_EVENTS.getName()) //
-					.tags(ModulithMetrics.LowKeys.EVENT_TYPE.name().toLowerCase(), moduleEvent.getEventReference());
+	private Counters createCounters(ObservedModuleEvent event, ApplicationModuleIdentifier identifier,
+			MeterRegistry registry) {
+
+		var overallTotal = Counter.builder(ModulithMetrics.ALL_EVENTS.getName()) //
+				.tags(ModulithMetrics.LowKeys.EVENT_TYPE.name().toLowerCase(), event.getEventReference());
+
+		var individualEvent = factory.createCounterBuilder(event);
+		var displayName = runtime.getModuleDisplayName(identifier);
+
+		return new Counters(registry, register(overallTotal, identifier, displayName, registry),
+				register(individualEvent, identifier, displayName, registry));
+	}
 
-			var individualEvent = factory.createCounterBuilder(moduleEvent);
+	private static Counter register(Counter.Builder builder, ApplicationModuleIdentifier identifier,
+			String displayName, MeterRegistry registry) {
+
+		return builder.tags(ModulithMetrics.LowKeys.MODULE_IDENTIFIER.name().toLowerCase(), identifier.toString()) //
+				.tags(ModulithMetrics.LowKeys.MODULE_NAME.name().toLowerCase(), displayName) //
+				.register(registry);
+	}
+
+	/**
+	 * The {@link Counter}s to increment for an event, registered with a particular {@link MeterRegistry}.
+	 *
+	 * @author Oliver Drotbohm
+	 * @since 2.2
+	 */
+	private record Counters(MeterRegistry registry, Counter overallTotal, Counter individualEvent) {
+
+		boolean isRegisteredWith(MeterRegistry registry) {
+			return this.registry == registry;
+		}
 
-			Stream.of(overallTotal, individualEvent).forEach(it -> {
+		void increment() {
 
-				it.tags(ModulithMetrics.LowKeys.MODULE_IDENTIFIER.name().toLowerCase(), module.getIdentifier().toString()) //
-						.tags(ModulithMetrics.LowKeys.MODULE_NAME.name().toLowerCase(), module.getDisplayName()) //
-						.register(registry).increment();
-			});
+			overallTotal.increment();
+			individualEvent.increment();
 		}
 	}
 }
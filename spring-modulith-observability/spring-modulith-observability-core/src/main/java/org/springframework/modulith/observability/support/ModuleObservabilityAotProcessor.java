@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.observability.support;
+
+import java.nio.charset.StandardCharsets;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.generate.GeneratedFiles.Kind;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.modulith.runtime.ApplicationModulesRuntime;
+
+/**
+ * Renders the {@link ModuleObservabilityPlan} into a resource named {@value ModuleObservabilityPlan#LOCATION}, so that
+ * {@link ModuleObservabilityBeanPostProcessor} can decide which beans to observe without having to wait for the
+ * {@link org.springframework.modulith.core.ApplicationModules} to be initialized.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+class ModuleObservabilityAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ModuleObservabilityAotProcessor.class);
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor#processAheadOfTime(org.springframework.beans.factory.config.ConfigurableListableBeanFactory)
+	 */
+	@Override
+	public @Nullable BeanFactoryInitializationAotContribution processAheadOfTime(
+			ConfigurableListableBeanFactory beanFactory) {
+
+		if (beanFactory.getBeanNamesForType(ModuleObservabilityBeanPostProcessor.class).length == 0) {
+			return null;
+		}
+
+		return (context, __) -> {
+
+			var runtime = beanFactory.getBean(ApplicationModulesRuntime.class);
+			var plan = ModuleObservabilityPlan.of(runtime.get());
+			var location = ModuleObservabilityPlan.LOCATION;
+
+			LOGGER.info("Generating module observability plan to {}", location);
+
+			context.getRuntimeHints().resources().registerPattern(location);
+			context.getGeneratedFiles().handleFile(Kind.RESOURCE, location, it -> {
+
+				var resource = new ByteArrayResource(plan.toProperties().getBytes(StandardCharsets.UTF_8));
+
+				if (it.exists()) {
+					it.override(resource);
+				} else {
+					it.create(resource);
+				}
+			});
+		};
+	}
+}
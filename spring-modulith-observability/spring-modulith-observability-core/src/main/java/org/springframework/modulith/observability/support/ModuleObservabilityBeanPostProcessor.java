@@ -15,14 +15,17 @@
  */
 package org.springframework.modulith.observability.support;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.observation.ObservationRegistry;
 
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.aop.Advisor;
 import org.springframework.aop.framework.Advised;
 import org.springframework.aop.support.ComposablePointcut;
@@ -35,15 +38,19 @@ import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.core.Ordered;
 import org.springframework.core.env.Environment;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.modulith.observability.ModulithObservationConvention;
 import org.springframework.modulith.observability.ObservedModule;
 import org.springframework.modulith.observability.ObservedModuleType;
 import org.springframework.modulith.runtime.ApplicationModulesRuntime;
 import org.springframework.util.Assert;
+import org.springframework.util.function.SingletonSupplier;
 
 /**
  * A {@link BeanPostProcessor} that decorates beans exposed by application modules with an interceptor that registers
- * module entry and exit to create tracing spans for those invocations.
+ * module entry and exit to create tracing spans for those invocations. If a {@link ModuleObservabilityPlan} was
+ * computed at build time, the beans to decorate are determined from it, so that the {@link ApplicationModulesRuntime}
+ * does not have to be initialized before the first invocation of a module.
  *
  * @author Oliver Drotbohm
  */
@@ -56,6 +63,7 @@ public class ModuleObservabilityBeanPostProcessor extends ModuleObservabilitySup
 	private final Map<String, Advisor> advisors;
 	private final ConfigurableListableBeanFactory factory;
 	private final Environment environment;
+	private final @Nullable ModuleObservabilityPlan plan;
 
 	/**
 	 * Creates a new {@link ModuleObservabilityBeanPostProcessor} for the given {@link ApplicationModulesRuntime} and
@@ -70,6 +78,25 @@ public class ModuleObservabilityBeanPostProcessor extends ModuleObservabilitySup
 			Supplier<ObservationRegistry> observationRegistry, Supplier<ModulithObservationConvention> convention,
 			ConfigurableListableBeanFactory factory, Environment environment) {
 
+		this(runtime, observationRegistry, convention, factory, environment, ModuleObservabilityPlan
+				.read(new ClassPathResource(ModuleObservabilityPlan.LOCATION, factory.getBeanClassLoader())));
+	}
+
+	/**
+	 * Creates a new {@link ModuleObservabilityBeanPostProcessor} for the given {@link ApplicationModulesRuntime},
+	 * {@link ObservationRegistry} and {@link ModuleObservabilityPlan}.
+	 *
+	 * @param runtime must not be {@literal null}.
+	 * @param observationRegistry must not be {@literal null}.
+	 * @param factory must not be {@literal null}.
+	 * @param environment must not be {@literal null}.
+	 * @param plan can be {@literal null}.
+	 * @since 2.2
+	 */
+	ModuleObservabilityBeanPostProcessor(ApplicationModulesRuntime runtime,
+			Supplier<ObservationRegistry> observationRegistry, Supplier<ModulithObservationConvention> convention,
+			ConfigurableListableBeanFactory factory, Environment environment, @Nullable ModuleObservabilityPlan plan) {
+
 		Assert.notNull(runtime, "ApplicationModulesRuntime must not be null!");
 		Assert.notNull(observationRegistry, "ObservationRegistry must not be null!");
 		Assert.notNull(convention, "ModulithObservationConvention must not be null!");
@@ -82,6 +109,7 @@ public class ModuleObservabilityBeanPostProcessor extends ModuleObservabilitySup
 		this.advisors = new HashMap<>();
 		this.factory = factory;
 		this.environment = environment;
+		this.plan = plan;
 	}
 
 	/*
@@ -102,6 +130,10 @@ public class ModuleObservabilityBeanPostProcessor extends ModuleObservabilitySup
 
 		var type = runtime.getUserClass(bean, beanName);
 
+		if (plan != null) {
+			return postProcessWithPlan(bean, beanName, type, plan);
+		}
+
 		if (!type.isInstance(bean) || isInfrastructureBean(beanName) || !runtime.isApplicationClass(type)) {
 			return bean;
 		}
@@ -119,12 +151,25 @@ public class ModuleObservabilityBeanPostProcessor extends ModuleObservabilitySup
 					var moduleType = it.getObservedModuleType(type, modules);
 
 					return moduleType != null //
-							? addAdvisor(bean, getOrBuildAdvisor(it, moduleType)) //
+							? addAdvisor(bean, getOrBuildAdvisor(it, moduleType.getMethodsToIntercept())) //
 							: bean;
 
 				}).orElse(bean);
 	}
 
+	private Object postProcessWithPlan(Object bean, String beanName, Class<?> type, ModuleObservabilityPlan plan) {
+
+		var identifier = plan.getObservedModule(type.getName());
+
+		if (identifier == null || !type.isInstance(bean) || isInfrastructureBean(beanName) || alreadyAdvised(bean)) {
+			return bean;
+		}
+
+		var module = new LazyObservedModule(identifier, runtime);
+
+		return addAdvisor(bean, getOrBuildAdvisor(module, ObservedModuleType.getUserMethods()));
+	}
+
 	private boolean isInfrastructureBean(String beanName) {
 
 		if (!factory.containsBean(beanName)) {
@@ -142,11 +187,18 @@ public class ModuleObservabilityBeanPostProcessor extends ModuleObservabilitySup
 		return false;
 	}
 
-	private Advisor getOrBuildAdvisor(ObservedModule module, ObservedModuleType type) {
+	private Advisor getOrBuildAdvisor(ObservedModule module, Predicate<Method> methods) {
 
 		return advisors.computeIfAbsent(module.getIdentifier().toString(), __ -> {
-			return new ApplicationModuleObservingAdvisor(type,
-					ModuleEntryInterceptor.of(module, observationRegistry.get(), convention.get(), environment));
+			var meterRegistry = SingletonSupplier.of(factory.getBeanProvider(MeterRegistry.class)::getIfAvailable);
+			Supplier<@Nullable DefaultModuleCallMatrix> callMatrix = DefaultModuleCallMatrix.isEnabled(environment)
+					? SingletonSupplier.of(factory.getBeanProvider(DefaultModuleCallMatrix.class)::getIfAvailable)
+					: () -> null;
+
+			var interceptor = ModuleEntryInterceptor.of(module, observationRegistry.get(), convention.get(), environment,
+					meterRegistry, callMatrix);
+
+			return new ApplicationModuleObservingAdvisor(methods, interceptor);
 		});
 	}
 
@@ -159,18 +211,19 @@ public class ModuleObservabilityBeanPostProcessor extends ModuleObservabilitySup
 
 	private static class ObservableTypeMethodMatcher extends StaticMethodMatcher {
 
-		private final ObservedModuleType type;
+		private final Predicate<Method> methods;
 
 		/**
-		 * Creates a new {@link ObservableTypeMethodMatcher} for the given {@link ObservedModuleType}.
+		 * Creates a new {@link ObservableTypeMethodMatcher} for the given {@link Predicate} selecting the methods to
+		 * intercept.
 		 *
-		 * @param type must not be {@literal null}.
+		 * @param methods must not be {@literal null}.
 		 */
-		private ObservableTypeMethodMatcher(ObservedModuleType type) {
+		private ObservableTypeMethodMatcher(Predicate<Method> methods) {
 
-			Assert.notNull(type, "ObservableModuleType must not be null!");
+			Assert.notNull(methods, "Methods must not be null!");
 
-			this.type = type;
+			this.methods = methods;
 		}
 
 		/*
@@ -179,7 +232,7 @@ public class ModuleObservabilityBeanPostProcessor extends ModuleObservabilitySup
 		 */
 		@Override
 		public boolean matches(Method method, Class<?> targetClass) {
-			return type.getMethodsToIntercept().test(method);
+			return methods.test(method);
 		}
 	}
 
@@ -187,8 +240,8 @@ public class ModuleObservabilityBeanPostProcessor extends ModuleObservabilitySup
 
 		private static final long serialVersionUID = -391548409986032658L;
 
-		public ApplicationModuleObservingAdvisor(ObservedModuleType type, ModuleEntryInterceptor interceptor) {
-			super(new ComposablePointcut(new ObservableTypeMethodMatcher(type)), interceptor);
+		public ApplicationModuleObservingAdvisor(Predicate<Method> methods, ModuleEntryInterceptor interceptor) {
+			super(new ComposablePointcut(new ObservableTypeMethodMatcher(methods)), interceptor);
 		}
 	}
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.observability.support;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.modulith.core.ApplicationModuleIdentifier;
+import org.springframework.modulith.core.ApplicationModules;
+import org.springframework.modulith.observability.ObservedModuleType;
+import org.springframework.util.Assert;
+
+/**
+ * The types of Spring beans to be observed and the application modules they belong to. Usually computed at build time
+ * and stored in {@value #LOCATION} so that the decision which beans to proxy does not require the
+ * {@link ApplicationModules} to be initialized.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ * @see ModuleObservabilityAotProcessor
+ */
+class ModuleObservabilityPlan {
+
+	static final String LOCATION = "META-INF/spring-modulith/observed-types.properties";
+
+	private final Map<String, ApplicationModuleIdentifier> modulesByType;
+
+	/**
+	 * Creates a new {@link ModuleObservabilityPlan} for the given observed type names and the identifiers of the
+	 * modules they belong to.
+	 *
+	 * @param modulesByType must not be {@literal null}.
+	 */
+	private ModuleObservabilityPlan(Map<String, ApplicationModuleIdentifier> modulesByType) {
+		this.modulesByType = modulesByType;
+	}
+
+	/**
+	 * Computes the {@link ModuleObservabilityPlan} for the given {@link ApplicationModules}, i.e. considers all Spring
+	 * beans of each module an {@link ObservedModuleType} considers to be observed.
+	 *
+	 * @param modules must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static ModuleObservabilityPlan of(ApplicationModules modules) {
+
+		Assert.notNull(modules, "ApplicationModules must not be null!");
+
+		var result = new TreeMap<String, ApplicationModuleIdentifier>();
+
+		modules.forEach(module -> {
+
+			var observed = new DefaultObservedModule(module);
+
+			module.getSpringBeans().forEach(bean -> {
+
+				var type = new ObservedModuleType(modules, observed, bean.toArchitecturallyEvidentType());
+
+				if (type.shouldBeObserved()) {
+					result.putIfAbsent(bean.getFullyQualifiedTypeName(), module.getIdentifier());
+				}
+			});
+		});
+
+		return new ModuleObservabilityPlan(result);
+	}
+
+	/**
+	 * Reads the {@link ModuleObservabilityPlan} from the given {@link Resource} as written by {@link #toProperties()}.
+	 *
+	 * @param resource must not be {@literal null}.
+	 * @return {@literal null} in case the given resource does not exist.
+	 */
+	static @Nullable ModuleObservabilityPlan read(Resource resource) {
+
+		Assert.notNull(resource, "Resource must not be null!");
+
+		if (!resource.exists()) {
+			return null;
+		}
+
+		try {
+
+			var properties = PropertiesLoaderUtils.loadProperties(resource);
+			var result = new TreeMap<String, ApplicationModuleIdentifier>();
+
+			properties.stringPropertyNames()
+					.forEach(it -> result.put(it, ApplicationModuleIdentifier.of(properties.getProperty(it))));
+
+			return new ModuleObservabilityPlan(result);
+
+		} catch (IOException o_O) {
+			throw new UncheckedIOException(o_O);
+		}
+	}
+
+	/**
+	 * Returns the identifier of the application module the type with the given fully-qualified name belongs to, if the
+	 * type is supposed to be observed.
+	 *
+	 * @param typeName must not be {@literal null} or empty.
+	 * @return {@literal null} in case the type is not supposed to be observed.
+	 */
+	@Nullable
+	ApplicationModuleIdentifier getObservedModule(String typeName) {
+		return modulesByType.get(typeName);
+	}
+
+	/**
+	 * Renders the plan in properties format, one line per observed type in alphabetical order to produce stable output.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	String toProperties() {
+
+		return modulesByType.entrySet().stream()
+				.map(it -> it.getKey() + "=" + it.getValue())
+				.collect(Collectors.joining("\n", "", "\n"));
+	}
+}
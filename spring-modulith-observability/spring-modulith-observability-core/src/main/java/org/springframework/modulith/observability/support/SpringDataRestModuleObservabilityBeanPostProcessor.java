@@ -17,6 +17,8 @@ package org.springframework.modulith.observability.support;
 
 import io.micrometer.observation.ObservationRegistry;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 import org.aopalliance.intercept.MethodInterceptor;
@@ -30,6 +32,7 @@ import org.springframework.core.env.Environment;
 import org.springframework.data.rest.webmvc.BasePathAwareController;
 import org.springframework.data.rest.webmvc.RootResourceInformation;
 import org.springframework.modulith.core.ApplicationModule;
+import org.springframework.modulith.core.ApplicationModuleIdentifier;
 import org.springframework.modulith.core.ApplicationModules;
 import org.springframework.modulith.observability.ModulithObservationConvention;
 import org.springframework.modulith.runtime.ApplicationModulesRuntime;
@@ -43,9 +46,7 @@ public class SpringDataRestModuleObservabilityBeanPostProcessor extends ModuleOb
 		implements BeanPostProcessor {
 
 	private final ApplicationModulesRuntime runtime;
-	private final Supplier<ObservationRegistry> observationRegistry;
-	private final Supplier<ModulithObservationConvention> convention;
-	private final Environment environment;
+	private final DataRestControllerInterceptor interceptor;
 
 	/**
 	 * Creates a new {@link SpringDataRestModuleObservabilityBeanPostProcessor} for the given
@@ -65,9 +66,7 @@ public class SpringDataRestModuleObservabilityBeanPostProcessor extends ModuleOb
 		Assert.notNull(environment, "Environment must not be null!");
 
 		this.runtime = runtime;
-		this.observationRegistry = observationRegistry;
-		this.convention = convention;
-		this.environment = environment;
+		this.interceptor = new DataRestControllerInterceptor(runtime, observationRegistry, convention, environment);
 	}
 
 	/*
@@ -83,7 +82,6 @@ public class SpringDataRestModuleObservabilityBeanPostProcessor extends ModuleOb
 			return bean;
 		}
 
-		var interceptor = new DataRestControllerInterceptor(runtime, observationRegistry, convention, environment);
 		var advisor = new DefaultPointcutAdvisor(interceptor);
 
 		return addAdvisor(bean, advisor, it -> it.setProxyTargetClass(true));
@@ -95,6 +93,7 @@ public class SpringDataRestModuleObservabilityBeanPostProcessor extends ModuleOb
 		private final Supplier<ObservationRegistry> observationRegistry;
 		private final Supplier<ModulithObservationConvention> convention;
 		private final Environment environment;
+		private final Map<ApplicationModuleIdentifier, ModuleEntryInterceptor> interceptors;
 
 		/**
 		 * Creates a new {@link DataRestControllerInterceptor} for the given {@link ApplicationModules} and {@link Tracer}.
@@ -116,6 +115,7 @@ public class SpringDataRestModuleObservabilityBeanPostProcessor extends ModuleOb
 			this.observationRegistry = observationRegistry;
 			this.convention = convention;
 			this.environment = environment;
+			this.interceptors = new ConcurrentHashMap<>();
 		}
 
 		/*
@@ -131,9 +131,9 @@ public class SpringDataRestModuleObservabilityBeanPostProcessor extends ModuleOb
 				return invocation.proceed();
 			}
 
-			var observed = new DefaultObservedModule(module);
-
-			return ModuleEntryInterceptor.of(observed, observationRegistry.get(), convention.get(), environment)
+			return interceptors.computeIfAbsent(module.getIdentifier(),
+					__ -> ModuleEntryInterceptor.of(new DefaultObservedModule(module), observationRegistry.get(),
+							convention.get(), environment))
 					.invoke(invocation);
 		}
 
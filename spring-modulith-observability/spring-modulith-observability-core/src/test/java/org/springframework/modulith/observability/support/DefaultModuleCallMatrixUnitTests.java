@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.observability.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.modulith.core.ApplicationModuleIdentifier;
+import org.springframework.modulith.observability.ModuleCallMatrix.ModuleCall;
+import org.springframework.modulith.observability.ModulithMetrics;
+import org.springframework.modulith.observability.ObservedModule;
+
+/**
+ * Unit tests for {@link DefaultModuleCallMatrix}.
+ *
+ * @author Oliver Drotbohm
+ */
+class DefaultModuleCallMatrixUnitTests {
+
+	MeterRegistry registry = new SimpleMeterRegistry();
+	DefaultModuleCallMatrix matrix = new DefaultModuleCallMatrix(() -> registry);
+
+	ObservedModule target = mock(ObservedModule.class);
+	MethodInvocation invocation = mock(MethodInvocation.class);
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		doReturn(ApplicationModuleIdentifier.of("inventory")).when(target).getIdentifier();
+		doReturn("Inventory.reserve()").when(target).getInvokedMethod(invocation);
+		doReturn(Object.class.getMethod("toString")).when(invocation).getMethod();
+	}
+
+	@Test
+	void aggregatesCallsPerSourceTargetAndMethod() {
+
+		matrix.record("order", target, invocation, TimeUnit.MILLISECONDS.toNanos(10), false);
+		matrix.record("order", target, invocation, TimeUnit.MILLISECONDS.toNanos(30), true);
+		matrix.record("catalog", target, invocation, TimeUnit.MILLISECONDS.toNanos(5), false);
+
+		assertThat(matrix.getCalls()).containsExactly(
+				new ModuleCall("catalog", "inventory", "Inventory.reserve()", 1, 0, Duration.ofMillis(5),
+						Duration.ofMillis(5)),
+				new ModuleCall("order", "inventory", "Inventory.reserve()", 2, 1, Duration.ofMillis(40),
+						Duration.ofMillis(30)));
+	}
+
+	@Test
+	void registersTimerPerCallingAndCalledModuleByDefault() throws Exception {
+
+		var other = mock(MethodInvocation.class);
+
+		doReturn(Object.class.getMethod("hashCode")).when(other).getMethod();
+		doReturn("Inventory.cancel()").when(target).getInvokedMethod(other);
+
+		matrix.record("order", target, invocation, TimeUnit.MILLISECONDS.toNanos(10), false);
+		matrix.record("order", target, invocation, TimeUnit.MILLISECONDS.toNanos(10), false);
+		matrix.record("order", target, other, TimeUnit.MILLISECONDS.toNanos(10), false);
+
+		var timer = registry.find(ModulithMetrics.MODULE_CALLS.getName())
+				.tag("module.source", "order")
+				.tag("module.target", "inventory")
+				.timer();
+
+		assertThat(timer).isNotNull();
+		assertThat(timer.count()).isEqualTo(3);
+		assertThat(timer.getId().getTag("module.method")).isNull();
+		assertThat(timer.takeSnapshot().histogramCounts()).isEmpty();
+		assertThat(matrix.getCalls()).hasSize(2);
+
+		verify(target, times(1)).getInvokedMethod(invocation);
+	}
+
+	@Test
+	void registersTimerPerMethodIfEnabled() {
+
+		var environment = new MockEnvironment()
+				.withProperty(DefaultModuleCallMatrix.METHOD_TAG_PROPERTY, "true")
+				.withProperty(DefaultModuleCallMatrix.HISTOGRAM_PROPERTY, "true");
+		var matrix = DefaultModuleCallMatrix.of(() -> registry, environment);
+
+		matrix.record("order", target, invocation, TimeUnit.MILLISECONDS.toNanos(10), false);
+
+		var timer = registry.find(ModulithMetrics.MODULE_CALLS.getName())
+				.tag("module.source", "order")
+				.tag("module.target", "inventory")
+				.tag("module.method", "Inventory.reserve()")
+				.timer();
+
+		assertThat(timer).isNotNull();
+		assertThat(timer.takeSnapshot().histogramCounts()).isNotEmpty();
+	}
+
+	@Test
+	void recordsCallsWithoutMeterRegistry() {
+
+		var matrix = new DefaultModuleCallMatrix(() -> null);
+
+		matrix.record("order", target, invocation, 1, false);
+
+		assertThat(matrix.getCalls()).hasSize(1);
+	}
+
+	@Test
+	void isDisabledByDefault() {
+
+		assertThat(DefaultModuleCallMatrix.isEnabled(new MockEnvironment())).isFalse();
+		assertThat(DefaultModuleCallMatrix.isEnabled(new MockEnvironment()
+				.withProperty(DefaultModuleCallMatrix.PROPERTY, "true"))).isTrue();
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.observability.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+
+import java.util.concurrent.TimeUnit;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.modulith.core.ApplicationModuleIdentifier;
+import org.springframework.modulith.observability.ModulithContext;
+import org.springframework.modulith.observability.ObservedModule;
+
+/**
+ * Unit tests for {@link ModuleEntryInterceptor}.
+ *
+ * @author Oliver Drotbohm
+ */
+class ModuleEntryInterceptorUnitTests {
+
+	MockClock clock = new MockClock();
+	SimpleMeterRegistry registry = new SimpleMeterRegistry(SimpleConfig.DEFAULT, clock);
+	MockEnvironment environment = new MockEnvironment();
+
+	ObservedModule module = mock(ObservedModule.class);
+	MethodInvocation invocation = mock(MethodInvocation.class);
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		doReturn(ApplicationModuleIdentifier.of("inventory")).when(module).getIdentifier();
+		doReturn("Inventory").when(module).getDisplayName();
+		doReturn(Object.class.getMethod("toString")).when(invocation).getMethod();
+	}
+
+	@Test
+	void recordsActualDurationOfUnsampledFailedInvocations() throws Throwable {
+
+		environment.setProperty(ModuleEntrySampler.RATE_PROPERTY, "2");
+
+		var interceptor = createInterceptor();
+
+		// First invocation sampled
+		doReturn("result").when(invocation).proceed();
+		interceptor.invoke(invocation);
+
+		doAnswer(__ -> {
+			clock.add(50, TimeUnit.MILLISECONDS);
+			throw new IllegalStateException();
+		}).when(invocation).proceed();
+
+		assertThatIllegalStateException().isThrownBy(() -> interceptor.invoke(invocation));
+
+		var timer = registry.find(ModulithContext.DEFAULT_CONVENTION_NAME)
+				.tag("error", IllegalStateException.class.getSimpleName())
+				.timer();
+
+		assertThat(timer).isNotNull();
+		assertThat(timer.count()).isEqualTo(1);
+		assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(50);
+	}
+
+	@Test
+	void doesNotTimeNestedInvocationOfTheSameModule() throws Throwable {
+
+		environment.setProperty(ModuleEntryObservationMode.PROPERTY, ModuleEntryObservationMode.TIMER.name());
+
+		var interceptor = createInterceptor();
+		var nested = createNestedInvocation();
+
+		doReturn("result").when(nested).proceed();
+		doAnswer(__ -> interceptor.invoke(nested)).when(invocation).proceed();
+
+		assertThat(interceptor.invoke(invocation)).isEqualTo("result");
+
+		var timer = registry.find(ModulithContext.DEFAULT_CONVENTION_NAME).tag("error", "none").timer();
+
+		assertThat(timer).isNotNull();
+		assertThat(timer.count()).isEqualTo(1);
+	}
+
+	@Test
+	void doesNotSampleNestedInvocationOfTheSameModule() throws Throwable {
+
+		environment.setProperty(ModuleEntrySampler.RATE_PROPERTY, "2");
+
+		var interceptor = createInterceptor();
+		var nested = createNestedInvocation();
+
+		doThrow(new IllegalStateException()).when(nested).proceed();
+		doAnswer(__ -> interceptor.invoke(nested)).when(invocation).proceed();
+
+		// Outer invocation sampled, the nested one must not be recorded as unsampled, failed module entry
+		assertThatIllegalStateException().isThrownBy(() -> interceptor.invoke(invocation));
+
+		assertThat(registry.find(ModulithContext.DEFAULT_CONVENTION_NAME).timers()).isEmpty();
+	}
+
+	@Test
+	void createsNewInstancesForTheSameModule() {
+		assertThat(createInterceptor()).isNotSameAs(createInterceptor());
+	}
+
+	private MethodInvocation createNestedInvocation() throws Exception {
+
+		var nested = mock(MethodInvocation.class);
+
+		doReturn(Object.class.getMethod("hashCode")).when(nested).getMethod();
+
+		return nested;
+	}
+
+	private ModuleEntryInterceptor createInterceptor() {
+		return ModuleEntryInterceptor.of(module, ObservationRegistry.NOOP,
+				DefaultModulithObservationConvention.INSTANCE, environment, () -> registry, () -> null);
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.observability.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+/**
+ * Unit tests for {@link ModuleEntrySampler}.
+ *
+ * @author Oliver Drotbohm
+ */
+class ModuleEntrySamplerUnitTests {
+
+	AtomicLong time = new AtomicLong();
+
+	@Test
+	void samplesAllInvocationsByDefault() {
+
+		var sampler = ModuleEntrySampler.from(new MockEnvironment());
+
+		assertThat(sample(sampler, 100)).isEqualTo(100);
+	}
+
+	@Test
+	void samplesEveryNthInvocation() {
+
+		var sampler = new ModuleEntrySampler(10, 0, time::get);
+
+		assertThat(sampler.sample()).isTrue();
+		assertThat(sample(sampler, 9)).isZero();
+		assertThat(sampler.sample()).isTrue();
+	}
+
+	@Test
+	void limitsSampledInvocationsPerSecond() {
+
+		var sampler = new ModuleEntrySampler(1, 5, time::get);
+
+		assertThat(sample(sampler, 10)).isEqualTo(5);
+
+		time.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+		assertThat(sample(sampler, 10)).isEqualTo(5);
+	}
+
+	@Test
+	void combinesRateAndLimit() {
+
+		var sampler = new ModuleEntrySampler(2, 3, time::get);
+
+		assertThat(sample(sampler, 4)).isEqualTo(2);
+		assertThat(sample(sampler, 100)).isEqualTo(1);
+	}
+
+	@Test
+	void isOnlyActiveIfRateOrLimitIsConfigured() {
+
+		assertThat(ModuleEntrySampler.from(new MockEnvironment()).isActive()).isFalse();
+		assertThat(new ModuleEntrySampler(2, 0, time::get).isActive()).isTrue();
+		assertThat(new ModuleEntrySampler(1, 5, time::get).isActive()).isTrue();
+	}
+
+	@Test
+	void rejectsInvalidRate() {
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new ModuleEntrySampler(0, 0, time::get));
+	}
+
+	private static long sample(ModuleEntrySampler sampler, int invocations) {
+
+		return IntStream.range(0, invocations)
+				.filter(__ -> sampler.sample())
+				.count();
+	}
+}
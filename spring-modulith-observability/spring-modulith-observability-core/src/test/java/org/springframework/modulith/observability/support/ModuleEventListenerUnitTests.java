@@ -15,10 +15,102 @@
  */
 package org.springframework.modulith.observability.support;
 
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.ResolvableType;
+import org.springframework.modulith.core.ApplicationModuleIdentifier;
+import org.springframework.modulith.runtime.ApplicationModulesRuntime;
+
 /**
+ * Unit tests for {@link ModuleEventListener}.
  *
  * @author Oliver Drotbohm
  */
-public class ModuleEventListenerUnitTests {
+class ModuleEventListenerUnitTests {
+
+	ApplicationModuleIdentifier identifier = ApplicationModuleIdentifier.of("someModule");
+	MeterRegistry registry = new SimpleMeterRegistry();
+	ModuleEventCounterFactory factory = new ModuleEventCounterFactory();
+	ApplicationModulesRuntime runtime = mock(ApplicationModulesRuntime.class);
+
+	ModuleEventListener listener = new ModuleEventListener(runtime, () -> registry, factory);
+
+	@BeforeEach
+	void setUp() {
+
+		doReturn(true).when(runtime).isApplicationClass(SampleEvent.class);
+		doReturn(Optional.of(identifier)).when(runtime).getModuleIdentifierByType(any());
+		doReturn("Some module").when(runtime).getModuleDisplayName(identifier);
+	}
+
+	@Test
+	void onlySupportsPayloadEventsForApplicationTypes() {
+
+		assertThat(listener.supportsEventType(ResolvableType.forClass(ContextRefreshedEvent.class))).isFalse();
+		assertThat(listener.supportsEventType(payloadEventType(SampleEvent.class))).isTrue();
+		assertThat(listener.supportsEventType(payloadEventType(String.class))).isFalse();
+	}
+
+	@Test
+	void reusesCountersForEventsOfTheSameType() {
+
+		var invocations = new AtomicInteger();
+
+		factory.customizePerType(SampleEvent.class, builder -> {
+			invocations.incrementAndGet();
+			builder.tag("kind", "sample");
+		});
+
+		publish(new SampleEvent("first"));
+		publish(new SampleEvent("second"));
+
+		var name = new ObservedModuleEvent(identifier, new SampleEvent("first")).getEventCounterName();
+
+		assertThat(invocations).hasValue(1);
+		assertThat(registry.get(name).tag("kind", "sample").counter().count()).isEqualTo(2);
+	}
+
+	@Test
+	void appliesCustomizationsForEachEventByDefault() {
+
+		var invocations = new AtomicInteger();
+
+		factory.customize(SampleEvent.class, __ -> {
+			invocations.incrementAndGet();
+			return Counter.builder("sample");
+		});
+		factory.customize(SampleEvent.class, (event, builder) -> builder.tag("state", event.state()));
+		factory.customizePerType(SampleEvent.class, builder -> builder.tag("kind", "sample"));
+
+		publish(new SampleEvent("first"));
+		publish(new SampleEvent("second"));
+		publish(new SampleEvent("second"));
+
+		assertThat(invocations).hasValue(3);
+		assertThat(registry.get("sample").tag("state", "first").tag("kind", "sample").counter().count()).isEqualTo(1);
+		assertThat(registry.get("sample").tag("state", "second").tag("kind", "sample").counter().count()).isEqualTo(2);
+	}
+
+	private void publish(Object payload) {
+		listener.onApplicationEvent(new PayloadApplicationEvent<>(this, payload));
+	}
+
+	private static ResolvableType payloadEventType(Class<?> payloadType) {
+		return ResolvableType.forClassWithGenerics(PayloadApplicationEvent.class, payloadType);
+	}
 
+	record SampleEvent(String state) {}
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.observability.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import example.ExampleApplication;
+import example.sample.SampleComponent;
+import example.sample.SampleConfiguration;
+import io.micrometer.observation.ObservationRegistry;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.Advised;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.modulith.core.ApplicationModuleIdentifier;
+import org.springframework.modulith.runtime.ApplicationModulesRuntime;
+import org.springframework.modulith.test.TestApplicationModules;
+
+/**
+ * Unit tests for {@link ModuleObservabilityPlan}.
+ *
+ * @author Oliver Drotbohm
+ */
+class ModuleObservabilityPlanUnitTests {
+
+	static final ApplicationModuleIdentifier SAMPLE = ApplicationModuleIdentifier.of("sample");
+
+	@Test
+	void containsObservedBeanTypes() {
+
+		var plan = ModuleObservabilityPlan.of(TestApplicationModules.of(ExampleApplication.class));
+
+		assertThat(plan.getObservedModule(SampleComponent.class.getName())).isEqualTo(SAMPLE);
+		assertThat(plan.getObservedModule(SampleConfiguration.class.getName())).isNull();
+	}
+
+	@Test
+	void readsPlanWrittenAsProperties() {
+
+		var plan = ModuleObservabilityPlan.of(TestApplicationModules.of(ExampleApplication.class));
+		var content = plan.toProperties();
+		var result = ModuleObservabilityPlan.read(new ByteArrayResource(content.getBytes(StandardCharsets.UTF_8)));
+
+		assertThat(result).isNotNull();
+		assertThat(result.getObservedModule(SampleComponent.class.getName())).isEqualTo(SAMPLE);
+		assertThat(result.toProperties()).isEqualTo(content);
+	}
+
+	@Test
+	void returnsNullForMissingResource() {
+		assertThat(ModuleObservabilityPlan.read(new ClassPathResource("does-not-exist.properties"))).isNull();
+	}
+
+	@Test
+	void postProcessorUsesPlanWithoutInitializingApplicationModules() {
+
+		var content = SampleComponent.class.getName() + "=" + SAMPLE;
+		var plan = ModuleObservabilityPlan.read(new ByteArrayResource(content.getBytes(StandardCharsets.UTF_8)));
+
+		var runtime = mock(ApplicationModulesRuntime.class);
+		doAnswer(it -> it.getArgument(0).getClass()).when(runtime).getUserClass(any(), any());
+
+		var processor = new ModuleObservabilityBeanPostProcessor(runtime, () -> ObservationRegistry.NOOP,
+				() -> DefaultModulithObservationConvention.INSTANCE, new DefaultListableBeanFactory(),
+				new MockEnvironment(), plan);
+
+		var observed = processor.postProcessAfterInitialization(new SampleComponent(), "sampleComponent");
+		var configuration = new SampleConfiguration();
+
+		assertThat(observed).isInstanceOf(Advised.class);
+		assertThat(processor.postProcessAfterInitialization(configuration, "configuration")).isSameAs(configuration);
+
+		verify(runtime, never()).get();
+	}
+}
@@ -15,9 +15,15 @@
  */
 package org.springframework.modulith.runtime;
 
+import java.util.Optional;
 import java.util.function.Supplier;
 
+import org.jspecify.annotations.Nullable;
+import org.springframework.modulith.core.ApplicationModule;
+import org.springframework.modulith.core.ApplicationModuleIdentifier;
 import org.springframework.modulith.core.ApplicationModules;
+import org.springframework.modulith.core.CompactApplicationModule;
+import org.springframework.modulith.core.CompactApplicationModules;
 import org.springframework.util.Assert;
 import org.springframework.util.function.SingletonSupplier;
 
@@ -31,6 +37,7 @@ public class ApplicationModulesRuntime implements Supplier<ApplicationModules> {
 
 	private final Supplier<ApplicationModules> modules;
 	private final ApplicationRuntime runtime;
+	private final @Nullable CompactApplicationModules precomputed;
 
 	/**
 	 * Creates a new {@link ApplicationModulesRuntime} for the given {@link ApplicationModules} and
@@ -40,12 +47,28 @@ public class ApplicationModulesRuntime implements Supplier<ApplicationModules> {
 	 * @param runtime must not be {@literal null}.
 	 */
 	public ApplicationModulesRuntime(Supplier<ApplicationModules> modules, ApplicationRuntime runtime) {
+		this(modules, runtime, null);
+	}
+
+	/**
+	 * Creates a new {@link ApplicationModulesRuntime} for the given {@link ApplicationModules},
+	 * {@link ApplicationRuntime} and {@link CompactApplicationModules} precomputed at build time. If the latter are
+	 * given, type lookups are answered from them without initializing the {@link ApplicationModules}.
+	 *
+	 * @param modules must not be {@literal null}.
+	 * @param runtime must not be {@literal null}.
+	 * @param precomputed can be {@literal null}.
+	 * @since 2.2
+	 */
+	public ApplicationModulesRuntime(Supplier<ApplicationModules> modules, ApplicationRuntime runtime,
+			@Nullable CompactApplicationModules precomputed) {
 
 		Assert.notNull(modules, "ApplicationModules must not be null!");
 		Assert.notNull(runtime, "ApplicationRuntime must not be null!");
 
 		this.modules = SingletonSupplier.of(modules);
 		this.runtime = runtime;
+		this.precomputed = precomputed;
 	}
 
 	/*
@@ -65,8 +88,58 @@ public class ApplicationModulesRuntime implements Supplier<ApplicationModules> {
 	 */
 	public boolean isApplicationClass(Class<?> type) {
 
-		return runtime.isApplicationClass(type)
-				|| modules.get().contains(type);
+		if (runtime.isApplicationClass(type)) {
+			return true;
+		}
+
+		return precomputed != null
+				? precomputed.getModuleByType(type.getName()).isPresent()
+				: modules.get().contains(type);
+	}
+
+	/**
+	 * Returns the {@link CompactApplicationModules} precomputed at build time if available.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 2.2
+	 */
+	public Optional<CompactApplicationModules> getPrecomputedModules() {
+		return Optional.ofNullable(precomputed);
+	}
+
+	/**
+	 * Returns the identifier of the application module containing the given type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 2.2
+	 */
+	public Optional<ApplicationModuleIdentifier> getModuleIdentifierByType(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null!");
+
+		return precomputed != null
+				? precomputed.getModuleByType(type.getName()).map(CompactApplicationModule::getIdentifier)
+				: modules.get().getModuleByType(type).map(ApplicationModule::getIdentifier);
+	}
+
+	/**
+	 * Returns the display name of the application module with the given identifier. Falls back to the identifier itself
+	 * in case no such module exists.
+	 *
+	 * @param identifier must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 2.2
+	 */
+	public String getModuleDisplayName(ApplicationModuleIdentifier identifier) {
+
+		Assert.notNull(identifier, "ApplicationModuleIdentifier must not be null!");
+
+		var result = precomputed != null
+				? precomputed.getModuleByName(identifier.toString()).map(CompactApplicationModule::getDisplayName)
+				: modules.get().getModuleByName(identifier.toString()).map(ApplicationModule::getDisplayName);
+
+		return result.orElseGet(identifier::toString);
 	}
 
 	/**
@@ -20,23 +20,30 @@ import java.io.UncheckedIOException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.Resource;
 import org.springframework.modulith.core.ApplicationModuleIdentifier;
+import org.springframework.modulith.core.CompactApplicationModules;
 import org.springframework.util.Assert;
+import org.springframework.util.function.SingletonSupplier;
 
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 
 /**
  * An abstraction for the data captured in the application module metadata file (typically
- * {@value org.springframework.modulith.core.util.ApplicationModulesExporter#DEFAULT_LOCATION}).
+ * {@value org.springframework.modulith.core.util.ApplicationModulesExporter#DEFAULT_LOCATION}). If read from
+ * {@value org.springframework.modulith.core.util.ApplicationModulesExporter#RUNTIME_LOCATION}, it also provides the
+ * {@link CompactApplicationModules} restored from the runtime model contained in it.
  *
  * @author Oliver Drotbohm
  * @since 1.4
  * @see org.springframework.modulith.core.util.ApplicationModulesExporter#DEFAULT_LOCATION
+ * @see org.springframework.modulith.core.util.ApplicationModulesExporter#RUNTIME_LOCATION
  */
 class ApplicationModuleMetadata {
 
@@ -78,6 +85,18 @@ class ApplicationModuleMetadata {
 		return Collections.emptyList();
 	}
 
+	/**
+	 * Returns the {@link CompactApplicationModules} restored from the runtime model contained in the metadata, if
+	 * present.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 2.2
+	 * @see CompactApplicationModules#fromRuntimeModel(java.util.Map)
+	 */
+	public Optional<CompactApplicationModules> getRuntimeModel() {
+		return Optional.empty();
+	}
+
 	/**
 	 * Returns the names of the types registered as {@link org.springframework.modulith.ApplicationModuleInitializer}.
 	 *
@@ -90,6 +109,7 @@ class ApplicationModuleMetadata {
 	private static class ResourceBasedApplicationModuleMetadata extends ApplicationModuleMetadata {
 
 		private final DocumentContext document;
+		private final Supplier<Optional<CompactApplicationModules>> runtimeModel;
 
 		public ResourceBasedApplicationModuleMetadata(Resource metadata) {
 
@@ -104,6 +124,9 @@ class ApplicationModuleMetadata {
 			} catch (IOException e) {
 				throw new UncheckedIOException(e);
 			}
+
+			this.runtimeModel = SingletonSupplier
+					.of(() -> CompactApplicationModules.fromRuntimeModel(document.read("$")));
 		}
 
 		/*
@@ -135,5 +158,14 @@ class ApplicationModuleMetadata {
 		public List<String> getInitializerTypeNames() {
 			return document.<List<String>> read("$..initializers[*]");
 		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.modulith.runtime.autoconfigure.ApplicationModuleMetadata#getRuntimeModel()
+		 */
+		@Override
+		public Optional<CompactApplicationModules> getRuntimeModel() {
+			return runtimeModel.get();
+		}
 	}
 }
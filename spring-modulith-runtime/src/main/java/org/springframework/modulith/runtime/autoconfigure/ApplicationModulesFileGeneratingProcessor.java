@@ -20,6 +20,7 @@ import java.nio.charset.StandardCharsets;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.aot.generate.GeneratedFiles.Kind;
+import org.springframework.aot.generate.GenerationContext;
 import org.springframework.aot.hint.MemberCategory;
 import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
 import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
@@ -32,7 +33,8 @@ import com.jayway.jsonpath.internal.function.PathFunctionFactory;
 
 /**
  * Renders the application module description JSON into a resource named
- * {@value ApplicationModulesExporter#DEFAULT_LOCATION}.
+ * {@value ApplicationModulesExporter#DEFAULT_LOCATION} and the model to be used at runtime into one named
+ * {@value ApplicationModulesExporter#RUNTIME_LOCATION}.
  *
  * @author Oliver Drotbohm
  * @since 1.4
@@ -52,22 +54,9 @@ class ApplicationModulesFileGeneratingProcessor implements BeanFactoryInitializa
 
 			var runtime = beanFactory.getBean(ApplicationModulesRuntime.class);
 			var exporter = new ApplicationModulesExporter(runtime.get());
-			var location = ApplicationModulesExporter.DEFAULT_LOCATION;
 
-			LOGGER.info("Generating application modules information to {}", location);
-
-			context.getRuntimeHints().resources().registerPattern(location);
-
-			context.getGeneratedFiles().handleFile(Kind.RESOURCE, location, it -> {
-
-				var resource = new ByteArrayResource(exporter.toJson().getBytes(StandardCharsets.UTF_8));
-
-				if (it.exists()) {
-					it.override(resource);
-				} else {
-					it.create(resource);
-				}
-			});
+			writeFile(context, ApplicationModulesExporter.DEFAULT_LOCATION, exporter.toJson());
+			writeFile(context, ApplicationModulesExporter.RUNTIME_LOCATION, exporter.toRuntimeJson());
 
 			// Register JSONPath internals as available for reflective construction to be able to read the generated files in
 			// a native image
@@ -86,4 +75,22 @@ class ApplicationModulesFileGeneratingProcessor implements BeanFactoryInitializa
 			});
 		};
 	}
+
+	private static void writeFile(GenerationContext context, String location, String content) {
+
+		LOGGER.info("Generating application modules information to {}", location);
+
+		context.getRuntimeHints().resources().registerPattern(location);
+
+		context.getGeneratedFiles().handleFile(Kind.RESOURCE, location, it -> {
+
+			var resource = new ByteArrayResource(content.getBytes(StandardCharsets.UTF_8));
+
+			if (it.exists()) {
+				it.override(resource);
+			} else {
+				it.create(resource);
+			}
+		});
+	}
 }
@@ -89,8 +89,11 @@ class SpringModulithRuntimeAutoConfiguration {
 	@Lazy
 	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
 	@ConditionalOnMissingBean
-	static ApplicationModulesRuntime modulesRuntime(ApplicationModulesBootstrap bootstrap, ApplicationRuntime runtime) {
-		return new ApplicationModulesRuntime(() -> bootstrap.getApplicationModules().join(), runtime);
+	static ApplicationModulesRuntime modulesRuntime(ObjectProvider<ApplicationModulesBootstrap> bootstrap,
+			ApplicationRuntime runtime, ApplicationModuleMetadata metadata) {
+
+		return new ApplicationModulesRuntime(() -> bootstrap.getObject().getApplicationModules().join(), runtime,
+				metadata.getRuntimeModel().orElse(null));
 	}
 
 	@Bean
@@ -120,17 +123,20 @@ class SpringModulithRuntimeAutoConfiguration {
 	}
 
 	/**
-	 * {@link ApplicationModuleMetadata} obtained from the Spring Modulith metadata located at
+	 * {@link ApplicationModuleMetadata} obtained from the Spring Modulith runtime model located at
+	 * {@value ApplicationModulesExporter#RUNTIME_LOCATION}, falling back to the metadata located at
 	 * {@value ApplicationModulesExporter#DEFAULT_LOCATION}.
 	 *
+	 * @param runtimeModel will never be {@literal null}.
 	 * @param metadata will never be {@literal null}.
 	 * @return will never be {@literal null}.
 	 */
 	@Bean
 	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
 	static ApplicationModuleMetadata applicationModuleMetadata(
+			@Value("classpath:" + ApplicationModulesExporter.RUNTIME_LOCATION) Resource runtimeModel,
 			@Value("classpath:" + ApplicationModulesExporter.DEFAULT_LOCATION) Resource metadata) {
-		return ApplicationModuleMetadata.of(metadata);
+		return ApplicationModuleMetadata.of(runtimeModel.exists() ? runtimeModel : metadata);
 	}
 
 	@Bean
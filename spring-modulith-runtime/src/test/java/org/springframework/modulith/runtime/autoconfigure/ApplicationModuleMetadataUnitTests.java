@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.runtime.autoconfigure;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.modulith.core.ApplicationModuleIdentifier;
+import org.springframework.modulith.core.ApplicationModules;
+import org.springframework.modulith.core.CompactApplicationModule;
+import org.springframework.modulith.core.CompactApplicationModules;
+import org.springframework.modulith.core.util.ApplicationModulesExporter;
+import org.springframework.modulith.runtime.ApplicationModulesRuntime;
+import org.springframework.modulith.runtime.ApplicationRuntime;
+
+/**
+ * Unit tests for {@link ApplicationModuleMetadata}.
+ *
+ * @author Oliver Drotbohm
+ */
+class ApplicationModuleMetadataUnitTests {
+
+	static final ApplicationModuleIdentifier A = ApplicationModuleIdentifier.of("a");
+	static final ApplicationModuleIdentifier B = ApplicationModuleIdentifier.of("b");
+
+	ApplicationModuleMetadata metadata = ApplicationModuleMetadata
+			.of(new ClassPathResource("metadata/application-modules-runtime.json"));
+
+	@Test
+	void exposesRuntimeModel() {
+
+		assertThat(metadata.getIdentifiers()).containsExactly(A, B);
+		assertThat(metadata.getRuntimeModel()).hasValueSatisfying(it -> {
+
+			assertThat(getIdentifierByType(it, "example.a.Internal")).hasValue(A);
+			assertThat(getIdentifierByType(it, "example.b.Event")).hasValue(B);
+			assertThat(getIdentifierByType(it, "example.a.NotContained")).isEmpty();
+			assertThat(getIdentifierByType(it, "example.c.Unknown")).isEmpty();
+
+			var a = it.getModuleByName("a").orElseThrow();
+
+			assertThat(a.getDisplayName()).isEqualTo("Module A");
+			assertThat(a.isExposed("example.a.Api")).isTrue();
+			assertThat(a.isExposed("example.a.Internal")).isFalse();
+			assertThat(a.getSpringBeans()).containsExactly("example.a.Listener");
+			assertThat(it.getModuleByName("b").orElseThrow().getPublishedEvents()).containsExactly("example.b.Event");
+			assertThat(it.withChanges(List.of("example.a.Internal"), List.of())).isEmpty();
+		});
+	}
+
+	@Test
+	void doesNotProvideRuntimeModelFromSimpleMetadata() {
+
+		var simple = ApplicationModuleMetadata.of(new ClassPathResource(ApplicationModulesExporter.DEFAULT_LOCATION));
+
+		assertThat(simple.isPresent()).isTrue();
+		assertThat(simple.getRuntimeModel()).isEmpty();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void answersTypeLookupsWithoutBootstrappingApplicationModules() {
+
+		var runtime = mock(ApplicationRuntime.class);
+		Supplier<ApplicationModules> modules = mock(Supplier.class);
+
+		var modulesRuntime = new ApplicationModulesRuntime(modules, runtime,
+				metadata.getRuntimeModel().orElseThrow());
+
+		assertThat(modulesRuntime.isApplicationClass(String.class)).isFalse();
+		assertThat(modulesRuntime.getModuleIdentifierByType(String.class)).isEmpty();
+		assertThat(modulesRuntime.getModuleDisplayName(B)).isEqualTo("Module B");
+
+		verify(modules, never()).get();
+	}
+
+	private static Optional<ApplicationModuleIdentifier> getIdentifierByType(CompactApplicationModules modules,
+			String typeName) {
+		return modules.getModuleByType(typeName).map(CompactApplicationModule::getIdentifier);
+	}
+}
@@ -15,6 +15,8 @@
  */
 package org.springframework.modulith.test;
 
+import java.time.Duration;
+
 import org.springframework.context.ApplicationEvent;
 import org.springframework.modulith.test.PublishedEventsFactory.PublishedEventsListenerAdapter;
 import org.springframework.util.Assert;
@@ -24,7 +26,8 @@ import org.springframework.util.Assert;
  *
  * @author Oliver Drotbohm
  */
-class DefaultAssertablePublishedEvents implements AssertablePublishedEvents, PublishedEventsListenerAdapter {
+class DefaultAssertablePublishedEvents implements AssertablePublishedEvents, PublishedEventsListenerAdapter,
+		EventArrival {
 
 	private final DefaultPublishedEvents delegate;
 
@@ -65,6 +68,24 @@ class DefaultAssertablePublishedEvents implements AssertablePublishedEvents, Pub
 		delegate.onApplicationEvent(event);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.test.EventArrival#getEventCount()
+	 */
+	@Override
+	public long getEventCount() {
+		return delegate.getEventCount();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.test.EventArrival#awaitEventAfter(long, java.time.Duration)
+	 */
+	@Override
+	public boolean awaitEventAfter(long count, Duration timeout) {
+		return delegate.awaitEventAfter(count, timeout);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see java.lang.Object#toString()
@@ -15,12 +15,18 @@
  */
 package org.springframework.modulith.test;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -33,13 +39,17 @@ import org.springframework.modulith.test.PublishedEventsFactory.PublishedEventsL
 import org.springframework.util.Assert;
 
 /**
- * Default implementation of {@link PublishedEvents}.
+ * Default implementation of {@link PublishedEvents}. Events are kept in an append-only, lock-free queue so that
+ * publishing them doesn't copy the events collected so far. Threads can wait for the arrival of new events via
+ * {@link #awaitEventAfter(long, Duration)}.
  *
  * @author Oliver Drotbohm
  */
-class DefaultPublishedEvents implements PublishedEventsListenerAdapter {
+class DefaultPublishedEvents implements PublishedEventsListenerAdapter, EventArrival {
 
-	private final List<Object> events;
+	private final Queue<Object> events;
+	private final AtomicLong count;
+	private final Set<Thread> waiting;
 
 	/**
 	 * Creates a new, empty {@link DefaultPublishedEvents} instance.
@@ -57,7 +67,9 @@ class DefaultPublishedEvents implements PublishedEventsListenerAdapter {
 
 		Assert.notNull(events, "Events must not be null!");
 
-		this.events = new CopyOnWriteArrayList<>(events);
+		this.events = new ConcurrentLinkedQueue<>(events);
+		this.count = new AtomicLong(events.size());
+		this.waiting = ConcurrentHashMap.newKeySet();
 	}
 
 	/*
@@ -66,7 +78,54 @@ class DefaultPublishedEvents implements PublishedEventsListenerAdapter {
 	 */
 	@Override
 	public void onApplicationEvent(ApplicationEvent event) {
+
 		this.events.add(unwrapPayloadEvent(event));
+		this.count.incrementAndGet();
+
+		waiting.forEach(LockSupport::unpark);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.test.EventArrival#getEventCount()
+	 */
+	@Override
+	public long getEventCount() {
+		return count.get();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.test.EventArrival#awaitEventAfter(long, java.time.Duration)
+	 */
+	@Override
+	public boolean awaitEventAfter(long count, Duration timeout) {
+
+		Assert.notNull(timeout, "Timeout must not be null!");
+
+		var thread = Thread.currentThread();
+		var deadline = System.nanoTime() + timeout.toNanos();
+
+		waiting.add(thread);
+
+		try {
+
+			while (this.count.get() == count) {
+
+				var remaining = deadline - System.nanoTime();
+
+				if (remaining <= 0 || thread.isInterrupted()) {
+					return false;
+				}
+
+				LockSupport.parkNanos(this, remaining);
+			}
+
+			return true;
+
+		} finally {
+			waiting.remove(thread);
+		}
 	}
 
 	/*
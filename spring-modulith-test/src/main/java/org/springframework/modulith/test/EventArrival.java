@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.test;
+
+import java.time.Duration;
+
+/**
+ * Allows waiting for the arrival of events in a {@link PublishedEvents} instance instead of having to poll it.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+interface EventArrival {
+
+	/**
+	 * Returns the number of events that have arrived so far.
+	 */
+	long getEventCount();
+
+	/**
+	 * Blocks the current thread until the number of events that have arrived exceeds the given one or the given timeout
+	 * has elapsed.
+	 *
+	 * @param count the number of events previously obtained via {@link #getEventCount()}.
+	 * @param timeout must not be {@literal null}.
+	 * @return whether a new event has arrived.
+	 */
+	boolean awaitEventAfter(long count, Duration timeout);
+}
@@ -22,7 +22,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -31,15 +30,17 @@ import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.modulith.core.ApplicationModule;
 import org.springframework.modulith.core.ApplicationModuleIdentifier;
-import org.springframework.modulith.core.ApplicationModules;
+import org.springframework.modulith.test.ModuleTestTypeIndex.Inclusion;
 import org.springframework.test.context.ContextConfigurationAttributes;
 import org.springframework.test.context.ContextCustomizer;
 import org.springframework.test.context.ContextCustomizerFactory;
@@ -85,9 +86,10 @@ class ModuleContextCustomizerFactory implements ContextCustomizerFactory {
 			var testExecution = execution.get();
 
 			logModules(testExecution);
+			ModuleTestContextStatistics.recordContextLoad(testExecution.getSlice());
 
 			var beanFactory = context.getBeanFactory();
-			beanFactory.registerSingleton(ModuleTestExecution.class.getName(), testExecution);
+			registerExecution(context, testExecution);
 			beanFactory.registerSingleton(ModuleTestExecutionBeanDefinitionSelector.class.getName(),
 					new ModuleTestExecutionBeanDefinitionSelector(testExecution));
 
@@ -105,6 +107,32 @@ class ModuleContextCustomizerFactory implements ContextCustomizerFactory {
 			return execution.get();
 		}
 
+		/**
+		 * Registers the {@link ModuleTestExecution} of the test class currently executed, as the context might be
+		 * shared between test classes bootstrapping the same slice of the application. Falls back to the given
+		 * execution that caused the context to be bootstrapped in case the current test class is unknown or bootstraps
+		 * a different slice.
+		 *
+		 * @param context must not be {@literal null}.
+		 * @param bootstrapped must not be {@literal null}.
+		 */
+		private static void registerExecution(ConfigurableApplicationContext context,
+				ModuleTestExecution bootstrapped) {
+
+			if (!(context instanceof BeanDefinitionRegistry registry)) {
+				context.getBeanFactory().registerSingleton(ModuleTestExecution.class.getName(), bootstrapped);
+				return;
+			}
+
+			var definition = new RootBeanDefinition(ModuleTestExecution.class,
+					() -> ModuleTestExecutionListener.getCurrentExecution()
+							.filter(it -> it.getSlice().equals(bootstrapped.getSlice()))
+							.orElse(bootstrapped));
+			definition.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+
+			registry.registerBeanDefinition(ModuleTestExecution.class.getName(), definition);
+		}
+
 		private static void logModules(ModuleTestExecution execution) {
 
 			var module = execution.getModule();
@@ -179,7 +207,7 @@ class ModuleContextCustomizerFactory implements ContextCustomizerFactory {
 				return false;
 			}
 
-			return Objects.equals(this.execution.get(), that.execution.get());
+			return Objects.equals(this.execution.get().getContextIdentity(), that.execution.get().getContextIdentity());
 		}
 
 		/*
@@ -188,7 +216,7 @@ class ModuleContextCustomizerFactory implements ContextCustomizerFactory {
 		 */
 		@Override
 		public int hashCode() {
-			return Objects.hashCode(execution.get());
+			return Objects.hashCode(execution.get().getContextIdentity());
 		}
 
 		private static void logHeadline(String headline) {
@@ -242,11 +270,11 @@ class ModuleContextCustomizerFactory implements ContextCustomizerFactory {
 				return;
 			}
 
-			var modules = execution.getModules();
+			var index = execution.getTypeIndex();
 
 			for (String name : registry.getBeanDefinitionNames()) {
 
-				if (include(name, modules, factory)) {
+				if (include(name, index, factory)) {
 					continue;
 				}
 
@@ -267,19 +295,32 @@ class ModuleContextCustomizerFactory implements ContextCustomizerFactory {
 			candidatesForRemoval.forEach(registry::removeBeanDefinition);
 		}
 
-		private boolean include(String beanDefinitionName, ApplicationModules modules,
+		/**
+		 * Returns whether to include the bean definition with the given name, i.e. whether none of its types belongs to
+		 * an {@link ApplicationModule} or at least one of them belongs to one bootstrapped by the
+		 * {@link ModuleTestExecution}.
+		 *
+		 * @param beanDefinitionName must not be {@literal null} or empty.
+		 * @param index must not be {@literal null}.
+		 * @param factory must not be {@literal null}.
+		 */
+		private static boolean include(String beanDefinitionName, ModuleTestTypeIndex index,
 				ConfigurableListableBeanFactory factory) {
 
-			var types = getTypeOrTestConfigurationFactoryBean(beanDefinitionName, factory);
+			var moduleType = false;
 
-			var result = modules.stream()
-					.filter(Predicate.not(ApplicationModule::isRootModule))
-					.filter(it -> types.stream().anyMatch(type -> it.couldContain(type)))
-					.map(ApplicationModule::getBasePackage)
-					.map(execution.getBasePackages()::contains)
-					.toList();
+			for (var type : getTypeOrTestConfigurationFactoryBean(beanDefinitionName, factory)) {
+
+				var inclusion = index.getInclusion(type);
+
+				if (inclusion == Inclusion.INCLUDED) {
+					return true;
+				}
+
+				moduleType |= inclusion == Inclusion.EXCLUDED;
+			}
 
-			return result.isEmpty() || result.contains(true);
+			return !moduleType;
 		}
 
 		/*
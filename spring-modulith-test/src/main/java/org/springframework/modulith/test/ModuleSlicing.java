@@ -45,7 +45,8 @@ import org.springframework.test.context.TestConstructor.AutowireMode;
 @Target(TYPE)
 @TypeExcludeFilters(ModuleTypeExcludeFilter.class)
 @ImportAutoConfiguration(ModuleTestAutoConfiguration.class)
-@ExtendWith({ PublishedEventsParameterResolver.class, ScenarioParameterResolver.class })
+@ExtendWith({ PublishedEventsParameterResolver.class, ScenarioParameterResolver.class,
+		ModuleTestContextReporter.class })
 @TestInstance(Lifecycle.PER_CLASS)
 @TestConstructor(autowireMode = AutowireMode.ALL)
 public @interface ModuleSlicing {
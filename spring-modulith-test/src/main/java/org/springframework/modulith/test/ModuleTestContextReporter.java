@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.test;
+
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * JUnit extension to report the number of application contexts loaded for {@link ApplicationModuleTest}s once all
+ * tests have been executed.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ * @see ModuleTestContextStatistics
+ */
+class ModuleTestContextReporter implements BeforeAllCallback {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ModuleTestContextReporter.class);
+	private static final Namespace NAMESPACE = Namespace.create(ModuleTestContextReporter.class);
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.junit.jupiter.api.extension.BeforeAllCallback#beforeAll(org.junit.jupiter.api.extension.ExtensionContext)
+	 */
+	@Override
+	public void beforeAll(ExtensionContext context) {
+
+		// Stored in the root context to be closed once all tests have been executed
+		context.getRoot().getStore(NAMESPACE).computeIfAbsent(Report.class, __ -> new Report(), Report.class);
+	}
+
+	private static class Report implements AutoCloseable {
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.AutoCloseable#close()
+		 */
+		@Override
+		public void close() {
+
+			var loads = ModuleTestContextStatistics.getContextLoadsBySlice();
+
+			if (loads.isEmpty()) {
+				return;
+			}
+
+			LOGGER.debug("Loaded {} application context(s) for {} distinct slice(s) in application module tests.",
+					ModuleTestContextStatistics.getContextLoads(), loads.size());
+
+			loads.forEach((slice, count) -> LOGGER.debug("> {} - {} load(s)", slice, count));
+		}
+	}
+}
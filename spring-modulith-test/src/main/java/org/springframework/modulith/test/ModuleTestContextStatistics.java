@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.modulith.test.ModuleTestExecution.Slice;
+import org.springframework.util.Assert;
+
+/**
+ * Keeps track of the application contexts loaded for {@link ModuleTestExecution}s per {@link Slice} within the
+ * current JVM.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+class ModuleTestContextStatistics {
+
+	private static final Map<Slice, AtomicInteger> LOADS = new ConcurrentHashMap<>();
+
+	private ModuleTestContextStatistics() {}
+
+	/**
+	 * Records an application context being loaded for the given {@link Slice}.
+	 *
+	 * @param slice must not be {@literal null}.
+	 */
+	static void recordContextLoad(Slice slice) {
+
+		Assert.notNull(slice, "Slice must not be null!");
+
+		LOADS.computeIfAbsent(slice, __ -> new AtomicInteger()).incrementAndGet();
+	}
+
+	/**
+	 * Returns the number of application contexts loaded so far.
+	 */
+	static int getContextLoads() {
+		return LOADS.values().stream().mapToInt(AtomicInteger::get).sum();
+	}
+
+	/**
+	 * Returns the number of application contexts loaded per {@link Slice} so far.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	static Map<Slice, Integer> getContextLoadsBySlice() {
+
+		var result = new LinkedHashMap<Slice, Integer>();
+
+		LOADS.forEach((slice, count) -> result.put(slice, count.get()));
+
+		return result;
+	}
+}
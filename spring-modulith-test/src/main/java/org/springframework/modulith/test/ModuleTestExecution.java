@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -32,12 +33,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.test.context.AnnotatedClassFinder;
+import org.springframework.core.SpringProperties;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.io.support.SpringFactoriesLoader;
 import org.springframework.modulith.core.ApplicationModule;
 import org.springframework.modulith.core.ApplicationModuleIdentifier;
 import org.springframework.modulith.core.ApplicationModules;
 import org.springframework.modulith.core.ApplicationModulesFactory;
+import org.springframework.modulith.core.JavaPackage;
 import org.springframework.modulith.core.JavaPackages;
 import org.springframework.modulith.core.PackageName;
 import org.springframework.modulith.test.ApplicationModuleTest.BootstrapMode;
@@ -51,11 +54,18 @@ import org.springframework.util.function.SingletonSupplier;
  */
 public class ModuleTestExecution implements Iterable<ApplicationModule> {
 
+	static final String SHARE_CONTEXTS_PROPERTY = "spring.modulith.test.share-contexts-by-slice";
+
 	private static final Logger LOGGER = LoggerFactory.getLogger(ModuleTestExecution.class);
 	private static final ApplicationModulesFactory BOOTSTRAP;
 
 	private static final Map<Class<?>, Class<?>> MODULITH_TYPES = new ConcurrentHashMap<>();
 	private static final Map<Key, ModuleTestExecution> EXECUTIONS = new ConcurrentHashMap<>();
+	private static final Map<Class<?>, Supplier<ModuleTestExecution>> BY_TEST_CLASS = new ConcurrentHashMap<>();
+
+	// Read once, as the context identity must not change while contexts are cached
+	private static final boolean SHARE_CONTEXTS = !"false"
+			.equalsIgnoreCase(SpringProperties.getProperty(SHARE_CONTEXTS_PROPERTY));
 
 	static {
 
@@ -75,6 +85,8 @@ public class ModuleTestExecution implements Iterable<ApplicationModule> {
 	private final Supplier<JavaPackages> basePackages;
 	private final Supplier<List<ApplicationModule>> dependencies;
 	private final Supplier<List<ApplicationModule>> includedModules;
+	private final Supplier<ModuleTestTypeIndex> typeIndex;
+	private final Supplier<Slice> slice;
 
 	private ModuleTestExecution(ModuleSlicing annotation, ApplicationModules modules, ApplicationModule module) {
 
@@ -115,12 +127,21 @@ public class ModuleTestExecution implements Iterable<ApplicationModule> {
 			return included;
 		});
 
+		this.typeIndex = SingletonSupplier.of(() -> new ModuleTestTypeIndex(this));
+		this.slice = SingletonSupplier.of(() -> new Slice(getBasePackages().stream()
+				.map(JavaPackage::getName)
+				.collect(Collectors.toUnmodifiableSet()), bootstrapMode));
+
 		if (annotation.verifyAutomatically()) {
 			verify();
 		}
 	}
 
 	public static Supplier<ModuleTestExecution> of(Class<?> type) {
+		return BY_TEST_CLASS.computeIfAbsent(type, ModuleTestExecution::create);
+	}
+
+	private static Supplier<ModuleTestExecution> create(Class<?> type) {
 
 		return SingletonSupplier.of(() -> {
 
@@ -159,6 +180,48 @@ public class ModuleTestExecution implements Iterable<ApplicationModule> {
 		return basePackages.get();
 	}
 
+	/**
+	 * Returns the {@link ModuleTestTypeIndex} to look up whether types belong to modules bootstrapped by the current
+	 * execution.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	ModuleTestTypeIndex getTypeIndex() {
+		return typeIndex.get();
+	}
+
+	/**
+	 * Returns the {@link Slice} of the application bootstrapped by the current execution.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	Slice getSlice() {
+		return slice.get();
+	}
+
+	/**
+	 * Returns the object identifying the application context to be bootstrapped for the current execution. That's the
+	 * {@link Slice}, so that all executions bootstrapping the same packages share a cached application context,
+	 * independent of the module they primarily test. Setting {@value #SHARE_CONTEXTS_PROPERTY} to {@literal false} uses
+	 * the execution itself instead.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	Object getContextIdentity() {
+		return getContextIdentity(SHARE_CONTEXTS);
+	}
+
+	/**
+	 * Returns the object identifying the application context to be bootstrapped for the current execution.
+	 *
+	 * @param shareContexts whether to share application contexts between executions bootstrapping the same
+	 *          {@link Slice}.
+	 * @return will never be {@literal null}.
+	 */
+	Object getContextIdentity(boolean shareContexts) {
+		return shareContexts ? getSlice() : this;
+	}
+
 	public boolean includes(String className) {
 
 		var result = isLocatedInRootPackageOrContainedInBasePackages(className);
@@ -324,4 +387,23 @@ public class ModuleTestExecution implements Iterable<ApplicationModule> {
 	}
 
 	private static record Key(String moduleBasePackage, ModuleSlicing annotation) {}
+
+	/**
+	 * The slice of the application bootstrapped by a {@link ModuleTestExecution}, i.e. the names of all base packages
+	 * included and the {@link BootstrapMode} used.
+	 *
+	 * @author Oliver Drotbohm
+	 * @since 2.2
+	 */
+	record Slice(Set<String> basePackages, BootstrapMode mode) {
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Record#toString()
+		 */
+		@Override
+		public String toString() {
+			return basePackages.stream().sorted().collect(Collectors.joining(", ", "[", "]")) + " (" + mode + ")";
+		}
+	}
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.test;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.core.Ordered;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.TestContextAnnotationUtils;
+import org.springframework.test.context.TestExecutionListener;
+
+/**
+ * A {@link TestExecutionListener} keeping track of the {@link ModuleSlicing} test class executed on the current thread.
+ * An application context shared by multiple test classes bootstrapping the same slice of the application uses it to
+ * expose the {@link ModuleTestExecution} of the test class currently executed instead of the one of the test class that
+ * caused the context to be bootstrapped.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+class ModuleTestExecutionListener implements TestExecutionListener, Ordered {
+
+	private static final ThreadLocal<Class<?>> CURRENT_TEST_CLASS = new ThreadLocal<>();
+
+	/**
+	 * Returns the {@link ModuleTestExecution} of the test class currently executed on the current thread.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	static Optional<ModuleTestExecution> getCurrentExecution() {
+
+		return Optional.ofNullable(CURRENT_TEST_CLASS.get())
+				.map(ModuleTestExecution::of)
+				.map(Supplier::get);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.test.context.TestExecutionListener#beforeTestClass(org.springframework.test.context.TestContext)
+	 */
+	@Override
+	public void beforeTestClass(TestContext testContext) {
+		register(testContext);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.test.context.TestExecutionListener#prepareTestInstance(org.springframework.test.context.TestContext)
+	 */
+	@Override
+	public void prepareTestInstance(TestContext testContext) {
+		register(testContext);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.test.context.TestExecutionListener#beforeTestMethod(org.springframework.test.context.TestContext)
+	 */
+	@Override
+	public void beforeTestMethod(TestContext testContext) {
+		register(testContext);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.test.context.TestExecutionListener#afterTestClass(org.springframework.test.context.TestContext)
+	 */
+	@Override
+	public void afterTestClass(TestContext testContext) {
+		CURRENT_TEST_CLASS.remove();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.core.Ordered#getOrder()
+	 */
+	@Override
+	public int getOrder() {
+
+		// Before the application context is loaded and dependencies are injected into the test instance
+		return Ordered.HIGHEST_PRECEDENCE;
+	}
+
+	private static void register(TestContext context) {
+
+		var descriptor = TestContextAnnotationUtils.findAnnotationDescriptor(context.getTestClass(),
+				ModuleSlicing.class);
+
+		if (descriptor == null) {
+			CURRENT_TEST_CLASS.remove();
+		} else {
+			CURRENT_TEST_CLASS.set(descriptor.getRootDeclaringClass());
+		}
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.modulith.core.ApplicationModule;
+import org.springframework.util.Assert;
+
+/**
+ * Resolves types to the {@link ApplicationModule}s that could contain them and determines whether those are
+ * bootstrapped in a {@link ModuleTestExecution}. The modules are indexed by the segments of their base packages in a
+ * prefix tree, so that the lookup for a type only depends on the depth of its package, not the number of modules. The
+ * result is cached per type, as the same types are looked up for every application context bootstrapped for the
+ * {@link ModuleTestExecution}.
+ *
+ * @author Oliver Drotbohm
+ * @since 2.2
+ */
+class ModuleTestTypeIndex {
+
+	private final Node root;
+	private final Map<Class<?>, Inclusion> inclusions;
+
+	/**
+	 * Creates a new {@link ModuleTestTypeIndex} for the given {@link ModuleTestExecution}.
+	 *
+	 * @param execution must not be {@literal null}.
+	 */
+	ModuleTestTypeIndex(ModuleTestExecution execution) {
+
+		Assert.notNull(execution, "ModuleTestExecution must not be null!");
+
+		var basePackages = execution.getBasePackages();
+
+		this.root = new Node();
+		this.inclusions = new ConcurrentHashMap<>();
+
+		execution.getModules().stream()
+				.filter(it -> !it.isRootModule())
+				.forEach(it -> {
+
+					var basePackage = it.getBasePackage();
+					var node = root;
+
+					for (var segment : basePackage.getName().split("\\.")) {
+						node = node.children.computeIfAbsent(segment, __ -> new Node());
+					}
+
+					node.modules.add(new IndexedModule(it, basePackages.contains(basePackage)));
+				});
+	}
+
+	/**
+	 * Returns the {@link Inclusion} of the given type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Inclusion getInclusion(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null!");
+
+		return inclusions.computeIfAbsent(type, this::computeInclusion);
+	}
+
+	private Inclusion computeInclusion(Class<?> type) {
+
+		var result = Inclusion.NO_MODULE;
+		var node = root;
+
+		for (var segment : type.getPackageName().split("\\.")) {
+
+			node = node.children.get(segment);
+
+			if (node == null) {
+				break;
+			}
+
+			for (var candidate : node.modules) {
+
+				if (!candidate.module().couldContain(type)) {
+					continue;
+				}
+
+				if (candidate.bootstrapped()) {
+					return Inclusion.INCLUDED;
+				}
+
+				result = Inclusion.EXCLUDED;
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Whether a type belongs to an {@link ApplicationModule} bootstrapped in a {@link ModuleTestExecution}.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	enum Inclusion {
+
+		/**
+		 * The type doesn't belong to any {@link ApplicationModule}, i.e. it's infrastructure.
+		 */
+		NO_MODULE,
+
+		/**
+		 * The type belongs to at least one {@link ApplicationModule} that is bootstrapped.
+		 */
+		INCLUDED,
+
+		/**
+		 * The type only belongs to {@link ApplicationModule}s that are not bootstrapped.
+		 */
+		EXCLUDED;
+	}
+
+	private record IndexedModule(ApplicationModule module, boolean bootstrapped) {}
+
+	private static class Node {
+
+		private final Map<String, Node> children = new HashMap<>();
+		private final List<IndexedModule> modules = new ArrayList<>();
+	}
+}
@@ -66,7 +66,7 @@ class ModuleTypeExcludeFilter extends TypeExcludeFilter {
 			return false;
 		}
 
-		return Objects.equals(execution.get(), that.execution.get());
+		return Objects.equals(execution.get().getContextIdentity(), that.execution.get().getContextIdentity());
 	}
 
 	/*
@@ -75,6 +75,6 @@ class ModuleTypeExcludeFilter extends TypeExcludeFilter {
 	 */
 	@Override
 	public int hashCode() {
-		return Objects.hash(execution.get());
+		return Objects.hash(execution.get().getContextIdentity());
 	}
 }
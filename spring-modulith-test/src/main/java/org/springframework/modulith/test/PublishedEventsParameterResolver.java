@@ -15,6 +15,8 @@
  */
 package org.springframework.modulith.test;
 
+import io.micrometer.context.ContextRegistry;
+
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
@@ -22,6 +24,7 @@ import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ParameterContext;
 import org.junit.jupiter.api.extension.ParameterResolver;
@@ -32,17 +35,31 @@ import org.springframework.context.support.AbstractApplicationContext;
 import org.springframework.modulith.test.PublishedEventsFactory.PublishedEventsListenerAdapter;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 /**
- * Provides instances of {@link PublishedEvents} as test method parameters.
+ * Provides instances of {@link PublishedEvents} as test method parameters. Keeps track of the test method executed on
+ * the current thread from before any {@link org.junit.jupiter.api.BeforeEach} method is invoked, so that events
+ * published by those are attributed to that test method as well.
  *
  * @author Oliver Drotbohm
  */
-class PublishedEventsParameterResolver implements ParameterResolver, AfterEachCallback {
+class PublishedEventsParameterResolver implements ParameterResolver, BeforeEachCallback, AfterEachCallback {
+
+	private static final Object LISTENER_LOCK = new Object();
+	private static final ThreadLocal<String> CURRENT_TEST = new ThreadLocal<>();
+
+	static {
+
+		if (ClassUtils.isPresent("io.micrometer.context.ContextRegistry",
+				PublishedEventsParameterResolver.class.getClassLoader())) {
+			CurrentTestPropagation.register();
+		}
+	}
 
 	private final Function<ExtensionContext, ApplicationContext> lookup;
 
-	private @Nullable InternalPublishedEventsFactory factory;
+	private volatile @Nullable InternalPublishedEventsFactory factory;
 
 	PublishedEventsParameterResolver() {
 		this(ctx -> SpringExtension.getApplicationContext(ctx));
@@ -77,8 +94,22 @@ class PublishedEventsParameterResolver implements ParameterResolver, AfterEachCa
 	@Override
 	public PublishedEvents resolveParameter(ParameterContext parameterContext, ExtensionContext context) {
 
+		return getOrCreateFactory(context).createPublishedEvents(context);
+	}
+
+	/**
+	 * Returns the {@link InternalPublishedEventsFactory} to use, creating it on first access. Guarded as test methods
+	 * might be executed in parallel.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private synchronized InternalPublishedEventsFactory getOrCreateFactory(ExtensionContext context) {
+
+		var factory = this.factory;
+
 		if (factory != null) {
-			return factory.createPublishedEvents(context);
+			return factory;
 		}
 
 		var applicationContext = lookup.apply(context);
@@ -87,11 +118,13 @@ class PublishedEventsParameterResolver implements ParameterResolver, AfterEachCa
 		var threadBound = environment.getProperty("spring.modulith.test.thread-bound-published-events", Boolean.class,
 				false);
 
-		this.factory = threadBound
+		factory = threadBound
 				? new ThreadBoundPublishedEventsFactory()
 				: detectOrCreate(SingletonPublishedEventsFactory.class, SingletonPublishedEventsFactory::new, context);
 
-		return factory.createPublishedEvents(context);
+		this.factory = factory;
+
+		return factory;
 	}
 
 	/**
@@ -109,23 +142,29 @@ class PublishedEventsParameterResolver implements ParameterResolver, AfterEachCa
 			throw new IllegalStateException();
 		}
 
-		return aac.getApplicationListeners().stream()
-				.filter(type::isInstance)
-				.map(type::cast)
-				.findFirst()
-				.orElseGet(() -> {
+		synchronized (LISTENER_LOCK) {
 
-					var events = factory.get();
-					aac.addApplicationListener(events);
+			return aac.getApplicationListeners().stream()
+					.filter(type::isInstance)
+					.map(type::cast)
+					.findFirst()
+					.orElseGet(() -> {
 
-					return events;
-				});
+						var events = factory.get();
+						aac.addApplicationListener(events);
+
+						return events;
+					});
+		}
 	}
 
-	private interface InternalPublishedEventsFactory extends AfterEachCallback {
+	private interface InternalPublishedEventsFactory extends BeforeEachCallback, AfterEachCallback {
 
 		PublishedEvents createPublishedEvents(ExtensionContext context);
 
+		@Override
+		default void beforeEach(ExtensionContext context) {}
+
 		@Override
 		default void afterEach(ExtensionContext context) {}
 	}
@@ -159,7 +198,7 @@ class PublishedEventsParameterResolver implements ParameterResolver, AfterEachCa
 			}
 		}
 
-		private void initializeListener(ExtensionContext extensionContext) {
+		private synchronized void initializeListener(ExtensionContext extensionContext) {
 
 			if (listener != null) {
 				return;
@@ -171,6 +210,17 @@ class PublishedEventsParameterResolver implements ParameterResolver, AfterEachCa
 		}
 	}
 
+	/**
+	 * Keeps a {@link PublishedEvents} instance per test method. Events published on the thread executing a test method
+	 * are only forwarded to the instance of that very test, so that test methods executed in parallel don't see each
+	 * other's events. The identity of the current test is registered for context propagation if Micrometer's context
+	 * propagation library is present, so that events published by asynchronous event listeners executed on a
+	 * {@link org.springframework.core.task.support.ContextPropagatingTaskDecorator decorated} executor are attributed to
+	 * the test that triggered them as well. Events published on any other thread are forwarded to all instances, as
+	 * they cannot be attributed to a particular test.
+	 *
+	 * @author Oliver Drotbohm
+	 */
 	private class SingletonPublishedEventsFactory
 			implements InternalPublishedEventsFactory, ApplicationListener<ApplicationEvent> {
 
@@ -180,13 +230,32 @@ class PublishedEventsParameterResolver implements ParameterResolver, AfterEachCa
 			return events.computeIfAbsent(context.getUniqueId(), __ -> PublishedEventsFactory.createPublishedEvents());
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.modulith.test.PublishedEventsParameterResolver.InternalPublishedEventsFactory#beforeEach(org.junit.jupiter.api.extension.ExtensionContext)
+		 */
+		@Override
+		public void beforeEach(ExtensionContext context) {
+
+			// Capture events published before the parameter is resolved, e.g. by @BeforeEach methods
+			createPublishedEvents(context);
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see org.springframework.context.ApplicationListener#onApplicationEvent(org.springframework.context.ApplicationEvent)
 		 */
 		@Override
 		public void onApplicationEvent(ApplicationEvent event) {
-			events.values().forEach(it -> it.onApplicationEvent(event));
+
+			var id = CURRENT_TEST.get();
+			var target = id == null ? null : events.get(id);
+
+			if (target != null) {
+				target.onApplicationEvent(event);
+			} else {
+				events.values().forEach(it -> it.onApplicationEvent(event));
+			}
 		}
 
 		/*
@@ -200,12 +269,37 @@ class PublishedEventsParameterResolver implements ParameterResolver, AfterEachCa
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.junit.jupiter.api.extension.BeforeEachCallback#beforeEach(org.junit.jupiter.api.extension.ExtensionContext)
+	 */
+	@Override
+	public void beforeEach(ExtensionContext context) {
+
+		// The method context, also used to resolve the parameters of the test method and its @BeforeEach methods
+		CURRENT_TEST.set(context.getUniqueId());
+
+		var factory = this.factory;
+
+		if (factory != null) {
+			factory.beforeEach(context);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.junit.jupiter.api.extension.AfterEachCallback#afterEach(org.junit.jupiter.api.extension.ExtensionContext)
+	 */
 	@Override
 	public void afterEach(ExtensionContext context) {
 
+		var factory = this.factory;
+
 		if (factory != null) {
 			factory.afterEach(context);
 		}
+
+		CURRENT_TEST.remove();
 	}
 
 	/**
@@ -253,4 +347,20 @@ class PublishedEventsParameterResolver implements ParameterResolver, AfterEachCa
 			}
 		}
 	}
+
+	/**
+	 * Registers the identity of the currently executing test with Micrometer's {@link ContextRegistry}. Kept in a
+	 * separate class to not require the context propagation library on the classpath.
+	 *
+	 * @author Oliver Drotbohm
+	 * @since 2.2
+	 */
+	private static class CurrentTestPropagation {
+
+		private static final String KEY = PublishedEventsParameterResolver.class.getName() + ".current-test";
+
+		static void register() {
+			ContextRegistry.getInstance().registerThreadLocalAccessor(KEY, CURRENT_TEST);
+		}
+	}
 }
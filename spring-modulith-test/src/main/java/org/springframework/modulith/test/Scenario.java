@@ -30,6 +30,7 @@ import java.util.function.Supplier;
 
 import org.awaitility.Awaitility;
 import org.awaitility.core.ConditionFactory;
+import org.awaitility.pollinterval.PollInterval;
 import org.jspecify.annotations.Nullable;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.lang.CheckReturnValue;
@@ -406,17 +407,31 @@ public class Scenario {
 			Assert.notNull(supplier, "Supplier must not be null!");
 			Assert.notNull(acceptanceCriteria, "Acceptance criteria must not be null!");
 
-			return new StateChangeResult<>(awaitInternal(__ -> {}, () -> supplier.get(), acceptanceCriteria));
+			return new StateChangeResult<>(awaitInternal(__ -> {}, () -> supplier.get(), acceptanceCriteria, false));
 		}
 
+		/**
+		 * Applies the stimulus and waits for the given condition to be met by the value produced by the given supplier.
+		 * Waits for events are re-evaluated as soon as a new event arrives rather than in fixed poll intervals.
+		 *
+		 * @param verifications must not be {@literal null}.
+		 * @param supplier must not be {@literal null}.
+		 * @param condition must not be {@literal null}.
+		 * @param eventBased whether the condition only changes with the arrival of new events.
+		 * @return will never be {@literal null}.
+		 */
 		private <S> ExecutionResult<S, T> awaitInternal(Consumer<T> verifications, Callable<S> supplier,
-				Predicate<? super S> condition) {
+				Predicate<? super S> condition, boolean eventBased) {
+
+			var factory = eventBased && events instanceof EventArrival arrival
+					? Awaitility.await().pollDelay(Duration.ZERO).pollInterval(new EventArrivalPollInterval(arrival))
+					: Awaitility.await();
 
 			T result = stimulus.apply(transactionOperations, publisher);
 
 			try {
 
-				S foo = customizer.apply(Awaitility.await())
+				S foo = customizer.apply(factory)
 						.until(supplier, condition);
 
 				verifications.accept(result);
@@ -654,9 +669,53 @@ public class Scenario {
 					verifications.accept(previousResult.second());
 
 				} else {
-					awaitInternal(verifications, () -> getFilteredEvents(), it -> it.eventOfTypeWasPublished(type));
+					awaitInternal(verifications, () -> getFilteredEvents(), it -> it.eventOfTypeWasPublished(type),
+							true);
 				}
 			}
 		}
 	}
+
+	/**
+	 * A {@link PollInterval} that blocks until a new event has arrived since the last evaluation of the condition, so
+	 * that the condition is re-evaluated immediately on arrival rather than after a fixed delay. Falls back to a
+	 * re-evaluation after {@value #EVENT_ARRIVAL_FALLBACK_MILLIS} milliseconds to still honor the configured timeout.
+	 *
+	 * @author Oliver Drotbohm
+	 * @since 2.2
+	 */
+	static class EventArrivalPollInterval implements PollInterval {
+
+		private static final long EVENT_ARRIVAL_FALLBACK_MILLIS = 100;
+
+		private final EventArrival arrival;
+		private long seen;
+
+		/**
+		 * Creates a new {@link EventArrivalPollInterval} for the given {@link EventArrival}.
+		 *
+		 * @param arrival must not be {@literal null}.
+		 */
+		EventArrivalPollInterval(EventArrival arrival) {
+
+			Assert.notNull(arrival, "EventArrival must not be null!");
+
+			this.arrival = arrival;
+			this.seen = arrival.getEventCount();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.awaitility.pollinterval.PollInterval#next(int, java.time.Duration)
+		 */
+		@Override
+		public Duration next(int pollCount, Duration previousDuration) {
+
+			arrival.awaitEventAfter(seen, Duration.ofMillis(EVENT_ARRIVAL_FALLBACK_MILLIS));
+
+			this.seen = arrival.getEventCount();
+
+			return Duration.ZERO;
+		}
+	}
 }
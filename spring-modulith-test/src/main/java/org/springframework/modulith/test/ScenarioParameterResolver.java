@@ -16,6 +16,7 @@
 package org.springframework.modulith.test;
 
 import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ParameterContext;
 import org.junit.jupiter.api.extension.ParameterResolutionException;
@@ -30,7 +31,7 @@ import org.springframework.transaction.support.TransactionTemplate;
  *
  * @author Oliver Drotbohm
  */
-class ScenarioParameterResolver implements ParameterResolver, AfterEachCallback {
+class ScenarioParameterResolver implements ParameterResolver, BeforeEachCallback, AfterEachCallback {
 
 	private static final String MISSING_TRANSACTION_TEMPLATE = "To use a Scenario in an integration test you need to define a bean of type TransactionTemplate! Please check your ApplicationContext setup.";
 
@@ -43,6 +44,15 @@ class ScenarioParameterResolver implements ParameterResolver, AfterEachCallback
 		this.delegate = new PublishedEventsParameterResolver();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.junit.jupiter.api.extension.BeforeEachCallback#beforeEach(org.junit.jupiter.api.extension.ExtensionContext)
+	 */
+	@Override
+	public void beforeEach(ExtensionContext context) throws Exception {
+		delegate.beforeEach(context);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.junit.jupiter.api.extension.AfterEachCallback#afterEach(org.junit.jupiter.api.extension.ExtensionContext)
@@ -16,16 +16,21 @@
 package org.springframework.modulith.test;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 import example.module.SampleTestA;
 import example.module.SampleTestB;
+import example.module.SampleTestIncludingOther;
+import example.other.SampleTestIncludingModule;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.modulith.core.ApplicationModule;
 import org.springframework.modulith.core.ApplicationModuleIdentifier;
 import org.springframework.modulith.test.ModuleContextCustomizerFactory.ModuleContextCustomizer;
 import org.springframework.test.context.MergedContextConfiguration;
+import org.springframework.test.context.TestContext;
 import org.springframework.test.context.support.AnnotationConfigContextLoader;
 
 /**
@@ -82,4 +87,80 @@ class ModuleContextCustomizerUnitTests {
 				.element(0)
 				.isInstanceOf(AssertablePublishedEvents.class);
 	}
+
+	@Test
+	void usesBootstrappedSliceAsContextIdentityByDefault() {
+
+		var execution = new ModuleContextCustomizer(SampleTestA.class).getExecution();
+
+		assertThat(execution.getContextIdentity()).isEqualTo(execution.getSlice());
+		assertThat(execution.getSlice().basePackages()).containsExactly("example.module");
+	}
+
+	@Test
+	void usesExecutionAsContextIdentityIfSharingIsDisabled() {
+
+		var execution = new ModuleContextCustomizer(SampleTestA.class).getExecution();
+
+		assertThat(execution.getContextIdentity(false)).isSameAs(execution);
+	}
+
+	@Test
+	void exposesExecutionOfCurrentTestClassInSharedContext() {
+
+		var left = new ModuleContextCustomizer(SampleTestIncludingOther.class);
+		var right = new ModuleContextCustomizer(SampleTestIncludingModule.class);
+
+		assertThat(left).isEqualTo(right);
+
+		var context = new AnnotationConfigApplicationContext();
+		var loader = new AnnotationConfigContextLoader();
+		var listener = new ModuleTestExecutionListener();
+
+		left.customizeContext(context,
+				new MergedContextConfiguration(SampleTestIncludingOther.class, null, null, null, loader));
+		context.refresh();
+
+		try {
+
+			assertCurrentModule(context, listener, SampleTestIncludingModule.class, "other");
+			assertCurrentModule(context, listener, SampleTestIncludingOther.class, "module");
+
+		} finally {
+			context.close();
+		}
+	}
+
+	@Test
+	void recordsContextLoads() {
+
+		var context = new AnnotationConfigApplicationContext();
+		var loader = new AnnotationConfigContextLoader();
+		var before = ModuleTestContextStatistics.getContextLoads();
+
+		new ModuleContextCustomizer(SampleTestA.class)
+				.customizeContext(context, new MergedContextConfiguration(SampleTestA.class, null, null, null, loader));
+
+		assertThat(ModuleTestContextStatistics.getContextLoads()).isEqualTo(before + 1);
+	}
+
+	private static void assertCurrentModule(ApplicationContext context, ModuleTestExecutionListener listener,
+			Class<?> testClass, String module) {
+
+		var testContext = mock(TestContext.class);
+		doReturn(testClass).when(testContext).getTestClass();
+
+		listener.beforeTestClass(testContext);
+
+		try {
+
+			assertThat(context.getBean(ModuleTestExecution.class).getModule())
+					.extracting(ApplicationModule::getIdentifier)
+					.extracting(ApplicationModuleIdentifier::toString)
+					.isEqualTo(module);
+
+		} finally {
+			listener.afterTestClass(testContext);
+		}
+	}
 }
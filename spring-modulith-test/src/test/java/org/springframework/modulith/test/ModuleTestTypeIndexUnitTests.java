@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.test;
+
+import static org.assertj.core.api.Assertions.*;
+
+import example.TestConfiguration;
+import example.module.SampleTestA;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.modulith.test.ModuleTestTypeIndex.Inclusion;
+
+/**
+ * Unit tests for {@link ModuleTestTypeIndex}.
+ *
+ * @author Oliver Drotbohm
+ */
+class ModuleTestTypeIndexUnitTests {
+
+	ModuleTestTypeIndex index = ModuleTestExecution.of(SampleTestA.class).get().getTypeIndex();
+
+	@Test
+	void includesTypeOfBootstrappedModule() {
+		assertThat(index.getInclusion(SampleTestA.class)).isEqualTo(Inclusion.INCLUDED);
+	}
+
+	@Test
+	void doesNotConsiderTypesOutsideOfModules() {
+
+		assertThat(index.getInclusion(String.class)).isEqualTo(Inclusion.NO_MODULE);
+		assertThat(index.getInclusion(TestConfiguration.class)).isEqualTo(Inclusion.NO_MODULE);
+	}
+}
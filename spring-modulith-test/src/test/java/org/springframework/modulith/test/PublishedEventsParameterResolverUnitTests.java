@@ -19,6 +19,8 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -27,11 +29,16 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ParameterContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.util.ReflectionUtils;
 
 /**
@@ -115,6 +122,140 @@ class PublishedEventsParameterResolverUnitTests {
 		assertThat(resolver.resolveParameter(secondContext, secondMock)).isNotSameAs(resolved);
 	}
 
+	@Test
+	void forwardsEventsPublishedOnTestThreadOnlyToThatTestsPublishedEvents() throws Exception {
+
+		var resolver = new PublishedEventsParameterResolver(__ -> context);
+		var parameterContext = getParameterContext(PublishedEvents.class);
+
+		context.refresh();
+
+		Map<String, PublishedEvents> allEvents = new ConcurrentHashMap<>();
+		List<String> keys = Arrays.asList("first", "second");
+		List<Thread> threads = new ArrayList<>();
+
+		for (String it : keys) {
+
+			var extensionContext = mock(ExtensionContext.class);
+			doReturn(it).when(extensionContext).getUniqueId();
+
+			var thread = new Thread(() -> {
+				resolver.beforeEach(extensionContext);
+				allEvents.put(it, resolver.resolveParameter(parameterContext, extensionContext));
+				context.publishEvent(it);
+			});
+
+			threads.add(thread);
+			thread.start();
+		}
+
+		for (Thread thread : threads) {
+			thread.join(TimeUnit.SECONDS.toMillis(1));
+		}
+
+		// Published on a thread not executing a test
+		context.publishEvent("shared");
+
+		keys.forEach(it -> {
+			assertThat(allEvents.get(it).ofType(String.class)).containsExactly(it, "shared");
+		});
+	}
+
+	@Test
+	void forwardsEventsPublishedByAsynchronousListenersToTheTriggeringTestsPublishedEvents() throws Exception {
+
+		var executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(2);
+		executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+		executor.initialize();
+
+		var resolver = new PublishedEventsParameterResolver(__ -> context);
+		var parameterContext = getParameterContext(PublishedEvents.class);
+
+		// Asynchronous listener publishing a follow-up event for each event published by a test
+		context.addApplicationListener((ApplicationListener<PayloadApplicationEvent<String>>) event -> {
+
+			var payload = event.getPayload();
+
+			if (!payload.endsWith("-async")) {
+				executor.submit(() -> context.publishEvent(payload + "-async"));
+			}
+		});
+		context.refresh();
+
+		Map<String, PublishedEvents> allEvents = new ConcurrentHashMap<>();
+		List<String> keys = Arrays.asList("first", "second");
+		List<Thread> threads = new ArrayList<>();
+
+		try {
+
+			for (String it : keys) {
+
+				var extensionContext = mock(ExtensionContext.class);
+				doReturn(it).when(extensionContext).getUniqueId();
+
+				var thread = new Thread(() -> {
+
+					resolver.beforeEach(extensionContext);
+
+					var events = resolver.resolveParameter(parameterContext, extensionContext);
+					allEvents.put(it, events);
+
+					context.publishEvent(it);
+
+					var followUp = it + "-async";
+
+					Awaitility.await().atMost(Duration.ofSeconds(5))
+							.until(() -> events.ofType(String.class).matching(followUp::equals).iterator().hasNext());
+				});
+
+				threads.add(thread);
+				thread.start();
+			}
+
+			for (Thread thread : threads) {
+				thread.join(TimeUnit.SECONDS.toMillis(5));
+			}
+
+			keys.forEach(it -> {
+				assertThat(allEvents.get(it).ofType(String.class)).containsExactly(it, it + "-async");
+			});
+
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void attributesEventsPublishedBeforeParameterResolutionToCurrentTest() {
+
+		var resolver = new PublishedEventsParameterResolver(__ -> context);
+		var parameterContext = getParameterContext(PublishedEvents.class);
+
+		context.refresh();
+
+		var first = mock(ExtensionContext.class);
+		doReturn("first").when(first).getUniqueId();
+
+		// Registers the listener
+		resolver.beforeEach(first);
+		var firstEvents = resolver.resolveParameter(parameterContext, first);
+		resolver.afterEach(first);
+
+		var second = mock(ExtensionContext.class);
+		doReturn("second").when(second).getUniqueId();
+
+		resolver.beforeEach(second);
+
+		// Published by a @BeforeEach method
+		context.publishEvent("second");
+
+		var secondEvents = resolver.resolveParameter(parameterContext, second);
+
+		assertThat(secondEvents.ofType(String.class)).containsExactly("second");
+		assertThat(firstEvents.ofType(String.class)).isEmpty();
+	}
+
 	private static ParameterContext getParameterContext(Class<?> type) {
 		return getParameterContext(type, "with");
 	}
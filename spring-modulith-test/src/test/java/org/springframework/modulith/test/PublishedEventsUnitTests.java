@@ -17,7 +17,12 @@ package org.springframework.modulith.test;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.jupiter.api.Test;
+import org.springframework.context.PayloadApplicationEvent;
 
 /**
  * Unit tests for {@link PublishedEvents}.
@@ -35,4 +40,27 @@ class PublishedEventsUnitTests {
 
 		assertThat(events.ofType(Object.class)).containsExactly(reference);
 	}
+
+	@Test
+	void signalsArrivalOfNewEvent() throws Exception {
+
+		var events = new DefaultPublishedEvents();
+		var count = events.getEventCount();
+
+		var arrived = CompletableFuture.supplyAsync(() -> events.awaitEventAfter(count, Duration.ofSeconds(5)));
+
+		events.onApplicationEvent(new PayloadApplicationEvent<>(this, "event"));
+
+		assertThat(arrived.get(1, TimeUnit.SECONDS)).isTrue();
+		assertThat(events.getEventCount()).isEqualTo(count + 1);
+		assertThat(events.ofType(String.class)).containsExactly("event");
+	}
+
+	@Test
+	void stopsWaitingForEventAfterTimeout() {
+
+		var events = new DefaultPublishedEvents();
+
+		assertThat(events.awaitEventAfter(events.getEventCount(), Duration.ofMillis(10))).isFalse();
+	}
 }